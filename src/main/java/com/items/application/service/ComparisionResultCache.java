@@ -0,0 +1,169 @@
+package com.items.application.service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import com.items.domain.model.ComparisionResult;
+import com.items.domain.port.inbound.ItemChangeListener;
+
+/**
+ * Remembers comparison results by ordered id pair, bounded to {@code maxSize} results. The
+ * cache is split into LRU segments picked by pair hash, so lookups of different pairs rarely
+ * contend on the lock an access-ordered map needs even for a hit. Each segment keeps, per id,
+ * the pairs it holds with that id, so a change to one item drops exactly the results built
+ * from it. Change counters per id stripe stop a result computed from items that changed
+ * meanwhile from being stored.
+ */
+public class ComparisionResultCache implements ItemChangeListener {
+    private static final int STRIPES = 256;
+    private static final int MAX_SEGMENTS = 16;
+    // small caches keep a single exact LRU order
+    private static final int MIN_SEGMENT_SIZE = 64;
+
+    private final Segment[] segments;
+    private final int shift;
+    private final AtomicLongArray changes = new AtomicLongArray(STRIPES);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ComparisionResultCache(int maxSize) {
+        int count = Math.min(MAX_SEGMENTS, Integer.highestOneBit(Math.max(1, maxSize / MIN_SEGMENT_SIZE)));
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(maxSize / count + (i < maxSize % count ? 1 : 0));
+        }
+        this.shift = 32 - Integer.numberOfTrailingZeros(count);
+    }
+
+    public ComparisionResult get(String id1, String id2, Supplier<ComparisionResult> compute) {
+        Pair pair = new Pair(id1, id2);
+        Segment segment = segmentFor(pair);
+        segment.lock.lock();
+        try {
+            ComparisionResult cached = segment.results.get(pair);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+        misses.increment();
+        long stamp1 = changes.get(stripe(id1));
+        long stamp2 = changes.get(stripe(id2));
+        ComparisionResult result = compute.get();
+        segment.lock.lock();
+        try {
+            // an itemChanged that bumped a stamp after this check drops the pair once it gets the lock
+            if (changes.get(stripe(id1)) == stamp1 && changes.get(stripe(id2)) == stamp2) {
+                segment.put(pair, result);
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+        return result;
+    }
+
+    @Override
+    public void itemChanged(String id) {
+        if (id == null) {
+            return;
+        }
+        changes.incrementAndGet(stripe(id));
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                Set<Pair> pairs = segment.pairsById.remove(id);
+                if (pairs != null) {
+                    for (Pair pair : pairs) {
+                        segment.remove(pair);
+                    }
+                }
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.results.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public double hitRatio() {
+        double hitCount = hits.sum();
+        double total = hitCount + misses.sum();
+        return total == 0 ? 0 : hitCount / total;
+    }
+
+    private Segment segmentFor(Pair pair) {
+        return segments.length == 1 ? segments[0] : segments[(pair.hashCode() * 0x9E3779B9) >>> shift];
+    }
+
+    private static int stripe(String id) {
+        return (id.hashCode() * 0x9E3779B9) >>> 24;
+    }
+
+    private record Pair(String id1, String id2) {
+    }
+
+    private static final class Segment {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final int capacity;
+        private final Map<Pair, ComparisionResult> results = new LinkedHashMap<>(16, 0.75f, true);
+        private final Map<String, Set<Pair>> pairsById = new HashMap<>();
+
+        private Segment(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private void put(Pair pair, ComparisionResult result) {
+            if (results.put(pair, result) == null) {
+                pairsById.computeIfAbsent(pair.id1(), id -> new HashSet<>()).add(pair);
+                pairsById.computeIfAbsent(pair.id2(), id -> new HashSet<>()).add(pair);
+            }
+            if (results.size() > capacity) {
+                remove(results.keySet().iterator().next());
+            }
+        }
+
+        private void remove(Pair pair) {
+            if (results.remove(pair) == null) {
+                return;
+            }
+            unlink(pair.id1(), pair);
+            unlink(pair.id2(), pair);
+        }
+
+        private void unlink(String id, Pair pair) {
+            Set<Pair> pairs = pairsById.get(id);
+            if (pairs != null && pairs.remove(pair) && pairs.isEmpty()) {
+                pairsById.remove(id);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.items.application.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.items.domain.exception.ItemNotFoundException;
+import com.items.domain.model.ScoredItem;
+import com.items.domain.port.inbound.RankItemsUseCase;
+import com.items.domain.port.outbound.ItemRepositoryPort;
+import com.items.domain.services.ItemScorer;
+import com.items.domain.services.ItemValidator;
+
+public class ItemScoringService implements RankItemsUseCase {
+    public static final int MAX_RANKED_ITEMS = 1000;
+
+    private final ItemRepositoryPort itemRepository;
+    private final ScoringProfileRegistry profiles;
+
+    public ItemScoringService(ItemRepositoryPort itemRepository, ScoringProfileRegistry profiles) {
+        this.itemRepository = itemRepository;
+        this.profiles = profiles;
+    }
+
+    @Override
+    public List<ScoredItem> rank(String profile, List<String> ids, int limit) throws ItemNotFoundException {
+        ItemScorer scorer = profiles.scorer(profile);
+        ItemValidator.validateIds(ids, MAX_RANKED_ITEMS);
+        ItemValidator.validateLimit(limit, MAX_RANKED_ITEMS);
+
+        return scorer.rank(new ArrayList<>(new ItemUnitOfWork(itemRepository).getAll(ids).values()), limit);
+    }
+}
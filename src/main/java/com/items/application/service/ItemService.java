@@ -1,31 +1,90 @@
 package com.items.application.service;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
 
 import com.items.domain.exception.InvalidItemException;
 import com.items.domain.exception.ItemNotFoundException;
+import com.items.domain.exception.RankingDisabledException;
+import com.items.domain.model.CohortAttribute;
+import com.items.domain.model.CohortRankResult;
+import com.items.domain.model.CohortStanding;
 import com.items.domain.model.ComparisionResult;
 import com.items.domain.model.Item;
+import com.items.domain.model.ItemFilter;
+import com.items.domain.model.Money;
+import com.items.domain.model.MultiComparisionResult;
+import com.items.domain.model.ParetoComparisionResult;
+import com.items.domain.model.ParetoCriterion;
+import com.items.domain.port.inbound.CohortRankUseCase;
 import com.items.domain.port.inbound.ComparisionUseCase;
 import com.items.domain.port.inbound.CreateItemUseCase;
 import com.items.domain.port.inbound.DeleteItemUseCase;
 import com.items.domain.port.inbound.GetItemUseCase;
+import com.items.domain.port.inbound.MultiComparisionUseCase;
+import com.items.domain.port.inbound.ParetoComparisionUseCase;
+import com.items.domain.port.inbound.TopItemsUseCase;
 import com.items.domain.port.inbound.UpdateItemUseCase;
+import com.items.domain.port.outbound.ItemRankingPort;
 import com.items.domain.port.outbound.ItemRepositoryPort;
+import com.items.domain.services.ComparisionKernel;
 import com.items.domain.services.ItemValidator;
+import com.items.domain.services.ParetoFrontier;
 
 public class ItemService implements
                                 ComparisionUseCase, 
+                                MultiComparisionUseCase,
+                                ParetoComparisionUseCase,
+                                TopItemsUseCase,
+                                CohortRankUseCase,
                                 GetItemUseCase,
                                 CreateItemUseCase,
                                 UpdateItemUseCase,
                                 DeleteItemUseCase {
+    public static final int MAX_COMPARED_ITEMS = 100;
+    public static final int MAX_PARETO_ITEMS = 10000;
+    public static final int MAX_TOP_ITEMS = 100;
+
     private final ItemRepositoryPort itemRepository;
+    private final ComparisionResultCache comparisionCache;
+    private final ItemRankingPort itemRanking;
+    private final ComparisionKernel comparisionKernel;
 
     public ItemService(ItemRepositoryPort itemRepository) {
+        this(itemRepository, null);
+    }
+
+    public ItemService(ItemRepositoryPort itemRepository, ComparisionResultCache comparisionCache) {
+        this(itemRepository, comparisionCache, null);
+    }
+
+    /**
+     * @param comparisionCache cache for {@link #compare}, or null; it must be registered as a
+     *                         listener of the repository so item changes reach it
+     * @param itemRanking      ordered views used by {@link #findCheapest} and {@link #findBestRated},
+     *                         or null when the store keeps none
+     */
+    public ItemService(ItemRepositoryPort itemRepository, ComparisionResultCache comparisionCache,
+                       ItemRankingPort itemRanking) {
+        this(itemRepository, comparisionCache, itemRanking, null);
+    }
+
+    /**
+     * @param comparisionKernel runs {@link #compareAll} over primitive price and rating arrays,
+     *                          or null to compare the items one by one
+     */
+    public ItemService(ItemRepositoryPort itemRepository, ComparisionResultCache comparisionCache,
+                       ItemRankingPort itemRanking, ComparisionKernel comparisionKernel) {
         this.itemRepository = itemRepository;
+        this.comparisionCache = comparisionCache;
+        this.itemRanking = itemRanking;
+        this.comparisionKernel = comparisionKernel;
     }
 
     @Override
@@ -34,50 +93,271 @@ public class ItemService implements
         ItemValidator.validateIdNotNull(id1);
         ItemValidator.validateIdNotNull(id2);       
         
-        
-        Item item1 = itemRepository.findById(id1)
-            .orElseThrow(() -> new ItemNotFoundException("Item with id " + id1 + " not found"));
-        Item item2 = itemRepository.findById(id2)
-            .orElseThrow(() -> new ItemNotFoundException("Item with id " + id2 + " not found"));
+        if (comparisionCache != null) {
+            return comparisionCache.get(id1, id2, () -> compareItems(id1, id2));
+        }
+        return compareItems(id1, id2);
+    }
+
+    private ComparisionResult compareItems(String id1, String id2) {
+        ItemUnitOfWork unitOfWork = new ItemUnitOfWork(itemRepository);
+        Item item1 = unitOfWork.get(id1);
+        Item item2 = unitOfWork.get(id2);
 
         ItemValidator.validatePrice(item1.price());
         ItemValidator.validatePrice(item2.price());
         // Mejor precio (menor)
-        String bestPriceItemId = item1.price().compareTo(item2.price()) < 0 ? id1 : id2;
-        double bestPrice = item1.price().compareTo(item2.price()) < 0 ? 
-            item1.price().doubleValue() : item2.price().doubleValue();
+        boolean firstCheaper;
+        double bestPrice;
+        String priceDifference;
+        try {
+            Money price1 = Money.of(item1.price());
+            Money price2 = Money.of(item2.price());
+            firstCheaper = price1.compareTo(price2) < 0;
+            bestPrice = (firstCheaper ? price1 : price2).doubleValue();
+            priceDifference = price1.subtract(price2).abs().toString();
+        } catch (ArithmeticException e) {
+            // beyond 18 digits
+            firstCheaper = item1.price().compareTo(item2.price()) < 0;
+            bestPrice = (firstCheaper ? item1 : item2).price().doubleValue();
+            priceDifference = item1.price().subtract(item2.price()).abs().toString();
+        }
+        String bestPriceItemId = firstCheaper ? id1 : id2;
 
         ItemValidator.validateRating(item1.rating());
         ItemValidator.validateRating(item2.rating());
 
         // Mejor rating (mayor)
-        String bestRatedItem = item1.rating() > item2.rating() ? id1 : id2;
-        Double bestRating = Math.max(item1.rating(), item2.rating());        
+        double rating1 = item1.rating();
+        double rating2 = item2.rating();
+        String bestRatedItem = rating1 > rating2 ? id1 : id2;
+        double bestRating = Math.max(rating1, rating2);
+
+        // Diferencias
+        double ratingDifference = Math.abs(rating1 - rating2);
+
+        return new ComparisionResult(bestPriceItemId, bestPrice, bestRatedItem, bestRating, priceDifference, ratingDifference);
+    }
+
+    @Override
+    public MultiComparisionResult compareAll(List<String> ids) throws ItemNotFoundException {
+        ItemValidator.validateComparedIds(ids, MAX_COMPARED_ITEMS);
+        Item[] items = loadAll(ids).values().toArray(Item[]::new);
+        int scale = Integer.MIN_VALUE;
+        for (Item item : items) {
+            ItemValidator.validatePrice(item.price());
+            ItemValidator.validateRating(item.rating());
+            scale = Math.max(scale, item.price().scale());
+        }
+        long[] prices = comparisionKernel != null ? unscaledPrices(items, scale) : null;
+        return prices != null ? compareColumns(items, prices, scale) : compareItems(items);
+    }
+
+    // ties go to the later item, as in compare(id1, id2); the highest price goes to the earlier one
+    private static MultiComparisionResult compareItems(Item[] items) {
+        Item cheapest = null;
+        Item priciest = null;
+        Item bestRated = null;
+        double lowestRating = Double.POSITIVE_INFINITY;
+        for (Item item : items) {
+            if (cheapest == null || item.price().compareTo(cheapest.price()) <= 0) {
+                cheapest = item;
+            }
+            if (priciest == null || item.price().compareTo(priciest.price()) > 0) {
+                priciest = item;
+            }
+            if (bestRated == null || item.rating() >= bestRated.rating()) {
+                bestRated = item;
+            }
+            lowestRating = Math.min(lowestRating, item.rating());
+        }
+
+        Map<String, Map<String, String>> itemDifferences = new HashMap<>();
+        for (Item item : items) {
+            itemDifferences.put(item.id(), itemDifferences(item.price().subtract(cheapest.price()).toString(), bestRated.rating() - item.rating()));
+        }
+        return multiComparision(items, cheapest, priciest, bestRated, lowestRating, itemDifferences);
+    }
 
-        // Diferencias 
-        BigDecimal priceDifference = item1.price().subtract(item2.price()).abs();
-        Double ratingDifference = Math.abs(item1.rating() - item2.rating());
+    /**
+     * Same result as {@link #compareItems}, with the prices as unscaled longs at a common
+     * {@code scale} and the ratings as doubles, so the comparison runs on the kernel.
+     */
+    private MultiComparisionResult compareColumns(Item[] items, long[] prices, int scale) {
+        ComparisionKernel kernel = comparisionKernel;
+        int size = items.length;
+        double[] ratings = new double[size];
+        for (int i = 0; i < size; i++) {
+            ratings[i] = items[i].rating();
+        }
+        int cheapest = kernel.lastIndexOf(prices, size, kernel.min(prices, size));
+        int priciest = kernel.indexOf(prices, size, kernel.max(prices, size));
+        int bestRated = kernel.lastIndexOf(ratings, size, kernel.max(ratings, size));
+        double lowestRating = kernel.min(ratings, size);
 
+        long[] priceDifferences = new long[size];
+        kernel.differencesFrom(prices[cheapest], prices, size, priceDifferences);
+        double[] ratingDifferences = new double[size];
+        kernel.differencesFrom(ratings[bestRated], ratings, size, ratingDifferences);
+
+        int cheapestScale = items[cheapest].price().scale();
+        Map<String, Map<String, String>> itemDifferences = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            // back to the scale BigDecimal.subtract would give; exact, the difference has no more digits
+            Money priceDifference = new Money(-priceDifferences[i], scale)
+                .setScale(Math.max(items[i].price().scale(), cheapestScale));
+            itemDifferences.put(items[i].id(), itemDifferences(priceDifference.toString(), ratingDifferences[i]));
+        }
+        return multiComparision(items, items[cheapest], items[priciest], items[bestRated], lowestRating, itemDifferences);
+    }
+
+    // null when a price does not fit a long at that scale
+    private static long[] unscaledPrices(Item[] items, int scale) {
+        long[] prices = new long[items.length];
+        try {
+            for (int i = 0; i < items.length; i++) {
+                prices[i] = Money.of(items[i].price()).setScale(scale).amount();
+            }
+        } catch (ArithmeticException e) {
+            return null;
+        }
+        return prices;
+    }
+
+    private static Map<String, String> itemDifferences(String priceDifference, double ratingDifference) {
+        return Map.of(
+            "priceDifference", priceDifference,
+            "ratingDifference", Double.toString(ratingDifference)
+        );
+    }
+
+    private static MultiComparisionResult multiComparision(Item[] items, Item cheapest, Item priciest, Item bestRated,
+                                                           double lowestRating, Map<String, Map<String, String>> itemDifferences) {
+        BigDecimal totalPrice = BigDecimal.ZERO;
+        double totalRating = 0;
+        for (Item item : items) {
+            totalPrice = totalPrice.add(item.price());
+            totalRating += item.rating();
+        }
         Map<String, String> differences = Map.of(
-            "priceDifference", priceDifference.toString(),
-            "ratingDifference", ratingDifference.toString()
+            "priceRange", priciest.price().subtract(cheapest.price()).toString(),
+            "ratingRange", Double.toString(bestRated.rating() - lowestRating),
+            "averagePrice", totalPrice.divide(BigDecimal.valueOf(items.length), 2, RoundingMode.HALF_UP).toString(),
+            "averageRating", Double.toString(totalRating / items.length)
         );
 
-        return new ComparisionResult(bestPriceItemId, bestPrice, bestRatedItem, bestRating, differences);      
-        
+        return new MultiComparisionResult(cheapest.id(), cheapest.price().doubleValue(), bestRated.id(), bestRated.rating(),
+            differences, itemDifferences);
+    }
+
+    @Override
+    public ParetoComparisionResult compareFrontier(List<String> ids, ItemFilter filter, ParetoCriterion criterion) {
+        ItemValidator.validateComparedIds(ids, MAX_PARETO_ITEMS);
+        ItemFilter itemFilter = filter != null ? filter : ItemFilter.NONE;
+
+        List<Item> candidates = new ArrayList<>();
+        for (Item item : loadAll(ids).values()) {
+            ItemValidator.validatePrice(item.price());
+            ItemValidator.validateRating(item.rating());
+            if (itemFilter.matches(item) && (criterion == null || criterion.costOf(item) != null)) {
+                candidates.add(item);
+            }
+        }
+
+        List<String> criteria = criterion == null
+            ? List.of("price", "rating")
+            : List.of("price", "rating", criterion.name().toLowerCase(Locale.ROOT));
+        return new ParetoComparisionResult(criteria, candidates.size(), ParetoFrontier.of(candidates, criterion));
+    }
+
+    private Map<String, Item> loadAll(List<String> ids) {
+        return new ItemUnitOfWork(itemRepository).getAll(ids);
+    }
+
+    @Override
+    public List<Item> findCheapest(int limit) {
+        ItemValidator.validateLimit(limit, MAX_TOP_ITEMS);
+        return loadRanked(ranking().findCheapestIds(limit));
+    }
+
+    @Override
+    public List<Item> findBestRated(int limit) {
+        ItemValidator.validateLimit(limit, MAX_TOP_ITEMS);
+        return loadRanked(ranking().findBestRatedIds(limit));
+    }
+
+    @Override
+    public List<Item> findInPriceRange(BigDecimal minPrice, BigDecimal maxPrice, Double minRating, int limit) {
+        ItemValidator.validateLimit(limit, MAX_TOP_ITEMS);
+        ItemValidator.validatePriceRange(minPrice, maxPrice);
+        return loadRanked(ranking().findIdsInPriceRange(minPrice, maxPrice, minRating, limit));
+    }
+
+    @Override
+    public CohortRankResult rankInCohort(String id, CohortAttribute attribute) {
+        ItemValidator.validateIdNotNull(id);
+        if (attribute == null) {
+            throw new InvalidItemException("Cohort attribute cannot be null");
+        }
+        ItemRankingPort ranking = ranking();
+        Item item = new ItemUnitOfWork(itemRepository).get(id);
+        ItemValidator.validatePrice(item.price());
+        ItemValidator.validateRating(item.rating());
+        String attributeName = attribute.name().toLowerCase(Locale.ROOT);
+        String cohort = attribute.valueOf(item);
+        if (cohort == null) {
+            throw new InvalidItemException("Item with id " + id + " has no " + attributeName);
+        }
+        CohortStanding standing = ranking.findCohortStanding(attribute, item);
+
+        // the item against the best of the others; equal values go to the lower id, as in the index
+        boolean cheapest = standing.cheapestItemId() == null
+            || isBefore(item.price().compareTo(standing.cheapestPrice()), id, standing.cheapestItemId());
+        BigDecimal bestPrice = cheapest ? item.price() : standing.cheapestPrice();
+        boolean bestRated = standing.bestRatedItemId() == null
+            || isBefore(Double.compare(standing.bestRating(), item.rating()), id, standing.bestRatedItemId());
+        double bestRating = bestRated ? item.rating() : standing.bestRating();
+
+        int priced = standing.priced() + 1;
+        int rated = standing.rated() + 1;
+        return new CohortRankResult(id, attributeName, cohort, standing.size() + 1,
+            standing.cheaper() + 1, percentile(priced - standing.cheaper(), priced),
+            cheapest ? id : standing.cheapestItemId(), bestPrice.doubleValue(), item.price().subtract(bestPrice).toString(),
+            standing.betterRated() + 1, percentile(rated - standing.betterRated(), rated),
+            bestRated ? id : standing.bestRatedItemId(), bestRating, bestRating - item.rating());
+    }
+
+    private static boolean isBefore(int order, String id, String otherId) {
+        return order < 0 || order == 0 && id.compareTo(otherId) < 0;
+    }
+
+    // share of the cohort in percent, to two decimals
+    private static double percentile(int count, int total) {
+        return Math.round(10000.0 * count / total) / 100.0;
+    }
+
+    private ItemRankingPort ranking() {
+        if (itemRanking == null) {
+            throw new RankingDisabledException();
+        }
+        return itemRanking;
+    }
+
+    // items deleted since the ids were ranked are left out
+    private List<Item> loadRanked(List<String> ids) {
+        return new ArrayList<>(itemRepository.findAllById(ids).values());
     }
 
     @Override
     public Item getItemById(String id) throws ItemNotFoundException{
         ItemValidator.validateIdNotNull(id);
-        return itemRepository.findById(id)
-            .orElseThrow(() -> new ItemNotFoundException("Item with id " + id + " not found"));
+        return new ItemUnitOfWork(itemRepository).get(id);
     }
 
     @Override
     public void deleteItem(String id) {
         ItemValidator.validateIdNotNull(id);
-        Item itemFromDB = getItemById(id); 
+        Item itemFromDB = new ItemUnitOfWork(itemRepository).get(id);
         ItemValidator.validateNotNull(itemFromDB);
         
         itemRepository.deleteById(id);
@@ -87,10 +367,14 @@ public class ItemService implements
     public Item updateItem(Item item) throws InvalidItemException {
         ItemValidator.validateNotNull(item);
         ItemValidator.validateIdNotNull(item.id());
-        Item itemFromDB = getItemById(item.id()); 
+        if (item.version() != null) {
+            // compareAndSave reads the stored item itself and reports a missing one as not found
+            return itemRepository.compareAndSave(item, item.version());
+        }
+        // clients that send no version update whatever is read here
+        Item itemFromDB = new ItemUnitOfWork(itemRepository).get(item.id());
         ItemValidator.validateNotNull(itemFromDB);
-
-        return itemRepository.save(item);
+        return itemRepository.compareAndSave(item, itemFromDB.version() == null ? 0 : itemFromDB.version());
     }
 
     @Override
@@ -98,7 +382,7 @@ public class ItemService implements
         ItemValidator.validate(item);        
         
         String generatedId = UUID.randomUUID().toString();
-        Item itemWithId = item.withId(generatedId);
+        Item itemWithId = item.withId(generatedId).withVersion(1L);
         
         return itemRepository.save(itemWithId);
     }
@@ -0,0 +1,72 @@
+package com.items.application.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.items.domain.exception.ItemNotFoundException;
+import com.items.domain.model.Item;
+import com.items.domain.port.outbound.ItemRepositoryPort;
+
+/**
+ * Identity map for a single use case call: each id is read from the repository at most
+ * once, and later lookups of the same id get the same instance back. Not thread-safe;
+ * a unit of work lives on the calling thread only.
+ */
+final class ItemUnitOfWork {
+    private final ItemRepositoryPort itemRepository;
+    private final Map<String, Optional<Item>> loaded = new HashMap<>();
+
+    ItemUnitOfWork(ItemRepositoryPort itemRepository) {
+        this.itemRepository = itemRepository;
+    }
+
+    Optional<Item> find(String id) {
+        Optional<Item> item = loaded.get(id);
+        if (item == null) {
+            item = itemRepository.findById(id);
+            loaded.put(id, item);
+        }
+        return item;
+    }
+
+    Item get(String id) throws ItemNotFoundException {
+        Optional<Item> item = find(id);
+        if (item.isEmpty()) {
+            throw new ItemNotFoundException(id);
+        }
+        return item.get();
+    }
+
+    /**
+     * Returns every distinct id in the order given, reading the ids not seen yet in one batch.
+     */
+    Map<String, Item> getAll(Collection<String> ids) throws ItemNotFoundException {
+        Set<String> distinctIds = new LinkedHashSet<>(ids);
+        List<String> unseen = distinctIds.stream().filter(id -> !loaded.containsKey(id)).toList();
+        if (!unseen.isEmpty()) {
+            Map<String, Item> found = itemRepository.findAllById(unseen);
+            unseen.forEach(id -> loaded.put(id, Optional.ofNullable(found.get(id))));
+        }
+        Map<String, Item> items = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String id : distinctIds) {
+            Optional<Item> item = loaded.get(id);
+            if (item.isPresent()) {
+                items.put(id, item.get());
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new ItemNotFoundException(missing);
+        }
+        return items;
+    }
+}
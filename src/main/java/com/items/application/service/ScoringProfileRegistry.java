@@ -0,0 +1,37 @@
+package com.items.application.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.items.domain.exception.InvalidItemException;
+import com.items.domain.model.ScoringProfile;
+import com.items.domain.services.ItemScorer;
+
+/**
+ * Scoring profiles known to the server, kept compiled so a ranking request only looks its
+ * scorer up by name.
+ */
+public class ScoringProfileRegistry {
+    private final Map<String, ItemScorer> scorers = new ConcurrentHashMap<>();
+
+    /**
+     * Compiles the profile and replaces any profile registered under the same name.
+     */
+    public void register(ScoringProfile profile) {
+        ItemScorer scorer = ItemScorer.compile(profile);
+        scorers.put(scorer.profile(), scorer);
+    }
+
+    public ItemScorer scorer(String name) throws InvalidItemException {
+        ItemScorer scorer = name == null ? null : scorers.get(name);
+        if (scorer == null) {
+            throw new InvalidItemException("Unknown scoring profile: " + name);
+        }
+        return scorer;
+    }
+
+    public List<String> names() {
+        return scorers.keySet().stream().sorted().toList();
+    }
+}
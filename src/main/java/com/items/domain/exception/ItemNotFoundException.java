@@ -1,7 +1,16 @@
 package com.items.domain.exception;
 
+import java.util.Collection;
+
+/**
+ * Expected outcome for unknown ids, so it carries no stack trace.
+ */
 public class ItemNotFoundException extends RuntimeException  {
     public ItemNotFoundException(String id) {
-        super("Item with id " + id + " not found");
+        super("Item with id " + id + " not found", null, false, false);
+    }
+
+    public ItemNotFoundException(Collection<String> ids) {
+        super("Items with ids " + String.join(", ", ids) + " not found", null, false, false);
     }
 }
@@ -0,0 +1,8 @@
+package com.items.domain.exception;
+
+public class ItemVersionConflictException extends RuntimeException {
+    public ItemVersionConflictException(String id, long expectedVersion, long actualVersion) {
+        super("Item with id " + id + " was modified concurrently (expected version "
+                + expectedVersion + ", found " + actualVersion + ")");
+    }
+}
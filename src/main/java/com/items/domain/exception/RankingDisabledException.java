@@ -0,0 +1,7 @@
+package com.items.domain.exception;
+
+public class RankingDisabledException extends RuntimeException {
+    public RankingDisabledException() {
+        super("Item ranking is not enabled");
+    }
+}
@@ -0,0 +1,44 @@
+package com.items.domain.model;
+
+import java.util.Locale;
+
+import com.items.domain.exception.InvalidItemException;
+
+/**
+ * Specification attribute that groups items into a cohort; items share a cohort when their
+ * values are equal ignoring case.
+ */
+public enum CohortAttribute {
+    BRAND,
+    MATERIAL;
+
+    public static CohortAttribute named(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidItemException("Unknown cohort attribute: " + name);
+        }
+    }
+
+    /**
+     * Value of the attribute for the item, or null when the item does not specify it.
+     */
+    public String valueOf(Item item) {
+        Specification specification = item.specification();
+        if (specification == null) {
+            return null;
+        }
+        String value = switch (this) {
+            case BRAND -> specification.brand();
+            case MATERIAL -> specification.material();
+        };
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    /**
+     * Key of the cohort the value belongs to.
+     */
+    public static String cohortKey(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,12 @@
+package com.items.domain.model;
+
+/**
+ * Standing of one item in its cohort. Ranks start at 1 for the cheapest and the best-rated
+ * and are shared by equal values; a percentile is the share of the cohort the item is at
+ * least as good as. Differences are how far the item is from the best of the cohort.
+ */
+public record CohortRankResult(String itemId, String attribute, String cohort, int cohortSize,
+     int priceRank, double pricePercentile, String bestPriceItemId, double bestPrice, String priceDifference,
+     int ratingRank, double ratingPercentile, String bestRatedItemId, double bestRating, double ratingDifference) {
+
+}
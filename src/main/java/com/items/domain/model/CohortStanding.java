@@ -0,0 +1,14 @@
+package com.items.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Where an item's price and rating fall among the other items of its cohort. Every count
+ * leaves the item itself out; {@code priced} and {@code rated} count the other items that
+ * have a price or a rating, and the best item ids are null when there are none.
+ */
+public record CohortStanding(int size, int priced, int cheaper, String cheapestItemId, BigDecimal cheapestPrice,
+     int rated, int betterRated, String bestRatedItemId, Double bestRating) {
+
+    public static final CohortStanding EMPTY = new CohortStanding(0, 0, 0, null, null, 0, 0, null, null);
+}
@@ -2,7 +2,20 @@ package com.items.domain.model;
 
 import java.util.Map;
 
+/**
+ * Result of comparing two items. {@code priceDifference} is the exact absolute price
+ * difference as decimal text and {@code ratingDifference} the absolute rating difference.
+ */
 public record ComparisionResult(String bestPriceItemId, double bestPrice, String bestRankedItem,
-     double bestRating, Map<String,String> differences) {
-    
+     double bestRating, String priceDifference, double ratingDifference) {
+
+    /**
+     * Both differences as text, keyed as in the JSON response.
+     */
+    public Map<String, String> differences() {
+        return Map.of(
+            "priceDifference", priceDifference,
+            "ratingDifference", Double.toString(ratingDifference)
+        );
+    }
 }
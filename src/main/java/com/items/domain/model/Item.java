@@ -3,13 +3,21 @@ package com.items.domain.model;
 import java.math.BigDecimal;
 
 public record Item(String id, String name, String imageUrl, String description,
-     BigDecimal price, Double rating, Specification specification) {
+     BigDecimal price, Double rating, Specification specification, Long version) {
          
     public Item(String name, String imageUrl, String description, BigDecimal price, Double rating, Specification specification) {
-        this(null, name, imageUrl, description, price, rating, specification);
+        this(null, name, imageUrl, description, price, rating, specification, null);
     }    
+
+    public Item(String id, String name, String imageUrl, String description, BigDecimal price, Double rating, Specification specification) {
+        this(id, name, imageUrl, description, price, rating, specification, null);
+    }
    
     public Item withId(String newId) {
-        return new Item(newId, this.name, this.imageUrl, this.description, this.price, this.rating, this.specification);
+        return new Item(newId, this.name, this.imageUrl, this.description, this.price, this.rating, this.specification, this.version);
+    }
+
+    public Item withVersion(Long newVersion) {
+        return new Item(this.id, this.name, this.imageUrl, this.description, this.price, this.rating, this.specification, newVersion);
     }
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.items.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Narrows a set of items; every null bound matches everything.
+ */
+public record ItemFilter(String brand, BigDecimal minPrice, BigDecimal maxPrice, Double minRating) {
+
+    public static final ItemFilter NONE = new ItemFilter(null, null, null, null);
+
+    public boolean matches(Item item) {
+        if (brand != null && (item.specification() == null || !brand.equalsIgnoreCase(item.specification().brand()))) {
+            return false;
+        }
+        if (minPrice != null && item.price().compareTo(minPrice) < 0) {
+            return false;
+        }
+        if (maxPrice != null && item.price().compareTo(maxPrice) > 0) {
+            return false;
+        }
+        return minRating == null || item.rating() >= minRating;
+    }
+}
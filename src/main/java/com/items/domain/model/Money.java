@@ -0,0 +1,193 @@
+package com.items.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Exact decimal amount held as a {@code long} count of minor units at a decimal scale: 19.99
+ * is 1999 at scale 2. Comparison, subtraction, rescaling, {@link #doubleValue()} and
+ * {@link #toString()} give the same results as {@link BigDecimal}, including the scale of
+ * the result, without allocating intermediate numbers.
+ *
+ * Amounts are limited to 18 digits; operations whose result does not fit throw
+ * {@link ArithmeticException}, so callers can fall back to {@link BigDecimal}.
+ */
+public record Money(long amount, int scale) implements Comparable<Money> {
+    private static final int MAX_DIGITS = 18;
+    private static final long[] TEN_POWERS = new long[MAX_DIGITS + 1];
+    // powers of ten exactly representable as doubles, as BigDecimal.doubleValue uses them
+    private static final double[] DOUBLE_TEN_POWERS = new double[23];
+
+    static {
+        TEN_POWERS[0] = 1;
+        for (int i = 1; i < TEN_POWERS.length; i++) {
+            TEN_POWERS[i] = TEN_POWERS[i - 1] * 10;
+        }
+        DOUBLE_TEN_POWERS[0] = 1;
+        for (int i = 1; i < DOUBLE_TEN_POWERS.length; i++) {
+            DOUBLE_TEN_POWERS[i] = DOUBLE_TEN_POWERS[i - 1] * 10;
+        }
+    }
+
+    /**
+     * @throws ArithmeticException when {@code value} has more than 18 digits
+     */
+    public static Money of(BigDecimal value) {
+        if (value.precision() > MAX_DIGITS) {
+            throw new ArithmeticException("More than " + MAX_DIGITS + " digits: " + value);
+        }
+        // within 18 digits the moved value is compact, so no BigInteger is built
+        return new Money(value.movePointRight(value.scale()).longValue(), value.scale());
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(amount, scale);
+    }
+
+    public int signum() {
+        return Long.signum(amount);
+    }
+
+    public Money abs() {
+        return amount < 0 ? new Money(Math.negateExact(amount), scale) : this;
+    }
+
+    /**
+     * {@code this - other}, at the larger of both scales.
+     */
+    public Money subtract(Money other) {
+        if (scale == other.scale) {
+            return new Money(Math.subtractExact(amount, other.amount), scale);
+        }
+        if (scale < other.scale) {
+            return new Money(Math.subtractExact(rescale(amount, (long) other.scale - scale), other.amount), other.scale);
+        }
+        return new Money(Math.subtractExact(amount, rescale(other.amount, (long) scale - other.scale)), scale);
+    }
+
+    /**
+     * Same amount at {@code newScale}, as {@link BigDecimal#setScale(int)}.
+     *
+     * @throws ArithmeticException when digits would be dropped
+     */
+    public Money setScale(int newScale) {
+        return setScale(newScale, RoundingMode.UNNECESSARY);
+    }
+
+    /**
+     * Amount rounded to {@code newScale}, as {@link BigDecimal#setScale(int, RoundingMode)}.
+     */
+    public Money setScale(int newScale, RoundingMode rounding) {
+        if (newScale >= scale) {
+            return new Money(rescale(amount, (long) newScale - scale), newScale);
+        }
+        long dropped = (long) scale - newScale;
+        if (dropped > MAX_DIGITS) {
+            throw new ArithmeticException("Scale change too large: " + scale + " to " + newScale);
+        }
+        long divisor = TEN_POWERS[(int) dropped];
+        long quotient = amount / divisor;
+        long remainder = amount % divisor;
+        if (remainder != 0 && roundsAway(quotient, remainder, divisor, rounding)) {
+            quotient += Long.signum(amount);
+        }
+        return new Money(quotient, newScale);
+    }
+
+    /**
+     * Numeric comparison that ignores the scale, as {@link BigDecimal#compareTo}.
+     */
+    @Override
+    public int compareTo(Money other) {
+        if (scale == other.scale) {
+            return Long.compare(amount, other.amount);
+        }
+        int signum = signum();
+        if (signum != other.signum() || signum == 0) {
+            return Integer.compare(signum, other.signum());
+        }
+        if (scale > other.scale) {
+            return -other.compareTo(this);
+        }
+        long difference = (long) other.scale - scale;
+        if (difference > MAX_DIGITS || Math.abs(amount) > Long.MAX_VALUE / TEN_POWERS[(int) difference]) {
+            // this amount grows past any long, so it is the larger magnitude
+            return signum;
+        }
+        return Long.compare(amount * TEN_POWERS[(int) difference], other.amount);
+    }
+
+    public double doubleValue() {
+        if (scale == 0) {
+            return amount;
+        }
+        if (Math.abs(amount) < 1L << 52) {
+            if (scale > 0 && scale < DOUBLE_TEN_POWERS.length) {
+                return amount / DOUBLE_TEN_POWERS[scale];
+            }
+            if (scale < 0 && -scale < DOUBLE_TEN_POWERS.length) {
+                return amount * DOUBLE_TEN_POWERS[-scale];
+            }
+        }
+        return toBigDecimal().doubleValue();
+    }
+
+    /**
+     * Canonical representation of {@link BigDecimal#toString()}: plain digits unless the scale
+     * is negative or the amount is below 10^-6, scientific notation otherwise.
+     */
+    @Override
+    public String toString() {
+        // sized for the plain form: a sign, 19 digits, a point or "0." and five more zeros
+        StringBuilder text = new StringBuilder(28).append(amount);
+        int start = amount < 0 ? 1 : 0;
+        int length = text.length() - start;
+        long adjusted = (long) length - 1 - scale;
+        if (scale >= 0 && adjusted >= -6) {
+            if (length > scale) {
+                if (scale > 0) {
+                    text.insert(text.length() - scale, '.');
+                }
+            } else {
+                for (int i = length; i < scale; i++) {
+                    text.insert(start, '0');
+                }
+                text.insert(start, "0.");
+            }
+            return text.toString();
+        }
+        if (length > 1) {
+            text.insert(start + 1, '.');
+        }
+        text.append('E');
+        if (adjusted > 0) {
+            text.append('+');
+        }
+        return text.append(adjusted).toString();
+    }
+
+    private static long rescale(long amount, long added) {
+        if (added > MAX_DIGITS) {
+            if (amount == 0) {
+                return 0;
+            }
+            throw new ArithmeticException("Scale change too large: " + added + " digits");
+        }
+        return Math.multiplyExact(amount, TEN_POWERS[(int) added]);
+    }
+
+    // remainder has the sign of the amount and a magnitude below divisor
+    private static boolean roundsAway(long quotient, long remainder, long divisor, RoundingMode rounding) {
+        long twice = 2 * Math.abs(remainder);
+        return switch (rounding) {
+            case UP -> true;
+            case DOWN -> false;
+            case CEILING -> remainder > 0;
+            case FLOOR -> remainder < 0;
+            case HALF_UP -> twice >= divisor;
+            case HALF_DOWN -> twice > divisor;
+            case HALF_EVEN -> twice > divisor || twice == divisor && (quotient & 1) != 0;
+            case UNNECESSARY -> throw new ArithmeticException("Rounding necessary");
+        };
+    }
+}
@@ -0,0 +1,13 @@
+package com.items.domain.model;
+
+import java.util.Map;
+
+/**
+ * Result of comparing several items at once. {@code differences} holds aggregates over all
+ * of them; {@code itemDifferences} holds, per item id, how far it is from the best price and
+ * the best rating.
+ */
+public record MultiComparisionResult(String bestPriceItemId, double bestPrice, String bestRankedItem,
+     double bestRating, Map<String,String> differences, Map<String, Map<String,String>> itemDifferences) {
+
+}
@@ -0,0 +1,11 @@
+package com.items.domain.model;
+
+import java.util.List;
+
+/**
+ * Items no other compared item beats on every criterion, cheapest first.
+ * {@code comparedItems} counts the items that passed the filter and specify every criterion.
+ */
+public record ParetoComparisionResult(List<String> criteria, int comparedItems, List<Item> frontier) {
+
+}
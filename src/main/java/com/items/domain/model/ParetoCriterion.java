@@ -0,0 +1,38 @@
+package com.items.domain.model;
+
+import java.util.Locale;
+
+import com.items.domain.exception.InvalidItemException;
+
+/**
+ * Optional third criterion of a Pareto comparison, on top of price and rating.
+ */
+public enum ParetoCriterion {
+    /** Lighter is better. */
+    WEIGHT,
+    /** Longer warranty is better. */
+    WARRANTY;
+
+    public static ParetoCriterion named(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidItemException("Unknown comparison criterion: " + name);
+        }
+    }
+
+    /**
+     * Value of the criterion for the item, oriented so that lower is better, or null when
+     * the item does not specify it.
+     */
+    public Double costOf(Item item) {
+        Specification specification = item.specification();
+        if (specification == null) {
+            return null;
+        }
+        return switch (this) {
+            case WEIGHT -> specification.weight();
+            case WARRANTY -> specification.warrantyMonths() == null ? null : -specification.warrantyMonths().doubleValue();
+        };
+    }
+}
@@ -0,0 +1,8 @@
+package com.items.domain.model;
+
+/**
+ * Score of an item under a {@link ScoringProfile}, between 0 and 1.
+ */
+public record ScoredItem(String itemId, double score) {
+
+}
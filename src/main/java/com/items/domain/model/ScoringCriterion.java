@@ -0,0 +1,48 @@
+package com.items.domain.model;
+
+import java.util.Locale;
+
+import com.items.domain.exception.InvalidItemException;
+
+/**
+ * Item attribute a {@link ScoringProfile} can weigh, with the direction that scores higher.
+ */
+public enum ScoringCriterion {
+    PRICE(false),
+    RATING(true),
+    WEIGHT(false),
+    WARRANTY(true);
+
+    private final boolean higherIsBetter;
+
+    ScoringCriterion(boolean higherIsBetter) {
+        this.higherIsBetter = higherIsBetter;
+    }
+
+    public static ScoringCriterion named(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidItemException("Unknown scoring criterion: " + name);
+        }
+    }
+
+    public boolean higherIsBetter() {
+        return higherIsBetter;
+    }
+
+    /**
+     * Value of the attribute for the item, or NaN when the item does not have it.
+     */
+    public double valueOf(Item item) {
+        Specification specification = item.specification();
+        return switch (this) {
+            case PRICE -> item.price() == null ? Double.NaN : item.price().doubleValue();
+            case RATING -> item.rating() == null ? Double.NaN : item.rating();
+            case WEIGHT -> specification == null || specification.weight() == null
+                ? Double.NaN : specification.weight();
+            case WARRANTY -> specification == null || specification.warrantyMonths() == null
+                ? Double.NaN : specification.warrantyMonths();
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package com.items.domain.model;
+
+import java.util.Map;
+
+/**
+ * Named set of weights, by criterion, used to score items. Only the relative size of the
+ * weights matters.
+ */
+public record ScoringProfile(String name, Map<ScoringCriterion, Double> weights) {
+
+    public ScoringProfile {
+        weights = Map.copyOf(weights);
+    }
+}
@@ -0,0 +1,13 @@
+package com.items.domain.port.inbound;
+
+import com.items.domain.exception.InvalidItemException;
+import com.items.domain.exception.ItemNotFoundException;
+import com.items.domain.model.CohortAttribute;
+import com.items.domain.model.CohortRankResult;
+
+public interface CohortRankUseCase {
+    /**
+     * Ranks the item on price and rating among the items sharing its value of {@code attribute}.
+     */
+    CohortRankResult rankInCohort(String id, CohortAttribute attribute) throws ItemNotFoundException, InvalidItemException;
+}
@@ -0,0 +1,8 @@
+package com.items.domain.port.inbound;
+
+/**
+ * Told about every item the store saved or deleted, after the write completed.
+ */
+public interface ItemChangeListener {
+    void itemChanged(String id);
+}
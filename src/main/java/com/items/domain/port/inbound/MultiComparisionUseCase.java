@@ -0,0 +1,11 @@
+package com.items.domain.port.inbound;
+
+import java.util.List;
+
+import com.items.domain.exception.InvalidItemException;
+import com.items.domain.exception.ItemNotFoundException;
+import com.items.domain.model.MultiComparisionResult;
+
+public interface MultiComparisionUseCase {
+    MultiComparisionResult compareAll(List<String> ids) throws ItemNotFoundException, InvalidItemException;
+}
@@ -0,0 +1,17 @@
+package com.items.domain.port.inbound;
+
+import java.util.List;
+
+import com.items.domain.exception.InvalidItemException;
+import com.items.domain.exception.ItemNotFoundException;
+import com.items.domain.model.ItemFilter;
+import com.items.domain.model.ParetoComparisionResult;
+import com.items.domain.model.ParetoCriterion;
+
+public interface ParetoComparisionUseCase {
+    /**
+     * @param criterion optional criterion compared besides price and rating, or null
+     */
+    ParetoComparisionResult compareFrontier(List<String> ids, ItemFilter filter, ParetoCriterion criterion)
+            throws ItemNotFoundException, InvalidItemException;
+}
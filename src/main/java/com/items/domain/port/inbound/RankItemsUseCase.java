@@ -0,0 +1,14 @@
+package com.items.domain.port.inbound;
+
+import java.util.List;
+
+import com.items.domain.exception.InvalidItemException;
+import com.items.domain.exception.ItemNotFoundException;
+import com.items.domain.model.ScoredItem;
+
+public interface RankItemsUseCase {
+    /**
+     * Scores the items with the named profile and returns the {@code limit} best, best first.
+     */
+    List<ScoredItem> rank(String profile, List<String> ids, int limit) throws ItemNotFoundException, InvalidItemException;
+}
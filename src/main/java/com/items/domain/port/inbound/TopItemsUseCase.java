@@ -0,0 +1,13 @@
+package com.items.domain.port.inbound;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.items.domain.exception.InvalidItemException;
+import com.items.domain.model.Item;
+
+public interface TopItemsUseCase {
+    List<Item> findCheapest(int limit) throws InvalidItemException;
+    List<Item> findBestRated(int limit) throws InvalidItemException;
+    List<Item> findInPriceRange(BigDecimal minPrice, BigDecimal maxPrice, Double minRating, int limit) throws InvalidItemException;
+}
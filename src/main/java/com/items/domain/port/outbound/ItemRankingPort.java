@@ -0,0 +1,36 @@
+package com.items.domain.port.outbound;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.items.domain.model.CohortAttribute;
+import com.items.domain.model.CohortStanding;
+import com.items.domain.model.Item;
+
+/**
+ * Ordered views over the whole catalog, kept by the store as items are saved and deleted.
+ * Items without a price (or rating) are left out of the matching view.
+ */
+public interface ItemRankingPort {
+    /**
+     * Ids of at most {@code limit} items, cheapest first; equal prices are ordered by id.
+     */
+    List<String> findCheapestIds(int limit);
+
+    /**
+     * Ids of at most {@code limit} items, highest rating first; equal ratings are ordered by id.
+     */
+    List<String> findBestRatedIds(int limit);
+
+    /**
+     * Ids of at most {@code limit} items priced within the inclusive bounds and rated at least
+     * {@code minRating}, cheapest first; null bounds are open.
+     */
+    List<String> findIdsInPriceRange(BigDecimal minPrice, BigDecimal maxPrice, Double minRating, int limit);
+
+    /**
+     * Standing of the item's price and rating among the other items sharing its value of
+     * {@code attribute}, in logarithmic time.
+     */
+    CohortStanding findCohortStanding(CohortAttribute attribute, Item item);
+}
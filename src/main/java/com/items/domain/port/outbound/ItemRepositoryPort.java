@@ -1,5 +1,8 @@
 package com.items.domain.port.outbound;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -9,4 +12,26 @@ public interface ItemRepositoryPort {
     Item save(Item item);
     Optional<Item> findById(String id);   
     void deleteById(String id);
-}
\ No newline at end of file
+
+    /**
+     * Saves {@code item} with version {@code expectedVersion + 1} if the stored item still
+     * has {@code expectedVersion} (items without a version count as version 0), atomically
+     * with respect to other writes to the same id.
+     *
+     * @throws com.items.domain.exception.ItemNotFoundException if no item is stored under the id
+     * @throws com.items.domain.exception.ItemVersionConflictException if the stored version differs
+     */
+    Item compareAndSave(Item item, long expectedVersion);
+
+    /**
+     * Loads every id in one call. The map holds the items found, in the order the ids were
+     * given; missing ids are left out.
+     */
+    default Map<String, Item> findAllById(Collection<String> ids) {
+        Map<String, Item> items = new LinkedHashMap<>();
+        for (String id : ids) {
+            findById(id).ifPresent(item -> items.put(id, item));
+        }
+        return items;
+    }
+}
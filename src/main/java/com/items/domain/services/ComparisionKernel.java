@@ -0,0 +1,58 @@
+package com.items.domain.services;
+
+/**
+ * Bulk operations over primitive price and rating columns, on the first {@code length}
+ * values of each array. Every implementation returns exactly what
+ * {@link ScalarComparisionKernel} returns: doubles are compared with {@code ==} and reduced
+ * as {@link Math#min} and {@link Math#max} do. Callers never pass NaN.
+ */
+public interface ComparisionKernel {
+
+    long min(long[] values, int length);
+
+    long max(long[] values, int length);
+
+    double min(double[] values, int length);
+
+    double max(double[] values, int length);
+
+    /**
+     * Index of the first value equal to {@code value}, or -1.
+     */
+    int indexOf(long[] values, int length, long value);
+
+    /**
+     * Index of the last value equal to {@code value}, or -1.
+     */
+    int lastIndexOf(long[] values, int length, long value);
+
+    int indexOf(double[] values, int length, double value);
+
+    int lastIndexOf(double[] values, int length, double value);
+
+    /**
+     * Writes {@code base - values[i]} to {@code out[i]}.
+     */
+    void differencesFrom(long base, long[] values, int length, long[] out);
+
+    void differencesFrom(double base, double[] values, int length, double[] out);
+
+    /**
+     * Index of the first smallest value, or -1 when {@code length} is 0.
+     */
+    default int argMin(long[] values, int length) {
+        return indexOf(values, length, min(values, length));
+    }
+
+    default int argMax(long[] values, int length) {
+        return indexOf(values, length, max(values, length));
+    }
+
+    default int argMin(double[] values, int length) {
+        return indexOf(values, length, min(values, length));
+    }
+
+    default int argMax(double[] values, int length) {
+        return indexOf(values, length, max(values, length));
+    }
+}
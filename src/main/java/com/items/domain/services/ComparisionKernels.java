@@ -0,0 +1,46 @@
+package com.items.domain.services;
+
+/**
+ * Picks a {@link ComparisionKernel} without loading the Vector API unless the JVM provides it.
+ * The Vector API kernel is only compiled by the {@code vector} build profile, so it is looked
+ * up by name and the scalar kernel is used when it is missing.
+ */
+public final class ComparisionKernels {
+    private static final String VECTOR_KERNEL = "com.items.domain.services.VectorComparisionKernel";
+
+    private static final ComparisionKernel VECTOR = loadVector();
+
+    private ComparisionKernels() {
+    }
+
+    /**
+     * Whether the Vector API kernel was built, the JVM was started with
+     * {@code --add-modules jdk.incubator.vector} and the CPU has vector registers wider than
+     * one lane.
+     */
+    public static boolean vectorAvailable() {
+        return VECTOR != null;
+    }
+
+    /**
+     * The Vector API kernel when {@link #vectorAvailable()}, the scalar one otherwise.
+     */
+    public static ComparisionKernel fastest() {
+        return VECTOR != null ? VECTOR : ScalarComparisionKernel.INSTANCE;
+    }
+
+    private static ComparisionKernel loadVector() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+        try {
+            Class<?> type = Class.forName(VECTOR_KERNEL);
+            if (!(boolean) type.getDeclaredMethod("isSupported").invoke(null)) {
+                return null;
+            }
+            return (ComparisionKernel) type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.items.domain.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.items.domain.exception.InvalidItemException;
+import com.items.domain.model.Item;
+import com.items.domain.model.ScoredItem;
+import com.items.domain.model.ScoringCriterion;
+import com.items.domain.model.ScoringProfile;
+
+/**
+ * Evaluator compiled from a {@link ScoringProfile}. Each criterion is min-max scaled over
+ * the items being ranked, so that the best value scores 1 and the worst 0, and the score is
+ * the weighted mean of those values; an item missing a criterion gets 0 for it.
+ *
+ * Compiling validates the profile once and keeps only the criteria with a weight, as
+ * arrays; scoring reads one criterion for every item at a time into a reused column.
+ */
+public final class ItemScorer {
+    private final String profile;
+    private final ScoringCriterion[] criteria;
+    private final double[] weights;
+
+    private ItemScorer(String profile, ScoringCriterion[] criteria, double[] weights) {
+        this.profile = profile;
+        this.criteria = criteria;
+        this.weights = weights;
+    }
+
+    public static ItemScorer compile(ScoringProfile profile) {
+        if (profile.name() == null || profile.name().isBlank()) {
+            throw new InvalidItemException("Scoring profile name cannot be null or blank");
+        }
+        double total = 0;
+        for (Map.Entry<ScoringCriterion, Double> entry : profile.weights().entrySet()) {
+            Double weight = entry.getValue();
+            if (weight == null || !Double.isFinite(weight) || weight < 0) {
+                throw new InvalidItemException("Weight of " + entry.getKey() + " in scoring profile "
+                    + profile.name() + " must be a non-negative number");
+            }
+            total += weight;
+        }
+        if (total == 0) {
+            throw new InvalidItemException("Scoring profile " + profile.name() + " needs a positive weight");
+        }
+        List<ScoringCriterion> criteria = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        for (ScoringCriterion criterion : ScoringCriterion.values()) {
+            double weight = profile.weights().getOrDefault(criterion, 0.0);
+            if (weight > 0) {
+                criteria.add(criterion);
+                weights.add(weight / total);
+            }
+        }
+        return new ItemScorer(profile.name(), criteria.toArray(ScoringCriterion[]::new),
+            weights.stream().mapToDouble(Double::doubleValue).toArray());
+    }
+
+    public String profile() {
+        return profile;
+    }
+
+    /**
+     * Scores of the items, by position.
+     */
+    public double[] score(List<Item> items) {
+        int size = items.size();
+        double[] scores = new double[size];
+        double[] column = new double[size];
+        for (int c = 0; c < criteria.length; c++) {
+            ScoringCriterion criterion = criteria[c];
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < size; i++) {
+                double value = criterion.valueOf(items.get(i));
+                column[i] = value;
+                if (value < min) {
+                    min = value;
+                }
+                if (value > max) {
+                    max = value;
+                }
+            }
+            if (min > max) {
+                // no item has the criterion
+                continue;
+            }
+            double weight = weights[c];
+            double range = max - min;
+            // NaN (missing) fails every comparison and is skipped
+            if (range == 0) {
+                for (int i = 0; i < size; i++) {
+                    if (column[i] == min) {
+                        scores[i] += weight;
+                    }
+                }
+            } else if (criterion.higherIsBetter()) {
+                double scale = weight / range;
+                for (int i = 0; i < size; i++) {
+                    if (column[i] >= min) {
+                        scores[i] += (column[i] - min) * scale;
+                    }
+                }
+            } else {
+                double scale = weight / range;
+                for (int i = 0; i < size; i++) {
+                    if (column[i] <= max) {
+                        scores[i] += (max - column[i]) * scale;
+                    }
+                }
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Returns the {@code limit} best-scored items, best first; equal scores keep the order of
+     * {@code items}. Selection uses a heap bounded to {@code limit}, so it costs O(n log limit).
+     */
+    public List<ScoredItem> rank(List<Item> items, int limit) {
+        double[] scores = score(items);
+        int size = Math.min(limit, items.size());
+        // min-heap of positions: the root is the worst item kept so far
+        int[] heap = new int[size];
+        int count = 0;
+        for (int i = 0; i < items.size(); i++) {
+            if (count < size) {
+                heap[count] = i;
+                siftUp(heap, count++, scores);
+            } else if (size > 0 && worse(heap[0], i, scores)) {
+                heap[0] = i;
+                siftDown(heap, count, scores);
+            }
+        }
+        ScoredItem[] ranked = new ScoredItem[count];
+        while (count > 0) {
+            int worst = heap[0];
+            heap[0] = heap[--count];
+            siftDown(heap, count, scores);
+            ranked[count] = new ScoredItem(items.get(worst).id(), scores[worst]);
+        }
+        return List.of(ranked);
+    }
+
+    private static boolean worse(int a, int b, double[] scores) {
+        return scores[a] < scores[b] || scores[a] == scores[b] && a > b;
+    }
+
+    private static void siftUp(int[] heap, int index, double[] scores) {
+        int item = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!worse(item, heap[parent], scores)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = item;
+    }
+
+    private static void siftDown(int[] heap, int count, double[] scores) {
+        if (count == 0) {
+            return;
+        }
+        int item = heap[0];
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= count) {
+                break;
+            }
+            if (child + 1 < count && worse(heap[child + 1], heap[child], scores)) {
+                child++;
+            }
+            if (!worse(heap[child], item, scores)) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = item;
+    }
+}
@@ -4,6 +4,7 @@ import com.items.domain.exception.InvalidItemException;
 import com.items.domain.model.Item;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 
 public final class ItemValidator {
@@ -35,6 +36,38 @@ public final class ItemValidator {
         }
     }
 
+    public static void validateComparedIds(List<String> ids, int maxItems) {
+        if (ids == null || ids.size() < 2) {
+            throw new InvalidItemException("At least two item IDs are required");
+        }
+        if (ids.size() > maxItems) {
+            throw new InvalidItemException("At most " + maxItems + " items can be compared at once");
+        }
+        ids.forEach(ItemValidator::validateIdNotNull);
+    }
+
+    public static void validateIds(List<String> ids, int maxItems) {
+        if (ids == null || ids.isEmpty()) {
+            throw new InvalidItemException("At least one item ID is required");
+        }
+        if (ids.size() > maxItems) {
+            throw new InvalidItemException("At most " + maxItems + " item IDs can be given at once");
+        }
+        ids.forEach(ItemValidator::validateIdNotNull);
+    }
+
+    public static void validateLimit(int limit, int maxLimit) {
+        if (limit < 1 || limit > maxLimit) {
+            throw new InvalidItemException("Limit must be between 1 and " + maxLimit);
+        }
+    }
+
+    public static void validatePriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new InvalidItemException("Minimum price cannot be greater than maximum price");
+        }
+    }
+
     public static void validateName(String name) {
         if (name == null || name.isBlank()) {
             throw new InvalidItemException("Item name cannot be null or blank");
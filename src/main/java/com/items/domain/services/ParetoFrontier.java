@@ -0,0 +1,82 @@
+package com.items.domain.services;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.items.domain.model.Item;
+import com.items.domain.model.ParetoCriterion;
+
+/**
+ * Skyline of a set of items: those no other item beats on every criterion. An item
+ * dominates another when it is at least as cheap, at least as well rated and at least as
+ * good on the optional criterion, and strictly better on one of them. Identical items do
+ * not dominate each other.
+ */
+public final class ParetoFrontier {
+
+    private static final Comparator<Point> SWEEP_ORDER = Comparator.comparing(Point::x)
+            .thenComparingDouble(Point::y)
+            .thenComparingDouble(Point::z);
+
+    private ParetoFrontier() {
+    }
+
+    /**
+     * Returns the non-dominated items, cheapest first, in O(n log n): the items are sorted by
+     * price and swept once, keeping the frontier found so far as a staircase of its best
+     * (rating, criterion) pairs. Items without a value for {@code criterion} are left out.
+     *
+     * @param criterion compared besides price and rating, or null
+     */
+    public static List<Item> of(Collection<Item> items, ParetoCriterion criterion) {
+        List<Point> points = new ArrayList<>(items.size());
+        for (Item item : items) {
+            Double cost = criterion == null ? Double.valueOf(0) : criterion.costOf(item);
+            if (cost != null) {
+                // every coordinate is lower-is-better; 0.0 - v avoids a -0.0 key. The price stays
+                // exact: prices a double cannot tell apart must still be ordered
+                points.add(new Point(item, item.price(), 0.0 - item.rating(), 0.0 + cost));
+            }
+        }
+        points.sort(SWEEP_ORDER);
+
+        // rating cost -> lowest criterion cost among frontier items with that rating cost or
+        // lower; values strictly decrease as keys grow
+        TreeMap<Double, Double> staircase = new TreeMap<>();
+        List<Item> frontier = new ArrayList<>();
+        int start = 0;
+        while (start < points.size()) {
+            Point point = points.get(start);
+            int end = start + 1;
+            while (end < points.size() && points.get(end).sameAs(point)) {
+                end++;
+            }
+            // every earlier item is at least as cheap, so it dominates if it is no worse on y and z
+            Map.Entry<Double, Double> floor = staircase.floorEntry(point.y());
+            if (floor == null || floor.getValue() > point.z()) {
+                for (int i = start; i < end; i++) {
+                    frontier.add(points.get(i).item());
+                }
+                Map.Entry<Double, Double> covered = staircase.ceilingEntry(point.y());
+                while (covered != null && covered.getValue() >= point.z()) {
+                    staircase.remove(covered.getKey());
+                    covered = staircase.higherEntry(covered.getKey());
+                }
+                staircase.put(point.y(), point.z());
+            }
+            start = end;
+        }
+        return frontier;
+    }
+
+    private record Point(Item item, BigDecimal x, double y, double z) {
+        private boolean sameAs(Point other) {
+            return x.compareTo(other.x) == 0 && y == other.y && z == other.z;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.items.domain.services;
+
+/**
+ * Plain loops; the reference for every other {@link ComparisionKernel}.
+ */
+public final class ScalarComparisionKernel implements ComparisionKernel {
+    public static final ScalarComparisionKernel INSTANCE = new ScalarComparisionKernel();
+
+    private ScalarComparisionKernel() {
+    }
+
+    @Override
+    public long min(long[] values, int length) {
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < length; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public long max(long[] values, int length) {
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < length; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public double min(double[] values, int length) {
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < length; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public double max(double[] values, int length) {
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < length; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public int indexOf(long[] values, int length, long value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(long[] values, int length, long value) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOf(double[] values, int length, double value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(double[] values, int length, double value) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void differencesFrom(long base, long[] values, int length, long[] out) {
+        for (int i = 0; i < length; i++) {
+            out[i] = base - values[i];
+        }
+    }
+
+    @Override
+    public void differencesFrom(double base, double[] values, int length, double[] out) {
+        for (int i = 0; i < length; i++) {
+            out[i] = base - values[i];
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.items.infraestructure.adapters.inbound.health;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import com.items.infraestructure.adapters.outbound.persistence.ItemLoadProgress;
+
+/**
+ * Reports catalog warm-up progress. It is part of the readiness group, so the instance
+ * only reports ready once the catalog is loaded. A failed background warm-up reports
+ * {@code DOWN} until it is retried.
+ */
+@Component
+public class ItemCatalogHealthIndicator implements HealthIndicator {
+
+    private final ItemLoadProgress progress;
+
+    public ItemCatalogHealthIndicator(ItemLoadProgress progress) {
+        this.progress = progress;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder;
+        switch (progress.state()) {
+            case LOADING:
+                builder = Health.outOfService();
+                break;
+            case FAILED:
+                builder = Health.down();
+                break;
+            default:
+                builder = Health.up();
+        }
+        return builder
+                .withDetail("state", progress.state())
+                .withDetail("discovered", progress.discoveredCount())
+                .withDetail("listingComplete", progress.isListingComplete())
+                .withDetail("loaded", progress.loadedCount())
+                .withDetail("failed", progress.failedCount())
+                .withDetail("elapsedMs", progress.elapsedMs())
+                .build();
+    }
+}
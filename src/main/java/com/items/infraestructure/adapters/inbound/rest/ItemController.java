@@ -1,5 +1,8 @@
 package com.items.infraestructure.adapters.inbound.rest;
 
+import java.math.BigDecimal;
+import java.util.List;
+
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -10,14 +13,28 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.items.domain.model.CohortAttribute;
+import com.items.domain.model.CohortRankResult;
 import com.items.domain.model.ComparisionResult;
 import com.items.domain.model.Item;
+import com.items.domain.model.MultiComparisionResult;
+import com.items.domain.model.ParetoComparisionResult;
+import com.items.domain.model.ParetoCriterion;
+import com.items.domain.model.ScoredItem;
+import com.items.domain.port.inbound.CohortRankUseCase;
 import com.items.domain.port.inbound.ComparisionUseCase;
 import com.items.domain.port.inbound.CreateItemUseCase;
 import com.items.domain.port.inbound.DeleteItemUseCase;
 import com.items.domain.port.inbound.GetItemUseCase;
+import com.items.domain.port.inbound.MultiComparisionUseCase;
+import com.items.domain.port.inbound.ParetoComparisionUseCase;
+import com.items.domain.port.inbound.RankItemsUseCase;
+import com.items.domain.port.inbound.TopItemsUseCase;
 import com.items.domain.port.inbound.UpdateItemUseCase;
+import com.items.infraestructure.adapters.inbound.rest.dto.CompareItemsRequest;
 import com.items.infraestructure.adapters.inbound.rest.dto.CreateItemRequest;
+import com.items.infraestructure.adapters.inbound.rest.dto.ParetoCompareRequest;
+import com.items.infraestructure.adapters.inbound.rest.dto.RankItemsRequest;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -36,17 +53,32 @@ public class ItemController {
     private final UpdateItemUseCase updateItemUseCase;
     private final DeleteItemUseCase deleteItemUseCase;
     private final ComparisionUseCase comparisionUseCase;
+    private final MultiComparisionUseCase multiComparisionUseCase;
+    private final TopItemsUseCase topItemsUseCase;
+    private final ParetoComparisionUseCase paretoComparisionUseCase;
+    private final RankItemsUseCase rankItemsUseCase;
+    private final CohortRankUseCase cohortRankUseCase;
 
     public ItemController(CreateItemUseCase createItemUseCase,
                           GetItemUseCase getItemUseCase,
                           UpdateItemUseCase updateItemUseCase,
                           DeleteItemUseCase deleteItemUseCase,
-                          ComparisionUseCase comparisionUseCase) {
+                          ComparisionUseCase comparisionUseCase,
+                          MultiComparisionUseCase multiComparisionUseCase,
+                          TopItemsUseCase topItemsUseCase,
+                          ParetoComparisionUseCase paretoComparisionUseCase,
+                          RankItemsUseCase rankItemsUseCase,
+                          CohortRankUseCase cohortRankUseCase) {
         this.createItemUseCase = createItemUseCase;
         this.getItemUseCase = getItemUseCase;
         this.updateItemUseCase = updateItemUseCase;
         this.deleteItemUseCase = deleteItemUseCase;
         this.comparisionUseCase = comparisionUseCase;
+        this.multiComparisionUseCase = multiComparisionUseCase;
+        this.topItemsUseCase = topItemsUseCase;
+        this.paretoComparisionUseCase = paretoComparisionUseCase;
+        this.rankItemsUseCase = rankItemsUseCase;
+        this.cohortRankUseCase = cohortRankUseCase;
     }
 
    @PostMapping
@@ -72,10 +104,11 @@ public class ItemController {
     }
 
     @PutMapping
-    @Operation(summary = "Update item", description = "Updates an existing item")
+    @Operation(summary = "Update item", description = "Updates an existing item. If a version is sent, the update only succeeds if it matches the stored version")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Item updated successfully"),
         @ApiResponse(responseCode = "404", description = "Item not found"),
+        @ApiResponse(responseCode = "409", description = "Item was modified since the given version"),
         @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     public Item updateItem(@RequestBody Item item){
@@ -114,5 +147,97 @@ public class ItemController {
     public ComparisionResult compareItems(@RequestParam String id1, @RequestParam String id2) {
         return comparisionUseCase.compare(id1, id2);
     }
-    
+
+    @PostMapping("/compare")
+    @Operation(summary = "Compare several items", description = "Compares up to 100 items in one call and returns the best price, the best rating and how far each item is from them")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Comparison completed"),
+        @ApiResponse(responseCode = "400", description = "Fewer than two ids, too many ids or a blank id"),
+        @ApiResponse(responseCode = "404", description = "One or more items not found"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public MultiComparisionResult compareManyItems(@RequestBody CompareItemsRequest request) {
+        return multiComparisionUseCase.compareAll(request.ids());
+    }
+
+    @PostMapping("/compare/pareto")
+    @Operation(summary = "Pareto frontier of several items", description = "Among up to 10000 items matching the filter, returns those no other item beats on price, rating and the optional criterion (weight or warranty) at once")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Frontier computed"),
+        @ApiResponse(responseCode = "400", description = "Fewer than two ids, too many ids, a blank id or an unknown criterion"),
+        @ApiResponse(responseCode = "404", description = "One or more items not found"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ParetoComparisionResult compareParetoFrontier(@RequestBody ParetoCompareRequest request) {
+        ParetoCriterion criterion = request.criterion() == null || request.criterion().isBlank()
+            ? null : ParetoCriterion.named(request.criterion());
+        return paretoComparisionUseCase.compareFrontier(request.ids(), request.filter(), criterion);
+    }
+
+    @PostMapping("/rank")
+    @Operation(summary = "Rank items by a scoring profile", description = "Scores up to 1000 items with a server-side profile weighing price, rating, weight and warranty, and returns the best first")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Items ranked"),
+        @ApiResponse(responseCode = "400", description = "Unknown profile, no ids, too many ids, a blank id or an invalid limit"),
+        @ApiResponse(responseCode = "404", description = "One or more items not found"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public List<ScoredItem> rankItems(@RequestBody RankItemsRequest request) {
+        int limit = request.limit() != null ? request.limit() : request.ids() == null ? 0 : request.ids().size();
+        return rankItemsUseCase.rank(request.profile(), request.ids(), limit);
+    }
+
+    @GetMapping("/cheapest")
+    @Operation(summary = "Cheapest items", description = "Lists up to 100 items with the lowest price, cheapest first")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Items listed"),
+        @ApiResponse(responseCode = "400", description = "Limit outside 1 to 100"),
+        @ApiResponse(responseCode = "501", description = "Item ranking is not enabled"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public List<Item> cheapestItems(@RequestParam(defaultValue = "10") int limit) {
+        return topItemsUseCase.findCheapest(limit);
+    }
+
+    @GetMapping("/best-rated")
+    @Operation(summary = "Best-rated items", description = "Lists up to 100 items with the highest rating, best first")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Items listed"),
+        @ApiResponse(responseCode = "400", description = "Limit outside 1 to 100"),
+        @ApiResponse(responseCode = "501", description = "Item ranking is not enabled"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public List<Item> bestRatedItems(@RequestParam(defaultValue = "10") int limit) {
+        return topItemsUseCase.findBestRated(limit);
+    }
+
+    @GetMapping("/price-range")
+    @Operation(summary = "Items in a price range", description = "Lists up to 100 items priced within the bounds and rated at least minRating, cheapest first")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Items listed"),
+        @ApiResponse(responseCode = "400", description = "Limit outside 1 to 100 or minimum price above maximum price"),
+        @ApiResponse(responseCode = "501", description = "Item ranking is not enabled"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public List<Item> itemsInPriceRange(@RequestParam(required = false) BigDecimal minPrice,
+                                        @RequestParam(required = false) BigDecimal maxPrice,
+                                        @RequestParam(required = false) Double minRating,
+                                        @RequestParam(defaultValue = "10") int limit) {
+        return topItemsUseCase.findInPriceRange(minPrice, maxPrice, minRating, limit);
+    }
+
+    @GetMapping("/{id}/cohort-rank")
+    @Operation(summary = "Rank an item within its cohort", description = "Ranks the item on price and rating among the items of the same brand or material, with percentiles and its distance from the best of them")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Item ranked"),
+        @ApiResponse(responseCode = "400", description = "Unknown attribute, or the item has no value for it"),
+        @ApiResponse(responseCode = "404", description = "Item not found"),
+        @ApiResponse(responseCode = "501", description = "Item ranking is not enabled"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public CohortRankResult rankInCohort(@PathVariable String id,
+                                         @RequestParam(defaultValue = "brand") String by) {
+        return cohortRankUseCase.rankInCohort(id, CohortAttribute.named(by));
+    }
+
 }
@@ -0,0 +1,47 @@
+package com.items.infraestructure.adapters.inbound.rest;
+
+import java.io.IOException;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.items.infraestructure.adapters.outbound.persistence.ItemReadCounter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Records how many item repository reads each {@code /items} request made, as the
+ * {@code items.repository.reads.per.request} distribution.
+ */
+@Component
+public class ItemReadMetricsFilter extends OncePerRequestFilter {
+    private final ItemReadCounter counter;
+    private final DistributionSummary readsPerRequest;
+
+    public ItemReadMetricsFilter(ItemReadCounter counter, MeterRegistry meterRegistry) {
+        this.counter = counter;
+        this.readsPerRequest = DistributionSummary.builder("items.repository.reads.per.request")
+                .description("Item repository reads made while serving one request")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + "/items");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain) throws ServletException, IOException {
+        counter.begin();
+        try {
+            chain.doFilter(req, res);
+        } finally {
+            readsPerRequest.record(counter.end());
+        }
+    }
+}
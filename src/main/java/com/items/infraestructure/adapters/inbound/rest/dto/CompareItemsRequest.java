@@ -0,0 +1,12 @@
+package com.items.infraestructure.adapters.inbound.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "Request for comparing several items at once")
+public record CompareItemsRequest(
+    @ArraySchema(schema = @Schema(description = "Item id", example = "3f0c1a52-7d1e-4a5b-9c1f-2b6e8d0a9f11"),
+        minItems = 2, maxItems = 100)
+    List<String> ids
+) {}
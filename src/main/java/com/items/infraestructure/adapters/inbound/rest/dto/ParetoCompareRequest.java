@@ -0,0 +1,34 @@
+package com.items.infraestructure.adapters.inbound.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.items.domain.model.ItemFilter;
+
+@Schema(description = "Request for the Pareto frontier of a set of items")
+public record ParetoCompareRequest(
+    @ArraySchema(schema = @Schema(description = "Item id", example = "3f0c1a52-7d1e-4a5b-9c1f-2b6e8d0a9f11"),
+        minItems = 2, maxItems = 10000)
+    List<String> ids,
+
+    @Schema(description = "Only items of this brand", example = "Dell")
+    String brand,
+
+    @Schema(description = "Only items at this price or above", example = "500.00")
+    BigDecimal minPrice,
+
+    @Schema(description = "Only items at this price or below", example = "2000.00")
+    BigDecimal maxPrice,
+
+    @Schema(description = "Only items rated this or better", example = "4.0")
+    Double minRating,
+
+    @Schema(description = "Criterion compared besides price and rating", allowableValues = {"weight", "warranty"})
+    String criterion
+) {
+    public ItemFilter filter() {
+        return new ItemFilter(brand, minPrice, maxPrice, minRating);
+    }
+}
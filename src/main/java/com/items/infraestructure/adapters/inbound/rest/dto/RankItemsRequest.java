@@ -0,0 +1,18 @@
+package com.items.infraestructure.adapters.inbound.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "Request for ranking items with a scoring profile")
+public record RankItemsRequest(
+    @Schema(description = "Name of a scoring profile configured on the server", example = "best-value")
+    String profile,
+
+    @ArraySchema(schema = @Schema(description = "Item id", example = "3f0c1a52-7d1e-4a5b-9c1f-2b6e8d0a9f11"),
+        minItems = 1, maxItems = 1000)
+    List<String> ids,
+
+    @Schema(description = "How many of the best items to return; all of them when absent", example = "20")
+    Integer limit
+) {}
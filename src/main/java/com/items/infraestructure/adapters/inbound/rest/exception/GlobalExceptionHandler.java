@@ -9,6 +9,8 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import com.items.domain.exception.ItemNotFoundException;
 import com.items.domain.exception.InvalidItemException;
+import com.items.domain.exception.ItemVersionConflictException;
+import com.items.domain.exception.RankingDisabledException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -16,12 +18,20 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(ItemNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleItemNotFound(ItemNotFoundException ex) {
-        log.error("ItemNotFoundException caught", ex);
+        log.debug("Item not found: {}", ex.getMessage());
         ErrorResponse error = new ErrorResponse("NOT_FOUND", ex.getMessage());
 
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    @ExceptionHandler(ItemVersionConflictException.class)
+    public ResponseEntity<ErrorResponse> handleVersionConflict(ItemVersionConflictException ex) {
+        log.warn(ex.getMessage());
+        ErrorResponse error = new ErrorResponse("CONFLICT", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     @ExceptionHandler(InvalidItemException.class)
     public ResponseEntity<ErrorResponse> handleInvalidItem(InvalidItemException ex) {
         log.error("InvalidItemException caught", ex);
@@ -30,6 +40,14 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    @ExceptionHandler(RankingDisabledException.class)
+    public ResponseEntity<ErrorResponse> handleRankingDisabled(RankingDisabledException ex) {
+        log.debug("Ranking disabled: {}", ex.getMessage());
+        ErrorResponse error = new ErrorResponse("NOT_IMPLEMENTED", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).body(error);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
         log.error("Exception caught", ex);
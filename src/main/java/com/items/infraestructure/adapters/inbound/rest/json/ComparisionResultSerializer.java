@@ -0,0 +1,53 @@
+package com.items.infraestructure.adapters.inbound.rest.json;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.items.domain.model.ComparisionResult;
+
+/**
+ * Writes a {@link ComparisionResult} field by field, with pre-encoded field names, instead of
+ * introspecting the record. The JSON keeps the shape of the former map-based result:
+ *
+ * <pre>{"bestPriceItemId": ..., "bestPrice": ..., "bestRankedItem": ..., "bestRating": ...,
+ *  "differences": {"priceDifference": "...", "ratingDifference": "..."}}</pre>
+ */
+public class ComparisionResultSerializer extends StdSerializer<ComparisionResult> {
+    private static final SerializableString BEST_PRICE_ITEM_ID = new SerializedString("bestPriceItemId");
+    private static final SerializableString BEST_PRICE = new SerializedString("bestPrice");
+    private static final SerializableString BEST_RANKED_ITEM = new SerializedString("bestRankedItem");
+    private static final SerializableString BEST_RATING = new SerializedString("bestRating");
+    private static final SerializableString DIFFERENCES = new SerializedString("differences");
+    private static final SerializableString PRICE_DIFFERENCE = new SerializedString("priceDifference");
+    private static final SerializableString RATING_DIFFERENCE = new SerializedString("ratingDifference");
+
+    public ComparisionResultSerializer() {
+        super(ComparisionResult.class);
+    }
+
+    @Override
+    public void serialize(ComparisionResult result, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(result);
+        generator.writeFieldName(BEST_PRICE_ITEM_ID);
+        generator.writeString(result.bestPriceItemId());
+        generator.writeFieldName(BEST_PRICE);
+        generator.writeNumber(result.bestPrice());
+        generator.writeFieldName(BEST_RANKED_ITEM);
+        generator.writeString(result.bestRankedItem());
+        generator.writeFieldName(BEST_RATING);
+        generator.writeNumber(result.bestRating());
+        generator.writeFieldName(DIFFERENCES);
+        generator.writeStartObject();
+        generator.writeFieldName(PRICE_DIFFERENCE);
+        generator.writeString(result.priceDifference());
+        generator.writeFieldName(RATING_DIFFERENCE);
+        // the only text built per response; doubles have no allocation-free formatter in the JDK
+        generator.writeString(Double.toString(result.ratingDifference()));
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,256 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.items.domain.model.Item;
+import com.items.domain.port.outbound.ItemRepositoryPort;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Answers lookups for ids that were never saved without touching the delegate, using an
+ * {@link ItemIdBloomFilter} built at startup from the ids the scanner lists, without reading
+ * the items. Saves add their id before the write so a stored item is never reported missing.
+ * Deleted ids stay in the filter until it is rebuilt in the background, which happens once
+ * they exceed {@code rebuildRatio} of the ids it holds or the filter grows past its capacity.
+ * Until then they are remembered, so lookups of them are not counted as false positives.
+ */
+public class BloomFilterItemRepository implements ItemRepositoryPort, Syncable, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(BloomFilterItemRepository.class);
+
+    private final ItemRepositoryPort delegate;
+    private final ItemIdScanner scanner;
+    private final long expectedItems;
+    private final double falsePositiveRate;
+    private final double rebuildRatio;
+
+    private volatile ItemIdBloomFilter filter;
+    // ids saved while a rebuild scans the store; null when no rebuild is running
+    private volatile Set<String> savedDuringRebuild;
+    // saves hold the read lock until their write is visible to the scanner
+    private final ReentrantReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    // ids deleted while still in the filter; cleared when it is rebuilt
+    private final Set<String> deletedSinceBuild = ConcurrentHashMap.newKeySet();
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "item-bloom-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private final LongAdder deletedLookups = new LongAdder();
+
+    public BloomFilterItemRepository(ItemRepositoryPort delegate, ItemIdScanner scanner, long expectedItems,
+                                     double falsePositiveRate, double rebuildRatio, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.scanner = scanner;
+        this.expectedItems = expectedItems;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rebuildRatio = rebuildRatio;
+        this.filter = build(scanIds());
+        FunctionCounter.builder("items.bloom.skipped", skipped, LongAdder::doubleValue)
+                .description("Lookups answered by the Bloom filter without reading the store")
+                .register(meterRegistry);
+        FunctionCounter.builder("items.bloom.false.positives", falsePositives, LongAdder::doubleValue)
+                .description("Lookups the Bloom filter let through for ids that do not exist")
+                .register(meterRegistry);
+        FunctionCounter.builder("items.bloom.deleted.lookups", deletedLookups, LongAdder::doubleValue)
+                .description("Lookups let through for deleted ids the Bloom filter still holds")
+                .register(meterRegistry);
+        Gauge.builder("items.bloom.false.positive.rate", this, BloomFilterItemRepository::falsePositiveRate)
+                .description("Observed share of missing ids the Bloom filter failed to reject")
+                .register(meterRegistry);
+        Gauge.builder("items.bloom.expected.false.positive.rate", this, repository -> repository.filter.expectedFalsePositiveRate())
+                .description("False-positive probability implied by the Bloom filter fill ratio")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<Item> findById(String id) {
+        if (id == null) {
+            return delegate.findById(id);
+        }
+        if (!filter.mightContain(id)) {
+            skipped.increment();
+            return Optional.empty();
+        }
+        Optional<Item> item = delegate.findById(id);
+        if (item.isEmpty()) {
+            countMissing(id);
+        }
+        return item;
+    }
+
+    @Override
+    public Map<String, Item> findAllById(Collection<String> ids) {
+        List<String> candidates = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            if (filter.mightContain(id)) {
+                candidates.add(id);
+            } else {
+                skipped.increment();
+            }
+        }
+        Map<String, Item> found = delegate.findAllById(candidates);
+        candidates.stream().distinct().filter(id -> !found.containsKey(id)).forEach(this::countMissing);
+        return found;
+    }
+
+    @Override
+    public Item save(Item item) {
+        if (item.id() == null) {
+            return delegate.save(item);
+        }
+        return addAndWrite(item.id(), () -> delegate.save(item));
+    }
+
+    @Override
+    public Item compareAndSave(Item item, long expectedVersion) {
+        return addAndWrite(item.id(), () -> delegate.compareAndSave(item, expectedVersion));
+    }
+
+    @Override
+    public void deleteById(String id) {
+        delegate.deleteById(id);
+        if (id != null && filter.mightContain(id) && deletedSinceBuild.add(id)
+                && deletedSinceBuild.size() > filter.insertions() * rebuildRatio) {
+            scheduleRebuild();
+        }
+    }
+
+    /**
+     * Share of lookups for ids that were never saved that still reached the delegate.
+     */
+    public double falsePositiveRate() {
+        double positives = falsePositives.sum();
+        double total = positives + skipped.sum();
+        return total == 0 ? 0 : positives / total;
+    }
+
+    public ItemIdBloomFilter filter() {
+        return filter;
+    }
+
+    /**
+     * Rebuilds the filter from the ids the scanner lists, on the calling thread.
+     */
+    public void rebuild() {
+        rebuildLock.writeLock().lock();
+        try {
+            savedDuringRebuild = ConcurrentHashMap.newKeySet();
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+        try {
+            deletedSinceBuild.clear();
+            List<String> ids = scanIds();
+            rebuildLock.writeLock().lock();
+            try {
+                ids.addAll(savedDuringRebuild);
+                filter = build(ids);
+            } finally {
+                rebuildLock.writeLock().unlock();
+            }
+        } finally {
+            savedDuringRebuild = null;
+        }
+    }
+
+    @Override
+    public void sync() throws IOException {
+        if (delegate instanceof Syncable syncable) {
+            syncable.sync();
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        rebuilder.shutdown();
+        rebuilder.awaitTermination(10, TimeUnit.SECONDS);
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Item addAndWrite(String id, Supplier<Item> write) {
+        Item saved;
+        boolean added;
+        rebuildLock.readLock().lock();
+        try {
+            added = filter.add(id);
+            deletedSinceBuild.remove(id);
+            Set<String> pending = savedDuringRebuild;
+            if (pending != null) {
+                pending.add(id);
+            }
+            saved = write.get();
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+        if (added && filter.insertions() > filter.capacity()) {
+            scheduleRebuild();
+        }
+        return saved;
+    }
+
+    private void countMissing(String id) {
+        if (deletedSinceBuild.contains(id)) {
+            deletedLookups.increment();
+        } else {
+            falsePositives.increment();
+        }
+    }
+
+    private void scheduleRebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            rebuilder.execute(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    log.warn("Item Bloom filter rebuild failed", e);
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            rebuilding.set(false);
+        }
+    }
+
+    private List<String> scanIds() {
+        List<String> ids = new ArrayList<>();
+        scanner.scanIds(ids::add);
+        return ids;
+    }
+
+    private ItemIdBloomFilter build(List<String> ids) {
+        ItemIdBloomFilter built = new ItemIdBloomFilter(Math.max(expectedItems, 2L * ids.size()), falsePositiveRate);
+        ids.forEach(built::add);
+        log.debug("Built item Bloom filter with {} ids, {} bits and {} hashes", ids.size(), built.bitSize(), built.hashCount());
+        return built;
+    }
+}
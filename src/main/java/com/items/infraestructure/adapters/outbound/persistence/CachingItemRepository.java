@@ -0,0 +1,253 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import com.items.domain.model.Item;
+import com.items.domain.port.outbound.ItemRepositoryPort;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Read-through cache of the most recently read items, bounded to {@code maxSize} entries
+ * with optional expiry. The cache is split into LRU segments picked by id hash so readers
+ * of different ids rarely contend. Writes go to the delegate and then drop the cached
+ * entry; a load that raced with a write to its segment is returned but not cached, so a
+ * stale item is never put back after its invalidation.
+ */
+public class CachingItemRepository implements ItemRepositoryPort, AutoCloseable {
+    private static final int MAX_SEGMENTS = 16;
+    // small caches keep a single exact LRU order
+    private static final int MIN_SEGMENT_SIZE = 64;
+
+    private final ItemRepositoryPort delegate;
+    private final Segment[] segments;
+    private final int shift;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CachingItemRepository(ItemRepositoryPort delegate, int maxSize, long ttlMs, MeterRegistry meterRegistry) {
+        this(delegate, maxSize, ttlMs, meterRegistry, System::nanoTime);
+    }
+
+    CachingItemRepository(ItemRepositoryPort delegate, int maxSize, long ttlMs, MeterRegistry meterRegistry,
+                          LongSupplier ticker) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxSize);
+        }
+        this.delegate = delegate;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        this.ticker = ticker;
+        int count = Math.min(MAX_SEGMENTS, Integer.highestOneBit(Math.max(1, maxSize / MIN_SEGMENT_SIZE)));
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(maxSize / count + (i < maxSize % count ? 1 : 0));
+        }
+        this.shift = 32 - Integer.numberOfTrailingZeros(count);
+        FunctionCounter.builder("items.cache.hits", hits, LongAdder::doubleValue)
+                .description("Item lookups answered from the cache")
+                .register(meterRegistry);
+        FunctionCounter.builder("items.cache.misses", misses, LongAdder::doubleValue)
+                .description("Item lookups that had to read the store")
+                .register(meterRegistry);
+        FunctionCounter.builder("items.cache.evictions", evictions, LongAdder::doubleValue)
+                .description("Items dropped from the cache to stay within its size")
+                .register(meterRegistry);
+        Gauge.builder("items.cache.size", this, CachingItemRepository::size)
+                .description("Items currently held in the cache")
+                .register(meterRegistry);
+        Gauge.builder("items.cache.hit.ratio", this, CachingItemRepository::hitRatio)
+                .description("Share of item lookups answered from the cache")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<Item> findById(String id) {
+        if (id == null) {
+            return delegate.findById(id);
+        }
+        Segment segment = segmentFor(id);
+        long stamp;
+        segment.lock.lock();
+        try {
+            Entry entry = segment.entries.get(id);
+            if (entry != null && (ttlNanos == 0 || ticker.getAsLong() - entry.loadedAt < ttlNanos)) {
+                hits.increment();
+                return Optional.of(entry.item);
+            }
+            if (entry != null) {
+                segment.entries.remove(id);
+            }
+            stamp = segment.writes;
+        } finally {
+            segment.lock.unlock();
+        }
+        misses.increment();
+        Optional<Item> item = delegate.findById(id);
+        if (item.isPresent()) {
+            segment.lock.lock();
+            try {
+                if (segment.writes == stamp) {
+                    segment.entries.put(id, new Entry(item.get(), ticker.getAsLong()));
+                }
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return item;
+    }
+
+    @Override
+    public Map<String, Item> findAllById(Collection<String> ids) {
+        Map<String, Item> found = new HashMap<>();
+        Map<String, Long> stamps = new LinkedHashMap<>();
+        long now = ticker.getAsLong();
+        for (String id : ids) {
+            if (found.containsKey(id) || stamps.containsKey(id)) {
+                continue;
+            }
+            Segment segment = segmentFor(id);
+            segment.lock.lock();
+            try {
+                Entry entry = segment.entries.get(id);
+                if (entry != null && (ttlNanos == 0 || now - entry.loadedAt < ttlNanos)) {
+                    found.put(id, entry.item);
+                    continue;
+                }
+                if (entry != null) {
+                    segment.entries.remove(id);
+                }
+                stamps.put(id, segment.writes);
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        hits.add(found.size());
+        misses.add(stamps.size());
+        if (!stamps.isEmpty()) {
+            Map<String, Item> loaded = delegate.findAllById(List.copyOf(stamps.keySet()));
+            long loadedAt = ticker.getAsLong();
+            loaded.forEach((id, item) -> {
+                Segment segment = segmentFor(id);
+                segment.lock.lock();
+                try {
+                    if (segment.writes == stamps.get(id)) {
+                        segment.entries.put(id, new Entry(item, loadedAt));
+                    }
+                } finally {
+                    segment.lock.unlock();
+                }
+            });
+            found.putAll(loaded);
+        }
+        return ItemBatches.inRequestOrder(ids, found);
+    }
+
+    @Override
+    public Item save(Item item) {
+        try {
+            return delegate.save(item);
+        } finally {
+            invalidate(item.id());
+        }
+    }
+
+    @Override
+    public Item compareAndSave(Item item, long expectedVersion) {
+        try {
+            return delegate.compareAndSave(item, expectedVersion);
+        } finally {
+            invalidate(item.id());
+        }
+    }
+
+    @Override
+    public void deleteById(String id) {
+        try {
+            delegate.deleteById(id);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    public void invalidate(String id) {
+        if (id == null) {
+            return;
+        }
+        Segment segment = segmentFor(id);
+        segment.lock.lock();
+        try {
+            segment.writes++;
+            segment.entries.remove(id);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.entries.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    public double hitRatio() {
+        double hitCount = hits.sum();
+        double total = hitCount + misses.sum();
+        return total == 0 ? 0 : hitCount / total;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Segment segmentFor(String id) {
+        return segments.length == 1 ? segments[0] : segments[(id.hashCode() * 0x9E3779B9) >>> shift];
+    }
+
+    private record Entry(Item item, long loadedAt) {
+    }
+
+    private final class Segment {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, Entry> entries;
+        // bumped on every write so loads that raced with it are not cached
+        private long writes;
+
+        private Segment(int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+    }
+}
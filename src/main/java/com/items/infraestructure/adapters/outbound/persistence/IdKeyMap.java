@@ -0,0 +1,104 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+/**
+ * Item id to a price key and a rating key, with open addressing and linear probing. The keys
+ * are held in two {@code long[]} beside the ids, so no lookup boxes a value. Removal shifts
+ * the following entries of the probe run back instead of leaving tombstones. Not thread-safe.
+ */
+final class IdKeyMap {
+    static final int ABSENT = -1;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private String[] ids = new String[INITIAL_CAPACITY];
+    private long[] priceKeys = new long[INITIAL_CAPACITY];
+    private long[] ratingKeys = new long[INITIAL_CAPACITY];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Position of the id, valid until the next put or remove, or {@link #ABSENT}.
+     */
+    int indexOf(String id) {
+        int mask = ids.length - 1;
+        for (int index = indexFor(id, mask); ids[index] != null; index = (index + 1) & mask) {
+            if (ids[index].equals(id)) {
+                return index;
+            }
+        }
+        return ABSENT;
+    }
+
+    long priceKey(int index) {
+        return priceKeys[index];
+    }
+
+    long ratingKey(int index) {
+        return ratingKeys[index];
+    }
+
+    void put(String id, long priceKey, long ratingKey) {
+        // kept at most half full so probe runs stay short
+        if ((size + 1) * 2 > ids.length) {
+            resize(ids.length * 2);
+        }
+        int mask = ids.length - 1;
+        int index = indexFor(id, mask);
+        while (ids[index] != null && !ids[index].equals(id)) {
+            index = (index + 1) & mask;
+        }
+        if (ids[index] == null) {
+            ids[index] = id;
+            size++;
+        }
+        priceKeys[index] = priceKey;
+        ratingKeys[index] = ratingKey;
+    }
+
+    /**
+     * Removes the id and returns whether it was present.
+     */
+    boolean remove(String id) {
+        int index = indexOf(id);
+        if (index == ABSENT) {
+            return false;
+        }
+        int mask = ids.length - 1;
+        // move back every later entry of the run that may no longer be reachable
+        int gap = index;
+        for (int next = (gap + 1) & mask; ids[next] != null; next = (next + 1) & mask) {
+            int home = indexFor(ids[next], mask);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                ids[gap] = ids[next];
+                priceKeys[gap] = priceKeys[next];
+                ratingKeys[gap] = ratingKeys[next];
+                gap = next;
+            }
+        }
+        ids[gap] = null;
+        size--;
+        return true;
+    }
+
+    private void resize(int capacity) {
+        String[] oldIds = ids;
+        long[] oldPriceKeys = priceKeys;
+        long[] oldRatingKeys = ratingKeys;
+        ids = new String[capacity];
+        priceKeys = new long[capacity];
+        ratingKeys = new long[capacity];
+        size = 0;
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldIds[i] != null) {
+                put(oldIds[i], oldPriceKeys[i], oldRatingKeys[i]);
+            }
+        }
+    }
+
+    private static int indexFor(String id, int mask) {
+        int hash = id.hashCode() * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
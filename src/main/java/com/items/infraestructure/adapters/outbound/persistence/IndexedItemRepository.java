@@ -0,0 +1,178 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.items.domain.model.Item;
+import com.items.domain.port.outbound.ItemRepositoryPort;
+
+/**
+ * Keeps every item in a concurrent primary index so reads never touch the disk.
+ * Mutations are written through to the delegate before the index is updated.
+ *
+ * The index can also start empty and be filled by {@link #warmUp} while it serves traffic;
+ * until then, ids missing from the index are read from the delegate.
+ */
+public class IndexedItemRepository implements ItemRepositoryPort, ItemScanner, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(IndexedItemRepository.class);
+
+    private final ItemRepositoryPort delegate;
+    private final ConcurrentMap<String, Item> index = new ConcurrentHashMap<>();
+    // writers to one id are serialized without holding a map bin during the delegate write
+    private final StripedLocks locks = new StripedLocks();
+    // ids deleted while warming up, so the loader does not bring back a stale copy
+    private final Set<String> deletedDuringWarmUp = ConcurrentHashMap.newKeySet();
+    private volatile boolean warm;
+
+    public IndexedItemRepository(ItemRepositoryPort delegate, ItemScanner scanner) {
+        this(delegate);
+        warmUp(scanner);
+    }
+
+    public IndexedItemRepository(ItemRepositoryPort delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Loads every scanned item that was not written or deleted through this repository meanwhile.
+     */
+    public void warmUp(ItemScanner scanner) {
+        scanner.scan(item -> index.compute(item.id(), (id, current) ->
+                current != null || deletedDuringWarmUp.contains(id) ? current : item));
+        warm = true;
+        deletedDuringWarmUp.clear();
+    }
+
+    /**
+     * Runs {@link #warmUp} on a background thread; reads fall back to the delegate until it completes.
+     */
+    public CompletableFuture<Void> warmUpAsync(ItemScanner scanner) {
+        return CompletableFuture.runAsync(() -> warmUp(scanner), runnable -> {
+            Thread thread = new Thread(runnable, "item-catalog-warmup");
+            thread.setDaemon(true);
+            thread.start();
+        }).whenComplete((ignored, error) -> {
+            if (error != null) {
+                log.error("Item index warm-up failed, reads keep falling back to the store", error);
+            }
+        });
+    }
+
+    public boolean isWarm() {
+        return warm;
+    }
+
+    @Override
+    public Optional<Item> findById(String id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        Item item = index.get(id);
+        if (item != null || warm) {
+            return Optional.ofNullable(item);
+        }
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Map<String, Item> findAllById(Collection<String> ids) {
+        Map<String, Item> found = new HashMap<>();
+        List<String> cold = new ArrayList<>();
+        for (String id : ids) {
+            Item item = index.get(id);
+            if (item != null) {
+                found.put(id, item);
+            } else if (!warm) {
+                cold.add(id);
+            }
+        }
+        if (!cold.isEmpty()) {
+            found.putAll(delegate.findAllById(cold));
+        }
+        return ItemBatches.inRequestOrder(ids, found);
+    }
+
+    @Override
+    public Item save(Item item) {
+        if (item.id() == null) {
+            return delegate.save(item);
+        }
+        // the stripe keeps the file write and the index update ordered per id
+        ReentrantLock stripe = locks.lockFor(item.id());
+        stripe.lock();
+        try {
+            Item saved = delegate.save(item);
+            index.put(saved.id(), saved);
+            return saved;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    @Override
+    public Item compareAndSave(Item item, long expectedVersion) {
+        ReentrantLock stripe = locks.lockFor(item.id());
+        stripe.lock();
+        try {
+            Item current = index.get(item.id());
+            Optional<Item> stored = current != null || warm ? Optional.ofNullable(current) : delegate.findById(item.id());
+            Item saved = delegate.save(ItemVersions.next(stored, item, expectedVersion));
+            index.put(saved.id(), saved);
+            return saved;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    @Override
+    public void deleteById(String id) {
+        if (id == null) {
+            delegate.deleteById(id);
+            return;
+        }
+        ReentrantLock stripe = locks.lockFor(id);
+        stripe.lock();
+        try {
+            delegate.deleteById(id);
+            // marked before the removal so a warm-up running meanwhile cannot bring it back
+            if (!warm) {
+                deletedDuringWarmUp.add(id);
+            }
+            index.remove(id);
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    /**
+     * Scans the items currently indexed; complete only once {@link #isWarm()}.
+     */
+    @Override
+    public void scan(Consumer<Item> consumer) {
+        index.values().forEach(consumer);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.items.domain.model.Item;
+
+/**
+ * Helpers shared by the {@code findAllById} implementations.
+ */
+final class ItemBatches {
+
+    private ItemBatches() {
+    }
+
+    /**
+     * Puts the found items in the order their ids were requested, as the port requires.
+     */
+    static Map<String, Item> inRequestOrder(Collection<String> ids, Map<String, Item> found) {
+        Map<String, Item> ordered = new LinkedHashMap<>();
+        for (String id : ids) {
+            Item item = found.get(id);
+            if (item != null) {
+                ordered.put(id, item);
+            }
+        }
+        return ordered;
+    }
+}
@@ -0,0 +1,132 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.items.domain.model.Item;
+
+/**
+ * Scans a {@link JsonItemRepository} for warm-up. Files are listed with a directory stream and
+ * read and decoded in batches on a fork-join pool; the consumer is still called by one
+ * thread at a time. Progress of the startup warm-up, the first scan, is published through an
+ * {@link ItemLoadProgress}; later scans, such as index rebuilds, report to a private one so
+ * they never take a ready instance out of service. A failed warm-up leaves the next scan
+ * to report again.
+ */
+public class ItemCatalogLoader implements ItemScanner {
+    private static final Logger log = LoggerFactory.getLogger(ItemCatalogLoader.class);
+    private static final int BATCH_SIZE = 256;
+
+    private final JsonItemRepository repository;
+    private final int parallelism;
+    private final ItemLoadProgress progress;
+    private final AtomicBoolean warmUpClaimed = new AtomicBoolean();
+
+    public ItemCatalogLoader(JsonItemRepository repository, int parallelism, ItemLoadProgress progress) {
+        this.repository = repository;
+        this.parallelism = Math.max(1, parallelism);
+        this.progress = progress;
+    }
+
+    @Override
+    public void scan(Consumer<Item> consumer) {
+        boolean warmUp = warmUpClaimed.compareAndSet(false, true);
+        ItemLoadProgress progress = warmUp ? this.progress : new ItemLoadProgress();
+        progress.start();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            Batches batches = new Batches(pool, consumer, progress);
+            repository.listFiles(batches);
+            batches.submit();
+            progress.listingComplete();
+            for (ForkJoinTask<?> task : batches.tasks) {
+                task.join();
+            }
+            progress.finish();
+            log.info("Loaded {} items ({} unreadable) in {} ms", progress.loadedCount(), progress.failedCount(), progress.elapsedMs());
+        } catch (IOException e) {
+            fail(progress, warmUp);
+            throw new UncheckedIOException("Error listing item files", e);
+        } catch (RuntimeException e) {
+            fail(progress, warmUp);
+            throw e;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    public ItemLoadProgress progress() {
+        return progress;
+    }
+
+    private void fail(ItemLoadProgress progress, boolean warmUp) {
+        progress.fail();
+        if (warmUp) {
+            warmUpClaimed.set(false);
+        }
+    }
+
+    /**
+     * Groups listed files into batches and submits each full batch to the pool.
+     */
+    private final class Batches implements Consumer<Path> {
+        private final ForkJoinPool pool;
+        private final Consumer<Item> consumer;
+        private final ItemLoadProgress progress;
+        private final List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        private List<Path> batch = new ArrayList<>(BATCH_SIZE);
+
+        private Batches(ForkJoinPool pool, Consumer<Item> consumer, ItemLoadProgress progress) {
+            this.pool = pool;
+            this.consumer = consumer;
+            this.progress = progress;
+        }
+
+        @Override
+        public void accept(Path file) {
+            progress.discovered();
+            batch.add(file);
+            if (batch.size() == BATCH_SIZE) {
+                submit();
+            }
+        }
+
+        private void submit() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<Path> files = batch;
+            batch = new ArrayList<>(BATCH_SIZE);
+            tasks.add(pool.submit(() -> load(files)));
+        }
+
+        private void load(List<Path> files) {
+            for (Path file : files) {
+                Item item;
+                try {
+                    item = repository.load(file).orElse(null);
+                } catch (Exception e) {
+                    progress.failed();
+                    log.warn("Skipping unreadable item file {}", file.getFileName(), e);
+                    continue;
+                }
+                if (item != null) {
+                    synchronized (this) {
+                        consumer.accept(item);
+                    }
+                    progress.loaded();
+                }
+            }
+        }
+    }
+}
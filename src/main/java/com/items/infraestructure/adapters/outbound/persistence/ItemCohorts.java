@@ -0,0 +1,221 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.items.domain.model.CohortAttribute;
+import com.items.domain.model.CohortStanding;
+import com.items.domain.model.Item;
+
+/**
+ * Items grouped into cohorts by every {@link CohortAttribute}, each cohort keeping its items
+ * sorted by price (in cents) and by rating, keyed as in {@link ItemColumns}, in two
+ * {@link OrderStatisticTree}s. Saves and deletes move a single item between cohorts, and the
+ * standing of an item is read from the trees of its cohort, all in logarithmic time.
+ */
+public class ItemCohorts {
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final Map<CohortAttribute, Map<String, Cohort>> cohorts = new EnumMap<>(CohortAttribute.class);
+
+    public ItemCohorts() {
+        for (CohortAttribute attribute : CohortAttribute.values()) {
+            cohorts.put(attribute, new HashMap<>());
+        }
+    }
+
+    public void put(Item item) {
+        Entry entry = Entry.of(item);
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.put(item.id(), entry);
+            if (previous != null) {
+                unlink(item.id(), previous);
+            }
+            for (CohortAttribute attribute : CohortAttribute.values()) {
+                String key = entry.keys[attribute.ordinal()];
+                if (key != null) {
+                    cohorts.get(attribute).computeIfAbsent(key, k -> new Cohort()).add(item.id(), entry);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.remove(id);
+            if (previous != null) {
+                unlink(id, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Standing of the item among the other items of its cohort; the item's own entry, if
+     * indexed, is left out, so the standing reflects the values of {@code item}.
+     */
+    public CohortStanding standing(CohortAttribute attribute, Item item) {
+        String value = attribute.valueOf(item);
+        if (value == null) {
+            return CohortStanding.EMPTY;
+        }
+        String key = CohortAttribute.cohortKey(value);
+        // a missing value sorts first, so nothing counts as better
+        long priceKey = item.price() == null ? Long.MIN_VALUE : ItemColumns.cents(item.price());
+        long ratingKey = item.rating() == null ? Long.MIN_VALUE : ItemColumns.ratingKey(item.rating());
+        lock.readLock().lock();
+        try {
+            Cohort cohort = cohorts.get(attribute).get(key);
+            if (cohort == null) {
+                return CohortStanding.EMPTY;
+            }
+            Entry self = entries.get(item.id());
+            if (self != null && !key.equals(self.keys[attribute.ordinal()])) {
+                self = null;
+            }
+            int size = cohort.size;
+            int priced = cohort.prices.size();
+            int cheaper = cohort.prices.countBelow(priceKey);
+            int rated = cohort.ratings.size();
+            int betterRated = cohort.ratings.countBelow(ratingKey);
+            if (self != null) {
+                size--;
+                if (self.hasPrice()) {
+                    priced--;
+                    cheaper -= self.priceKey < priceKey ? 1 : 0;
+                }
+                if (self.hasRating()) {
+                    rated--;
+                    betterRated -= self.ratingKey < ratingKey ? 1 : 0;
+                }
+            }
+            String cheapestId = cheapest(cohort.prices, item.id());
+            String bestRatedId = first(cohort.ratings, item.id());
+            return new CohortStanding(size,
+                    priced, cheaper, cheapestId, cheapestId == null ? null : entries.get(cheapestId).price,
+                    rated, betterRated, bestRatedId, bestRatedId == null ? null : entries.get(bestRatedId).rating);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // caller holds the write lock
+    private void unlink(String id, Entry entry) {
+        for (CohortAttribute attribute : CohortAttribute.values()) {
+            String key = entry.keys[attribute.ordinal()];
+            if (key == null) {
+                continue;
+            }
+            Map<String, Cohort> byKey = cohorts.get(attribute);
+            Cohort cohort = byKey.get(key);
+            cohort.remove(id, entry);
+            if (cohort.size == 0) {
+                byKey.remove(key);
+            }
+        }
+    }
+
+    // first id of the tree other than excludedId
+    private static String first(OrderStatisticTree tree, String excludedId) {
+        String id = tree.idAt(0);
+        return id != null && id.equals(excludedId) ? tree.idAt(1) : id;
+    }
+
+    // cheapest id other than excludedId; prices rounding to the same cent share a key, so
+    // they are compared exactly, the first in id order winning a tie. Caller holds the lock
+    private String cheapest(OrderStatisticTree prices, String excludedId) {
+        String firstId = first(prices, excludedId);
+        if (firstId == null) {
+            return null;
+        }
+        long key = entries.get(firstId).priceKey;
+        String[] cheapest = {firstId};
+        prices.ascendingFrom(key, (visitedKey, id) -> {
+            if (visitedKey != key) {
+                return false;
+            }
+            if (!id.equals(excludedId) && entries.get(id).price.compareTo(entries.get(cheapest[0]).price) < 0) {
+                cheapest[0] = id;
+            }
+            return true;
+        });
+        return cheapest[0];
+    }
+
+    private static final class Entry {
+        final String[] keys = new String[CohortAttribute.values().length];
+        final BigDecimal price;
+        final long priceKey;
+        final Double rating;
+        final long ratingKey;
+
+        private Entry(BigDecimal price, Double rating) {
+            this.price = price;
+            this.priceKey = ItemColumns.cents(price);
+            this.rating = rating;
+            this.ratingKey = rating == null ? 0 : ItemColumns.ratingKey(rating);
+        }
+
+        static Entry of(Item item) {
+            // a NaN rating is kept out of the rating order, as in ItemColumns
+            Double rating = item.rating() == null || item.rating().isNaN() ? null : item.rating();
+            Entry entry = new Entry(item.price(), rating);
+            for (CohortAttribute attribute : CohortAttribute.values()) {
+                String value = attribute.valueOf(item);
+                entry.keys[attribute.ordinal()] = value == null ? null : CohortAttribute.cohortKey(value);
+            }
+            return entry;
+        }
+
+        boolean hasPrice() {
+            return price != null;
+        }
+
+        boolean hasRating() {
+            return rating != null;
+        }
+    }
+
+    private static final class Cohort {
+        final OrderStatisticTree prices = new OrderStatisticTree();
+        final OrderStatisticTree ratings = new OrderStatisticTree();
+        int size;
+
+        void add(String id, Entry entry) {
+            size++;
+            if (entry.hasPrice()) {
+                prices.insert(entry.priceKey, id);
+            }
+            if (entry.hasRating()) {
+                ratings.insert(entry.ratingKey, id);
+            }
+        }
+
+        void remove(String id, Entry entry) {
+            size--;
+            if (entry.hasPrice()) {
+                prices.remove(entry.priceKey, id);
+            }
+            if (entry.hasRating()) {
+                ratings.remove(entry.ratingKey, id);
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.items.domain.model.Money;
+
+/**
+ * Price and rating order of every item: priced and rated items are kept sorted in an
+ * {@link OrderStatisticTree} each, the price keyed in cents and the rating by
+ * {@link #ratingKey}, so the cheapest and the best-rated are read in order in
+ * O(log n + limit). A price range walks the price order from its lower bound and checks the
+ * rating key of each id it passes. The keys of each id are held in an {@link IdKeyMap}, to
+ * find its nodes again on update and for that check. Prices with more than two decimals are
+ * rounded to the nearest cent.
+ */
+public class ItemColumns {
+    // marks a missing price or rating
+    static final long NO_PRICE = Long.MIN_VALUE;
+    private static final long NO_RATING = Long.MIN_VALUE;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final IdKeyMap keys = new IdKeyMap();
+    private final OrderStatisticTree priceOrder = new OrderStatisticTree();
+    private final OrderStatisticTree ratingOrder = new OrderStatisticTree();
+
+    public void put(String id, BigDecimal price, Double rating) {
+        long priceKey = cents(price);
+        long ratingKey = rating == null || rating.isNaN() ? NO_RATING : ratingKey(rating);
+        lock.writeLock().lock();
+        try {
+            unlinkOrders(id);
+            keys.put(id, priceKey, ratingKey);
+            if (priceKey != NO_PRICE) {
+                priceOrder.insert(priceKey, id);
+            }
+            if (ratingKey != NO_RATING) {
+                ratingOrder.insert(ratingKey, id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            unlinkOrders(id);
+            keys.remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(String id) {
+        lock.readLock().lock();
+        try {
+            return keys.indexOf(id) != IdKeyMap.ABSENT;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return keys.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of at most {@code limit} priced items, cheapest first; equal prices are ordered by id.
+     */
+    public List<String> cheapest(int limit) {
+        return first(priceOrder, limit);
+    }
+
+    /**
+     * Ids of at most {@code limit} rated items, best first; equal ratings are ordered by id.
+     */
+    public List<String> bestRated(int limit) {
+        return first(ratingOrder, limit);
+    }
+
+    /**
+     * Ids of at most {@code limit} items priced within the inclusive bounds and rated at least
+     * {@code minRating}, cheapest first; null bounds are open.
+     */
+    public List<String> inRange(BigDecimal minPrice, BigDecimal maxPrice, Double minRating, int limit) {
+        long min = minPrice == null ? NO_PRICE + 1 : cents(minPrice, RoundingMode.CEILING);
+        long max = maxPrice == null ? Long.MAX_VALUE : cents(maxPrice, RoundingMode.FLOOR);
+        // a higher rating has a lower key
+        long maxRatingKey = minRating == null ? Long.MAX_VALUE : ratingKey(minRating);
+        List<String> result = new ArrayList<>(Math.max(0, Math.min(limit, 64)));
+        if (limit <= 0 || min > max || (minRating != null && minRating.isNaN())) {
+            return result;
+        }
+        lock.readLock().lock();
+        try {
+            priceOrder.ascendingFrom(min, (cents, id) -> {
+                if (cents > max) {
+                    return false;
+                }
+                // unrated items only match without a minimum
+                long ratingKey = keys.ratingKey(keys.indexOf(id));
+                if (minRating == null || (ratingKey != NO_RATING && ratingKey <= maxRatingKey)) {
+                    result.add(id);
+                }
+                return result.size() < limit;
+            });
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static long cents(BigDecimal price) {
+        return price == null ? NO_PRICE : cents(price, RoundingMode.HALF_UP);
+    }
+
+    // clamped so that no price collides with NO_PRICE
+    private static long cents(BigDecimal price, RoundingMode rounding) {
+        try {
+            return Math.max(Money.of(price).setScale(2, rounding).amount(), NO_PRICE + 1);
+        } catch (ArithmeticException e) {
+            // more than 18 digits, or too many to reach cents in a long
+            BigInteger cents = price.setScale(2, rounding).unscaledValue();
+            if (cents.bitLength() >= Long.SIZE) {
+                return cents.signum() > 0 ? Long.MAX_VALUE : NO_PRICE + 1;
+            }
+            return Math.max(cents.longValue(), NO_PRICE + 1);
+        }
+    }
+
+    /**
+     * Sort key that orders ratings best first: the key of a higher rating is lower.
+     */
+    static long ratingKey(double rating) {
+        // 0.0 - rating turns both zeros into 0.0
+        long bits = Double.doubleToLongBits(0.0 - rating);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    private List<String> first(OrderStatisticTree order, int limit) {
+        List<String> result = new ArrayList<>(Math.max(0, Math.min(limit, 64)));
+        if (limit <= 0) {
+            return result;
+        }
+        lock.readLock().lock();
+        try {
+            order.ascendingFrom(Long.MIN_VALUE, (key, id) -> {
+                result.add(id);
+                return result.size() < limit;
+            });
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // caller holds the write lock
+    private void unlinkOrders(String id) {
+        int index = keys.indexOf(id);
+        if (index == IdKeyMap.ABSENT) {
+            return;
+        }
+        if (keys.priceKey(index) != NO_PRICE) {
+            priceOrder.remove(keys.priceKey(index), id);
+        }
+        if (keys.ratingKey(index) != NO_RATING) {
+            ratingOrder.remove(keys.ratingKey(index), id);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+/**
+ * Decides which directory under the base folder holds the file of a given item id.
+ */
+public interface ItemFileLayout {
+
+    ItemFileLayout FLAT = new ItemFileLayout() {
+        @Override
+        public Path directoryFor(Path baseFolder, String id) {
+            return baseFolder;
+        }
+
+        @Override
+        public int depth() {
+            return 0;
+        }
+    };
+
+    ItemFileLayout SHARDED = new Sharded();
+
+    Path directoryFor(Path baseFolder, String id);
+
+    /**
+     * Number of directory levels between the base folder and the item files.
+     */
+    int depth();
+
+    static ItemFileLayout named(String name) {
+        return "sharded".equalsIgnoreCase(name) ? SHARDED : FLAT;
+    }
+
+    /**
+     * Two levels of 256 directories each, picked from the CRC32 of the id,
+     * e.g. {@code base/3f/a0/<id>.json}.
+     */
+    final class Sharded implements ItemFileLayout {
+        private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+        private Sharded() {
+        }
+
+        @Override
+        public Path directoryFor(Path baseFolder, String id) {
+            CRC32 crc = new CRC32();
+            crc.update(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+            int hash = (int) crc.getValue();
+            return baseFolder.resolve(hex(hash >>> 24)).resolve(hex(hash >>> 16));
+        }
+
+        @Override
+        public int depth() {
+            return 2;
+        }
+
+        private static String hex(int value) {
+            return new String(new char[] {HEX[(value >>> 4) & 0xF], HEX[value & 0xF]});
+        }
+    }
+}
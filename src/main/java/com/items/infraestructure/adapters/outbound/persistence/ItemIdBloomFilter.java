@@ -0,0 +1,116 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over item ids. {@link #mightContain} never returns {@code false}
+ * for an id that was added; ids cannot be removed.
+ */
+public class ItemIdBloomFilter {
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+    private final long capacity;
+    private final AtomicLong setBits = new AtomicLong();
+    private final AtomicLong insertions = new AtomicLong();
+
+    public ItemIdBloomFilter(long expectedItems, double falsePositiveRate) {
+        this.capacity = Math.max(1, expectedItems);
+        long bits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (LN2 * LN2));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) >>> 6));
+        this.words = new AtomicLongArray(wordCount);
+        this.bitSize = (long) wordCount << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / capacity * LN2));
+    }
+
+    /**
+     * Returns {@code true} if the id set at least one new bit, i.e. it was certainly not
+     * present before. Only those adds count towards {@link #insertions()}.
+     */
+    public boolean add(String id) {
+        long hash1 = hash(id);
+        long hash2 = mix(hash1);
+        int changed = 0;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitSize);
+            if (setBit(bit)) {
+                changed++;
+            }
+        }
+        if (changed == 0) {
+            return false;
+        }
+        setBits.addAndGet(changed);
+        insertions.incrementAndGet();
+        return true;
+    }
+
+    public boolean mightContain(String id) {
+        long hash1 = hash(id);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitSize);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * False-positive probability implied by the current fill ratio.
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) setBits.get() / bitSize, hashCount);
+    }
+
+    public long capacity() {
+        return capacity;
+    }
+
+    public long insertions() {
+        return insertions.get();
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    private boolean setBit(long bit) {
+        int index = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long word;
+        do {
+            word = words.get(index);
+            if ((word & mask) != 0) {
+                return false;
+            }
+        } while (!words.compareAndSet(index, word, word | mask));
+        return true;
+    }
+
+    // 64-bit FNV-1a over the UTF-16 chars, finished with a murmur3 mix
+    private static long hash(String id) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < id.length(); i++) {
+            hash = (hash ^ id.charAt(i)) * 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,12 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import java.util.function.Consumer;
+
+/**
+ * Full scan over the ids of every item held by a storage engine, without reading the items.
+ * Used to build structures that only need to know which ids exist.
+ */
+@FunctionalInterface
+public interface ItemIdScanner {
+    void scanIds(Consumer<String> consumer);
+}
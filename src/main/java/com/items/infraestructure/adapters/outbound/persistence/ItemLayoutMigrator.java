@@ -0,0 +1,83 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Moves item files from the flat base folder into the target layout while the
+ * application keeps serving requests. Files are linked into place without ever
+ * replacing an existing target, so a newer write made through the repository wins.
+ */
+public class ItemLayoutMigrator {
+    private static final Logger log = LoggerFactory.getLogger(ItemLayoutMigrator.class);
+    private static final Set<String> EXTENSIONS = Set.of(".json", ".bin");
+
+    private final Path baseFolder;
+    private final ItemFileLayout layout;
+
+    public ItemLayoutMigrator(String baseFolder, ItemFileLayout layout) {
+        this.baseFolder = Path.of(baseFolder);
+        this.layout = layout;
+    }
+
+    /**
+     * Returns the number of files moved.
+     */
+    public int migrate() {
+        if (layout.depth() == 0) {
+            return 0;
+        }
+        int moved = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(baseFolder, this::isItemFile)) {
+            for (Path file : files) {
+                if (move(file)) {
+                    moved++;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error migrating item files in " + baseFolder, e);
+        }
+        log.info("Moved {} item files into the {}-level layout", moved, layout.depth());
+        return moved;
+    }
+
+    private boolean isItemFile(Path path) {
+        String name = path.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 && EXTENSIONS.contains(name.substring(dot)) && Files.isRegularFile(path);
+    }
+
+    private boolean move(Path file) {
+        String name = file.getFileName().toString();
+        String id = name.substring(0, name.lastIndexOf('.'));
+        Path target = layout.directoryFor(baseFolder, id).resolve(name);
+        try {
+            Files.createDirectories(target.getParent());
+            try {
+                Files.createLink(target, file);
+            } catch (FileAlreadyExistsException e) {
+                // the repository already wrote a newer copy at the target
+            } catch (UnsupportedOperationException e) {
+                if (Files.exists(target)) {
+                    Files.deleteIfExists(file);
+                    return false;
+                }
+                Files.move(file, target);
+                return true;
+            }
+            Files.deleteIfExists(file);
+            return true;
+        } catch (IOException e) {
+            log.warn("Could not migrate item file {}", name, e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of the last catalog load, shared between the loader and whoever reports on it.
+ */
+public class ItemLoadProgress {
+
+    public enum State { IDLE, LOADING, LOADED, FAILED }
+
+    private volatile State state = State.IDLE;
+    private final AtomicLong discovered = new AtomicLong();
+    private final AtomicLong loaded = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile boolean listingComplete;
+    private volatile long startedAtMs;
+    private volatile long finishedAtMs;
+
+    public void start() {
+        discovered.set(0);
+        loaded.set(0);
+        failed.set(0);
+        listingComplete = false;
+        startedAtMs = System.currentTimeMillis();
+        finishedAtMs = 0;
+        state = State.LOADING;
+    }
+
+    public void discovered() {
+        discovered.incrementAndGet();
+    }
+
+    public void listingComplete() {
+        listingComplete = true;
+    }
+
+    public void loaded() {
+        loaded.incrementAndGet();
+    }
+
+    public void failed() {
+        failed.incrementAndGet();
+    }
+
+    public void finish() {
+        finishedAtMs = System.currentTimeMillis();
+        state = State.LOADED;
+    }
+
+    public void fail() {
+        finishedAtMs = System.currentTimeMillis();
+        state = State.FAILED;
+    }
+
+    public State state() {
+        return state;
+    }
+
+    public long discoveredCount() {
+        return discovered.get();
+    }
+
+    public long loadedCount() {
+        return loaded.get();
+    }
+
+    public long failedCount() {
+        return failed.get();
+    }
+
+    public boolean isListingComplete() {
+        return listingComplete;
+    }
+
+    public long elapsedMs() {
+        if (startedAtMs == 0) {
+            return 0;
+        }
+        long end = finishedAtMs != 0 ? finishedAtMs : System.currentTimeMillis();
+        return end - startedAtMs;
+    }
+}
@@ -0,0 +1,35 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+/**
+ * Counts repository reads made on the current thread between {@link #begin()} and
+ * {@link #end()}, so the reads behind a single request can be measured. Reads outside a
+ * counting window are ignored.
+ */
+public class ItemReadCounter {
+    private final ThreadLocal<int[]> reads = new ThreadLocal<>();
+
+    public void begin() {
+        reads.set(new int[1]);
+    }
+
+    public void increment() {
+        add(1);
+    }
+
+    public void add(int count) {
+        int[] current = reads.get();
+        if (current != null) {
+            current[0] += count;
+        }
+    }
+
+    /**
+     * Closes the window opened by {@link #begin()} and returns its read count, or -1 when
+     * none was open.
+     */
+    public int end() {
+        int[] count = reads.get();
+        reads.remove();
+        return count == null ? -1 : count[0];
+    }
+}
@@ -0,0 +1,14 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import java.util.function.Consumer;
+
+import com.items.domain.model.Item;
+
+/**
+ * Full scan over every item held by a storage engine.
+ * Used to warm in-memory structures when the application starts.
+ */
+@FunctionalInterface
+public interface ItemScanner {
+    void scan(Consumer<Item> consumer);
+}
@@ -0,0 +1,26 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import java.util.Optional;
+
+import com.items.domain.exception.ItemNotFoundException;
+import com.items.domain.exception.ItemVersionConflictException;
+import com.items.domain.model.Item;
+
+/**
+ * Version check shared by the {@code compareAndSave} implementations. Callers must hold
+ * whatever serializes writes to the id while they check and write.
+ */
+final class ItemVersions {
+
+    private ItemVersions() {
+    }
+
+    static Item next(Optional<Item> current, Item item, long expectedVersion) {
+        Item stored = current.orElseThrow(() -> new ItemNotFoundException(item.id()));
+        long actual = stored.version() == null ? 0 : stored.version();
+        if (actual != expectedVersion) {
+            throw new ItemVersionConflictException(item.id(), expectedVersion, actual);
+        }
+        return item.withVersion(expectedVersion + 1);
+    }
+}
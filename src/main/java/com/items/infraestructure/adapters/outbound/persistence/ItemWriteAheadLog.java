@@ -0,0 +1,138 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sequential log of item mutations. Each entry is appended (and optionally forced to disk)
+ * before the mutation is applied, so a crash can be repaired by replaying the log.
+ *
+ * Entry layout: {@code [int bodyLength][int crc32(body)][byte op][short idLength][id][payload]}.
+ */
+public class ItemWriteAheadLog implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ItemWriteAheadLog.class);
+
+    public static final byte PUT = 1;
+    public static final byte DELETE = 2;
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+
+    private final FileChannel channel;
+    private final boolean fsync;
+    private long size;
+    private long entries;
+
+    public ItemWriteAheadLog(Path file, boolean fsync) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.size = channel.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error opening write-ahead log " + file, e);
+        }
+        this.fsync = fsync;
+    }
+
+    public synchronized void append(byte op, String id, byte[] payload) throws IOException {
+        byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+        int bodyLength = 1 + Short.BYTES + idBytes.length + payload.length;
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + bodyLength);
+        buffer.putInt(bodyLength).putInt(0).put(op).putShort((short) idBytes.length).put(idBytes).put(payload);
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), HEADER_BYTES, bodyLength);
+        buffer.putInt(Integer.BYTES, (int) crc.getValue()).flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, size + buffer.position());
+        }
+        if (fsync) {
+            channel.force(false);
+        }
+        size += buffer.limit();
+        entries++;
+    }
+
+    /**
+     * Reads every intact entry in append order. A torn or corrupt tail is cut off.
+     */
+    public synchronized List<Entry> readAll() throws IOException {
+        List<Entry> result = new ArrayList<>();
+        long offset = 0;
+        long fileSize = channel.size();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        while (offset + HEADER_BYTES <= fileSize) {
+            header.clear();
+            readFully(header, offset);
+            int bodyLength = header.getInt(0);
+            if (bodyLength <= 0 || offset + HEADER_BYTES + bodyLength > fileSize) {
+                break;
+            }
+            ByteBuffer body = ByteBuffer.allocate(bodyLength);
+            readFully(body, offset + HEADER_BYTES);
+            CRC32 crc = new CRC32();
+            crc.update(body.array());
+            if ((int) crc.getValue() != header.getInt(Integer.BYTES)) {
+                break;
+            }
+            result.add(Entry.decode(body.array()));
+            offset += HEADER_BYTES + bodyLength;
+        }
+        if (offset < fileSize) {
+            log.warn("Discarding torn write-ahead log tail at offset {}", offset);
+            channel.truncate(offset);
+        }
+        size = offset;
+        entries = result.size();
+        return result;
+    }
+
+    /**
+     * Drops every entry. Callers must make sure all logged mutations were applied first.
+     */
+    public synchronized void truncate() throws IOException {
+        channel.truncate(0);
+        if (fsync) {
+            channel.force(false);
+        }
+        size = 0;
+        entries = 0;
+    }
+
+    public synchronized long entries() {
+        return entries;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of write-ahead log");
+            }
+        }
+    }
+
+    public record Entry(byte op, String id, byte[] payload) {
+        static Entry decode(byte[] body) {
+            int idLength = ByteBuffer.wrap(body).getShort(1) & 0xFFFF;
+            String id = new String(body, 1 + Short.BYTES, idLength, StandardCharsets.UTF_8);
+            int payloadOffset = 1 + Short.BYTES + idLength;
+            byte[] payload = new byte[body.length - payloadOffset];
+            System.arraycopy(body, payloadOffset, payload, 0, payload.length);
+            return new Entry(body[0], id, payload);
+        }
+    }
+}
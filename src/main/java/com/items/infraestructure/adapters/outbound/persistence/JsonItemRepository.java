@@ -1,57 +1,404 @@
 package com.items.infraestructure.adapters.outbound.persistence;
 
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.items.domain.model.Item;
 import com.items.domain.port.outbound.ItemRepositoryPort;
+import com.items.infraestructure.adapters.outbound.persistence.codec.ItemCodec;
+import com.items.infraestructure.adapters.outbound.persistence.codec.JsonItemCodec;
 import com.items.infraestructure.entities.ItemEntity;
 import com.items.infraestructure.mapper.ItemEntityMapper;
 
-public class JsonItemRepository  implements ItemRepositoryPort {
+/**
+ * One file per item under {@code baseFolder}, placed by an {@link ItemFileLayout}. Files are
+ * encoded with the configured {@link ItemCodec}; legacy {@code .json} files and files still in
+ * the flat folder are moved to their current location the first time they are read.
+ *
+ * {@link #sync} forces every file written or deleted since the previous sync, and the
+ * directories holding them, to disk, whether or not each write was synced on its own.
+ */
+public class JsonItemRepository  implements ItemRepositoryPort, ItemScanner, ItemIdScanner, Syncable, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(JsonItemRepository.class);
+    private static final String LEGACY_EXTENSION = "json";
+    private static final int DEFAULT_READ_PARALLELISM = 16;
     
-    private final ObjectMapper mapper = new ObjectMapper();
     private final String baseFolder;
+    private final Path basePath;
     private final ItemEntityMapper mapperEntity = new ItemEntityMapper();
+    private final boolean fsync;
+    private final ItemCodec codec;
+    private final ItemFileLayout layout;
+    private final boolean migrateLegacy;
+    private final String extension;
+    private final String legacyExtension = "." + LEGACY_EXTENSION;
+    private final Set<Path> createdDirectories = ConcurrentHashMap.newKeySet();
+    // files written or deleted since the last sync
+    private final Set<Path> unsynced = ConcurrentHashMap.newKeySet();
+    // writers to one id are serialized; reads rely on the atomic rename and take no lock
+    private final StripedLocks locks = new StripedLocks();
+    private final ExecutorService readers;
 
     public JsonItemRepository(String baseFolder) {
+        this(baseFolder, false);
+    }
+
+    public JsonItemRepository(String baseFolder, boolean fsync) {
+        this(baseFolder, fsync, new JsonItemCodec(true));
+    }
+
+    public JsonItemRepository(String baseFolder, boolean fsync, ItemCodec codec) {
+        this(baseFolder, fsync, codec, ItemFileLayout.FLAT);
+    }
+
+    public JsonItemRepository(String baseFolder, boolean fsync, ItemCodec codec, ItemFileLayout layout) {
+        this(baseFolder, fsync, codec, layout, DEFAULT_READ_PARALLELISM);
+    }
+
+    public JsonItemRepository(String baseFolder, boolean fsync, ItemCodec codec, ItemFileLayout layout,
+                              int readParallelism) {
+        // threads are started on the first batch read and stop again when idle
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(readParallelism, readParallelism, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "item-batch-read");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        pool.allowCoreThreadTimeOut(true);
+        this.readers = pool;
         this.baseFolder = baseFolder;
+        this.basePath = Path.of(baseFolder);
+        this.fsync = fsync;
+        this.codec = codec;
+        this.layout = layout;
+        this.migrateLegacy = !LEGACY_EXTENSION.equals(codec.fileExtension());
+        this.extension = "." + codec.fileExtension();
         new File(baseFolder).mkdirs();
     }
 
     @Override 
     public Optional<Item> findById(String id){
         try{
-            File file = new File(baseFolder + "/" + id + ".json");
-            if(!file.exists()){
-                return Optional.empty();
+            Path path = pathFor(id);
+            Optional<Item> item = tryRead(path);
+            if (item.isPresent()) {
+                return item;
             }
-            ItemEntity entity = mapper.readValue(file, ItemEntity.class);
-            return Optional.of(mapperEntity.toDomain(entity));
+            for (Path fallback : fallbackPaths(id)) {
+                Optional<Item> old = tryRead(fallback);
+                if (old.isPresent()) {
+                    return migrate(fallback, old.get());
+                }
+            }
+            // the layout migrator may have moved the file while the fallbacks were checked
+            return fallbackPaths(id).isEmpty() ? Optional.empty() : tryRead(path);
         }catch(Exception e){
             throw new RuntimeException("Error reading item with id " + id, e);
         }
     }
 
+    /**
+     * Reads the files in parallel on a bounded pool of reader threads.
+     */
+    @Override
+    public Map<String, Item> findAllById(Collection<String> ids) {
+        List<String> distinct = ids.stream().distinct().toList();
+        if (distinct.size() < 2) {
+            return ItemRepositoryPort.super.findAllById(distinct);
+        }
+        List<CompletableFuture<Optional<Item>>> reads = new ArrayList<>(distinct.size());
+        for (String id : distinct) {
+            reads.add(CompletableFuture.supplyAsync(() -> findById(id), readers));
+        }
+        Map<String, Item> items = new LinkedHashMap<>();
+        for (int i = 0; i < distinct.size(); i++) {
+            String id = distinct.get(i);
+            try {
+                reads.get(i).join().ifPresent(item -> items.put(id, item));
+            } catch (CompletionException e) {
+                reads.forEach(read -> read.cancel(false));
+                throw e.getCause() instanceof RuntimeException runtime ? runtime : e;
+            }
+        }
+        return items;
+    }
+
     @Override
     public Item save(Item item) {
+        ReentrantLock lock = locks.lockFor(item.id());
+        lock.lock();
+        try {
+            return write(item);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Item compareAndSave(Item item, long expectedVersion) {
+        ReentrantLock lock = locks.lockFor(item.id());
+        lock.lock();
+        try {
+            return write(ItemVersions.next(findById(item.id()), item, expectedVersion));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteById(String id) {
+        ReentrantLock lock = locks.lockFor(id);
+        lock.lock();
+        try {
+            deleteFile(pathFor(id));
+            for (Path fallback : fallbackPaths(id)) {
+                deleteFile(fallback);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error deleting item with id " + id, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void sync() throws IOException {
+        Set<Path> directories = new HashSet<>();
+        for (Path path : unsynced) {
+            // removed first, so a file written again meanwhile stays pending
+            unsynced.remove(path);
+            if (!fsync) {
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                    channel.force(true);
+                } catch (NoSuchFileException e) {
+                    // deleted or moved again since; its directory is still synced
+                }
+            }
+            directories.add(path.toAbsolutePath().getParent());
+        }
+        for (Path directory : directories) {
+            try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+                channel.force(true);
+            }
+        }
+    }
+
+    int unsyncedFiles() {
+        return unsynced.size();
+    }
+
+    @Override
+    public void close() {
+        readers.shutdown();
+    }
+
+    @Override
+    public void scan(Consumer<Item> consumer) {
+        try {
+            listFiles(file -> {
+                try {
+                    load(file).ifPresent(consumer);
+                } catch (Exception e) {
+                    log.warn("Skipping unreadable item file {}", file.getFileName(), e);
+                }
+            });
+        } catch (IOException e) {
+            log.warn("Could not list item files in {}", baseFolder, e);
+        }
+    }
+
+    /**
+     * Ids named by the listed files; an item still in an old location may be named twice.
+     */
+    @Override
+    public void scanIds(Consumer<String> consumer) {
+        try {
+            listFiles(file -> consumer.accept(idOf(file)));
+        } catch (IOException e) {
+            log.warn("Could not list item files in {}", baseFolder, e);
+        }
+    }
+
+    /**
+     * Lists every item file, including ones still in an old location, without reading them.
+     */
+    void listFiles(Consumer<Path> consumer) throws IOException {
+        listFiles(basePath, layout.depth(), consumer);
+    }
+
+    /**
+     * Reads one listed file. Files in an old location are migrated, or skipped when the
+     * item already exists at its current path since that copy is listed too.
+     */
+    Optional<Item> load(Path file) throws IOException {
+        String id = idOf(file);
+        Path path = pathFor(id);
+        if (file.equals(path)) {
+            return tryRead(file);
+        }
+        if (Files.exists(path)) {
+            return Optional.empty();
+        }
+        Optional<Item> old = tryRead(file);
+        return old.isPresent() ? migrate(file, old.get()) : Optional.empty();
+    }
+
+    private Item write(Item item) {
+        Path tmp = null;
         try{
             ItemEntity entity = mapperEntity.toEntity(item);
+            byte[] content = codec.encode(entity);
 
-            File file = new File(baseFolder + "/" + item.id() + ".json");
-            mapper.writerWithDefaultPrettyPrinter().writeValue(file, entity);
+            // write a sibling temp file and rename it so readers never see a partial file
+            Path path = pathFor(item.id());
+            Path parent = path.toAbsolutePath().getParent();
+            if (layout.depth() > 0 && createdDirectories.add(parent)) {
+                Files.createDirectories(parent);
+            }
+            tmp = Files.createTempFile(parent, item.id() + ".", ".tmp");
+            try (FileOutputStream out = new FileOutputStream(tmp.toFile())) {
+                out.write(content);
+                if (fsync) {
+                    out.getFD().sync();
+                }
+            }
+            Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            unsynced.add(path);
+            for (Path fallback : fallbackPaths(item.id())) {
+                deleteFile(fallback);
+            }
             return item;
         }catch(Exception e){
+            deleteQuietly(tmp);
             throw new RuntimeException("Error saving item with id " + item.id(), e);
         }
     }
 
-    @Override
-    public void deleteById(String id) {
-        File file = new File(baseFolder + "/" + id + ".json");
-        if(file.exists()){
-            file.delete();
+    private void listFiles(Path directory, int depth, Consumer<Path> consumer) throws IOException {
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+            for (Path entry : entries) {
+                if (isItemFile(entry.getFileName().toString())) {
+                    consumer.accept(entry);
+                } else if (depth > 0 && Files.isDirectory(entry)) {
+                    listFiles(entry, depth - 1, consumer);
+                }
+            }
+        }
+    }
+
+    private static String idOf(Path file) {
+        String name = file.getFileName().toString();
+        return name.substring(0, name.lastIndexOf('.'));
+    }
+
+    private boolean isItemFile(String name) {
+        return name.endsWith(extension) || (migrateLegacy && name.endsWith(legacyExtension));
+    }
+
+    private Path pathFor(String id) {
+        return layout.directoryFor(basePath, id).resolve(id + extension);
+    }
+
+    /**
+     * Older locations an item may still live in: the flat folder before the layout
+     * migration and the legacy extension before the codec migration.
+     */
+    private List<Path> fallbackPaths(String id) {
+        if (layout.depth() == 0 && !migrateLegacy) {
+            return List.of();
+        }
+        List<Path> paths = new ArrayList<>(3);
+        if (layout.depth() > 0) {
+            paths.add(basePath.resolve(id + extension));
+        }
+        if (migrateLegacy) {
+            paths.add(layout.directoryFor(basePath, id).resolve(id + legacyExtension));
+            if (layout.depth() > 0) {
+                paths.add(basePath.resolve(id + legacyExtension));
+            }
+        }
+        return paths;
+    }
+
+    private Optional<Item> tryRead(Path path) throws IOException {
+        try {
+            return Optional.of(read(path));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Item read(Path path) throws IOException {
+        return mapperEntity.toDomain(codec.decode(Files.readAllBytes(path)));
+    }
+
+    /**
+     * Rewrites an item found in an old location at its current path, unless it was
+     * written or deleted through this repository in the meantime.
+     */
+    private Optional<Item> migrate(Path old, Item item) throws IOException {
+        ReentrantLock lock = locks.lockFor(item.id());
+        lock.lock();
+        try {
+            Path path = pathFor(item.id());
+            Optional<Item> current = tryRead(path);
+            if (current.isPresent()) {
+                return current;
+            }
+            if (!Files.exists(old)) {
+                // deleted meanwhile, or moved by the layout migrator
+                return tryRead(path);
+            }
+            write(item);
+            log.debug("Migrated {} to {}", old, path);
+            return Optional.of(item);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void deleteFile(Path path) throws IOException {
+        if (Files.deleteIfExists(path)) {
+            unsynced.add(path);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not remove temporary file {}", path, e);
         }
     }
 }
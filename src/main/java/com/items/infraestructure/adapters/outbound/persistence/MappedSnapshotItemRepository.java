@@ -0,0 +1,341 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.items.domain.model.Item;
+import com.items.domain.port.outbound.ItemRepositoryPort;
+import com.items.infraestructure.adapters.outbound.persistence.codec.ItemCodec;
+import com.items.infraestructure.adapters.outbound.persistence.codec.JsonItemCodec;
+import com.items.infraestructure.entities.ItemEntity;
+import com.items.infraestructure.mapper.ItemEntityMapper;
+
+/**
+ * Read-optimized store that packs every item into an immutable snapshot file at startup
+ * and serves lookups from a memory-mapped view of it, so reads scale with the page cache
+ * instead of the heap. Writes go through to the delegate and are kept in an overlay; once
+ * it holds more than {@code compactionThreshold} ids, a new snapshot with the overlay folded
+ * in is built in the background and swapped in, and the entries it holds leave the overlay.
+ *
+ * Record layout: {@code [short idLength][id][int payloadLength][payload]}. Records never
+ * cross a region boundary so each one can be decoded from a single mapped buffer.
+ */
+public class MappedSnapshotItemRepository implements ItemRepositoryPort, ItemScanner, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(MappedSnapshotItemRepository.class);
+
+    private static final int DEFAULT_COMPACTION_THRESHOLD = 10000;
+    private static final int REGION_BITS = 30;
+    private static final long REGION_SIZE = 1L << REGION_BITS;
+
+    private final ItemCodec codec;
+    private final ItemEntityMapper mapperEntity = new ItemEntityMapper();
+    private final ItemRepositoryPort delegate;
+    private final Path snapshotFile;
+    private final int compactionThreshold;
+    private volatile Snapshot snapshot;
+    // writes since the snapshot was built; an empty Optional marks a deletion
+    private final ConcurrentMap<String, Optional<Item>> overlay = new ConcurrentHashMap<>();
+    // writers to one id are serialized without holding a map bin during the delegate write
+    private final StripedLocks locks = new StripedLocks();
+    private final AtomicBoolean compacting = new AtomicBoolean();
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "item-snapshot-compaction");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public MappedSnapshotItemRepository(ItemRepositoryPort delegate, ItemScanner scanner, String snapshotFile) {
+        this(delegate, scanner, snapshotFile, new JsonItemCodec(false));
+    }
+
+    public MappedSnapshotItemRepository(ItemRepositoryPort delegate, ItemScanner scanner, String snapshotFile, ItemCodec codec) {
+        this(delegate, scanner, snapshotFile, codec, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public MappedSnapshotItemRepository(ItemRepositoryPort delegate, ItemScanner scanner, String snapshotFile,
+                                        ItemCodec codec, int compactionThreshold) {
+        this.delegate = delegate;
+        this.codec = codec;
+        this.snapshotFile = Path.of(snapshotFile);
+        this.compactionThreshold = compactionThreshold;
+        try {
+            this.snapshot = build(writer -> scanner.scan(item -> writer.accept(item.id(), () -> encode(item))));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error building item snapshot " + snapshotFile, e);
+        }
+    }
+
+    @Override
+    public Optional<Item> findById(String id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        Optional<Item> written = overlay.get(id);
+        return written != null ? written : snapshot.read(id);
+    }
+
+    @Override
+    public Item save(Item item) {
+        if (item.id() == null) {
+            return delegate.save(item);
+        }
+        ReentrantLock stripe = locks.lockFor(item.id());
+        stripe.lock();
+        try {
+            Item saved = delegate.save(item);
+            overlay.put(saved.id(), Optional.of(saved));
+            compactIfNeeded();
+            return saved;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    @Override
+    public Item compareAndSave(Item item, long expectedVersion) {
+        ReentrantLock stripe = locks.lockFor(item.id());
+        stripe.lock();
+        try {
+            Optional<Item> written = overlay.get(item.id());
+            Optional<Item> current = written != null ? written : snapshot.read(item.id());
+            Item saved = delegate.save(ItemVersions.next(current, item, expectedVersion));
+            overlay.put(saved.id(), Optional.of(saved));
+            compactIfNeeded();
+            return saved;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    @Override
+    public void deleteById(String id) {
+        if (id == null) {
+            delegate.deleteById(id);
+            return;
+        }
+        ReentrantLock stripe = locks.lockFor(id);
+        stripe.lock();
+        try {
+            delegate.deleteById(id);
+            overlay.put(id, Optional.empty());
+            compactIfNeeded();
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    @Override
+    public void scan(Consumer<Item> consumer) {
+        Snapshot current = snapshot;
+        for (String id : current.offsets.keySet()) {
+            if (!overlay.containsKey(id)) {
+                current.read(id).ifPresent(consumer);
+            }
+        }
+        overlay.values().forEach(written -> written.ifPresent(consumer));
+    }
+
+    public int snapshotSize() {
+        return snapshot.offsets.size();
+    }
+
+    public int overlaySize() {
+        return overlay.size();
+    }
+
+    /**
+     * Builds a new snapshot holding the current snapshot with the overlay applied, on the
+     * calling thread. Entries written again while it is built stay in the overlay.
+     */
+    public synchronized void compact() {
+        Snapshot current = snapshot;
+        Map<String, Optional<Item>> folded = new HashMap<>(overlay);
+        Snapshot compacted;
+        try {
+            compacted = build(writer -> {
+                for (String id : current.offsets.keySet()) {
+                    if (!folded.containsKey(id)) {
+                        writer.accept(id, () -> current.payload(id));
+                    }
+                }
+                for (Optional<Item> written : folded.values()) {
+                    if (written.isPresent()) {
+                        writer.accept(written.get().id(), () -> encode(written.get()));
+                    }
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error compacting item snapshot " + snapshotFile, e);
+        }
+        // swap first, so an id that leaves the overlay is already in the snapshot read next
+        snapshot = compacted;
+        // only removes the entries that were not written again meanwhile
+        folded.forEach(overlay::remove);
+        log.debug("Compacted item snapshot to {} items, {} writes left in the overlay", compacted.offsets.size(), overlay.size());
+    }
+
+    @Override
+    public void close() throws Exception {
+        compactor.shutdown();
+        compactor.awaitTermination(10, TimeUnit.SECONDS);
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (overlay.size() <= compactionThreshold || !compacting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            compactor.execute(() -> {
+                try {
+                    compact();
+                } catch (RuntimeException e) {
+                    log.warn("Item snapshot compaction failed", e);
+                } finally {
+                    compacting.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            compacting.set(false);
+        }
+    }
+
+    private byte[] encode(Item item) throws IOException {
+        return codec.encode(mapperEntity.toEntity(item));
+    }
+
+    // writes the records to a temporary file, renames it over the snapshot and maps it
+    private Snapshot build(RecordSource source) throws IOException {
+        Path tmp = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        Map<String, Long> offsets = new HashMap<>();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            long[] position = {0};
+            IOException[] failure = {null};
+            source.writeTo((idString, encoded) -> {
+                if (failure[0] != null) {
+                    return;
+                }
+                try {
+                    byte[] id = idString.getBytes(StandardCharsets.UTF_8);
+                    byte[] payload = encoded.get();
+                    int length = Short.BYTES + id.length + Integer.BYTES + payload.length;
+                    long remaining = REGION_SIZE - (position[0] & (REGION_SIZE - 1));
+                    if (length > remaining) {
+                        out.write(new byte[(int) remaining]);
+                        position[0] += remaining;
+                    }
+                    offsets.put(idString, position[0]);
+                    out.writeShort(id.length);
+                    out.write(id);
+                    out.writeInt(payload.length);
+                    out.write(payload);
+                    position[0] += length;
+                } catch (IOException e) {
+                    failure[0] = e;
+                }
+            });
+            if (failure[0] != null) {
+                throw failure[0];
+            }
+        }
+        // mappings of a replaced file stay readable until they are collected
+        Files.move(tmp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return new Snapshot(offsets, map(snapshotFile));
+    }
+
+    private static List<MappedByteBuffer> map(Path snapshot) throws IOException {
+        List<MappedByteBuffer> regions = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long start = 0; start < size; start += REGION_SIZE) {
+                regions.add(channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(REGION_SIZE, size - start)));
+            }
+        }
+        return regions;
+    }
+
+    @FunctionalInterface
+    private interface RecordSource {
+        void writeTo(RecordWriter writer);
+    }
+
+    @FunctionalInterface
+    private interface RecordWriter {
+        void accept(String id, Payload payload);
+    }
+
+    @FunctionalInterface
+    private interface Payload {
+        byte[] get() throws IOException;
+    }
+
+    /**
+     * One mapped snapshot file and the offset of every record in it; never modified once built.
+     */
+    private final class Snapshot {
+        final Map<String, Long> offsets;
+        final List<MappedByteBuffer> regions;
+
+        Snapshot(Map<String, Long> offsets, List<MappedByteBuffer> regions) {
+            this.offsets = offsets;
+            this.regions = regions;
+        }
+
+        Optional<Item> read(String id) {
+            Long offset = offsets.get(id);
+            if (offset == null) {
+                return Optional.empty();
+            }
+            try {
+                return Optional.of(mapperEntity.toDomain(codec.decode(record(offset))));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error reading item with id " + id, e);
+            }
+        }
+
+        // encoded record, copied out of the mapping
+        byte[] payload(String id) {
+            ByteBuffer payload = record(offsets.get(id));
+            byte[] bytes = new byte[payload.remaining()];
+            payload.get(bytes);
+            return bytes;
+        }
+
+        private ByteBuffer record(long offset) {
+            ByteBuffer region = regions.get((int) (offset >>> REGION_BITS)).duplicate();
+            int position = (int) (offset & (REGION_SIZE - 1));
+            int idLength = region.getShort(position) & 0xFFFF;
+            int payloadPosition = position + Short.BYTES + idLength;
+            int payloadLength = region.getInt(payloadPosition);
+            return region.position(payloadPosition + Integer.BYTES).limit(payloadPosition + Integer.BYTES + payloadLength);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.items.domain.model.Item;
+import com.items.domain.port.inbound.ItemChangeListener;
+import com.items.domain.port.outbound.ItemRepositoryPort;
+
+/**
+ * Tells the listeners about every id written through it. Listeners are notified after the
+ * delegate returns, and also when it fails, since a failed write may still have changed
+ * the stored item.
+ */
+public class NotifyingItemRepository implements ItemRepositoryPort, AutoCloseable {
+    private final ItemRepositoryPort delegate;
+    private final List<ItemChangeListener> listeners;
+
+    public NotifyingItemRepository(ItemRepositoryPort delegate, List<ItemChangeListener> listeners) {
+        this.delegate = delegate;
+        this.listeners = List.copyOf(listeners);
+    }
+
+    @Override
+    public Optional<Item> findById(String id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Map<String, Item> findAllById(Collection<String> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public Item save(Item item) {
+        Item saved = null;
+        try {
+            saved = delegate.save(item);
+            return saved;
+        } finally {
+            notifyChanged(saved != null ? saved.id() : item.id());
+        }
+    }
+
+    @Override
+    public Item compareAndSave(Item item, long expectedVersion) {
+        try {
+            return delegate.compareAndSave(item, expectedVersion);
+        } finally {
+            notifyChanged(item.id());
+        }
+    }
+
+    @Override
+    public void deleteById(String id) {
+        try {
+            delegate.deleteById(id);
+        } finally {
+            notifyChanged(id);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void notifyChanged(String id) {
+        if (id == null) {
+            return;
+        }
+        for (ItemChangeListener listener : listeners) {
+            listener.itemChanged(id);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.items.domain.model.Item;
+import com.items.domain.port.outbound.ItemRepositoryPort;
+import com.items.infraestructure.adapters.outbound.persistence.codec.BinaryItemCodec;
+import com.items.infraestructure.adapters.outbound.persistence.codec.ItemCodec;
+import com.items.infraestructure.mapper.ItemEntityMapper;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Read-through cache that keeps items encoded in an {@link OffHeapItemCache} and decodes
+ * them only when they are read, so a large cached catalog costs direct memory instead of
+ * heap. Writes go to the delegate and then drop the cached record, like
+ * {@link CachingItemRepository}.
+ */
+public class OffHeapCachingItemRepository implements ItemRepositoryPort, AutoCloseable {
+    private final ItemRepositoryPort delegate;
+    private final OffHeapItemCache cache;
+    private final ItemCodec codec = new BinaryItemCodec();
+    private final ItemEntityMapper mapperEntity = new ItemEntityMapper();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public OffHeapCachingItemRepository(ItemRepositoryPort delegate, long maxBytes, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = new OffHeapItemCache(maxBytes);
+        FunctionCounter.builder("items.offheap.hits", hits, LongAdder::doubleValue)
+                .description("Item lookups answered from the off-heap cache")
+                .register(meterRegistry);
+        FunctionCounter.builder("items.offheap.misses", misses, LongAdder::doubleValue)
+                .description("Item lookups the off-heap cache passed to the store")
+                .register(meterRegistry);
+        FunctionCounter.builder("items.offheap.evictions", cache, OffHeapItemCache::evictions)
+                .description("Items dropped when the off-heap cache recycled a slab")
+                .register(meterRegistry);
+        Gauge.builder("items.offheap.size", cache, OffHeapItemCache::size)
+                .description("Items currently held in the off-heap cache")
+                .register(meterRegistry);
+        Gauge.builder("items.offheap.allocated.bytes", cache, OffHeapItemCache::allocatedBytes)
+                .description("Direct memory allocated by the off-heap cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<Item> findById(String id) {
+        if (id == null) {
+            return delegate.findById(id);
+        }
+        try {
+            byte[] cached = cache.get(id);
+            if (cached != null) {
+                hits.increment();
+                return Optional.of(mapperEntity.toDomain(codec.decode(cached)));
+            }
+            misses.increment();
+            long stamp = cache.stamp(id);
+            Optional<Item> item = delegate.findById(id);
+            if (item.isPresent()) {
+                cache.put(id, codec.encode(mapperEntity.toEntity(item.get())), stamp);
+            }
+            return item;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error caching item with id " + id, e);
+        }
+    }
+
+    @Override
+    public Map<String, Item> findAllById(Collection<String> ids) {
+        Map<String, Item> found = new HashMap<>();
+        Map<String, Long> stamps = new LinkedHashMap<>();
+        try {
+            for (String id : ids) {
+                if (found.containsKey(id) || stamps.containsKey(id)) {
+                    continue;
+                }
+                byte[] cached = cache.get(id);
+                if (cached != null) {
+                    found.put(id, mapperEntity.toDomain(codec.decode(cached)));
+                } else {
+                    stamps.put(id, cache.stamp(id));
+                }
+            }
+            hits.add(found.size());
+            misses.add(stamps.size());
+            if (!stamps.isEmpty()) {
+                Map<String, Item> loaded = delegate.findAllById(List.copyOf(stamps.keySet()));
+                for (Map.Entry<String, Item> entry : loaded.entrySet()) {
+                    cache.put(entry.getKey(), codec.encode(mapperEntity.toEntity(entry.getValue())), stamps.get(entry.getKey()));
+                }
+                found.putAll(loaded);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error caching items " + ids, e);
+        }
+        return ItemBatches.inRequestOrder(ids, found);
+    }
+
+    @Override
+    public Item save(Item item) {
+        try {
+            return delegate.save(item);
+        } finally {
+            invalidate(item.id());
+        }
+    }
+
+    @Override
+    public Item compareAndSave(Item item, long expectedVersion) {
+        try {
+            return delegate.compareAndSave(item, expectedVersion);
+        } finally {
+            invalidate(item.id());
+        }
+    }
+
+    @Override
+    public void deleteById(String id) {
+        try {
+            delegate.deleteById(id);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    public OffHeapItemCache cache() {
+        return cache;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void invalidate(String id) {
+        if (id != null) {
+            cache.remove(id);
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Byte cache keyed by item id that keeps both its records and its index in direct buffers,
+ * so the heap cost does not grow with the number of cached items.
+ *
+ * The cache is split into partitions picked by id hash. Each partition appends records to
+ * a ring of slabs and recycles the oldest slab when it runs out of room, dropping every
+ * entry still stored there. The index is an open-addressing table of
+ * {@code [long hash][long address]} slots; the record keeps the full id so a hash
+ * collision reads as a miss.
+ *
+ * Record layout: {@code [int length][short idLength][id][payload]}.
+ */
+public class OffHeapItemCache {
+    private static final int PARTITIONS = 16;
+    private static final int SLABS_PER_PARTITION = 8;
+    // index slots are sized for records of about this many bytes
+    private static final int EXPECTED_RECORD_BYTES = 128;
+    private static final int HEADER_BYTES = Integer.BYTES + Short.BYTES;
+    private static final int SLOT_BYTES = 2 * Long.BYTES;
+
+    private final Partition[] partitions;
+    private final int slabBytes;
+    private final LongAdder evictions = new LongAdder();
+
+    public OffHeapItemCache(long maxBytes) {
+        long perPartition = maxBytes / PARTITIONS;
+        if (perPartition < SLABS_PER_PARTITION * 1024L) {
+            throw new IllegalArgumentException("Off-heap cache needs at least "
+                    + PARTITIONS * SLABS_PER_PARTITION + " KiB: " + maxBytes);
+        }
+        this.slabBytes = (int) Math.min(Integer.MAX_VALUE, perPartition / SLABS_PER_PARTITION);
+        long expectedRecords = perPartition / EXPECTED_RECORD_BYTES;
+        int slots = (int) Math.min(1 << 28, Long.highestOneBit(Math.max(16, expectedRecords * 2) - 1) << 1);
+        this.partitions = new Partition[PARTITIONS];
+        for (int i = 0; i < PARTITIONS; i++) {
+            partitions[i] = new Partition(slots);
+        }
+    }
+
+    /**
+     * Returns a copy of the payload cached for the id, or null.
+     */
+    public byte[] get(String id) {
+        byte[] key = id.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(key);
+        Partition partition = partitionFor(hash);
+        partition.lock.lock();
+        try {
+            int slot = partition.find(hash);
+            if (slot < 0) {
+                return null;
+            }
+            long address = partition.index.getLong(slot * SLOT_BYTES + Long.BYTES);
+            ByteBuffer slab = partition.slabs[(int) (address >>> 32)];
+            int offset = (int) address;
+            if (!partition.matches(slab, offset, key)) {
+                return null;
+            }
+            byte[] payload = new byte[slab.getInt(offset) - HEADER_BYTES - key.length];
+            slab.get(offset + HEADER_BYTES + key.length, payload);
+            return payload;
+        } finally {
+            partition.lock.unlock();
+        }
+    }
+
+    /**
+     * Stamp to pass to {@link #put}; it changes whenever an id of the same partition is
+     * removed.
+     */
+    public long stamp(String id) {
+        Partition partition = partitionFor(hash(id.getBytes(StandardCharsets.UTF_8)));
+        partition.lock.lock();
+        try {
+            return partition.removals;
+        } finally {
+            partition.lock.unlock();
+        }
+    }
+
+    /**
+     * Stores the payload unless an id of the same partition was removed since
+     * {@code stamp} was taken. Payloads larger than a slab are not cached.
+     */
+    public boolean put(String id, byte[] payload, long stamp) {
+        byte[] key = id.getBytes(StandardCharsets.UTF_8);
+        int length = HEADER_BYTES + key.length + payload.length;
+        if (length > slabBytes || key.length > Short.MAX_VALUE) {
+            return false;
+        }
+        long hash = hash(key);
+        Partition partition = partitionFor(hash);
+        partition.lock.lock();
+        try {
+            if (partition.removals != stamp) {
+                return false;
+            }
+            long address = partition.append(key, payload, length);
+            partition.insert(hash, address);
+            return true;
+        } finally {
+            partition.lock.unlock();
+        }
+    }
+
+    public void remove(String id) {
+        long hash = hash(id.getBytes(StandardCharsets.UTF_8));
+        Partition partition = partitionFor(hash);
+        partition.lock.lock();
+        try {
+            partition.removals++;
+            int slot = partition.find(hash);
+            if (slot >= 0) {
+                partition.delete(slot);
+            }
+        } finally {
+            partition.lock.unlock();
+        }
+    }
+
+    public long size() {
+        long size = 0;
+        for (Partition partition : partitions) {
+            partition.lock.lock();
+            try {
+                size += partition.count;
+            } finally {
+                partition.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Direct memory currently allocated for slabs and indexes.
+     */
+    public long allocatedBytes() {
+        long bytes = 0;
+        for (Partition partition : partitions) {
+            partition.lock.lock();
+            try {
+                bytes += partition.index.capacity();
+                for (ByteBuffer slab : partition.slabs) {
+                    bytes += slab == null ? 0 : slab.capacity();
+                }
+            } finally {
+                partition.lock.unlock();
+            }
+        }
+        return bytes;
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    private Partition partitionFor(long hash) {
+        return partitions[(int) (hash >>> 60)];
+    }
+
+    // FNV-1a followed by a murmur finalizer; never returns 0, which marks an empty slot
+    static long hash(byte[] key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key) {
+            hash = (hash ^ (b & 0xff)) * 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash == 0 ? 1 : hash;
+    }
+
+    private final class Partition {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ByteBuffer index;
+        private final int mask;
+        private final int maxCount;
+        private final ByteBuffer[] slabs = new ByteBuffer[SLABS_PER_PARTITION];
+        // end of the records written to each slab; 0 when the slab holds nothing
+        private final int[] limits = new int[SLABS_PER_PARTITION];
+        private int current;
+        private int position;
+        private int count;
+        private long removals;
+
+        private Partition(int slots) {
+            this.index = ByteBuffer.allocateDirect(slots * SLOT_BYTES);
+            this.mask = slots - 1;
+            this.maxCount = slots - (slots >>> 2);
+        }
+
+        private int find(long hash) {
+            for (int slot = home(hash); ; slot = (slot + 1) & mask) {
+                long stored = index.getLong(slot * SLOT_BYTES);
+                if (stored == hash) {
+                    return slot;
+                }
+                if (stored == 0) {
+                    return -1;
+                }
+            }
+        }
+
+        private void insert(long hash, long address) {
+            int slot = home(hash);
+            while (true) {
+                long stored = index.getLong(slot * SLOT_BYTES);
+                if (stored == 0) {
+                    count++;
+                    break;
+                }
+                if (stored == hash) {
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+            index.putLong(slot * SLOT_BYTES, hash);
+            index.putLong(slot * SLOT_BYTES + Long.BYTES, address);
+            while (count > maxCount && evictOldest()) {
+                // keeps probe sequences short when records are smaller than expected
+            }
+        }
+
+        // backward-shift deletion keeps every remaining key reachable from its home slot
+        private void delete(int slot) {
+            int hole = slot;
+            for (int next = (hole + 1) & mask; ; next = (next + 1) & mask) {
+                long stored = index.getLong(next * SLOT_BYTES);
+                if (stored == 0) {
+                    break;
+                }
+                int home = home(stored);
+                boolean movable = hole <= next ? home <= hole || home > next : home <= hole && home > next;
+                if (movable) {
+                    index.putLong(hole * SLOT_BYTES, stored);
+                    index.putLong(hole * SLOT_BYTES + Long.BYTES, index.getLong(next * SLOT_BYTES + Long.BYTES));
+                    hole = next;
+                }
+            }
+            index.putLong(hole * SLOT_BYTES, 0);
+            index.putLong(hole * SLOT_BYTES + Long.BYTES, 0);
+            count--;
+        }
+
+        private long append(byte[] key, byte[] payload, int length) {
+            if (slabs[current] == null) {
+                slabs[current] = ByteBuffer.allocateDirect(slabBytes);
+            }
+            if (position + length > slabBytes) {
+                limits[current] = position;
+                current = (current + 1) % SLABS_PER_PARTITION;
+                position = 0;
+                if (slabs[current] == null) {
+                    slabs[current] = ByteBuffer.allocateDirect(slabBytes);
+                } else {
+                    evict(current);
+                }
+            }
+            ByteBuffer slab = slabs[current];
+            slab.putInt(position, length);
+            slab.putShort(position + Integer.BYTES, (short) key.length);
+            slab.put(position + HEADER_BYTES, key);
+            slab.put(position + HEADER_BYTES + key.length, payload);
+            long address = (long) current << 32 | position;
+            position += length;
+            limits[current] = position;
+            return address;
+        }
+
+        private boolean evictOldest() {
+            for (int step = 1; step < SLABS_PER_PARTITION; step++) {
+                int slab = (current + step) % SLABS_PER_PARTITION;
+                if (limits[slab] > 0) {
+                    evict(slab);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // drops the index entries that still point into the slab
+        private void evict(int slabIndex) {
+            ByteBuffer slab = slabs[slabIndex];
+            int end = limits[slabIndex];
+            for (int offset = 0; offset < end; offset += slab.getInt(offset)) {
+                byte[] key = new byte[slab.getShort(offset + Integer.BYTES)];
+                slab.get(offset + HEADER_BYTES, key);
+                int slot = find(hash(key));
+                if (slot >= 0 && index.getLong(slot * SLOT_BYTES + Long.BYTES) == ((long) slabIndex << 32 | offset)) {
+                    delete(slot);
+                    evictions.increment();
+                }
+            }
+            limits[slabIndex] = 0;
+        }
+
+        private boolean matches(ByteBuffer slab, int offset, byte[] key) {
+            if (slab.getShort(offset + Integer.BYTES) != key.length) {
+                return false;
+            }
+            for (int i = 0; i < key.length; i++) {
+                if (slab.get(offset + HEADER_BYTES + i) != key[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int home(long hash) {
+            return (int) (hash ^ hash >>> 32) & mask;
+        }
+    }
+}
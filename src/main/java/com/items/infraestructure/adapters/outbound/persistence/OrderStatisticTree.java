@@ -0,0 +1,192 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import java.util.ArrayDeque;
+import java.util.SplittableRandom;
+
+/**
+ * Item ids sorted by a {@code long} key, then by id, in a treap whose nodes know the size of
+ * their subtree: inserting, removing, counting the ids below a key and finding the id at a
+ * rank all take expected logarithmic time, and walking the ids in order from a key costs that
+ * plus the ids visited. Not thread-safe.
+ */
+final class OrderStatisticTree {
+    private final SplittableRandom priorities = new SplittableRandom();
+    private Node root;
+
+    int size() {
+        return size(root);
+    }
+
+    void insert(long key, String id) {
+        root = insert(root, new Node(key, id, priorities.nextInt()));
+    }
+
+    void remove(long key, String id) {
+        root = remove(root, key, id);
+    }
+
+    /**
+     * Number of ids whose key is below {@code key}.
+     */
+    int countBelow(long key) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (node.key < key) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Id at {@code rank}, counting from 0, or null when there are not that many.
+     */
+    String idAt(int rank) {
+        if (rank < 0 || rank >= size()) {
+            return null;
+        }
+        Node node = root;
+        while (true) {
+            int left = size(node.left);
+            if (rank < left) {
+                node = node.left;
+            } else if (rank == left) {
+                return node.id;
+            } else {
+                rank -= left + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Visits the ids whose key is at least {@code minKey} in order, until the visitor
+     * returns false.
+     */
+    void ascendingFrom(long minKey, Visitor visitor) {
+        ArrayDeque<Node> path = new ArrayDeque<>();
+        for (Node node = root; node != null; ) {
+            if (node.key >= minKey) {
+                path.push(node);
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+        while (!path.isEmpty()) {
+            Node next = path.pop();
+            if (!visitor.visit(next.key, next.id)) {
+                return;
+            }
+            for (Node node = next.right; node != null; node = node.left) {
+                path.push(node);
+            }
+        }
+    }
+
+    private static Node insert(Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+        if (added.priority > node.priority) {
+            split(node, added.key, added.id, added);
+            return added.update();
+        }
+        if (compare(added.key, added.id, node) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return node.update();
+    }
+
+    private static Node remove(Node node, long key, String id) {
+        if (node == null) {
+            return null;
+        }
+        int order = compare(key, id, node);
+        if (order == 0) {
+            return merge(node.left, node.right);
+        }
+        if (order < 0) {
+            node.left = remove(node.left, key, id);
+        } else {
+            node.right = remove(node.right, key, id);
+        }
+        return node.update();
+    }
+
+    // the nodes before (key, id) become parts.left and the rest parts.right
+    private static void split(Node node, long key, String id, Node parts) {
+        if (node == null) {
+            parts.left = null;
+            parts.right = null;
+            return;
+        }
+        if (compare(key, id, node) > 0) {
+            split(node.right, key, id, parts);
+            node.right = parts.left;
+            parts.left = node.update();
+        } else {
+            split(node.left, key, id, parts);
+            node.left = parts.right;
+            parts.right = node.update();
+        }
+    }
+
+    // every node of lower sorts before every node of upper
+    private static Node merge(Node lower, Node upper) {
+        if (lower == null) {
+            return upper;
+        }
+        if (upper == null) {
+            return lower;
+        }
+        if (lower.priority > upper.priority) {
+            lower.right = merge(lower.right, upper);
+            return lower.update();
+        }
+        upper.left = merge(lower, upper.left);
+        return upper.update();
+    }
+
+    private static int compare(long key, String id, Node node) {
+        return key != node.key ? Long.compare(key, node.key) : id.compareTo(node.id);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    @FunctionalInterface
+    interface Visitor {
+        /**
+         * @return whether to visit the next id
+         */
+        boolean visit(long key, String id);
+    }
+
+    private static final class Node {
+        final long key;
+        final String id;
+        final int priority;
+        int size = 1;
+        Node left;
+        Node right;
+
+        Node(long key, String id, int priority) {
+            this.key = key;
+            this.id = id;
+            this.priority = priority;
+        }
+
+        Node update() {
+            size = size(left) + size(right) + 1;
+            return this;
+        }
+    }
+}
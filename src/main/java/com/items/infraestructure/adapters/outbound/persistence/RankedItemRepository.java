@@ -0,0 +1,177 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.items.domain.model.CohortAttribute;
+import com.items.domain.model.CohortStanding;
+import com.items.domain.model.Item;
+import com.items.domain.port.outbound.ItemRankingPort;
+import com.items.domain.port.outbound.ItemRepositoryPort;
+
+/**
+ * Keeps the price and rating of the whole catalog in {@link ItemColumns}, updated on every
+ * save and delete, so the cheapest, the best-rated and the items within a price range can be
+ * listed without reading the store. {@link ItemCohorts} keeps the same values sorted per brand
+ * and per material, for the standing of an item within its cohort.
+ *
+ * The columns are filled by {@link #warmUp}; items written or deleted through this
+ * repository meanwhile are not overwritten by the scan, as in {@link IndexedItemRepository}.
+ */
+public class RankedItemRepository implements ItemRepositoryPort, ItemRankingPort, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(RankedItemRepository.class);
+
+    private final ItemRepositoryPort delegate;
+    private final ItemColumns columns = new ItemColumns();
+    private final ItemCohorts cohorts = new ItemCohorts();
+    // keeps the store write and the column update ordered per id
+    private final StripedLocks locks = new StripedLocks();
+    private final Set<String> deletedDuringWarmUp = ConcurrentHashMap.newKeySet();
+    private volatile boolean warm;
+
+    public RankedItemRepository(ItemRepositoryPort delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Indexes every scanned item that was not written or deleted through this repository meanwhile.
+     */
+    public void warmUp(ItemScanner scanner) {
+        scanner.scan(item -> {
+            ReentrantLock stripe = locks.lockFor(item.id());
+            stripe.lock();
+            try {
+                if (!columns.contains(item.id()) && !deletedDuringWarmUp.contains(item.id())) {
+                    columns.put(item.id(), item.price(), item.rating());
+                    cohorts.put(item);
+                }
+            } finally {
+                stripe.unlock();
+            }
+        });
+        warm = true;
+        deletedDuringWarmUp.clear();
+    }
+
+    /**
+     * Runs {@link #warmUp} on a background thread; until it completes, queries only see the
+     * items indexed so far.
+     */
+    public CompletableFuture<Void> warmUpAsync(ItemScanner scanner) {
+        return CompletableFuture.runAsync(() -> warmUp(scanner), runnable -> {
+            Thread thread = new Thread(runnable, "item-ranking-warmup");
+            thread.setDaemon(true);
+            thread.start();
+        }).whenComplete((ignored, error) -> {
+            if (error != null) {
+                log.error("Item ranking warm-up failed, top-K queries only see items written since startup", error);
+            }
+        });
+    }
+
+    public boolean isWarm() {
+        return warm;
+    }
+
+    @Override
+    public List<String> findCheapestIds(int limit) {
+        return columns.cheapest(limit);
+    }
+
+    @Override
+    public List<String> findBestRatedIds(int limit) {
+        return columns.bestRated(limit);
+    }
+
+    @Override
+    public List<String> findIdsInPriceRange(BigDecimal minPrice, BigDecimal maxPrice, Double minRating, int limit) {
+        return columns.inRange(minPrice, maxPrice, minRating, limit);
+    }
+
+    @Override
+    public CohortStanding findCohortStanding(CohortAttribute attribute, Item item) {
+        return cohorts.standing(attribute, item);
+    }
+
+    @Override
+    public Optional<Item> findById(String id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Map<String, Item> findAllById(Collection<String> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public Item save(Item item) {
+        if (item.id() == null) {
+            return delegate.save(item);
+        }
+        ReentrantLock stripe = locks.lockFor(item.id());
+        stripe.lock();
+        try {
+            return index(delegate.save(item));
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    @Override
+    public Item compareAndSave(Item item, long expectedVersion) {
+        ReentrantLock stripe = locks.lockFor(item.id());
+        stripe.lock();
+        try {
+            return index(delegate.compareAndSave(item, expectedVersion));
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    @Override
+    public void deleteById(String id) {
+        if (id == null) {
+            delegate.deleteById(id);
+            return;
+        }
+        ReentrantLock stripe = locks.lockFor(id);
+        stripe.lock();
+        try {
+            delegate.deleteById(id);
+            if (!warm) {
+                deletedDuringWarmUp.add(id);
+            }
+            columns.remove(id);
+            cohorts.remove(id);
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    public int size() {
+        return columns.size();
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Item index(Item saved) {
+        columns.put(saved.id(), saved.price(), saved.rating());
+        cohorts.put(saved);
+        return saved;
+    }
+}
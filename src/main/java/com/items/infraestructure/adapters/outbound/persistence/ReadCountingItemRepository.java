@@ -0,0 +1,50 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+import com.items.domain.model.Item;
+import com.items.domain.port.outbound.ItemRepositoryPort;
+
+/**
+ * Reports every {@code findById} to an {@link ItemReadCounter} before delegating, and the
+ * read of the stored item every {@code compareAndSave} does to check its version.
+ */
+public class ReadCountingItemRepository implements ItemRepositoryPort {
+    private final ItemRepositoryPort delegate;
+    private final ItemReadCounter counter;
+
+    public ReadCountingItemRepository(ItemRepositoryPort delegate, ItemReadCounter counter) {
+        this.delegate = delegate;
+        this.counter = counter;
+    }
+
+    @Override
+    public Optional<Item> findById(String id) {
+        counter.increment();
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Map<String, Item> findAllById(Collection<String> ids) {
+        counter.add(ids.size());
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public Item save(Item item) {
+        return delegate.save(item);
+    }
+
+    @Override
+    public Item compareAndSave(Item item, long expectedVersion) {
+        counter.increment();
+        return delegate.compareAndSave(item, expectedVersion);
+    }
+
+    @Override
+    public void deleteById(String id) {
+        delegate.deleteById(id);
+    }
+}
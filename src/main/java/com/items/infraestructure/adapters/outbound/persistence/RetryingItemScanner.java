@@ -0,0 +1,48 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.items.domain.model.Item;
+
+/**
+ * Retries a failed scan until one completes, waiting with exponential backoff between
+ * attempts. Used for background warm-ups, which nothing else would restart: a catalog that
+ * failed to load once is loaded again instead of leaving the instance not ready for good.
+ * Items from a failed attempt may be handed to the consumer again by the next one.
+ */
+public class RetryingItemScanner implements ItemScanner {
+    private static final Logger log = LoggerFactory.getLogger(RetryingItemScanner.class);
+
+    private final ItemScanner delegate;
+    private final long initialDelayMs;
+    private final long maxDelayMs;
+
+    public RetryingItemScanner(ItemScanner delegate, long initialDelayMs, long maxDelayMs) {
+        this.delegate = delegate;
+        this.initialDelayMs = Math.max(1, initialDelayMs);
+        this.maxDelayMs = Math.max(this.initialDelayMs, maxDelayMs);
+    }
+
+    @Override
+    public void scan(Consumer<Item> consumer) {
+        long delayMs = initialDelayMs;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                delegate.scan(consumer);
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Item scan attempt {} failed, retrying in {} ms", attempt, delayMs, e);
+            }
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting to retry the item scan", e);
+            }
+            delayMs = Math.min(maxDelayMs, delayMs * 2);
+        }
+    }
+}
@@ -0,0 +1,422 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.items.domain.model.Item;
+import com.items.domain.port.outbound.ItemRepositoryPort;
+import com.items.infraestructure.adapters.outbound.persistence.codec.ItemCodec;
+import com.items.infraestructure.adapters.outbound.persistence.codec.JsonItemCodec;
+import com.items.infraestructure.entities.ItemEntity;
+import com.items.infraestructure.mapper.ItemEntityMapper;
+
+/**
+ * Log-structured item store. Every mutation is appended to the active segment file,
+ * an in-memory index maps each id to the offset of its latest record, and sealed
+ * segments dominated by dead records are rewritten in the background.
+ *
+ * Record layout: {@code [int bodyLength][int crc32(body)][byte op][short idLength][id][payload]}.
+ */
+public class SegmentLogItemRepository implements ItemRepositoryPort, ItemScanner, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(SegmentLogItemRepository.class);
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+
+    private final ItemCodec codec;
+    private final ItemEntityMapper mapperEntity = new ItemEntityMapper();
+    private final Path folder;
+    private final long maxSegmentBytes;
+    private final double compactionThreshold;
+    private final boolean fsync;
+
+    private final ConcurrentMap<String, RecordPointer> index = new ConcurrentHashMap<>();
+    private final ConcurrentNavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    // readers hold the read lock so a compacted segment is never closed under them
+    private final ReentrantReadWriteLock segmentsLock = new ReentrantReadWriteLock();
+    private final Object writeLock = new Object();
+    // orders compareAndSave checks against other writes to the same id
+    private final StripedLocks locks = new StripedLocks();
+    private final ScheduledExecutorService compactor;
+    private Segment active;
+
+    public SegmentLogItemRepository(String folder, long maxSegmentBytes, double compactionThreshold,
+                                    long compactionIntervalMs, boolean fsync) {
+        this(folder, maxSegmentBytes, compactionThreshold, compactionIntervalMs, fsync, new JsonItemCodec(false));
+    }
+
+    public SegmentLogItemRepository(String folder, long maxSegmentBytes, double compactionThreshold,
+                                    long compactionIntervalMs, boolean fsync, ItemCodec codec) {
+        this.codec = codec;
+        this.folder = Path.of(folder);
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.compactionThreshold = compactionThreshold;
+        this.fsync = fsync;
+        try {
+            Files.createDirectories(this.folder);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error opening segment log in " + folder, e);
+        }
+        if (compactionIntervalMs > 0) {
+            compactor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "item-segment-compactor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            compactor.scheduleWithFixedDelay(this::compactQuietly, compactionIntervalMs, compactionIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            compactor = null;
+        }
+    }
+
+    @Override
+    public Optional<Item> findById(String id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        segmentsLock.readLock().lock();
+        try {
+            RecordPointer pointer = index.get(id);
+            if (pointer == null) {
+                return Optional.empty();
+            }
+            return Optional.of(decode(read(pointer)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading item with id " + id, e);
+        } finally {
+            segmentsLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Item save(Item item) {
+        ReentrantLock stripe = locks.lockFor(item.id());
+        stripe.lock();
+        try {
+            return append(item);
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    @Override
+    public Item compareAndSave(Item item, long expectedVersion) {
+        ReentrantLock stripe = locks.lockFor(item.id());
+        stripe.lock();
+        try {
+            return append(ItemVersions.next(findById(item.id()), item, expectedVersion));
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    @Override
+    public void deleteById(String id) {
+        if (id == null) {
+            return;
+        }
+        ReentrantLock stripe = locks.lockFor(id);
+        stripe.lock();
+        try {
+            synchronized (writeLock) {
+                if (!index.containsKey(id)) {
+                    return;
+                }
+                append(encode(DELETE, id, new byte[0]));
+                release(index.remove(id));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error deleting item with id " + id, e);
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    @Override
+    public void scan(Consumer<Item> consumer) {
+        for (String id : index.keySet()) {
+            findById(id).ifPresent(consumer);
+        }
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Rewrites every sealed segment whose live ratio is below the threshold
+     * and deletes it afterwards. Returns the number of segments removed.
+     */
+    public int compact() throws IOException {
+        int compacted = 0;
+        for (Segment segment : segments.values()) {
+            synchronized (writeLock) {
+                if (segment == active) {
+                    continue;
+                }
+            }
+            if (segment.size == 0 || (double) segment.liveBytes.get() / segment.size < compactionThreshold) {
+                compactSegment(segment);
+                compacted++;
+            }
+        }
+        return compacted;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (compactor != null) {
+            compactor.shutdownNow();
+        }
+        segmentsLock.writeLock().lock();
+        try {
+            for (Segment segment : segments.values()) {
+                if (fsync) {
+                    segment.channel.force(false);
+                }
+                segment.channel.close();
+            }
+        } finally {
+            segmentsLock.writeLock().unlock();
+        }
+    }
+
+    private void compactQuietly() {
+        try {
+            int compacted = compact();
+            if (compacted > 0) {
+                log.debug("Compacted {} item segments", compacted);
+            }
+        } catch (Exception e) {
+            log.warn("Item segment compaction failed", e);
+        }
+    }
+
+    private void compactSegment(Segment segment) throws IOException {
+        boolean hasOlderSegments = segments.lowerKey(segment.id) != null;
+        for (Record record : readAll(segment)) {
+            synchronized (writeLock) {
+                if (record.op == PUT) {
+                    RecordPointer current = index.get(record.id);
+                    if (current != null && current.segmentId() == segment.id && current.offset() == record.offset) {
+                        RecordPointer moved = append(record.body);
+                        active.liveBytes.addAndGet(moved.length());
+                        index.put(record.id, moved);
+                    }
+                } else if (hasOlderSegments && !index.containsKey(record.id)) {
+                    // an older segment may still hold a put for this id, so the tombstone must survive
+                    append(record.body);
+                }
+            }
+        }
+        segmentsLock.writeLock().lock();
+        try {
+            segments.remove(segment.id);
+            segment.channel.close();
+            Files.deleteIfExists(segment.path);
+        } finally {
+            segmentsLock.writeLock().unlock();
+        }
+    }
+
+    private void recover() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(folder, "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        files.sort(null);
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            long id = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+            Segment segment = new Segment(id, file);
+            segments.put(id, segment);
+            for (Record record : readAll(segment)) {
+                if (record.op == PUT) {
+                    RecordPointer pointer = new RecordPointer(id, record.offset, HEADER_BYTES + record.body.length);
+                    segment.liveBytes.addAndGet(pointer.length());
+                    release(index.put(record.id, pointer));
+                } else {
+                    release(index.remove(record.id));
+                }
+            }
+        }
+        active = segments.isEmpty() ? openSegment(1) : segments.lastEntry().getValue();
+    }
+
+    private Item append(Item item) {
+        try {
+            byte[] body = encode(PUT, item.id(), codec.encode(mapperEntity.toEntity(item)));
+            synchronized (writeLock) {
+                RecordPointer pointer = append(body);
+                active.liveBytes.addAndGet(pointer.length());
+                release(index.put(item.id(), pointer));
+            }
+            return item;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error saving item with id " + item.id(), e);
+        }
+    }
+
+    private RecordPointer append(byte[] body) throws IOException {
+        int length = HEADER_BYTES + body.length;
+        if (active.size > 0 && active.size + length > maxSegmentBytes) {
+            if (fsync) {
+                active.channel.force(false);
+            }
+            active = openSegment(active.id + 1);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.putInt(body.length).putInt((int) crc.getValue()).put(body).flip();
+        long offset = active.size;
+        while (buffer.hasRemaining()) {
+            active.channel.write(buffer, offset + buffer.position());
+        }
+        if (fsync) {
+            active.channel.force(false);
+        }
+        active.size += length;
+        return new RecordPointer(active.id, offset, length);
+    }
+
+    private Segment openSegment(long id) throws IOException {
+        Segment segment = new Segment(id, folder.resolve(String.format("%010d%s", id, SEGMENT_SUFFIX)));
+        segments.put(id, segment);
+        return segment;
+    }
+
+    private void release(RecordPointer pointer) {
+        if (pointer != null) {
+            Segment segment = segments.get(pointer.segmentId());
+            if (segment != null) {
+                segment.liveBytes.addAndGet(-pointer.length());
+            }
+        }
+    }
+
+    private byte[] read(RecordPointer pointer) throws IOException {
+        Segment segment = segments.get(pointer.segmentId());
+        ByteBuffer buffer = ByteBuffer.allocate(pointer.length() - HEADER_BYTES);
+        readFully(segment.channel, buffer, pointer.offset() + HEADER_BYTES);
+        return buffer.array();
+    }
+
+    private List<Record> readAll(Segment segment) throws IOException {
+        List<Record> records = new ArrayList<>();
+        long offset = 0;
+        long size = segment.channel.size();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        while (offset + HEADER_BYTES <= size) {
+            header.clear();
+            readFully(segment.channel, header, offset);
+            int bodyLength = header.getInt(0);
+            if (bodyLength <= 0 || offset + HEADER_BYTES + bodyLength > size) {
+                break;
+            }
+            ByteBuffer body = ByteBuffer.allocate(bodyLength);
+            readFully(segment.channel, body, offset + HEADER_BYTES);
+            CRC32 crc = new CRC32();
+            crc.update(body.array());
+            if ((int) crc.getValue() != header.getInt(Integer.BYTES)) {
+                break;
+            }
+            records.add(new Record(offset, body.array()));
+            offset += HEADER_BYTES + bodyLength;
+        }
+        if (offset < size) {
+            log.warn("Truncating torn record at offset {} in segment {}", offset, segment.path.getFileName());
+            segment.channel.truncate(offset);
+        }
+        segment.size = offset;
+        return records;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of segment");
+            }
+        }
+    }
+
+    private static byte[] encode(byte op, String id, byte[] payload) {
+        byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(1 + Short.BYTES + idBytes.length + payload.length)
+                .put(op)
+                .putShort((short) idBytes.length)
+                .put(idBytes)
+                .put(payload)
+                .array();
+    }
+
+    private Item decode(byte[] body) throws IOException {
+        int payloadOffset = 1 + Short.BYTES + (ByteBuffer.wrap(body).getShort(1) & 0xFFFF);
+        ItemEntity entity = codec.decode(ByteBuffer.wrap(body, payloadOffset, body.length - payloadOffset));
+        return mapperEntity.toDomain(entity);
+    }
+
+    record RecordPointer(long segmentId, long offset, int length) {}
+
+    private static final class Record {
+        final long offset;
+        final byte[] body;
+        final byte op;
+        final String id;
+
+        Record(long offset, byte[] body) {
+            this.offset = offset;
+            this.body = body;
+            this.op = body[0];
+            int idLength = ByteBuffer.wrap(body).getShort(1) & 0xFFFF;
+            this.id = new String(body, 1 + Short.BYTES, idLength, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static final class Segment {
+        final long id;
+        final Path path;
+        final FileChannel channel;
+        final AtomicLong liveBytes = new AtomicLong();
+        volatile long size;
+
+        Segment(long id, Path path) throws IOException {
+            this.id = id;
+            this.path = path;
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.size = channel.size();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.items.domain.model.Item;
+import com.items.domain.port.outbound.ItemRepositoryPort;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Coalesces concurrent lookups of the same id into a single delegate read: the first
+ * caller loads the item and everyone arriving while it is in flight waits for that
+ * result. A write detaches the in-flight load for its id, so lookups that start after
+ * the write never receive an item read before it.
+ */
+public class SingleFlightItemRepository implements ItemRepositoryPort, AutoCloseable {
+    private final ItemRepositoryPort delegate;
+    private final ConcurrentMap<String, CompletableFuture<Optional<Item>>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public SingleFlightItemRepository(ItemRepositoryPort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        FunctionCounter.builder("items.singleflight.loads", loads, LongAdder::doubleValue)
+                .description("Item lookups that read the store on behalf of concurrent callers")
+                .register(meterRegistry);
+        FunctionCounter.builder("items.singleflight.coalesced", coalesced, LongAdder::doubleValue)
+                .description("Item lookups that waited for a read already in flight")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<Item> findById(String id) {
+        if (id == null) {
+            return delegate.findById(id);
+        }
+        CompletableFuture<Optional<Item>> load = new CompletableFuture<>();
+        CompletableFuture<Optional<Item>> running = inFlight.putIfAbsent(id, load);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+        loads.increment();
+        try {
+            Optional<Item> item = delegate.findById(id);
+            load.complete(item);
+            return item;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(id, load);
+        }
+    }
+
+    /**
+     * Joins the loads already in flight and reads the remaining ids with one delegate batch,
+     * which concurrent lookups of those ids join in turn.
+     */
+    @Override
+    public Map<String, Item> findAllById(Collection<String> ids) {
+        Map<String, CompletableFuture<Optional<Item>>> joined = new LinkedHashMap<>();
+        Map<String, CompletableFuture<Optional<Item>>> led = new LinkedHashMap<>();
+        for (String id : ids) {
+            if (joined.containsKey(id) || led.containsKey(id)) {
+                continue;
+            }
+            CompletableFuture<Optional<Item>> load = new CompletableFuture<>();
+            CompletableFuture<Optional<Item>> running = inFlight.putIfAbsent(id, load);
+            if (running != null) {
+                coalesced.increment();
+                joined.put(id, running);
+            } else {
+                led.put(id, load);
+            }
+        }
+        Map<String, Item> found = new HashMap<>();
+        if (!led.isEmpty()) {
+            loads.add(led.size());
+            try {
+                found.putAll(delegate.findAllById(List.copyOf(led.keySet())));
+                led.forEach((id, load) -> load.complete(Optional.ofNullable(found.get(id))));
+            } catch (RuntimeException | Error e) {
+                led.values().forEach(load -> load.completeExceptionally(e));
+                throw e;
+            } finally {
+                led.forEach(inFlight::remove);
+            }
+        }
+        joined.forEach((id, load) -> await(load).ifPresent(item -> found.put(id, item)));
+        return ItemBatches.inRequestOrder(ids, found);
+    }
+
+    @Override
+    public Item save(Item item) {
+        try {
+            return delegate.save(item);
+        } finally {
+            detach(item.id());
+        }
+    }
+
+    @Override
+    public Item compareAndSave(Item item, long expectedVersion) {
+        try {
+            return delegate.compareAndSave(item, expectedVersion);
+        } finally {
+            detach(item.id());
+        }
+    }
+
+    @Override
+    public void deleteById(String id) {
+        try {
+            delegate.deleteById(id);
+        } finally {
+            detach(id);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void detach(String id) {
+        if (id != null) {
+            inFlight.remove(id);
+        }
+    }
+
+    private static Optional<Item> await(CompletableFuture<Optional<Item>> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed pool of locks picked by id hash. Writers to the same id are serialized while
+ * writers to different ids almost never share a lock.
+ */
+public class StripedLocks {
+    private final ReentrantLock[] locks;
+    private final int shift;
+
+    public StripedLocks() {
+        this(Runtime.getRuntime().availableProcessors() * 16);
+    }
+
+    public StripedLocks(int stripes) {
+        int size = Integer.highestOneBit(Math.max(2, stripes) - 1) << 1;
+        this.locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.shift = 32 - Integer.numberOfTrailingZeros(size);
+    }
+
+    public ReentrantLock lockFor(String id) {
+        int hash = id == null ? 0 : id.hashCode();
+        // Fibonacci hashing spreads ids that differ only in their last characters
+        return locks[(hash * 0x9E3779B9) >>> shift];
+    }
+
+    public int stripes() {
+        return locks.length;
+    }
+}
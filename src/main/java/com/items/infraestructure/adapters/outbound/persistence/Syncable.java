@@ -0,0 +1,11 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import java.io.IOException;
+
+/**
+ * A store that can force the writes it has applied so far to stable storage, as a
+ * {@link java.io.Flushable} hands buffered writes down to the store.
+ */
+public interface Syncable {
+    void sync() throws IOException;
+}
@@ -0,0 +1,174 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.items.domain.model.Item;
+import com.items.domain.port.outbound.ItemRepositoryPort;
+import com.items.infraestructure.adapters.outbound.persistence.codec.ItemCodec;
+import com.items.infraestructure.adapters.outbound.persistence.codec.JsonItemCodec;
+import com.items.infraestructure.mapper.ItemEntityMapper;
+
+/**
+ * Logs every mutation to an {@link ItemWriteAheadLog} before applying it to the delegate.
+ * Pending entries are replayed at startup, and the log is truncated at checkpoints once
+ * the delegate has applied (and flushed, if it buffers) every logged mutation and, if it
+ * is {@link Syncable}, forced the applied files to disk.
+ */
+public class WalItemRepository implements ItemRepositoryPort, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(WalItemRepository.class);
+
+    private final ItemCodec codec;
+    private final ItemEntityMapper mapperEntity = new ItemEntityMapper();
+    private final ItemRepositoryPort delegate;
+    private final ItemWriteAheadLog wal;
+    private final long checkpointEntries;
+    // mutations share the read lock; a checkpoint takes the write lock so nothing is in flight
+    private final ReentrantReadWriteLock checkpointLock = new ReentrantReadWriteLock();
+    // keeps log order and apply order the same for each id
+    private final StripedLocks locks = new StripedLocks();
+
+    public WalItemRepository(ItemRepositoryPort delegate, ItemWriteAheadLog wal, long checkpointEntries) {
+        this(delegate, wal, checkpointEntries, new JsonItemCodec(false));
+    }
+
+    public WalItemRepository(ItemRepositoryPort delegate, ItemWriteAheadLog wal, long checkpointEntries, ItemCodec codec) {
+        this.delegate = delegate;
+        this.codec = codec;
+        this.wal = wal;
+        this.checkpointEntries = checkpointEntries;
+        try {
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error replaying item write-ahead log", e);
+        }
+    }
+
+    @Override
+    public Optional<Item> findById(String id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Map<String, Item> findAllById(Collection<String> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public Item save(Item item) {
+        if (item.id() == null) {
+            return delegate.save(item);
+        }
+        Item saved = logAndSave(item, null);
+        checkpointIfNeeded();
+        return saved;
+    }
+
+    @Override
+    public Item compareAndSave(Item item, long expectedVersion) {
+        Item saved = logAndSave(item, expectedVersion);
+        checkpointIfNeeded();
+        return saved;
+    }
+
+    @Override
+    public void deleteById(String id) {
+        if (id == null) {
+            delegate.deleteById(id);
+            return;
+        }
+        ReentrantLock stripe = locks.lockFor(id);
+        stripe.lock();
+        checkpointLock.readLock().lock();
+        try {
+            wal.append(ItemWriteAheadLog.DELETE, id, new byte[0]);
+            delegate.deleteById(id);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error logging deletion of item with id " + id, e);
+        } finally {
+            checkpointLock.readLock().unlock();
+            stripe.unlock();
+        }
+        checkpointIfNeeded();
+    }
+
+    public void checkpoint() throws IOException {
+        checkpointLock.writeLock().lock();
+        try {
+            if (delegate instanceof Flushable flushable) {
+                flushable.flush();
+            }
+            // the log is the only durable copy until the applied writes reach the disk
+            if (delegate instanceof Syncable syncable) {
+                syncable.sync();
+            }
+            wal.truncate();
+        } finally {
+            checkpointLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        checkpoint();
+        wal.close();
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Item logAndSave(Item item, Long expectedVersion) {
+        ReentrantLock stripe = locks.lockFor(item.id());
+        stripe.lock();
+        checkpointLock.readLock().lock();
+        try {
+            // check before logging so a rejected write never reaches the log
+            Item next = expectedVersion == null ? item
+                    : ItemVersions.next(delegate.findById(item.id()), item, expectedVersion);
+            wal.append(ItemWriteAheadLog.PUT, next.id(), codec.encode(mapperEntity.toEntity(next)));
+            return delegate.save(next);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error logging item with id " + item.id(), e);
+        } finally {
+            checkpointLock.readLock().unlock();
+            stripe.unlock();
+        }
+    }
+
+    private void checkpointIfNeeded() {
+        if (wal.entries() < checkpointEntries) {
+            return;
+        }
+        try {
+            checkpoint();
+        } catch (IOException e) {
+            log.warn("Item write-ahead log checkpoint failed", e);
+        }
+    }
+
+    private void recover() throws IOException {
+        List<ItemWriteAheadLog.Entry> entries = wal.readAll();
+        if (entries.isEmpty()) {
+            return;
+        }
+        log.info("Replaying {} item write-ahead log entries", entries.size());
+        for (ItemWriteAheadLog.Entry entry : entries) {
+            if (entry.op() == ItemWriteAheadLog.PUT) {
+                delegate.save(mapperEntity.toDomain(codec.decode(entry.payload())));
+            } else {
+                delegate.deleteById(entry.id());
+            }
+        }
+        checkpoint();
+    }
+}
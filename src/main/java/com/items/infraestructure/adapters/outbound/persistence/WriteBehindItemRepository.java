@@ -0,0 +1,272 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.items.domain.model.Item;
+import com.items.domain.port.outbound.ItemRepositoryPort;
+
+/**
+ * Queues mutations in memory and applies them to the delegate from a background flusher.
+ * Repeated writes to the same id are coalesced, reads see queued writes immediately and
+ * callers block once {@code queueCapacity} distinct ids are waiting to be flushed.
+ */
+public class WriteBehindItemRepository implements ItemRepositoryPort, Flushable, Syncable, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindItemRepository.class);
+
+    private final ItemRepositoryPort delegate;
+    private final long flushIntervalMs;
+    private final int maxBatchSize;
+    private final int queueCapacity;
+
+    // latest state not yet applied to the delegate; an empty Optional marks a deletion
+    private final ConcurrentMap<String, Optional<Item>> unflushed = new ConcurrentHashMap<>();
+    private final Set<String> dirty = new LinkedHashSet<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final Condition batchReady = lock.newCondition();
+    // only one thread applies batches at a time so writes to one id are never reordered
+    private final Object applyLock = new Object();
+    // serializes writers to one id so compareAndSave checks and enqueues atomically
+    private final StripedLocks locks = new StripedLocks();
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    public WriteBehindItemRepository(ItemRepositoryPort delegate, long flushIntervalMs, int maxBatchSize, int queueCapacity) {
+        this.delegate = delegate;
+        this.flushIntervalMs = flushIntervalMs;
+        this.maxBatchSize = maxBatchSize;
+        this.queueCapacity = queueCapacity;
+        this.flusher = new Thread(this::runFlusher, "item-write-behind");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    @Override
+    public Optional<Item> findById(String id) {
+        if (id == null) {
+            return delegate.findById(id);
+        }
+        Optional<Item> queued = unflushed.get(id);
+        return queued != null ? queued : delegate.findById(id);
+    }
+
+    @Override
+    public Map<String, Item> findAllById(Collection<String> ids) {
+        Map<String, Item> found = new HashMap<>();
+        List<String> stored = new ArrayList<>();
+        for (String id : ids) {
+            Optional<Item> queued = unflushed.get(id);
+            if (queued == null) {
+                stored.add(id);
+            } else {
+                queued.ifPresent(item -> found.put(id, item));
+            }
+        }
+        found.putAll(delegate.findAllById(stored));
+        return ItemBatches.inRequestOrder(ids, found);
+    }
+
+    @Override
+    public Item save(Item item) {
+        if (item.id() == null) {
+            return delegate.save(item);
+        }
+        ReentrantLock stripe = locks.lockFor(item.id());
+        stripe.lock();
+        try {
+            enqueue(item.id(), Optional.of(item));
+            return item;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    @Override
+    public Item compareAndSave(Item item, long expectedVersion) {
+        ReentrantLock stripe = locks.lockFor(item.id());
+        stripe.lock();
+        try {
+            Item next = ItemVersions.next(findById(item.id()), item, expectedVersion);
+            enqueue(item.id(), Optional.of(next));
+            return next;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    @Override
+    public void deleteById(String id) {
+        if (id == null) {
+            delegate.deleteById(id);
+            return;
+        }
+        ReentrantLock stripe = locks.lockFor(id);
+        stripe.lock();
+        try {
+            enqueue(id, Optional.empty());
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    public int pendingCount() {
+        lock.lock();
+        try {
+            return dirty.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Applies every queued mutation on the calling thread.
+     */
+    @Override
+    public void flush() {
+        drain(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Flushes the queue, then syncs the delegate.
+     */
+    @Override
+    public void sync() throws IOException {
+        flush();
+        if (delegate instanceof Syncable syncable) {
+            syncable.sync();
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        running = false;
+        lock.lock();
+        try {
+            batchReady.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        flusher.join();
+        flush();
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void enqueue(String id, Optional<Item> state) {
+        if (!running) {
+            throw new IllegalStateException("Write-behind queue is closed");
+        }
+        lock.lock();
+        try {
+            while (dirty.size() >= queueCapacity && !dirty.contains(id)) {
+                notFull.awaitUninterruptibly();
+            }
+            unflushed.put(id, state);
+            dirty.add(id);
+            if (dirty.size() >= maxBatchSize) {
+                batchReady.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runFlusher() {
+        boolean backoff = false;
+        while (running) {
+            try {
+                lock.lock();
+                try {
+                    if (running && (backoff || dirty.size() < maxBatchSize)) {
+                        batchReady.await(flushIntervalMs, TimeUnit.MILLISECONDS);
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                drain(maxBatchSize);
+                backoff = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Write-behind flush failed, retrying on next interval", e);
+                backoff = true;
+            }
+        }
+    }
+
+    private void drain(int batchSize) {
+        synchronized (applyLock) {
+            List<String> batch;
+            while (!(batch = takeBatch(batchSize)).isEmpty()) {
+                apply(batch);
+            }
+        }
+    }
+
+    private List<String> takeBatch(int limit) {
+        lock.lock();
+        try {
+            List<String> batch = new ArrayList<>(Math.min(limit, dirty.size()));
+            Iterator<String> ids = dirty.iterator();
+            while (ids.hasNext() && batch.size() < limit) {
+                batch.add(ids.next());
+                ids.remove();
+            }
+            notFull.signalAll();
+            return batch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void apply(List<String> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            String id = batch.get(i);
+            Optional<Item> state = unflushed.get(id);
+            if (state == null) {
+                continue;
+            }
+            try {
+                if (state.isPresent()) {
+                    delegate.save(state.get());
+                } else {
+                    delegate.deleteById(id);
+                }
+            } catch (RuntimeException e) {
+                requeue(batch.subList(i, batch.size()));
+                throw e;
+            }
+            // a newer write for the same id stays queued
+            unflushed.remove(id, state);
+        }
+    }
+
+    private void requeue(List<String> ids) {
+        lock.lock();
+        try {
+            dirty.addAll(ids);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
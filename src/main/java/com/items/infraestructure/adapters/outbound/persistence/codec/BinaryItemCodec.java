@@ -0,0 +1,175 @@
+package com.items.infraestructure.adapters.outbound.persistence.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import com.items.domain.model.Specification;
+import com.items.infraestructure.entities.ItemEntity;
+
+/**
+ * Compact binary layout for items:
+ * {@code [byte magic][byte format][short nullMask][fields...][long version]}, where strings are
+ * {@code [int length][utf8]}, prices are {@code [int scale][int length][unscaled bytes]}
+ * and doubles/ints are fixed width. Fields flagged in the null mask are omitted. Formats 1
+ * and 2 stored the price length in a single byte and are still read.
+ *
+ * Payloads without the magic byte are decoded as JSON, so stores switched to this codec
+ * keep reading their existing records.
+ */
+public class BinaryItemCodec implements ItemCodec {
+
+    static final byte MAGIC = (byte) 0xB1;
+    private static final byte VERSION = 3;
+
+    private static final int ID = 1;
+    private static final int NAME = 1 << 1;
+    private static final int IMAGE_URL = 1 << 2;
+    private static final int DESCRIPTION = 1 << 3;
+    private static final int PRICE = 1 << 4;
+    private static final int RATING = 1 << 5;
+    private static final int SPECIFICATION = 1 << 6;
+    private static final int BRAND = 1 << 7;
+    private static final int MODEL = 1 << 8;
+    private static final int COLOR = 1 << 9;
+    private static final int WEIGHT = 1 << 10;
+    private static final int DIMENSIONS = 1 << 11;
+    private static final int MATERIAL = 1 << 12;
+    private static final int WARRANTY = 1 << 13;
+    // added in format version 2
+    private static final int ITEM_VERSION = 1 << 14;
+
+    private final JsonItemCodec legacy = new JsonItemCodec(false);
+
+    @Override
+    public String fileExtension() {
+        return "bin";
+    }
+
+    @Override
+    public byte[] encode(ItemEntity entity) throws IOException {
+        Specification spec = entity.getSpecification();
+        int nulls = 0;
+        nulls |= entity.getId() == null ? ID : 0;
+        nulls |= entity.getName() == null ? NAME : 0;
+        nulls |= entity.getImageUrl() == null ? IMAGE_URL : 0;
+        nulls |= entity.getDescription() == null ? DESCRIPTION : 0;
+        nulls |= entity.getPrice() == null ? PRICE : 0;
+        nulls |= entity.getRating() == null ? RATING : 0;
+        nulls |= entity.getVersion() == null ? ITEM_VERSION : 0;
+        if (spec == null) {
+            nulls |= SPECIFICATION;
+        } else {
+            nulls |= spec.brand() == null ? BRAND : 0;
+            nulls |= spec.model() == null ? MODEL : 0;
+            nulls |= spec.color() == null ? COLOR : 0;
+            nulls |= spec.weight() == null ? WEIGHT : 0;
+            nulls |= spec.dimensions() == null ? DIMENSIONS : 0;
+            nulls |= spec.material() == null ? MATERIAL : 0;
+            nulls |= spec.warrantyMonths() == null ? WARRANTY : 0;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(MAGIC);
+        out.writeByte(VERSION);
+        out.writeShort(nulls);
+        writeString(out, entity.getId());
+        writeString(out, entity.getName());
+        writeString(out, entity.getImageUrl());
+        writeString(out, entity.getDescription());
+        if (entity.getPrice() != null) {
+            byte[] unscaled = entity.getPrice().unscaledValue().toByteArray();
+            out.writeInt(entity.getPrice().scale());
+            out.writeInt(unscaled.length);
+            out.write(unscaled);
+        }
+        if (entity.getRating() != null) {
+            out.writeDouble(entity.getRating());
+        }
+        if (spec != null) {
+            writeString(out, spec.brand());
+            writeString(out, spec.model());
+            writeString(out, spec.color());
+            if (spec.weight() != null) {
+                out.writeDouble(spec.weight());
+            }
+            writeString(out, spec.dimensions());
+            writeString(out, spec.material());
+            if (spec.warrantyMonths() != null) {
+                out.writeInt(spec.warrantyMonths());
+            }
+        }
+        if (entity.getVersion() != null) {
+            out.writeLong(entity.getVersion());
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public ItemEntity decode(ByteBuffer buffer) throws IOException {
+        if (!buffer.hasRemaining() || buffer.get(buffer.position()) != MAGIC) {
+            return legacy.decode(buffer);
+        }
+        ByteBuffer in = buffer.duplicate();
+        in.get();
+        byte version = in.get();
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported binary item version " + version);
+        }
+        int nulls = in.getShort() & 0xFFFF;
+        if (version == 1) {
+            nulls |= ITEM_VERSION;
+        }
+        ItemEntity entity = new ItemEntity();
+        entity.setId(readString(in, nulls, ID));
+        entity.setName(readString(in, nulls, NAME));
+        entity.setImageUrl(readString(in, nulls, IMAGE_URL));
+        entity.setDescription(readString(in, nulls, DESCRIPTION));
+        if ((nulls & PRICE) == 0) {
+            int scale = in.getInt();
+            // before format 3 the length was one byte, which truncated unscaled values over 255 bytes
+            byte[] unscaled = new byte[version < 3 ? in.get() & 0xFF : in.getInt()];
+            in.get(unscaled);
+            entity.setPrice(new BigDecimal(new BigInteger(unscaled), scale));
+        }
+        if ((nulls & RATING) == 0) {
+            entity.setRating(in.getDouble());
+        }
+        if ((nulls & SPECIFICATION) == 0) {
+            String brand = readString(in, nulls, BRAND);
+            String model = readString(in, nulls, MODEL);
+            String color = readString(in, nulls, COLOR);
+            Double weight = (nulls & WEIGHT) == 0 ? in.getDouble() : null;
+            String dimensions = readString(in, nulls, DIMENSIONS);
+            String material = readString(in, nulls, MATERIAL);
+            Integer warranty = (nulls & WARRANTY) == 0 ? in.getInt() : null;
+            entity.setSpecification(new Specification(brand, model, color, weight, dimensions, material, warranty));
+        }
+        if ((nulls & ITEM_VERSION) == 0) {
+            entity.setVersion(in.getLong());
+        }
+        return entity;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value != null) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(utf8.length);
+            out.write(utf8);
+        }
+    }
+
+    private static String readString(ByteBuffer in, int nulls, int flag) {
+        if ((nulls & flag) != 0) {
+            return null;
+        }
+        byte[] utf8 = new byte[in.getInt()];
+        in.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,25 @@
+package com.items.infraestructure.adapters.outbound.persistence.codec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import com.items.infraestructure.entities.ItemEntity;
+
+/**
+ * Serialized form of an {@link ItemEntity} used by the file-based item stores.
+ */
+public interface ItemCodec {
+
+    String fileExtension();
+
+    byte[] encode(ItemEntity entity) throws IOException;
+
+    /**
+     * Decodes the bytes between the buffer's position and limit.
+     */
+    ItemEntity decode(ByteBuffer buffer) throws IOException;
+
+    default ItemEntity decode(byte[] data) throws IOException {
+        return decode(ByteBuffer.wrap(data));
+    }
+}
@@ -0,0 +1,37 @@
+package com.items.infraestructure.adapters.outbound.persistence.codec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.items.infraestructure.entities.ItemEntity;
+
+public class JsonItemCodec implements ItemCodec {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final ObjectWriter writer;
+
+    public JsonItemCodec(boolean pretty) {
+        this.writer = pretty ? mapper.writerWithDefaultPrettyPrinter() : mapper.writer();
+    }
+
+    @Override
+    public String fileExtension() {
+        return "json";
+    }
+
+    @Override
+    public byte[] encode(ItemEntity entity) throws IOException {
+        return writer.writeValueAsBytes(entity);
+    }
+
+    @Override
+    public ItemEntity decode(ByteBuffer buffer) throws IOException {
+        if (buffer.hasArray()) {
+            return mapper.readValue(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), ItemEntity.class);
+        }
+        return mapper.readValue(new ByteBufferBackedInputStream(buffer), ItemEntity.class);
+    }
+}
@@ -1,22 +1,250 @@
 package com.items.infraestructure.config;
 
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.items.application.service.ComparisionResultCache;
+import com.items.application.service.ItemScoringService;
 import com.items.application.service.ItemService;
+import com.items.application.service.ScoringProfileRegistry;
+import com.items.domain.model.ScoringCriterion;
+import com.items.domain.model.ScoringProfile;
+import com.items.domain.port.outbound.ItemRankingPort;
 import com.items.domain.port.outbound.ItemRepositoryPort;
+import com.items.domain.services.ComparisionKernel;
+import com.items.domain.services.ComparisionKernels;
+import com.items.infraestructure.adapters.outbound.persistence.BloomFilterItemRepository;
+import com.items.infraestructure.adapters.outbound.persistence.CachingItemRepository;
+import com.items.infraestructure.adapters.outbound.persistence.IndexedItemRepository;
+import com.items.infraestructure.adapters.outbound.persistence.ItemCatalogLoader;
+import com.items.infraestructure.adapters.outbound.persistence.ItemFileLayout;
+import com.items.infraestructure.adapters.outbound.persistence.ItemLayoutMigrator;
+import com.items.infraestructure.adapters.outbound.persistence.ItemLoadProgress;
+import com.items.infraestructure.adapters.outbound.persistence.ItemReadCounter;
+import com.items.infraestructure.adapters.outbound.persistence.ItemScanner;
+import com.items.infraestructure.adapters.outbound.persistence.ItemWriteAheadLog;
 import com.items.infraestructure.adapters.outbound.persistence.JsonItemRepository;
+import com.items.infraestructure.adapters.outbound.persistence.MappedSnapshotItemRepository;
+import com.items.infraestructure.adapters.outbound.persistence.NotifyingItemRepository;
+import com.items.infraestructure.adapters.outbound.persistence.OffHeapCachingItemRepository;
+import com.items.infraestructure.adapters.outbound.persistence.RankedItemRepository;
+import com.items.infraestructure.adapters.outbound.persistence.ReadCountingItemRepository;
+import com.items.infraestructure.adapters.outbound.persistence.RetryingItemScanner;
+import com.items.infraestructure.adapters.outbound.persistence.SegmentLogItemRepository;
+import com.items.infraestructure.adapters.outbound.persistence.SingleFlightItemRepository;
+import com.items.infraestructure.adapters.outbound.persistence.WalItemRepository;
+import com.items.infraestructure.adapters.outbound.persistence.WriteBehindItemRepository;
+import com.items.infraestructure.adapters.outbound.persistence.codec.BinaryItemCodec;
+import com.items.infraestructure.adapters.outbound.persistence.codec.ItemCodec;
+import com.items.infraestructure.adapters.outbound.persistence.codec.JsonItemCodec;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
 public class BeanConfig {
+    private static final Logger log = LoggerFactory.getLogger(BeanConfig.class);
+
+    @Bean
+    public ItemRepositoryPort itemRepositoryPort(ItemStoreProperties properties, MeterRegistry meterRegistry,
+                                                 ItemLoadProgress itemLoadProgress) {
+        String mode = properties.getRepository().toLowerCase();
+        if ("segment".equals(mode)) {
+            ItemStoreProperties.Segment segment = properties.getSegment();
+            SegmentLogItemRepository segmentRepository = new SegmentLogItemRepository(properties.getBaseFolder() + "/segments",
+                    segment.getMaxSegmentBytes(), segment.getCompactionThreshold(),
+                    segment.getCompactionIntervalMs(), segment.isFsync(), codec(properties, false));
+            return ranked(cached(segmentRepository, properties, meterRegistry), segmentRepository, properties);
+        }
 
+        ItemStoreProperties.WriteBehind writeBehind = properties.getWriteBehind();
+        JsonItemRepository jsonRepository = new JsonItemRepository(properties.getBaseFolder(),
+                writeBehind.isEnabled() && writeBehind.isFsync(), codec(properties, true),
+                ItemFileLayout.named(properties.getLayout()), properties.getBatchReadParallelism());
+        ItemRepositoryPort store = jsonRepository;
+        ItemCatalogLoader loader = new ItemCatalogLoader(jsonRepository,
+                properties.getWarmup().getParallelism(), itemLoadProgress);
+        ItemStoreProperties.Bloom bloom = properties.getBloom();
+        if (bloom.isEnabled()) {
+            store = new BloomFilterItemRepository(jsonRepository, jsonRepository, bloom.getExpectedItems(),
+                    bloom.getFalsePositiveRate(), bloom.getRebuildRatio(), meterRegistry);
+        }
+        ItemStoreProperties.Wal wal = properties.getWal();
+        // a logged mutation is already durable, so the WAL always applies it to the files in the background
+        if (writeBehind.isEnabled() || wal.isEnabled()) {
+            if (!writeBehind.isEnabled()) {
+                log.info("app.items.wal.enabled is set; applying logged writes to the item files in the background");
+            }
+            store = new WriteBehindItemRepository(store, writeBehind.getFlushIntervalMs(),
+                    writeBehind.getMaxBatchSize(), writeBehind.getQueueCapacity());
+        }
+        if (wal.isEnabled()) {
+            store = new WalItemRepository(store,
+                    new ItemWriteAheadLog(Path.of(properties.getBaseFolder(), "items.wal"), wal.isFsync()),
+                    wal.getCheckpointEntries(), codec(properties, false));
+        }
+
+        switch (mode) {
+            case "indexed":
+                if (properties.getWarmup().isAsync()) {
+                    IndexedItemRepository indexed = new IndexedItemRepository(store);
+                    CompletableFuture<Void> warmUp = indexed.warmUpAsync(retrying(loader, properties));
+                    // the ranking is filled from the index once it is complete
+                    return ranked(indexed, consumer -> {
+                        warmUp.join();
+                        indexed.scan(consumer);
+                    }, properties);
+                }
+                IndexedItemRepository indexed = new IndexedItemRepository(store, loader);
+                return ranked(indexed, indexed, properties);
+            case "snapshot":
+                MappedSnapshotItemRepository snapshot = new MappedSnapshotItemRepository(store, loader,
+                        properties.getBaseFolder() + "/items.snapshot", codec(properties, false),
+                        properties.getSnapshot().getCompactionThreshold());
+                return ranked(snapshot, snapshot, properties);
+            default:
+                return ranked(cached(store, properties, meterRegistry), retrying(loader, properties), properties);
+        }
+    }
+
+    /**
+     * Moves files left in the flat folder into the sharded layout in the background;
+     * the repository reads both locations until it is done.
+     */
     @Bean
-    public ItemRepositoryPort itemRepositoryPort() {
-        return new JsonItemRepository("data/items");
+    public ApplicationRunner itemLayoutMigration(ItemStoreProperties properties) {
+        return args -> {
+            ItemFileLayout layout = ItemFileLayout.named(properties.getLayout());
+            if (layout.depth() == 0 || !properties.isLayoutMigration()
+                    || "segment".equalsIgnoreCase(properties.getRepository())) {
+                return;
+            }
+            ItemLayoutMigrator migrator = new ItemLayoutMigrator(properties.getBaseFolder(), layout);
+            Thread thread = new Thread(migrator::migrate, "item-layout-migration");
+            thread.setDaemon(true);
+            thread.start();
+        };
+    }
+
+    @Bean
+    public ItemLoadProgress itemLoadProgress() {
+        return new ItemLoadProgress();
+    }
+
+    @Bean
+    public ItemReadCounter itemReadCounter() {
+        return new ItemReadCounter();
+    }
+
+    @Bean ItemService itemApplicationService(ItemRepositoryPort itemRepositoryPort, ItemReadCounter itemReadCounter,
+                                             ItemStoreProperties properties, MeterRegistry meterRegistry){
+        ItemRepositoryPort repository = new ReadCountingItemRepository(itemRepositoryPort, itemReadCounter);
+        // top-K queries are served only when the store keeps a ranking, see ranked()
+        ItemRankingPort ranking = itemRepositoryPort instanceof ItemRankingPort itemRanking ? itemRanking : null;
+        ComparisionKernel kernel = comparisionKernel(properties);
+        ItemStoreProperties.CompareCache compareCache = properties.getCompareCache();
+        if (!compareCache.isEnabled()) {
+            return new ItemService(repository, null, ranking, kernel);
+        }
+        ComparisionResultCache cache = new ComparisionResultCache(compareCache.getMaxSize());
+        FunctionCounter.builder("items.compare.cache.hits", cache, ComparisionResultCache::hits)
+                .description("Comparisons answered from the result cache")
+                .register(meterRegistry);
+        FunctionCounter.builder("items.compare.cache.misses", cache, ComparisionResultCache::misses)
+                .description("Comparisons computed from the items")
+                .register(meterRegistry);
+        Gauge.builder("items.compare.cache.hit.ratio", cache, ComparisionResultCache::hitRatio)
+                .description("Share of comparisons answered from the result cache")
+                .register(meterRegistry);
+        return new ItemService(new NotifyingItemRepository(repository, List.of(cache)), cache, ranking, kernel);
+    }
+
+    // null keeps N-way comparisons on the items themselves
+    private static ComparisionKernel comparisionKernel(ItemStoreProperties properties) {
+        if (!properties.getVectorCompare().isEnabled()) {
+            return null;
+        }
+        if (!ComparisionKernels.vectorAvailable()) {
+            log.warn("app.items.vector-compare.enabled is set but the Vector API is not available; "
+                    + "build with -Pvector and start the JVM with --add-modules jdk.incubator.vector. "
+                    + "Comparing with the scalar kernel");
+        }
+        return ComparisionKernels.fastest();
+    }
+
+    @Bean
+    public ScoringProfileRegistry scoringProfileRegistry(ItemStoreProperties properties) {
+        ScoringProfileRegistry registry = new ScoringProfileRegistry();
+        properties.getScoring().getProfiles().forEach((name, weights) -> {
+            Map<ScoringCriterion, Double> criteria = new EnumMap<>(ScoringCriterion.class);
+            weights.forEach((criterion, weight) -> criteria.put(ScoringCriterion.named(criterion), weight));
+            registry.register(new ScoringProfile(name, criteria));
+        });
+        return registry;
+    }
+
+    @Bean
+    public ItemScoringService itemScoringService(ItemRepositoryPort itemRepositoryPort, ItemReadCounter itemReadCounter,
+                                                 ScoringProfileRegistry scoringProfileRegistry) {
+        return new ItemScoringService(new ReadCountingItemRepository(itemRepositoryPort, itemReadCounter),
+                scoringProfileRegistry);
+    }
+
+    private static ItemRepositoryPort ranked(ItemRepositoryPort store, ItemScanner scanner,
+                                             ItemStoreProperties properties) {
+        if (!properties.getRanking().isEnabled()) {
+            return store;
+        }
+        RankedItemRepository ranked = new RankedItemRepository(store);
+        if (properties.getWarmup().isAsync()) {
+            ranked.warmUpAsync(scanner);
+        } else {
+            ranked.warmUp(scanner);
+        }
+        return ranked;
+    }
+
+    // a background warm-up that fails is retried; a synchronous one fails startup instead
+    private static ItemScanner retrying(ItemScanner scanner, ItemStoreProperties properties) {
+        ItemStoreProperties.Warmup warmup = properties.getWarmup();
+        if (!warmup.isAsync()) {
+            return scanner;
+        }
+        return new RetryingItemScanner(scanner, warmup.getRetryInitialDelayMs(), warmup.getRetryMaxDelayMs());
+    }
+
+    // indexed and snapshot modes already serve reads from memory
+    private static ItemRepositoryPort cached(ItemRepositoryPort store, ItemStoreProperties properties,
+                                             MeterRegistry meterRegistry) {
+        if (properties.isSingleFlight()) {
+            store = new SingleFlightItemRepository(store, meterRegistry);
+        }
+        ItemStoreProperties.OffHeap offHeap = properties.getOffHeap();
+        if (offHeap.isEnabled()) {
+            store = new OffHeapCachingItemRepository(store, offHeap.getMaxBytes(), meterRegistry);
+        }
+        ItemStoreProperties.Cache cache = properties.getCache();
+        if (!cache.isEnabled()) {
+            return store;
+        }
+        return new CachingItemRepository(store, cache.getMaxSize(), cache.getTtlMs(), meterRegistry);
     }
 
-    @Bean ItemService itemApplicationService(ItemRepositoryPort itemRepositoryPort){
-        return new ItemService(itemRepositoryPort);
+    private static ItemCodec codec(ItemStoreProperties properties, boolean prettyJson) {
+        if ("binary".equalsIgnoreCase(properties.getCodec())) {
+            return new BinaryItemCodec();
+        }
+        return new JsonItemCodec(prettyJson);
     }
     
 }
@@ -0,0 +1,187 @@
+package com.items.infraestructure.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.items")
+public class ItemStoreProperties {
+    private String baseFolder = "data/items";
+    private String repository = "json";
+    private String codec = "json";
+    private String layout = "flat";
+    private boolean layoutMigration = true;
+    private boolean singleFlight = false;
+    private int batchReadParallelism = 16;
+    private final Segment segment = new Segment();
+    private final WriteBehind writeBehind = new WriteBehind();
+    private final Wal wal = new Wal();
+    private final Bloom bloom = new Bloom();
+    private final Snapshot snapshot = new Snapshot();
+    private final Warmup warmup = new Warmup();
+    private final Cache cache = new Cache();
+    private final OffHeap offHeap = new OffHeap();
+    private final CompareCache compareCache = new CompareCache();
+    private final Ranking ranking = new Ranking();
+    private final VectorCompare vectorCompare = new VectorCompare();
+    private final Scoring scoring = new Scoring();
+    public String getBaseFolder() { return baseFolder; }
+    public void setBaseFolder(String baseFolder) { this.baseFolder = baseFolder; }
+    public String getRepository() { return repository; }
+    public void setRepository(String repository) { this.repository = repository; }
+    public String getCodec() { return codec; }
+    public void setCodec(String codec) { this.codec = codec; }
+    public String getLayout() { return layout; }
+    public void setLayout(String layout) { this.layout = layout; }
+    public boolean isLayoutMigration() { return layoutMigration; }
+    public void setLayoutMigration(boolean layoutMigration) { this.layoutMigration = layoutMigration; }
+    public boolean isSingleFlight() { return singleFlight; }
+    public void setSingleFlight(boolean singleFlight) { this.singleFlight = singleFlight; }
+    public int getBatchReadParallelism() { return batchReadParallelism; }
+    public void setBatchReadParallelism(int batchReadParallelism) { this.batchReadParallelism = batchReadParallelism; }
+    public Segment getSegment() { return segment; }
+    public WriteBehind getWriteBehind() { return writeBehind; }
+    public Wal getWal() { return wal; }
+    public Bloom getBloom() { return bloom; }
+    public Snapshot getSnapshot() { return snapshot; }
+    public Warmup getWarmup() { return warmup; }
+    public Cache getCache() { return cache; }
+    public OffHeap getOffHeap() { return offHeap; }
+    public CompareCache getCompareCache() { return compareCache; }
+    public Ranking getRanking() { return ranking; }
+    public VectorCompare getVectorCompare() { return vectorCompare; }
+    public Scoring getScoring() { return scoring; }
+
+    public static class Segment {
+        private long maxSegmentBytes = 64L * 1024 * 1024;
+        private double compactionThreshold = 0.5;
+        private long compactionIntervalMs = 60000;
+        private boolean fsync = false;
+        public long getMaxSegmentBytes() { return maxSegmentBytes; }
+        public void setMaxSegmentBytes(long maxSegmentBytes) { this.maxSegmentBytes = maxSegmentBytes; }
+        public double getCompactionThreshold() { return compactionThreshold; }
+        public void setCompactionThreshold(double compactionThreshold) { this.compactionThreshold = compactionThreshold; }
+        public long getCompactionIntervalMs() { return compactionIntervalMs; }
+        public void setCompactionIntervalMs(long compactionIntervalMs) { this.compactionIntervalMs = compactionIntervalMs; }
+        public boolean isFsync() { return fsync; }
+        public void setFsync(boolean fsync) { this.fsync = fsync; }
+    }
+
+    public static class WriteBehind {
+        private boolean enabled = false;
+        private long flushIntervalMs = 200;
+        private int maxBatchSize = 100;
+        private int queueCapacity = 10000;
+        private boolean fsync = false;
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        public long getFlushIntervalMs() { return flushIntervalMs; }
+        public void setFlushIntervalMs(long flushIntervalMs) { this.flushIntervalMs = flushIntervalMs; }
+        public int getMaxBatchSize() { return maxBatchSize; }
+        public void setMaxBatchSize(int maxBatchSize) { this.maxBatchSize = maxBatchSize; }
+        public int getQueueCapacity() { return queueCapacity; }
+        public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+        public boolean isFsync() { return fsync; }
+        public void setFsync(boolean fsync) { this.fsync = fsync; }
+    }
+
+    public static class Wal {
+        private boolean enabled = false;
+        private long checkpointEntries = 1000;
+        private boolean fsync = true;
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        public long getCheckpointEntries() { return checkpointEntries; }
+        public void setCheckpointEntries(long checkpointEntries) { this.checkpointEntries = checkpointEntries; }
+        public boolean isFsync() { return fsync; }
+        public void setFsync(boolean fsync) { this.fsync = fsync; }
+    }
+
+    public static class Bloom {
+        private boolean enabled = false;
+        private long expectedItems = 100000;
+        private double falsePositiveRate = 0.01;
+        private double rebuildRatio = 0.2;
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        public long getExpectedItems() { return expectedItems; }
+        public void setExpectedItems(long expectedItems) { this.expectedItems = expectedItems; }
+        public double getFalsePositiveRate() { return falsePositiveRate; }
+        public void setFalsePositiveRate(double falsePositiveRate) { this.falsePositiveRate = falsePositiveRate; }
+        public double getRebuildRatio() { return rebuildRatio; }
+        public void setRebuildRatio(double rebuildRatio) { this.rebuildRatio = rebuildRatio; }
+    }
+
+    public static class Snapshot {
+        private int compactionThreshold = 10000;
+        public int getCompactionThreshold() { return compactionThreshold; }
+        public void setCompactionThreshold(int compactionThreshold) { this.compactionThreshold = compactionThreshold; }
+    }
+
+    public static class Warmup {
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private boolean async = true;
+        private long retryInitialDelayMs = 1000;
+        private long retryMaxDelayMs = 60000;
+        public int getParallelism() { return parallelism; }
+        public void setParallelism(int parallelism) { this.parallelism = parallelism; }
+        public boolean isAsync() { return async; }
+        public void setAsync(boolean async) { this.async = async; }
+        public long getRetryInitialDelayMs() { return retryInitialDelayMs; }
+        public void setRetryInitialDelayMs(long retryInitialDelayMs) { this.retryInitialDelayMs = retryInitialDelayMs; }
+        public long getRetryMaxDelayMs() { return retryMaxDelayMs; }
+        public void setRetryMaxDelayMs(long retryMaxDelayMs) { this.retryMaxDelayMs = retryMaxDelayMs; }
+    }
+
+    public static class Cache {
+        private boolean enabled = false;
+        private int maxSize = 10000;
+        private long ttlMs = 0;
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        public int getMaxSize() { return maxSize; }
+        public void setMaxSize(int maxSize) { this.maxSize = maxSize; }
+        public long getTtlMs() { return ttlMs; }
+        public void setTtlMs(long ttlMs) { this.ttlMs = ttlMs; }
+    }
+
+    public static class OffHeap {
+        private boolean enabled = false;
+        private long maxBytes = 256L * 1024 * 1024;
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        public long getMaxBytes() { return maxBytes; }
+        public void setMaxBytes(long maxBytes) { this.maxBytes = maxBytes; }
+    }
+
+    public static class CompareCache {
+        private boolean enabled = false;
+        private int maxSize = 10000;
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        public int getMaxSize() { return maxSize; }
+        public void setMaxSize(int maxSize) { this.maxSize = maxSize; }
+    }
+
+    public static class Ranking {
+        private boolean enabled = false;
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    }
+
+    public static class VectorCompare {
+        private boolean enabled = false;
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    }
+
+    public static class Scoring {
+        // profile name -> criterion (price, rating, weight, warranty) -> weight
+        private Map<String, Map<String, Double>> profiles = new LinkedHashMap<>();
+        public Map<String, Map<String, Double>> getProfiles() { return profiles; }
+        public void setProfiles(Map<String, Map<String, Double>> profiles) { this.profiles = profiles; }
+    }
+}
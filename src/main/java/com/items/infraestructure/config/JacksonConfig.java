@@ -0,0 +1,20 @@
+package com.items.infraestructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.items.domain.model.ComparisionResult;
+import com.items.infraestructure.adapters.inbound.rest.json.ComparisionResultSerializer;
+
+@Configuration
+public class JacksonConfig {
+
+    // picked up by Spring Boot's ObjectMapper along with every other Module bean
+    @Bean
+    public Module itemJsonModule() {
+        return new SimpleModule("items")
+                .addSerializer(ComparisionResult.class, new ComparisionResultSerializer());
+    }
+}
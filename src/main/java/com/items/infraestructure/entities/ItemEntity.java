@@ -14,6 +14,7 @@ public class ItemEntity {
     private BigDecimal price;
     private Double rating;
     private Specification specification;
+    private Long version;
 
 
     public ItemEntity() {}
@@ -35,6 +36,19 @@ public class ItemEntity {
         this.specification = specification;   
     }
 
+    public ItemEntity(String id,
+                      String name,
+                      String imageUrl,
+                      String description,
+                      BigDecimal price,
+                      Double rating,
+                      Specification specification,
+                      Long version
+                      ) {
+        this(id, name, imageUrl, description, price, rating, specification);
+        this.version = version;
+    }
+
     public static ItemEntity fromDomain(Item item) {
         if (item == null) return null;
         return new ItemEntity(
@@ -44,8 +58,8 @@ public class ItemEntity {
                 item.description(),
                 item.price(),
                 item.rating(),
-                item.specification()
-               
+                item.specification(),
+                item.version()
         );
     }
 
@@ -57,8 +71,8 @@ public class ItemEntity {
                 this.description,
                 this.price,
                 this.rating,
-                this.specification
-                           
+                this.specification,
+                this.version
         );
     }
 
@@ -117,5 +131,13 @@ public class ItemEntity {
     public void setSpecification(Specification specification){
         this.specification = specification;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
    
 }
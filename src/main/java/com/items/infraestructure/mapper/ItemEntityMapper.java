@@ -12,7 +12,8 @@ public class ItemEntityMapper {
                 item.description(),
                 item.price(),
                 item.rating(),
-                item.specification()
+                item.specification(),
+                item.version()
         );
     }
 
@@ -24,7 +25,8 @@ public class ItemEntityMapper {
                 itemEntity.getDescription(),
                 itemEntity.getPrice(),
                 itemEntity.getRating(),
-                itemEntity.getSpecification()
+                itemEntity.getSpecification(),
+                itemEntity.getVersion()
         );
     }
 }
@@ -0,0 +1,137 @@
+package com.items.application.service;
+
+import com.items.domain.model.ComparisionResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComparisionResultCacheTest {
+
+    private final AtomicInteger computed = new AtomicInteger();
+
+    private ComparisionResult compute(String id1, String id2) {
+        computed.incrementAndGet();
+        return new ComparisionResult(id1, 1.0, id2, 4.0, "0", 0.0);
+    }
+
+    @Test
+    void get_shouldComputeEachPairOnce() {
+        ComparisionResultCache cache = new ComparisionResultCache(10);
+
+        ComparisionResult first = cache.get("a", "b", () -> compute("a", "b"));
+        ComparisionResult second = cache.get("a", "b", () -> compute("a", "b"));
+
+        assertSame(first, second);
+        assertEquals(1, computed.get());
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+        assertEquals(0.5, cache.hitRatio());
+    }
+
+    @Test
+    void get_shouldKeyByOrderedPair() {
+        ComparisionResultCache cache = new ComparisionResultCache(10);
+
+        cache.get("a", "b", () -> compute("a", "b"));
+        ComparisionResult reversed = cache.get("b", "a", () -> compute("b", "a"));
+
+        assertEquals("b", reversed.bestPriceItemId());
+        assertEquals(2, computed.get());
+    }
+
+    @Test
+    void itemChanged_shouldDropOnlyPairsWithThatItem() {
+        ComparisionResultCache cache = new ComparisionResultCache(10);
+        cache.get("a", "b", () -> compute("a", "b"));
+        cache.get("c", "a", () -> compute("c", "a"));
+        cache.get("c", "d", () -> compute("c", "d"));
+
+        cache.itemChanged("a");
+
+        assertEquals(1, cache.size());
+        cache.get("c", "d", () -> compute("c", "d"));
+        cache.get("a", "b", () -> compute("a", "b"));
+        assertEquals(4, computed.get());
+    }
+
+    @Test
+    void get_whenItemChangesWhileComputing_shouldNotCacheResult() {
+        ComparisionResultCache cache = new ComparisionResultCache(10);
+
+        cache.get("a", "b", () -> {
+            cache.itemChanged("b");
+            return compute("a", "b");
+        });
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void get_pastMaxSize_shouldEvictLeastRecentlyUsed() {
+        ComparisionResultCache cache = new ComparisionResultCache(2);
+        cache.get("a", "b", () -> compute("a", "b"));
+        cache.get("c", "d", () -> compute("c", "d"));
+        cache.get("a", "b", () -> compute("a", "b"));
+
+        cache.get("e", "f", () -> compute("e", "f"));
+
+        assertEquals(2, cache.size());
+        cache.get("a", "b", () -> compute("a", "b"));
+        assertEquals(3, computed.get());
+        cache.get("c", "d", () -> compute("c", "d"));
+        assertEquals(4, computed.get());
+    }
+
+    @Test
+    void get_whenComputeFails_shouldNotCache() {
+        ComparisionResultCache cache = new ComparisionResultCache(10);
+
+        assertThrows(IllegalStateException.class, () -> cache.get("a", "b", () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void itemChanged_withNullId_shouldBeIgnored() {
+        ComparisionResultCache cache = new ComparisionResultCache(10);
+        cache.get("a", "b", () -> compute("a", "b"));
+
+        cache.itemChanged(null);
+
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void itemChanged_inSegmentedCache_shouldDropPairsFromEverySegment() {
+        ComparisionResultCache cache = new ComparisionResultCache(4096);
+        for (int i = 0; i < 500; i++) {
+            String other = "id-" + i;
+            cache.get("a", other, () -> compute("a", other));
+            cache.get(other, "b", () -> compute(other, "b"));
+        }
+        assertEquals(1000, cache.size());
+
+        cache.itemChanged("a");
+
+        assertEquals(500, cache.size());
+        cache.get("id-7", "b", () -> compute("id-7", "b"));
+        assertEquals(1000, computed.get());
+    }
+
+    @Test
+    void get_inSegmentedCache_shouldStayWithinMaxSize() {
+        ComparisionResultCache cache = new ComparisionResultCache(1000);
+
+        for (int i = 0; i < 5000; i++) {
+            String other = "id-" + i;
+            cache.get("a", other, () -> compute("a", other));
+        }
+
+        assertTrue(cache.size() <= 1000);
+        assertTrue(cache.size() > 500);
+    }
+}
@@ -0,0 +1,88 @@
+package com.items.application.service;
+
+import com.items.domain.exception.InvalidItemException;
+import com.items.domain.exception.ItemNotFoundException;
+import com.items.domain.model.Item;
+import com.items.domain.model.ScoredItem;
+import com.items.domain.model.ScoringCriterion;
+import com.items.domain.model.ScoringProfile;
+import com.items.domain.port.outbound.ItemRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ItemScoringServiceTest {
+
+    private final ItemRepositoryPort itemRepository = mock(ItemRepositoryPort.class);
+    private ItemScoringService scoringService;
+
+    private final Item cheap = new Item("cheap", "Item A", null, null, BigDecimal.valueOf(100), 3.0, null);
+    private final Item good = new Item("good", "Item B", null, null, BigDecimal.valueOf(200), 5.0, null);
+
+    @BeforeEach
+    void setUp() {
+        ScoringProfileRegistry profiles = new ScoringProfileRegistry();
+        profiles.register(new ScoringProfile("best-value", Map.of(ScoringCriterion.PRICE, 3.0, ScoringCriterion.RATING, 1.0)));
+        profiles.register(new ScoringProfile("premium", Map.of(ScoringCriterion.RATING, 1.0)));
+        scoringService = new ItemScoringService(itemRepository, profiles);
+    }
+
+    private Map<String, Item> items(Item... items) {
+        Map<String, Item> map = new LinkedHashMap<>();
+        for (Item item : items) {
+            map.put(item.id(), item);
+        }
+        return map;
+    }
+
+    @Test
+    void rank_shouldScoreWithNamedProfile() {
+        when(itemRepository.findAllById(any())).thenReturn(items(cheap, good));
+
+        List<ScoredItem> valueRanking = scoringService.rank("best-value", List.of("cheap", "good"), 2);
+        List<ScoredItem> premiumRanking = scoringService.rank("premium", List.of("cheap", "good"), 1);
+
+        assertEquals(List.of(new ScoredItem("cheap", 0.75), new ScoredItem("good", 0.25)), valueRanking);
+        assertEquals(List.of(new ScoredItem("good", 1.0)), premiumRanking);
+    }
+
+    @Test
+    void rank_shouldLoadDuplicateIdsOnceInOneBatch() {
+        when(itemRepository.findAllById(any())).thenReturn(items(cheap, good));
+
+        List<ScoredItem> ranking = scoringService.rank("premium", List.of("cheap", "good", "cheap"), 3);
+
+        assertEquals(2, ranking.size());
+        verify(itemRepository).findAllById(List.of("cheap", "good"));
+        verify(itemRepository, never()).findById(any());
+    }
+
+    @Test
+    void rank_whenItemsMissing_shouldNameThem() {
+        when(itemRepository.findAllById(any())).thenReturn(items(cheap));
+
+        ItemNotFoundException exception = assertThrows(ItemNotFoundException.class,
+            () -> scoringService.rank("premium", List.of("cheap", "gone"), 2));
+
+        assertEquals("Items with ids gone not found", exception.getMessage());
+    }
+
+    @Test
+    void rank_withInvalidRequest_shouldThrowBeforeReading() {
+        assertThrows(InvalidItemException.class, () -> scoringService.rank("unknown", List.of("cheap"), 1));
+        assertThrows(InvalidItemException.class, () -> scoringService.rank("premium", List.of(), 1));
+        assertThrows(InvalidItemException.class, () -> scoringService.rank("premium", List.of("cheap"), 0));
+        assertThrows(InvalidItemException.class, () -> scoringService.rank("premium",
+                Collections.nCopies(ItemScoringService.MAX_RANKED_ITEMS + 1, "cheap"), 1));
+        verifyNoInteractions(itemRepository);
+    }
+}
@@ -2,10 +2,22 @@ package com.items.application.service;
 
 import com.items.domain.exception.InvalidItemException;
 import com.items.domain.exception.ItemNotFoundException;
+import com.items.domain.exception.ItemVersionConflictException;
+import com.items.domain.exception.RankingDisabledException;
+import com.items.domain.model.CohortAttribute;
+import com.items.domain.model.CohortRankResult;
+import com.items.domain.model.CohortStanding;
 import com.items.domain.model.ComparisionResult;
 import com.items.domain.model.Item;
+import com.items.domain.model.ItemFilter;
+import com.items.domain.model.MultiComparisionResult;
+import com.items.domain.model.ParetoComparisionResult;
+import com.items.domain.model.ParetoCriterion;
 import com.items.domain.model.Specification;
+import com.items.domain.port.outbound.ItemRankingPort;
 import com.items.domain.port.outbound.ItemRepositoryPort;
+import com.items.domain.services.ComparisionKernels;
+import com.items.domain.services.ScalarComparisionKernel;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,7 +27,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -207,6 +226,34 @@ class ItemServiceTest {
         verify(itemRepository, times(1)).findById("id2");
     }
 
+    @Test
+    void compare_withMixedScales_shouldKeepBigDecimalScaleAndTies() {
+        Item first = new Item("id1", "Item A", "url", "desc", new BigDecimal("19.9"), 4.0, null);
+        Item second = new Item("id2", "Item B", "url", "desc", new BigDecimal("19.900"), 4.0, null);
+        when(itemRepository.findById("id1")).thenReturn(Optional.of(first));
+        when(itemRepository.findById("id2")).thenReturn(Optional.of(second));
+
+        ComparisionResult result = itemService.compare("id1", "id2");
+
+        assertEquals("id2", result.bestPriceItemId());
+        assertEquals(19.9, result.bestPrice());
+        assertEquals("0.000", result.differences().get("priceDifference"));
+    }
+
+    @Test
+    void compare_withPricesBeyondEighteenDigits_shouldMatchBigDecimal() {
+        Item huge = new Item("id1", "Item A", "url", "desc", new BigDecimal("12345678901234567890.5"), 4.0, null);
+        Item small = new Item("id2", "Item B", "url", "desc", new BigDecimal("0.25"), 4.0, null);
+        when(itemRepository.findById("id1")).thenReturn(Optional.of(huge));
+        when(itemRepository.findById("id2")).thenReturn(Optional.of(small));
+
+        ComparisionResult result = itemService.compare("id1", "id2");
+
+        assertEquals("id2", result.bestPriceItemId());
+        assertEquals(0.25, result.bestPrice());
+        assertEquals("12345678901234567890.25", result.differences().get("priceDifference"));
+    }
+
     @Test
     void compare_shouldThrowWhenFirstItemNotFound() {
         when(itemRepository.findById("id1")).thenReturn(Optional.empty());
@@ -237,4 +284,407 @@ class ItemServiceTest {
         assertThrows(InvalidItemException.class, () -> itemService.compare("id1", null));
         verify(itemRepository, never()).findById(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void createItem_shouldStartAtVersionOne() {
+        Item itemWithoutId = new Item("New Item", "http://img.url", "desc", BigDecimal.valueOf(100.0), 4.5, null);
+        when(itemRepository.save(any(Item.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Item result = itemService.createItem(itemWithoutId);
+
+        assertEquals(1L, result.version());
+    }
+
+    @Test
+    void updateItem_withVersion_shouldCompareAgainstGivenVersion() {
+        Item update = validItem.withVersion(2L);
+        when(itemRepository.compareAndSave(update, 2L)).thenReturn(update.withVersion(3L));
+
+        Item result = itemService.updateItem(update);
+
+        assertEquals(3L, result.version());
+        verify(itemRepository, never()).save(any());
+        // the version check in compareAndSave is the only read
+        verify(itemRepository, never()).findById(any());
+    }
+
+    @Test
+    void updateItem_withoutVersion_shouldCompareAgainstStoredVersion() {
+        when(itemRepository.findById(validItem.id())).thenReturn(Optional.of(validItem.withVersion(5L)));
+        when(itemRepository.compareAndSave(validItem, 5L)).thenReturn(validItem.withVersion(6L));
+
+        Item result = itemService.updateItem(validItem);
+
+        assertEquals(6L, result.version());
+    }
+
+    @Test
+    void updateItem_whenStoredItemHasNoVersion_shouldExpectVersionZero() {
+        when(itemRepository.findById(validItem.id())).thenReturn(Optional.of(validItem));
+        when(itemRepository.compareAndSave(validItem, 0L)).thenReturn(validItem.withVersion(1L));
+
+        assertEquals(1L, itemService.updateItem(validItem).version());
+    }
+
+    @Test
+    void updateItem_whenVersionIsStale_shouldPropagateConflict() {
+        Item update = validItem.withVersion(1L);
+        when(itemRepository.compareAndSave(update, 1L)).thenThrow(new ItemVersionConflictException(validItem.id(), 1, 2));
+
+        assertThrows(ItemVersionConflictException.class, () -> itemService.updateItem(update));
+    }
+
+    @Test
+    void compare_withSameIdTwice_shouldReadItOnce() {
+        when(itemRepository.findById("id1")).thenReturn(Optional.of(validItem));
+
+        ComparisionResult result = itemService.compare("id1", "id1");
+
+        assertEquals("0.0", result.differences().get("priceDifference"));
+        verify(itemRepository, times(1)).findById("id1");
+    }
+
+    @Test
+    void updateItem_withVersion_whenItemMissing_shouldPropagateNotFound() {
+        Item update = validItem.withVersion(1L);
+        when(itemRepository.compareAndSave(update, 1L)).thenThrow(new ItemNotFoundException(validItem.id()));
+
+        assertThrows(ItemNotFoundException.class, () -> itemService.updateItem(update));
+    }
+
+    @Test
+    void updateItem_shouldReadStoredItemOnce() {
+        when(itemRepository.findById(validItem.id())).thenReturn(Optional.of(validItem.withVersion(5L)));
+        when(itemRepository.compareAndSave(validItem, 5L)).thenReturn(validItem.withVersion(6L));
+
+        itemService.updateItem(validItem);
+
+        verify(itemRepository, times(1)).findById(validItem.id());
+    }
+
+    @Test
+    void compare_withResultCache_shouldReadItemsOnce() {
+        ItemService cachingService = new ItemService(itemRepository, new ComparisionResultCache(10));
+        when(itemRepository.findById("id1")).thenReturn(Optional.of(validItem));
+        when(itemRepository.findById("id2")).thenReturn(Optional.of(validItem2));
+
+        ComparisionResult first = cachingService.compare("id1", "id2");
+        ComparisionResult second = cachingService.compare("id1", "id2");
+
+        assertSame(first, second);
+        verify(itemRepository, times(1)).findById("id1");
+        verify(itemRepository, times(1)).findById("id2");
+    }
+
+    @Test
+    void compare_withResultCache_shouldRecomputeAfterItemChange() {
+        ComparisionResultCache cache = new ComparisionResultCache(10);
+        ItemService cachingService = new ItemService(itemRepository, cache);
+        when(itemRepository.findById("id1")).thenReturn(Optional.of(validItem));
+        when(itemRepository.findById("id2")).thenReturn(Optional.of(validItem2));
+        cachingService.compare("id1", "id2");
+
+        cache.itemChanged("id2");
+        cachingService.compare("id1", "id2");
+
+        verify(itemRepository, times(2)).findById("id2");
+    }
+
+    @Test
+    void compare_withResultCache_shouldValidateIdsFirst() {
+        ItemService cachingService = new ItemService(itemRepository, new ComparisionResultCache(10));
+
+        assertThrows(InvalidItemException.class, () -> cachingService.compare(null, "id2"));
+    }
+
+    @Test
+    void compareAll_shouldFindBestsAndDifferencesInOneBatch() {
+        Item cheapest = new Item("id3", "Item C", "url", "desc", BigDecimal.valueOf(80.0), 3.9, null);
+        when(itemRepository.findAllById(any())).thenReturn(orderedItems(validItem, validItem2, cheapest));
+
+        MultiComparisionResult result = itemService.compareAll(List.of("generated-id-123", "generated-id-456", "id3"));
+
+        assertEquals("id3", result.bestPriceItemId());
+        assertEquals(80.0, result.bestPrice());
+        assertEquals("generated-id-456", result.bestRankedItem());
+        assertEquals(4.8, result.bestRating());
+        assertEquals("70.0", result.differences().get("priceRange"));
+        assertEquals("110.00", result.differences().get("averagePrice"));
+        assertEquals("70.0", result.itemDifferences().get("generated-id-456").get("priceDifference"));
+        assertEquals("0.0", result.itemDifferences().get("generated-id-456").get("ratingDifference"));
+        verify(itemRepository, times(1)).findAllById(any());
+        verify(itemRepository, never()).findById(any());
+    }
+
+    @Test
+    void compareAll_withTwoItems_shouldAgreeWithCompare() {
+        Item samePrice = new Item("id2", "Item B", "url", "desc", validItem.price(), validItem.rating(), null);
+        when(itemRepository.findById("id1")).thenReturn(Optional.of(validItem.withId("id1")));
+        when(itemRepository.findById("id2")).thenReturn(Optional.of(samePrice));
+        when(itemRepository.findAllById(any())).thenReturn(orderedItems(validItem.withId("id1"), samePrice));
+
+        ComparisionResult pair = itemService.compare("id1", "id2");
+        MultiComparisionResult all = itemService.compareAll(List.of("id1", "id2"));
+
+        assertEquals(pair.bestPriceItemId(), all.bestPriceItemId());
+        assertEquals(pair.bestRankedItem(), all.bestRankedItem());
+    }
+
+    @Test
+    void compareAll_shouldLoadDuplicateIdsOnce() {
+        when(itemRepository.findAllById(any())).thenReturn(orderedItems(validItem, validItem2));
+
+        itemService.compareAll(List.of("generated-id-123", "generated-id-456", "generated-id-123"));
+
+        ArgumentCaptor<Collection<String>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(itemRepository).findAllById(ids.capture());
+        assertEquals(List.of("generated-id-123", "generated-id-456"), List.copyOf(ids.getValue()));
+    }
+
+    @Test
+    void compareAll_whenItemsMissing_shouldNameThem() {
+        when(itemRepository.findAllById(any())).thenReturn(orderedItems(validItem));
+
+        ItemNotFoundException exception = assertThrows(ItemNotFoundException.class,
+            () -> itemService.compareAll(List.of("generated-id-123", "gone-1", "gone-2")));
+
+        assertEquals("Items with ids gone-1, gone-2 not found", exception.getMessage());
+    }
+
+    @Test
+    void compareAll_withOneId_shouldThrow() {
+        assertThrows(InvalidItemException.class, () -> itemService.compareAll(List.of("id1")));
+        verify(itemRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void compareAll_withKernel_shouldMatchItemByItemComparision() {
+        Random random = new Random(11);
+        for (int round = 0; round < 50; round++) {
+            List<Item> items = new ArrayList<>();
+            for (int i = 0; i < 2 + random.nextInt(ItemService.MAX_COMPARED_ITEMS - 1); i++) {
+                // few distinct values and mixed scales, so that ties and scale handling are exercised
+                BigDecimal price = BigDecimal.valueOf(random.nextInt(20) * 25L, random.nextInt(3));
+                double rating = random.nextInt(6) == 0 ? -0.0 : random.nextInt(11) / 2.0;
+                items.add(new Item("id-" + i, "Item", "url", "desc", price, rating, null));
+            }
+            List<String> ids = items.stream().map(Item::id).toList();
+            when(itemRepository.findAllById(any())).thenReturn(orderedItems(items.toArray(Item[]::new)));
+
+            MultiComparisionResult expected = itemService.compareAll(ids);
+
+            assertEquals(expected, new ItemService(itemRepository, null, null, ScalarComparisionKernel.INSTANCE).compareAll(ids));
+            assertEquals(expected, new ItemService(itemRepository, null, null, ComparisionKernels.fastest()).compareAll(ids));
+        }
+    }
+
+    @Test
+    void compareAll_withKernel_andPricesBeyondLong_shouldCompareItems() {
+        Item huge = new Item("huge", "Item", "url", "desc", new BigDecimal("1E+30"), 4.0, null);
+        Item tiny = new Item("tiny", "Item", "url", "desc", new BigDecimal("0.000001"), 2.0, null);
+        when(itemRepository.findAllById(any())).thenReturn(orderedItems(huge, tiny));
+
+        MultiComparisionResult result = new ItemService(itemRepository, null, null, ScalarComparisionKernel.INSTANCE)
+            .compareAll(List.of("huge", "tiny"));
+
+        assertEquals(itemService.compareAll(List.of("huge", "tiny")), result);
+        assertEquals("tiny", result.bestPriceItemId());
+    }
+
+    private static Map<String, Item> orderedItems(Item... items) {
+        Map<String, Item> byId = new LinkedHashMap<>();
+        for (Item item : items) {
+            byId.put(item.id(), item);
+        }
+        return byId;
+    }
+
+    @Test
+    void findCheapest_shouldLoadRankedIdsInOrder() {
+        ItemRankingPort ranking = mock(ItemRankingPort.class);
+        ItemService rankingService = new ItemService(itemRepository, null, ranking);
+        when(ranking.findCheapestIds(2)).thenReturn(List.of("generated-id-123", "generated-id-456"));
+        when(itemRepository.findAllById(List.of("generated-id-123", "generated-id-456")))
+            .thenReturn(orderedItems(validItem, validItem2));
+
+        assertEquals(List.of(validItem, validItem2), rankingService.findCheapest(2));
+    }
+
+    @Test
+    void findBestRated_shouldSkipItemsDeletedSinceRanked() {
+        ItemRankingPort ranking = mock(ItemRankingPort.class);
+        ItemService rankingService = new ItemService(itemRepository, null, ranking);
+        when(ranking.findBestRatedIds(5)).thenReturn(List.of("generated-id-456", "gone"));
+        when(itemRepository.findAllById(List.of("generated-id-456", "gone"))).thenReturn(orderedItems(validItem2));
+
+        assertEquals(List.of(validItem2), rankingService.findBestRated(5));
+    }
+
+    @Test
+    void findCheapest_withLimitOutOfRange_shouldThrow() {
+        ItemService rankingService = new ItemService(itemRepository, null, mock(ItemRankingPort.class));
+
+        assertThrows(InvalidItemException.class, () -> rankingService.findCheapest(0));
+        assertThrows(InvalidItemException.class, () -> rankingService.findBestRated(ItemService.MAX_TOP_ITEMS + 1));
+    }
+
+    @Test
+    void findInPriceRange_shouldLoadRankedIdsInOrder() {
+        ItemRankingPort ranking = mock(ItemRankingPort.class);
+        ItemService rankingService = new ItemService(itemRepository, null, ranking);
+        when(ranking.findIdsInPriceRange(BigDecimal.ONE, BigDecimal.TEN, 4.0, 5)).thenReturn(List.of("generated-id-456"));
+        when(itemRepository.findAllById(List.of("generated-id-456"))).thenReturn(orderedItems(validItem2));
+
+        assertEquals(List.of(validItem2), rankingService.findInPriceRange(BigDecimal.ONE, BigDecimal.TEN, 4.0, 5));
+    }
+
+    @Test
+    void findInPriceRange_withInvertedBounds_shouldThrow() {
+        ItemRankingPort ranking = mock(ItemRankingPort.class);
+        ItemService rankingService = new ItemService(itemRepository, null, ranking);
+
+        assertThrows(InvalidItemException.class, () -> rankingService.findInPriceRange(BigDecimal.TEN, BigDecimal.ONE, null, 5));
+        verifyNoInteractions(ranking);
+    }
+
+    @Test
+    void rankInCohort_shouldRankItemAgainstItsCohort() {
+        ItemRankingPort ranking = mock(ItemRankingPort.class);
+        ItemService rankingService = new ItemService(itemRepository, null, ranking);
+        when(itemRepository.findById("generated-id-123")).thenReturn(Optional.of(validItem));
+        when(ranking.findCohortStanding(CohortAttribute.BRAND, validItem))
+            .thenReturn(new CohortStanding(3, 3, 1, "cheap", new BigDecimal("80.00"), 3, 2, "top", 4.9));
+
+        CohortRankResult result = rankingService.rankInCohort("generated-id-123", CohortAttribute.BRAND);
+
+        assertEquals("brand", result.attribute());
+        assertEquals("Dell", result.cohort());
+        assertEquals(4, result.cohortSize());
+        assertEquals(2, result.priceRank());
+        assertEquals(75.0, result.pricePercentile());
+        assertEquals("cheap", result.bestPriceItemId());
+        assertEquals(80.0, result.bestPrice());
+        assertEquals("20.00", result.priceDifference());
+        assertEquals(3, result.ratingRank());
+        assertEquals(50.0, result.ratingPercentile());
+        assertEquals("top", result.bestRatedItemId());
+        assertEquals(4.9, result.bestRating());
+        assertEquals(0.7, result.ratingDifference(), 1e-9);
+    }
+
+    @Test
+    void rankInCohort_whenItemIsTheBest_shouldReportItself() {
+        ItemRankingPort ranking = mock(ItemRankingPort.class);
+        ItemService rankingService = new ItemService(itemRepository, null, ranking);
+        when(itemRepository.findById("generated-id-123")).thenReturn(Optional.of(validItem));
+        // the other item has the same price and rating but a higher id
+        when(ranking.findCohortStanding(CohortAttribute.MATERIAL, validItem))
+            .thenReturn(new CohortStanding(1, 1, 0, "z", new BigDecimal("100.00"), 1, 0, "z", 4.2));
+
+        CohortRankResult result = rankingService.rankInCohort("generated-id-123", CohortAttribute.MATERIAL);
+
+        assertEquals("Aluminum", result.cohort());
+        assertEquals(2, result.cohortSize());
+        assertEquals(1, result.priceRank());
+        assertEquals(100.0, result.pricePercentile());
+        assertEquals("generated-id-123", result.bestPriceItemId());
+        assertEquals("0.0", result.priceDifference());
+        assertEquals(1, result.ratingRank());
+        assertEquals("generated-id-123", result.bestRatedItemId());
+        assertEquals(0.0, result.ratingDifference());
+    }
+
+    @Test
+    void rankInCohort_aloneInCohort_shouldRankFirst() {
+        ItemRankingPort ranking = mock(ItemRankingPort.class);
+        ItemService rankingService = new ItemService(itemRepository, null, ranking);
+        when(itemRepository.findById("generated-id-123")).thenReturn(Optional.of(validItem));
+        when(ranking.findCohortStanding(CohortAttribute.BRAND, validItem)).thenReturn(CohortStanding.EMPTY);
+
+        CohortRankResult result = rankingService.rankInCohort("generated-id-123", CohortAttribute.BRAND);
+
+        assertEquals(1, result.cohortSize());
+        assertEquals(1, result.priceRank());
+        assertEquals(100.0, result.ratingPercentile());
+        assertEquals(100.0, result.bestPrice());
+    }
+
+    @Test
+    void rankInCohort_withoutAttributeValue_shouldThrow() {
+        ItemRankingPort ranking = mock(ItemRankingPort.class);
+        ItemService rankingService = new ItemService(itemRepository, null, ranking);
+        Item unbranded = new Item("plain", "Plain", null, null, BigDecimal.TEN, 3.0, null);
+        when(itemRepository.findById("plain")).thenReturn(Optional.of(unbranded));
+
+        assertThrows(InvalidItemException.class, () -> rankingService.rankInCohort("plain", CohortAttribute.BRAND));
+        verifyNoInteractions(ranking);
+    }
+
+    @Test
+    void rankInCohort_withMissingItem_shouldThrow() {
+        ItemService rankingService = new ItemService(itemRepository, null, mock(ItemRankingPort.class));
+        when(itemRepository.findById("missing")).thenReturn(Optional.empty());
+
+        assertThrows(ItemNotFoundException.class, () -> rankingService.rankInCohort("missing", CohortAttribute.BRAND));
+    }
+
+    @Test
+    void rankInCohort_withoutRanking_shouldThrow() {
+        assertThrows(RankingDisabledException.class,
+            () -> itemService.rankInCohort("generated-id-123", CohortAttribute.BRAND));
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    void findCheapest_withoutRanking_shouldThrow() {
+        assertThrows(RankingDisabledException.class, () -> itemService.findCheapest(10));
+    }
+
+    @Test
+    void compareFrontier_shouldReturnNonDominatedFilteredItems() {
+        Item cheapPoor = new Item("id3", "Item C", "url", "desc", BigDecimal.valueOf(50.0), 3.0, validItem.specification());
+        Item dominated = new Item("id4", "Item D", "url", "desc", BigDecimal.valueOf(120.0), 4.0, validItem.specification());
+        Item otherBrand = new Item("id5", "Item E", "url", "desc", BigDecimal.valueOf(10.0), 5.0,
+            new Specification("HP", "Pavilion", "Black", 2.0, "320x220x15", "Plastic", 12));
+        when(itemRepository.findAllById(any())).thenReturn(orderedItems(validItem, validItem2, cheapPoor, dominated, otherBrand));
+
+        ParetoComparisionResult result = itemService.compareFrontier(
+            List.of("generated-id-123", "generated-id-456", "id3", "id4", "id5"), new ItemFilter("Dell", null, null, null), null);
+
+        assertEquals(List.of("price", "rating"), result.criteria());
+        assertEquals(4, result.comparedItems());
+        assertEquals(List.of(cheapPoor, validItem, validItem2), result.frontier());
+        verify(itemRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    void compareFrontier_withCriterion_shouldSkipItemsWithoutIt() {
+        Item noSpecification = new Item("id3", "Item C", "url", "desc", BigDecimal.valueOf(50.0), 5.0, null);
+        when(itemRepository.findAllById(any())).thenReturn(orderedItems(validItem, validItem2, noSpecification));
+
+        ParetoComparisionResult result = itemService.compareFrontier(
+            List.of("generated-id-123", "generated-id-456", "id3"), null, ParetoCriterion.WARRANTY);
+
+        assertEquals(List.of("price", "rating", "warranty"), result.criteria());
+        assertEquals(2, result.comparedItems());
+        assertEquals(List.of(validItem, validItem2), result.frontier());
+    }
+
+    @Test
+    void compareFrontier_whenItemsMissing_shouldNameThem() {
+        when(itemRepository.findAllById(any())).thenReturn(orderedItems(validItem));
+
+        ItemNotFoundException exception = assertThrows(ItemNotFoundException.class,
+            () -> itemService.compareFrontier(List.of("generated-id-123", "gone"), null, null));
+
+        assertEquals("Items with ids gone not found", exception.getMessage());
+    }
+
+    @Test
+    void compareFrontier_withTooManyIds_shouldThrow() {
+        List<String> ids = IntStream.rangeClosed(0, ItemService.MAX_PARETO_ITEMS).mapToObj(i -> "id" + i).toList();
+
+        assertThrows(InvalidItemException.class, () -> itemService.compareFrontier(ids, null, null));
+        verify(itemRepository, never()).findAllById(any());
+    }
+}
@@ -0,0 +1,83 @@
+package com.items.application.service;
+
+import com.items.domain.exception.ItemNotFoundException;
+import com.items.domain.model.Item;
+import com.items.domain.port.outbound.ItemRepositoryPort;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ItemUnitOfWorkTest {
+
+    private final ItemRepositoryPort itemRepository = mock(ItemRepositoryPort.class);
+    private final Item item = new Item("id1", "Item A", "http://example.com/a.jpg", "Description A", BigDecimal.TEN, 4.2, null);
+
+    @Test
+    void get_shouldReadEachIdOnce() {
+        when(itemRepository.findById("id1")).thenReturn(Optional.of(item));
+        ItemUnitOfWork unitOfWork = new ItemUnitOfWork(itemRepository);
+
+        Item first = unitOfWork.get("id1");
+        Item second = unitOfWork.get("id1");
+
+        assertSame(first, second);
+        verify(itemRepository, times(1)).findById("id1");
+    }
+
+    @Test
+    void find_shouldRememberMissingIds() {
+        when(itemRepository.findById("missing")).thenReturn(Optional.empty());
+        ItemUnitOfWork unitOfWork = new ItemUnitOfWork(itemRepository);
+
+        assertTrue(unitOfWork.find("missing").isEmpty());
+        ItemNotFoundException exception = assertThrows(ItemNotFoundException.class, () -> unitOfWork.get("missing"));
+        assertEquals("Item with id missing not found", exception.getMessage());
+        verify(itemRepository, times(1)).findById("missing");
+    }
+
+    @Test
+    void get_inSeparateUnitsOfWork_shouldReadAgain() {
+        when(itemRepository.findById("id1")).thenReturn(Optional.of(item));
+
+        new ItemUnitOfWork(itemRepository).get("id1");
+        new ItemUnitOfWork(itemRepository).get("id1");
+
+        verify(itemRepository, times(2)).findById("id1");
+    }
+
+    @Test
+    void getAll_shouldBatchOnlyIdsNotSeenYet() {
+        Item other = item.withId("id2");
+        when(itemRepository.findById("id1")).thenReturn(Optional.of(item));
+        when(itemRepository.findAllById(List.of("id2"))).thenReturn(Map.of("id2", other));
+        ItemUnitOfWork unitOfWork = new ItemUnitOfWork(itemRepository);
+        Item first = unitOfWork.get("id1");
+
+        Map<String, Item> items = unitOfWork.getAll(List.of("id2", "id1", "id2"));
+
+        assertEquals(List.of("id2", "id1"), List.copyOf(items.keySet()));
+        assertSame(first, items.get("id1"));
+        assertSame(other, unitOfWork.get("id2"));
+        verify(itemRepository, times(1)).findAllById(any());
+        verify(itemRepository, never()).findById("id2");
+    }
+
+    @Test
+    void getAll_whenItemsMissing_shouldNameThemAndRememberThem() {
+        when(itemRepository.findAllById(List.of("id1", "gone"))).thenReturn(Map.of("id1", item));
+        ItemUnitOfWork unitOfWork = new ItemUnitOfWork(itemRepository);
+
+        ItemNotFoundException exception = assertThrows(ItemNotFoundException.class, () -> unitOfWork.getAll(List.of("id1", "gone")));
+
+        assertEquals("Items with ids gone not found", exception.getMessage());
+        assertTrue(unitOfWork.find("gone").isEmpty());
+        verify(itemRepository, never()).findById(any());
+    }
+}
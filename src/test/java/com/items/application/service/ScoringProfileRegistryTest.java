@@ -0,0 +1,63 @@
+package com.items.application.service;
+
+import com.items.domain.exception.InvalidItemException;
+import com.items.domain.model.ScoringCriterion;
+import com.items.domain.model.ScoringProfile;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoringProfileRegistryTest {
+
+    @Test
+    void register_shouldCompileOnceAndServeByName() {
+        ScoringProfileRegistry registry = new ScoringProfileRegistry();
+
+        registry.register(new ScoringProfile("value", Map.of(ScoringCriterion.PRICE, 1.0)));
+
+        assertSame(registry.scorer("value"), registry.scorer("value"));
+        assertEquals("value", registry.scorer("value").profile());
+    }
+
+    @Test
+    void register_shouldReplaceProfileWithSameName() {
+        ScoringProfileRegistry registry = new ScoringProfileRegistry();
+        registry.register(new ScoringProfile("value", Map.of(ScoringCriterion.PRICE, 1.0)));
+        var first = registry.scorer("value");
+
+        registry.register(new ScoringProfile("value", Map.of(ScoringCriterion.RATING, 1.0)));
+
+        assertNotSame(first, registry.scorer("value"));
+        assertEquals(List.of("value"), registry.names());
+    }
+
+    @Test
+    void register_withInvalidProfile_shouldThrowAndKeepOthers() {
+        ScoringProfileRegistry registry = new ScoringProfileRegistry();
+        registry.register(new ScoringProfile("value", Map.of(ScoringCriterion.PRICE, 1.0)));
+
+        assertThrows(InvalidItemException.class, () -> registry.register(new ScoringProfile("broken", Map.of())));
+
+        assertEquals(List.of("value"), registry.names());
+    }
+
+    @Test
+    void scorer_withUnknownName_shouldThrow() {
+        ScoringProfileRegistry registry = new ScoringProfileRegistry();
+
+        assertThrows(InvalidItemException.class, () -> registry.scorer("missing"));
+        assertThrows(InvalidItemException.class, () -> registry.scorer(null));
+    }
+
+    @Test
+    void names_shouldBeSorted() {
+        ScoringProfileRegistry registry = new ScoringProfileRegistry();
+        registry.register(new ScoringProfile("premium", Map.of(ScoringCriterion.RATING, 1.0)));
+        registry.register(new ScoringProfile("balanced", Map.of(ScoringCriterion.RATING, 1.0)));
+
+        assertEquals(List.of("balanced", "premium"), registry.names());
+    }
+}
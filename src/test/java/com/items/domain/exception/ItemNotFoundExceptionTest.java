@@ -1,6 +1,9 @@
 package com.items.domain.exception;
 
 import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class ItemNotFoundExceptionTest {
@@ -15,6 +18,13 @@ class ItemNotFoundExceptionTest {
         assertTrue(exception instanceof RuntimeException);
     }
 
+    @Test
+    void shouldNameEveryMissingId() {
+        ItemNotFoundException exception = new ItemNotFoundException(List.of("id-1", "id-2"));
+
+        assertEquals("Items with ids id-1, id-2 not found", exception.getMessage());
+    }
+
     @Test
     void shouldBeThrowable() {
         String id = "test-id";
@@ -22,4 +32,11 @@ class ItemNotFoundExceptionTest {
             throw new ItemNotFoundException(id);
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldNotCaptureStackTrace() {
+        ItemNotFoundException exception = new ItemNotFoundException("test-id");
+
+        assertEquals(0, exception.getStackTrace().length);
+    }
+}
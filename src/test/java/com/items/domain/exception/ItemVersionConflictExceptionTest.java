@@ -0,0 +1,17 @@
+package com.items.domain.exception;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemVersionConflictExceptionTest {
+
+    @Test
+    void shouldDescribeVersions() {
+        ItemVersionConflictException exception = new ItemVersionConflictException("item-1", 2, 3);
+
+        assertTrue(exception.getMessage().contains("item-1"));
+        assertTrue(exception.getMessage().contains("expected version 2"));
+        assertTrue(exception.getMessage().contains("found 3"));
+        assertTrue(exception instanceof RuntimeException);
+    }
+}
@@ -0,0 +1,15 @@
+package com.items.domain.exception;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RankingDisabledExceptionTest {
+
+    @Test
+    void shouldDescribeDisabledRanking() {
+        RankingDisabledException exception = new RankingDisabledException();
+
+        assertEquals("Item ranking is not enabled", exception.getMessage());
+        assertTrue(exception instanceof RuntimeException);
+    }
+}
@@ -0,0 +1,47 @@
+package com.items.domain.model;
+
+import com.items.domain.exception.InvalidItemException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CohortAttributeTest {
+
+    @Test
+    void named_shouldIgnoreCaseAndSpaces() {
+        assertEquals(CohortAttribute.BRAND, CohortAttribute.named("brand"));
+        assertEquals(CohortAttribute.MATERIAL, CohortAttribute.named(" Material "));
+    }
+
+    @Test
+    void named_withUnknownName_shouldThrow() {
+        assertThrows(InvalidItemException.class, () -> CohortAttribute.named("color"));
+    }
+
+    @Test
+    void valueOf_shouldReadSpecification() {
+        Item item = new Item("id", "Item", null, null, BigDecimal.ONE, 4.0,
+            new Specification("Dell", "XPS", null, null, null, "Aluminium", null));
+
+        assertEquals("Dell", CohortAttribute.BRAND.valueOf(item));
+        assertEquals("Aluminium", CohortAttribute.MATERIAL.valueOf(item));
+    }
+
+    @Test
+    void valueOf_withoutValue_shouldReturnNull() {
+        Item noSpecification = new Item("id", "Item", null, null, BigDecimal.ONE, 4.0, null);
+        Item blank = new Item("id", "Item", null, null, BigDecimal.ONE, 4.0,
+            new Specification(" ", null, null, null, null, null, null));
+
+        assertNull(CohortAttribute.BRAND.valueOf(noSpecification));
+        assertNull(CohortAttribute.BRAND.valueOf(blank));
+        assertNull(CohortAttribute.MATERIAL.valueOf(blank));
+    }
+
+    @Test
+    void cohortKey_shouldIgnoreCase() {
+        assertEquals(CohortAttribute.cohortKey("DELL"), CohortAttribute.cohortKey("Dell"));
+    }
+}
@@ -13,32 +13,38 @@ class ComparisionResultTest {
         double bestPrice = 100.0;
         String bestRatedId = "id2";
         double bestRating = 4.8;
-        Map<String, String> differences = Map.of("priceDiff", "50.0", "ratingDiff", "0.6");
 
-        ComparisionResult result = new ComparisionResult(bestPriceId, bestPrice, bestRatedId, bestRating, differences);
+        ComparisionResult result = new ComparisionResult(bestPriceId, bestPrice, bestRatedId, bestRating, "50.0", 0.6);
 
         assertEquals(bestPriceId, result.bestPriceItemId());
         assertEquals(bestPrice, result.bestPrice());
         assertEquals(bestRatedId, result.bestRankedItem());
         assertEquals(bestRating, result.bestRating());
-        assertEquals(differences, result.differences());
+        assertEquals("50.0", result.priceDifference());
+        assertEquals(0.6, result.ratingDifference());
+    }
+
+    @Test
+    void differences_shouldKeyBothDifferencesAsText() {
+        ComparisionResult result = new ComparisionResult("id1", 100.0, "id2", 4.8, "50.00", 0.5999999999999996);
+
+        assertEquals(Map.of("priceDifference", "50.00", "ratingDifference", "0.5999999999999996"), result.differences());
     }
 
     @Test
     void shouldSupportRecordEquality() {
-        Map<String, String> diffs = Map.of("key", "value");
-        ComparisionResult result1 = new ComparisionResult("id1", 100.0, "id2", 4.5, diffs);
-        ComparisionResult result2 = new ComparisionResult("id1", 100.0, "id2", 4.5, diffs);
+        ComparisionResult result1 = new ComparisionResult("id1", 100.0, "id2", 4.5, "1.5", 0.5);
+        ComparisionResult result2 = new ComparisionResult("id1", 100.0, "id2", 4.5, "1.5", 0.5);
 
         assertEquals(result1, result2);
+        assertNotEquals(result1, new ComparisionResult("id1", 100.0, "id2", 4.5, "1.50", 0.5));
     }
 
     @Test
     void shouldGenerateCorrectHashCode() {
-        Map<String, String> diffs = Map.of("key", "value");
-        ComparisionResult result1 = new ComparisionResult("id1", 100.0, "id2", 4.5, diffs);
-        ComparisionResult result2 = new ComparisionResult("id1", 100.0, "id2", 4.5, diffs);
+        ComparisionResult result1 = new ComparisionResult("id1", 100.0, "id2", 4.5, "1.5", 0.5);
+        ComparisionResult result2 = new ComparisionResult("id1", 100.0, "id2", 4.5, "1.5", 0.5);
 
         assertEquals(result1.hashCode(), result2.hashCode());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,34 @@
+package com.items.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemFilterTest {
+
+    private final Item dell = new Item("id", "Item", null, null, BigDecimal.valueOf(100), 4.0,
+        new Specification("Dell", "XPS", null, null, null, null, null));
+
+    @Test
+    void none_shouldMatchEverything() {
+        assertTrue(ItemFilter.NONE.matches(dell));
+        assertTrue(ItemFilter.NONE.matches(new Item("id", "Item", null, null, BigDecimal.ONE, 0.0, null)));
+    }
+
+    @Test
+    void matches_shouldCompareBrandIgnoringCase() {
+        assertTrue(new ItemFilter("dell", null, null, null).matches(dell));
+        assertFalse(new ItemFilter("HP", null, null, null).matches(dell));
+        assertFalse(new ItemFilter("Dell", null, null, null).matches(new Item("x", "Item", null, null, BigDecimal.ONE, 4.0, null)));
+    }
+
+    @Test
+    void matches_shouldApplyInclusiveBounds() {
+        assertTrue(new ItemFilter(null, BigDecimal.valueOf(100), BigDecimal.valueOf(100), 4.0).matches(dell));
+        assertFalse(new ItemFilter(null, BigDecimal.valueOf(101), null, null).matches(dell));
+        assertFalse(new ItemFilter(null, null, BigDecimal.valueOf(99.99), null).matches(dell));
+        assertFalse(new ItemFilter(null, null, null, 4.5).matches(dell));
+    }
+}
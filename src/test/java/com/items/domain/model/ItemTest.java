@@ -107,4 +107,22 @@ class ItemTest {
         assertTrue(toString.contains("Laptop"));
         assertTrue(toString.contains("1500"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void withVersion_shouldKeepOtherFields() {
+        Item original = new Item("id1", "name", "url", "desc", BigDecimal.TEN, 4.0, null);
+
+        Item versioned = original.withVersion(3L);
+
+        assertNull(original.version());
+        assertEquals(3L, versioned.version());
+        assertEquals(original, versioned.withVersion(null));
+    }
+
+    @Test
+    void withId_shouldKeepVersion() {
+        Item original = new Item("id1", "name", "url", "desc", BigDecimal.TEN, 4.0, null, 7L);
+
+        assertEquals(7L, original.withId("id2").version());
+    }
+}
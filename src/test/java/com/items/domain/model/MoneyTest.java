@@ -0,0 +1,112 @@
+package com.items.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    void of_shouldKeepUnscaledAmountAndScale() {
+        assertEquals(new Money(1999, 2), Money.of(new BigDecimal("19.99")));
+        assertEquals(new Money(500, 1), Money.of(BigDecimal.valueOf(50.0)));
+        assertEquals(new Money(1, -3), Money.of(new BigDecimal("1E+3")));
+        assertEquals(new BigDecimal("19.99"), new Money(1999, 2).toBigDecimal());
+    }
+
+    @Test
+    void of_withMoreThanEighteenDigits_shouldThrow() {
+        assertDoesNotThrow(() -> Money.of(new BigDecimal("999999999999999999")));
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("1000000000000000000")));
+    }
+
+    @Test
+    void toString_shouldMatchBigDecimal() {
+        String[] values = {"0", "0.00", "0E+2", "0E-10", "50.0", "19.99", "0.05", "-0.05", "0.000001", "0.0000001",
+            "1E+3", "1.5E+5", "-12.345", "123456789012345678", "0.000000000000000001", "-7E-9"};
+        for (String value : values) {
+            BigDecimal decimal = new BigDecimal(value);
+            assertEquals(decimal.toString(), Money.of(decimal).toString(), value);
+        }
+    }
+
+    @Test
+    void operations_shouldMatchBigDecimalAcrossScales() {
+        Random random = new Random(17);
+        for (int i = 0; i < 20000; i++) {
+            BigDecimal a = randomDecimal(random);
+            BigDecimal b = random.nextInt(5) == 0 && a.precision() <= 16 ? a.setScale(a.scale() + random.nextInt(3)) : randomDecimal(random);
+            Money x = Money.of(a);
+            Money y = Money.of(b);
+
+            assertEquals(Integer.signum(a.compareTo(b)), Integer.signum(x.compareTo(y)), a + " vs " + b);
+            assertEquals(a.signum(), x.signum());
+            assertEquals(a.doubleValue(), x.doubleValue(), a.toString());
+            assertEquals(a.abs().toString(), x.abs().toString());
+            Money difference;
+            try {
+                difference = x.subtract(y);
+            } catch (ArithmeticException e) {
+                continue;
+            }
+            assertEquals(a.subtract(b).toString(), difference.toString(), a + " - " + b);
+            assertEquals(a.subtract(b), difference.toBigDecimal());
+        }
+    }
+
+    @Test
+    void setScale_shouldRoundAsBigDecimal() {
+        Random random = new Random(23);
+        for (int i = 0; i < 20000; i++) {
+            BigDecimal value = BigDecimal.valueOf(random.nextInt(2_000_001) - 1_000_000, random.nextInt(6));
+            int scale = random.nextInt(6) - 1;
+            RoundingMode rounding = RoundingMode.values()[random.nextInt(RoundingMode.values().length)];
+            BigDecimal expected;
+            try {
+                expected = value.setScale(scale, rounding);
+            } catch (ArithmeticException e) {
+                assertThrows(ArithmeticException.class, () -> Money.of(value).setScale(scale, rounding));
+                continue;
+            }
+            assertEquals(expected, Money.of(value).setScale(scale, rounding).toBigDecimal(), value + " " + rounding);
+        }
+    }
+
+    @Test
+    void setScale_withoutRounding_shouldRejectDroppedDigits() {
+        assertEquals(new Money(12, 1), new Money(120, 2).setScale(1));
+        assertEquals(new Money(12000, 4), new Money(12, 1).setScale(4));
+        assertThrows(ArithmeticException.class, () -> new Money(125, 2).setScale(1));
+    }
+
+    @Test
+    void compareTo_withDistantScales_shouldNotOverflow() {
+        Money large = new Money(900_000_000_000_000_000L, 0);
+        Money small = new Money(1, 18);
+
+        assertTrue(large.compareTo(small) > 0);
+        assertTrue(small.compareTo(large) < 0);
+        assertTrue(new Money(-5, 0).compareTo(new Money(-1, 30)) < 0);
+        assertEquals(0, new Money(0, 0).compareTo(new Money(0, 40)));
+        assertEquals(0, new Money(1, 0).compareTo(new Money(1000, 3)));
+    }
+
+    @Test
+    void subtract_whenResultOverflows_shouldThrow() {
+        assertThrows(ArithmeticException.class, () -> new Money(950_000_000_000_000_000L, 0).subtract(new Money(1, 1)));
+        assertThrows(ArithmeticException.class, () -> new Money(1, 0).subtract(new Money(1, 30)));
+    }
+
+    private static BigDecimal randomDecimal(Random random) {
+        long unscaled = switch (random.nextInt(3)) {
+            case 0 -> random.nextInt(1000);
+            case 1 -> random.nextLong() % 1_000_000_000_000L;
+            default -> random.nextLong() % 100_000_000_000_000_000L;
+        };
+        return BigDecimal.valueOf(unscaled, random.nextInt(14) - 3);
+    }
+}
@@ -0,0 +1,33 @@
+package com.items.domain.model;
+
+import org.junit.jupiter.api.Test;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultiComparisionResultTest {
+
+    @Test
+    void shouldCreateMultiComparisionResultWithAllFields() {
+        Map<String, String> differences = Map.of("priceRange", "50.0");
+        Map<String, Map<String, String>> itemDifferences = Map.of("id2", Map.of("priceDifference", "50.0"));
+
+        MultiComparisionResult result = new MultiComparisionResult("id1", 100.0, "id2", 4.8, differences, itemDifferences);
+
+        assertEquals("id1", result.bestPriceItemId());
+        assertEquals(100.0, result.bestPrice());
+        assertEquals("id2", result.bestRankedItem());
+        assertEquals(4.8, result.bestRating());
+        assertEquals(differences, result.differences());
+        assertEquals(itemDifferences, result.itemDifferences());
+    }
+
+    @Test
+    void shouldSupportRecordEquality() {
+        MultiComparisionResult result1 = new MultiComparisionResult("id1", 100.0, "id2", 4.5, Map.of(), Map.of());
+        MultiComparisionResult result2 = new MultiComparisionResult("id1", 100.0, "id2", 4.5, Map.of(), Map.of());
+
+        assertEquals(result1, result2);
+        assertEquals(result1.hashCode(), result2.hashCode());
+    }
+}
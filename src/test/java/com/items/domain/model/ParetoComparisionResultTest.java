@@ -0,0 +1,22 @@
+package com.items.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParetoComparisionResultTest {
+
+    @Test
+    void shouldCreateParetoComparisionResultWithAllFields() {
+        Item item = new Item("id1", "Item", null, null, BigDecimal.TEN, 4.0, null);
+
+        ParetoComparisionResult result = new ParetoComparisionResult(List.of("price", "rating"), 3, List.of(item));
+
+        assertEquals(List.of("price", "rating"), result.criteria());
+        assertEquals(3, result.comparedItems());
+        assertEquals(List.of(item), result.frontier());
+    }
+}
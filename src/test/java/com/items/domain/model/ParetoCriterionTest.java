@@ -0,0 +1,42 @@
+package com.items.domain.model;
+
+import com.items.domain.exception.InvalidItemException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParetoCriterionTest {
+
+    @Test
+    void named_shouldIgnoreCaseAndSpaces() {
+        assertEquals(ParetoCriterion.WEIGHT, ParetoCriterion.named("weight"));
+        assertEquals(ParetoCriterion.WARRANTY, ParetoCriterion.named(" Warranty "));
+    }
+
+    @Test
+    void named_withUnknownName_shouldThrow() {
+        assertThrows(InvalidItemException.class, () -> ParetoCriterion.named("color"));
+    }
+
+    @Test
+    void costOf_shouldOrientLowerIsBetter() {
+        Item item = new Item("id", "Item", null, null, BigDecimal.ONE, 4.0,
+            new Specification("Dell", "XPS", null, 2.5, null, null, 24));
+
+        assertEquals(2.5, ParetoCriterion.WEIGHT.costOf(item));
+        assertEquals(-24.0, ParetoCriterion.WARRANTY.costOf(item));
+    }
+
+    @Test
+    void costOf_withoutValue_shouldReturnNull() {
+        Item noSpecification = new Item("id", "Item", null, null, BigDecimal.ONE, 4.0, null);
+        Item noValues = new Item("id", "Item", null, null, BigDecimal.ONE, 4.0,
+            new Specification("Dell", null, null, null, null, null, null));
+
+        assertNull(ParetoCriterion.WEIGHT.costOf(noSpecification));
+        assertNull(ParetoCriterion.WEIGHT.costOf(noValues));
+        assertNull(ParetoCriterion.WARRANTY.costOf(noValues));
+    }
+}
@@ -0,0 +1,17 @@
+package com.items.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoredItemTest {
+
+    @Test
+    void shouldCreateScoredItemWithAllFields() {
+        ScoredItem scored = new ScoredItem("id1", 0.75);
+
+        assertEquals("id1", scored.itemId());
+        assertEquals(0.75, scored.score());
+        assertEquals(new ScoredItem("id1", 0.75), scored);
+    }
+}
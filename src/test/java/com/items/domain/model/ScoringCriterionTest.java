@@ -0,0 +1,46 @@
+package com.items.domain.model;
+
+import com.items.domain.exception.InvalidItemException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoringCriterionTest {
+
+    @Test
+    void named_shouldIgnoreCaseAndSpaces() {
+        assertEquals(ScoringCriterion.PRICE, ScoringCriterion.named("price"));
+        assertEquals(ScoringCriterion.WARRANTY, ScoringCriterion.named(" Warranty "));
+        assertThrows(InvalidItemException.class, () -> ScoringCriterion.named("color"));
+    }
+
+    @Test
+    void valueOf_shouldReadItemAttributes() {
+        Item item = new Item("id", "Item", null, null, BigDecimal.valueOf(9.5), 4.0,
+            new Specification("Dell", "XPS", null, 2.5, null, null, 24));
+
+        assertEquals(9.5, ScoringCriterion.PRICE.valueOf(item));
+        assertEquals(4.0, ScoringCriterion.RATING.valueOf(item));
+        assertEquals(2.5, ScoringCriterion.WEIGHT.valueOf(item));
+        assertEquals(24.0, ScoringCriterion.WARRANTY.valueOf(item));
+    }
+
+    @Test
+    void valueOf_withoutAttribute_shouldReturnNaN() {
+        Item item = new Item("id", "Item", null, null, null, null, null);
+
+        for (ScoringCriterion criterion : ScoringCriterion.values()) {
+            assertTrue(Double.isNaN(criterion.valueOf(item)), criterion.name());
+        }
+    }
+
+    @Test
+    void higherIsBetter_shouldFollowCriterion() {
+        assertFalse(ScoringCriterion.PRICE.higherIsBetter());
+        assertTrue(ScoringCriterion.RATING.higherIsBetter());
+        assertFalse(ScoringCriterion.WEIGHT.higherIsBetter());
+        assertTrue(ScoringCriterion.WARRANTY.higherIsBetter());
+    }
+}
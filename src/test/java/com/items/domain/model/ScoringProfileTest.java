@@ -0,0 +1,24 @@
+package com.items.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoringProfileTest {
+
+    @Test
+    void shouldCopyWeights() {
+        Map<ScoringCriterion, Double> weights = new EnumMap<>(ScoringCriterion.class);
+        weights.put(ScoringCriterion.PRICE, 2.0);
+
+        ScoringProfile profile = new ScoringProfile("value", weights);
+        weights.put(ScoringCriterion.RATING, 1.0);
+
+        assertEquals("value", profile.name());
+        assertEquals(Map.of(ScoringCriterion.PRICE, 2.0), profile.weights());
+        assertThrows(UnsupportedOperationException.class, () -> profile.weights().put(ScoringCriterion.RATING, 1.0));
+    }
+}
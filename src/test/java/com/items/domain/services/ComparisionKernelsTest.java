@@ -0,0 +1,17 @@
+package com.items.domain.services;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+class ComparisionKernelsTest {
+
+    @Test
+    void fastest_whenVectorKernelUnavailable_shouldReturnScalarKernel() {
+        // the default build leaves the vector kernel out; -Pvector may make it available
+        assumeFalse(ComparisionKernels.vectorAvailable());
+
+        assertSame(ScalarComparisionKernel.INSTANCE, ComparisionKernels.fastest());
+    }
+}
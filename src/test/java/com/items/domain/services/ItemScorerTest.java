@@ -0,0 +1,135 @@
+package com.items.domain.services;
+
+import com.items.domain.exception.InvalidItemException;
+import com.items.domain.model.Item;
+import com.items.domain.model.ScoredItem;
+import com.items.domain.model.ScoringCriterion;
+import com.items.domain.model.ScoringProfile;
+import com.items.domain.model.Specification;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemScorerTest {
+
+    private Item item(String id, double price, double rating) {
+        return new Item(id, "Item " + id, null, null, BigDecimal.valueOf(price), rating, null);
+    }
+
+    private Item item(String id, double price, double rating, Double weight, Integer warrantyMonths) {
+        Specification specification = new Specification("Dell", "XPS", null, weight, null, null, warrantyMonths);
+        return new Item(id, "Item " + id, null, null, BigDecimal.valueOf(price), rating, specification);
+    }
+
+    private ItemScorer scorer(Map<ScoringCriterion, Double> weights) {
+        return ItemScorer.compile(new ScoringProfile("test", weights));
+    }
+
+    @Test
+    void compile_shouldRejectInvalidProfiles() {
+        assertThrows(InvalidItemException.class, () -> ItemScorer.compile(new ScoringProfile(" ", Map.of(ScoringCriterion.PRICE, 1.0))));
+        assertThrows(InvalidItemException.class, () -> scorer(Map.of()));
+        assertThrows(InvalidItemException.class, () -> scorer(Map.of(ScoringCriterion.PRICE, 0.0)));
+        assertThrows(InvalidItemException.class, () -> scorer(Map.of(ScoringCriterion.PRICE, -1.0)));
+        assertThrows(InvalidItemException.class, () -> scorer(Map.of(ScoringCriterion.PRICE, Double.NaN)));
+        assertEquals("test", scorer(Map.of(ScoringCriterion.PRICE, 1.0)).profile());
+    }
+
+    @Test
+    void score_shouldScaleEachCriterionBetweenWorstAndBest() {
+        ItemScorer scorer = scorer(Map.of(ScoringCriterion.PRICE, 1.0, ScoringCriterion.RATING, 1.0));
+
+        double[] scores = scorer.score(List.of(item("a", 100, 5.0), item("b", 200, 3.0), item("c", 300, 4.0)));
+
+        assertArrayEquals(new double[] {1.0, 0.25, 0.25}, scores, 1e-9);
+    }
+
+    @Test
+    void score_shouldWeighCriteriaRelatively() {
+        ItemScorer scorer = scorer(Map.of(ScoringCriterion.PRICE, 3.0, ScoringCriterion.RATING, 1.0));
+
+        double[] scores = scorer.score(List.of(item("cheap", 100, 1.0), item("good", 200, 5.0)));
+
+        assertArrayEquals(new double[] {0.75, 0.25}, scores, 1e-9);
+    }
+
+    @Test
+    void score_withMissingCriterion_shouldCountItAsWorst() {
+        ItemScorer scorer = scorer(Map.of(ScoringCriterion.WEIGHT, 1.0, ScoringCriterion.WARRANTY, 1.0));
+
+        double[] scores = scorer.score(List.of(
+            item("light", 100, 4.0, 1.0, 12),
+            item("heavy", 100, 4.0, 3.0, 36),
+            item("unknown", 100, 4.0, null, null)));
+
+        assertArrayEquals(new double[] {0.5, 0.5, 0.0}, scores, 1e-9);
+    }
+
+    @Test
+    void score_whenAllValuesEqual_shouldGiveFullCredit() {
+        ItemScorer scorer = scorer(Map.of(ScoringCriterion.RATING, 1.0));
+
+        assertArrayEquals(new double[] {1.0, 1.0}, scorer.score(List.of(item("a", 1, 4.0), item("b", 2, 4.0))), 1e-9);
+    }
+
+    @Test
+    void rank_shouldReturnBestFirstAndKeepInputOrderOnTies() {
+        ItemScorer scorer = scorer(Map.of(ScoringCriterion.RATING, 1.0));
+        List<Item> items = List.of(item("a", 1, 3.0), item("b", 1, 5.0), item("c", 1, 3.0), item("d", 1, 5.0), item("e", 1, 1.0));
+
+        List<ScoredItem> ranked = scorer.rank(items, 3);
+
+        assertEquals(List.of("b", "d", "a"), ranked.stream().map(ScoredItem::itemId).toList());
+        assertEquals(1.0, ranked.get(0).score(), 1e-9);
+        assertEquals(0.5, ranked.get(2).score(), 1e-9);
+    }
+
+    @Test
+    void rank_withLimitAboveSize_shouldReturnEveryItem() {
+        ItemScorer scorer = scorer(Map.of(ScoringCriterion.PRICE, 1.0));
+
+        assertEquals(2, scorer.rank(List.of(item("a", 1, 3.0), item("b", 2, 3.0)), 10).size());
+        assertTrue(scorer.rank(List.of(), 10).isEmpty());
+    }
+
+    @Test
+    void rank_shouldMatchFullSortOnRandomItems() {
+        ItemScorer scorer = scorer(Map.of(ScoringCriterion.PRICE, 2.0, ScoringCriterion.RATING, 1.0, ScoringCriterion.WARRANTY, 0.5));
+        Random random = new Random(11);
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            items.add(item("id-" + i, random.nextInt(100), random.nextInt(6), null, random.nextBoolean() ? null : random.nextInt(5) * 12));
+        }
+        double[] scores = scorer.score(items);
+        List<String> expected = IntStream.range(0, items.size()).boxed()
+            .sorted(Comparator.<Integer>comparingDouble(i -> -scores[i]).thenComparing(i -> i))
+            .limit(50)
+            .map(i -> items.get(i).id())
+            .toList();
+
+        assertEquals(expected, scorer.rank(items, 50).stream().map(ScoredItem::itemId).toList());
+    }
+
+    @Test
+    void rank_shouldHandleLargeCatalogs() {
+        ItemScorer scorer = scorer(Map.of(ScoringCriterion.PRICE, 1.0, ScoringCriterion.RATING, 1.0));
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            items.add(item("id-" + i, 1 + i % 997, (i % 51) / 10.0));
+        }
+
+        List<ScoredItem> ranked = scorer.rank(items, 10);
+
+        assertEquals(10, ranked.size());
+        assertEquals(List.of("id-19940", "id-70787"), List.of(ranked.get(0).itemId(), ranked.get(1).itemId()));
+        assertEquals(1.0, ranked.get(0).score(), 1e-9);
+    }
+}
@@ -5,6 +5,8 @@ import com.items.domain.model.Specification;
 
 import org.junit.jupiter.api.Test;
 import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -32,6 +34,20 @@ class ItemValidatorTest {
         assertDoesNotThrow(() -> ItemValidator.validateIdNotNull("valid-id"));
     }
 
+    @Test
+    void validateComparedIds_shouldRequireTwoToMaxIds() {
+        assertThrows(InvalidItemException.class, () -> ItemValidator.validateComparedIds(null, 3));
+        assertThrows(InvalidItemException.class, () -> ItemValidator.validateComparedIds(List.of("a"), 3));
+        assertThrows(InvalidItemException.class, () -> ItemValidator.validateComparedIds(List.of("a", "b", "c", "d"), 3));
+        assertDoesNotThrow(() -> ItemValidator.validateComparedIds(List.of("a", "b", "c"), 3));
+    }
+
+    @Test
+    void validateComparedIds_shouldRejectBlankIds() {
+        assertThrows(InvalidItemException.class, () -> ItemValidator.validateComparedIds(Arrays.asList("a", null), 3));
+        assertThrows(InvalidItemException.class, () -> ItemValidator.validateComparedIds(List.of("a", " "), 3));
+    }
+
     @Test
     void validatePrice_shouldThrowWhenPriceIsNull() {
         assertThrows(InvalidItemException.class, () -> ItemValidator.validatePrice(null));
@@ -218,5 +234,29 @@ class ItemValidatorTest {
         Specification spec = new Specification("Brand", "Model", "Color", 2.0, "dimensions", null, 12);
         assertDoesNotThrow(() -> SpecificationValidator.validate(spec));
     }
-   
-}
\ No newline at end of file
+
+    @Test
+    void validateLimit_shouldRequireOneToMax() {
+        assertThrows(InvalidItemException.class, () -> ItemValidator.validateLimit(0, 10));
+        assertThrows(InvalidItemException.class, () -> ItemValidator.validateLimit(11, 10));
+        assertDoesNotThrow(() -> ItemValidator.validateLimit(1, 10));
+        assertDoesNotThrow(() -> ItemValidator.validateLimit(10, 10));
+    }
+
+    @Test
+    void validatePriceRange_shouldRejectMinimumAboveMaximum() {
+        assertThrows(InvalidItemException.class, () -> ItemValidator.validatePriceRange(BigDecimal.TEN, BigDecimal.ONE));
+        assertDoesNotThrow(() -> ItemValidator.validatePriceRange(BigDecimal.ONE, BigDecimal.ONE));
+        assertDoesNotThrow(() -> ItemValidator.validatePriceRange(null, BigDecimal.ONE));
+        assertDoesNotThrow(() -> ItemValidator.validatePriceRange(BigDecimal.TEN, null));
+    }
+
+    @Test
+    void validateIds_shouldRequireOneToMaxIds() {
+        assertThrows(InvalidItemException.class, () -> ItemValidator.validateIds(null, 2));
+        assertThrows(InvalidItemException.class, () -> ItemValidator.validateIds(List.of(), 2));
+        assertThrows(InvalidItemException.class, () -> ItemValidator.validateIds(List.of("a", "b", "c"), 2));
+        assertThrows(InvalidItemException.class, () -> ItemValidator.validateIds(List.of(" "), 2));
+        assertDoesNotThrow(() -> ItemValidator.validateIds(List.of("a"), 2));
+    }
+}
@@ -0,0 +1,151 @@
+package com.items.domain.services;
+
+import com.items.domain.model.Item;
+import com.items.domain.model.ParetoCriterion;
+import com.items.domain.model.Specification;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParetoFrontierTest {
+
+    private Item item(String id, double price, double rating) {
+        return item(id, price, rating, null, null);
+    }
+
+    private Item item(String id, double price, double rating, Double weight, Integer warrantyMonths) {
+        Specification specification = new Specification("Dell", "XPS", null, weight, null, null, warrantyMonths);
+        return new Item(id, "Item " + id, null, null, BigDecimal.valueOf(price), rating, specification);
+    }
+
+    private List<String> ids(List<Item> items) {
+        return items.stream().map(Item::id).toList();
+    }
+
+    @Test
+    void of_shouldKeepOnlyNonDominatedItemsCheapestFirst() {
+        List<Item> items = List.of(
+            item("pricey-best", 300, 5.0),
+            item("cheap-poor", 100, 2.0),
+            item("dominated", 250, 3.0),
+            item("middle", 200, 4.0));
+
+        assertEquals(List.of("cheap-poor", "middle", "pricey-best"), ids(ParetoFrontier.of(items, null)));
+    }
+
+    @Test
+    void of_withEqualPrice_shouldKeepOnlyBestRated() {
+        List<Item> items = List.of(item("a", 100, 3.0), item("b", 100, 4.0));
+
+        assertEquals(List.of("b"), ids(ParetoFrontier.of(items, null)));
+    }
+
+    @Test
+    void of_withEqualRating_shouldKeepOnlyCheapest() {
+        List<Item> items = List.of(item("a", 200, 4.0), item("b", 100, 4.0));
+
+        assertEquals(List.of("b"), ids(ParetoFrontier.of(items, null)));
+    }
+
+    @Test
+    void of_withPricesEqualAsDoubles_shouldKeepOnlyExactCheapest() {
+        Item cheaper = new Item("cheaper", "Item cheaper", null, null, new BigDecimal("0.1"), 4.0, null);
+        Item pricier = new Item("pricier", "Item pricier", null, null, new BigDecimal("0.10000000000000000001"), 4.0, null);
+
+        assertEquals(List.of("cheaper"), ids(ParetoFrontier.of(List.of(pricier, cheaper), null)));
+    }
+
+    @Test
+    void of_withSamePriceAtDifferentScales_shouldTreatThemAsEqual() {
+        Item a = new Item("a", "Item a", null, null, new BigDecimal("100"), 4.0, null);
+        Item b = new Item("b", "Item b", null, null, new BigDecimal("100.00"), 4.0, null);
+
+        assertEquals(2, ParetoFrontier.of(List.of(a, b), null).size());
+    }
+
+    @Test
+    void of_withIdenticalItems_shouldKeepBoth() {
+        List<Item> items = List.of(item("a", 100, 4.0), item("b", 100, 4.0), item("c", 150, 3.0));
+
+        assertEquals(List.of("a", "b"), ids(ParetoFrontier.of(items, null)));
+    }
+
+    @Test
+    void of_withZeroRatings_shouldTreatThemAsEqual() {
+        List<Item> items = List.of(item("a", 100, 0.0), item("b", 200, 0.0));
+
+        assertEquals(List.of("a"), ids(ParetoFrontier.of(items, null)));
+    }
+
+    @Test
+    void of_withWeight_shouldKeepLighterItemsOtherwiseDominated() {
+        List<Item> items = List.of(
+            item("cheap-best", 100, 5.0, 3.0, 12),
+            item("light", 200, 4.0, 1.0, 12),
+            item("heavy", 200, 4.0, 4.0, 12));
+
+        assertEquals(List.of("cheap-best", "light"), ids(ParetoFrontier.of(items, ParetoCriterion.WEIGHT)));
+    }
+
+    @Test
+    void of_withWarranty_shouldPreferLongerWarranty() {
+        List<Item> items = List.of(
+            item("short", 100, 5.0, 1.0, 12),
+            item("long", 200, 5.0, 1.0, 36),
+            item("longer-but-worse", 300, 5.0, 1.0, 24));
+
+        assertEquals(List.of("short", "long"), ids(ParetoFrontier.of(items, ParetoCriterion.WARRANTY)));
+    }
+
+    @Test
+    void of_shouldLeaveOutItemsWithoutCriterion() {
+        Item noSpecification = new Item("none", "Item", null, null, BigDecimal.ONE, 5.0, null);
+        List<Item> items = List.of(noSpecification, item("weighed", 100, 4.0, 2.0, null));
+
+        assertEquals(List.of("weighed"), ids(ParetoFrontier.of(items, ParetoCriterion.WEIGHT)));
+        assertEquals(List.of("none"), ids(ParetoFrontier.of(items, null)));
+    }
+
+    @Test
+    void of_withNoItems_shouldReturnEmpty() {
+        assertTrue(ParetoFrontier.of(List.of(), null).isEmpty());
+    }
+
+    @Test
+    void of_shouldMatchPairwiseDominanceOnRandomItems() {
+        Random random = new Random(7);
+        for (int round = 0; round < 50; round++) {
+            List<Item> items = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                items.add(item("id-" + i, random.nextInt(20), random.nextInt(6), (double) random.nextInt(5), random.nextInt(4) * 12));
+            }
+            for (ParetoCriterion criterion : new ParetoCriterion[] {null, ParetoCriterion.WEIGHT, ParetoCriterion.WARRANTY}) {
+                List<String> expected = items.stream()
+                    .filter(candidate -> items.stream().noneMatch(other -> dominates(other, candidate, criterion)))
+                    .map(Item::id)
+                    .sorted()
+                    .toList();
+
+                assertEquals(expected, ids(ParetoFrontier.of(items, criterion)).stream().sorted().toList());
+            }
+        }
+    }
+
+    private static boolean dominates(Item a, Item b, ParetoCriterion criterion) {
+        double[] costA = {a.price().doubleValue(), -a.rating(), criterion == null ? 0 : criterion.costOf(a)};
+        double[] costB = {b.price().doubleValue(), -b.rating(), criterion == null ? 0 : criterion.costOf(b)};
+        boolean strictlyBetter = false;
+        for (int i = 0; i < costA.length; i++) {
+            if (costA[i] > costB[i]) {
+                return false;
+            }
+            strictlyBetter |= costA[i] < costB[i];
+        }
+        return strictlyBetter;
+    }
+}
@@ -0,0 +1,65 @@
+package com.items.domain.services;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScalarComparisionKernelTest {
+
+    private final ComparisionKernel kernel = ScalarComparisionKernel.INSTANCE;
+
+    @Test
+    void minAndMax_shouldOnlyReadLength() {
+        long[] prices = {500, 100, 900, 1};
+
+        assertEquals(100, kernel.min(prices, 3));
+        assertEquals(900, kernel.max(prices, 3));
+        assertEquals(Long.MAX_VALUE, kernel.min(prices, 0));
+    }
+
+    @Test
+    void minAndMax_ofDoubles_shouldFollowMath() {
+        double[] ratings = {0.0, -0.0, 4.5};
+
+        assertEquals(-0.0, kernel.min(ratings, 3));
+        assertEquals(4.5, kernel.max(ratings, 3));
+        assertEquals(Double.NEGATIVE_INFINITY, kernel.max(ratings, 0));
+    }
+
+    @Test
+    void indexOf_shouldFindFirstAndLastMatch() {
+        long[] prices = {300, 100, 200, 100, 300};
+        double[] ratings = {4.0, 5.0, 5.0, 1.0};
+
+        assertEquals(1, kernel.indexOf(prices, 5, 100));
+        assertEquals(3, kernel.lastIndexOf(prices, 5, 100));
+        assertEquals(-1, kernel.indexOf(prices, 5, 7));
+        assertEquals(1, kernel.indexOf(ratings, 4, 5.0));
+        assertEquals(2, kernel.lastIndexOf(ratings, 4, 5.0));
+        assertEquals(-1, kernel.lastIndexOf(ratings, 4, 2.0));
+    }
+
+    @Test
+    void argMinAndArgMax_shouldReturnFirstExtreme() {
+        long[] prices = {300, 100, 200, 100, 300};
+        double[] ratings = {4.0, 5.0, 5.0, 1.0};
+
+        assertEquals(1, kernel.argMin(prices, 5));
+        assertEquals(0, kernel.argMax(prices, 5));
+        assertEquals(3, kernel.argMin(ratings, 4));
+        assertEquals(1, kernel.argMax(ratings, 4));
+        assertEquals(-1, kernel.argMin(prices, 0));
+    }
+
+    @Test
+    void differencesFrom_shouldSubtractEachValueFromBase() {
+        long[] priceDifferences = new long[3];
+        double[] ratingDifferences = new double[3];
+
+        kernel.differencesFrom(100, new long[] {100, 250, 40}, 3, priceDifferences);
+        kernel.differencesFrom(5.0, new double[] {5.0, 4.5, 0.0}, 3, ratingDifferences);
+
+        assertArrayEquals(new long[] {0, -150, 60}, priceDifferences);
+        assertArrayEquals(new double[] {0.0, 0.5, 5.0}, ratingDifferences);
+    }
+}
@@ -0,0 +1,49 @@
+package com.items.infraestructure.adapters.inbound.health;
+
+import com.items.infraestructure.adapters.outbound.persistence.ItemLoadProgress;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemCatalogHealthIndicatorTest {
+
+    private final ItemLoadProgress progress = new ItemLoadProgress();
+    private final ItemCatalogHealthIndicator indicator = new ItemCatalogHealthIndicator(progress);
+
+    @Test
+    void health_whenIdle_shouldBeUp() {
+        assertEquals(Status.UP, indicator.health().getStatus());
+    }
+
+    @Test
+    void health_whileLoading_shouldBeOutOfServiceWithProgress() {
+        progress.start();
+        progress.discovered();
+        progress.loaded();
+
+        Health health = indicator.health();
+
+        assertEquals(Status.OUT_OF_SERVICE, health.getStatus());
+        assertEquals(1L, health.getDetails().get("discovered"));
+        assertEquals(1L, health.getDetails().get("loaded"));
+    }
+
+    @Test
+    void health_whenLoaded_shouldBeUp() {
+        progress.start();
+        progress.finish();
+
+        assertEquals(Status.UP, indicator.health().getStatus());
+    }
+
+    @Test
+    void health_whenFailed_shouldBeDown() {
+        progress.start();
+        progress.fail();
+
+        assertEquals(Status.DOWN, indicator.health().getStatus());
+    }
+}
@@ -1,15 +1,33 @@
 package com.items.infraestructure.adapters.inbound.rest;
 
+import com.items.domain.exception.InvalidItemException;
 import com.items.domain.exception.ItemNotFoundException;
+import com.items.domain.model.CohortAttribute;
+import com.items.domain.model.CohortRankResult;
 import com.items.domain.model.ComparisionResult;
 import com.items.domain.model.Item;
+import com.items.domain.model.ItemFilter;
+import com.items.domain.model.MultiComparisionResult;
+import com.items.domain.model.ParetoComparisionResult;
+import com.items.domain.model.ParetoCriterion;
+import com.items.domain.model.ScoredItem;
 import com.items.domain.model.Specification;
+import com.items.domain.port.inbound.CohortRankUseCase;
 import com.items.domain.port.inbound.ComparisionUseCase;
 import com.items.domain.port.inbound.CreateItemUseCase;
 import com.items.domain.port.inbound.DeleteItemUseCase;
 import com.items.domain.port.inbound.GetItemUseCase;
+import com.items.domain.port.inbound.MultiComparisionUseCase;
+import com.items.domain.port.inbound.ParetoComparisionUseCase;
+import com.items.domain.port.inbound.RankItemsUseCase;
+import com.items.domain.port.inbound.TopItemsUseCase;
 import com.items.domain.port.inbound.UpdateItemUseCase;
+import com.items.infraestructure.adapters.inbound.rest.dto.CompareItemsRequest;
 import com.items.infraestructure.adapters.inbound.rest.dto.CreateItemRequest;
+import com.items.infraestructure.adapters.inbound.rest.dto.ParetoCompareRequest;
+import com.items.infraestructure.adapters.inbound.rest.dto.RankItemsRequest;
+import com.items.infraestructure.adapters.inbound.rest.exception.ErrorResponse;
+import com.items.infraestructure.adapters.inbound.rest.exception.GlobalExceptionHandler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,6 +36,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -41,6 +60,21 @@ class ItemControllerTest {
     @Mock
     private ComparisionUseCase comparisionUseCase;
 
+    @Mock
+    private MultiComparisionUseCase multiComparisionUseCase;
+
+    @Mock
+    private TopItemsUseCase topItemsUseCase;
+
+    @Mock
+    private ParetoComparisionUseCase paretoComparisionUseCase;
+
+    @Mock
+    private RankItemsUseCase rankItemsUseCase;
+
+    @Mock
+    private CohortRankUseCase cohortRankUseCase;
+
     private ItemController itemController;
     private Item testItemWithId;
     private CreateItemRequest createRequest;
@@ -48,7 +82,7 @@ class ItemControllerTest {
 
     @BeforeEach
     void setUp() {
-        itemController = new ItemController(createItemUseCase, getItemUseCase, updateItemUseCase, deleteItemUseCase, comparisionUseCase);
+        itemController = new ItemController(createItemUseCase, getItemUseCase, updateItemUseCase, deleteItemUseCase, comparisionUseCase, multiComparisionUseCase, topItemsUseCase, paretoComparisionUseCase, rankItemsUseCase, cohortRankUseCase);
         
         testSpecification = new Specification("Dell", "XPS 15", "Silver", 2.5, "357x235x18", "Aluminum", 24);
         
@@ -299,10 +333,7 @@ class ItemControllerTest {
 
     @Test
     void compareItems_shouldReturnComparisionResult() {
-        ComparisionResult compResult = new ComparisionResult(
-            "item-456", 50.0, "item-456", 4.8, 
-            Map.of("priceDifference", "1450.00", "ratingDifference", "0.3")
-        );
+        ComparisionResult compResult = new ComparisionResult("item-456", 50.0, "item-456", 4.8, "1450.00", 0.3);
         
         when(comparisionUseCase.compare("item-123", "item-456")).thenReturn(compResult);
 
@@ -333,11 +364,121 @@ class ItemControllerTest {
 
     @Test
     void compareItems_shouldCallUseCaseOnce() {
-        ComparisionResult compResult = new ComparisionResult("id1", 100.0, "id2", 4.5, Map.of());
+        ComparisionResult compResult = new ComparisionResult("id1", 100.0, "id2", 4.5, "0", 0.0);
         when(comparisionUseCase.compare("item-123", "item-456")).thenReturn(compResult);
 
         itemController.compareItems("item-123", "item-456");
 
         verify(comparisionUseCase, times(1)).compare("item-123", "item-456");
     }
-}
\ No newline at end of file
+
+    @Test
+    void compareManyItems_shouldPassIdsToUseCase() {
+        List<String> ids = List.of("item-1", "item-2", "item-3");
+        MultiComparisionResult compResult = new MultiComparisionResult("item-2", 10.0, "item-3", 4.9,
+            Map.of("priceRange", "5.00"), Map.of());
+        when(multiComparisionUseCase.compareAll(ids)).thenReturn(compResult);
+
+        MultiComparisionResult result = itemController.compareManyItems(new CompareItemsRequest(ids));
+
+        assertSame(compResult, result);
+        verify(multiComparisionUseCase).compareAll(ids);
+    }
+
+    @Test
+    void compareManyItems_whenItemNotFound_shouldThrowException() {
+        List<String> ids = List.of("item-1", "missing");
+        when(multiComparisionUseCase.compareAll(ids)).thenThrow(new ItemNotFoundException(List.of("missing")));
+
+        ItemNotFoundException exception = assertThrows(ItemNotFoundException.class,
+            () -> itemController.compareManyItems(new CompareItemsRequest(ids)));
+
+        assertEquals(new ErrorResponse("NOT_FOUND", "Items with ids missing not found"),
+            new GlobalExceptionHandler().handleItemNotFound(exception).getBody());
+    }
+
+    @Test
+    void cheapestItems_shouldReturnUseCaseResult() {
+        when(topItemsUseCase.findCheapest(5)).thenReturn(List.of(testItemWithId));
+
+        assertEquals(List.of(testItemWithId), itemController.cheapestItems(5));
+    }
+
+    @Test
+    void bestRatedItems_shouldReturnUseCaseResult() {
+        when(topItemsUseCase.findBestRated(3)).thenReturn(List.of(testItemWithId));
+
+        assertEquals(List.of(testItemWithId), itemController.bestRatedItems(3));
+        verify(topItemsUseCase, never()).findCheapest(anyInt());
+    }
+
+    @Test
+    void itemsInPriceRange_shouldReturnUseCaseResult() {
+        when(topItemsUseCase.findInPriceRange(BigDecimal.ONE, null, 4.0, 10)).thenReturn(List.of(testItemWithId));
+
+        assertEquals(List.of(testItemWithId), itemController.itemsInPriceRange(BigDecimal.ONE, null, 4.0, 10));
+    }
+
+    @Test
+    void rankInCohort_shouldParseAttribute() {
+        CohortRankResult rank = new CohortRankResult("item-1", "material", "Aluminum", 3, 1, 100.0, "item-1", 1500.0, "0.00",
+            2, 66.67, "item-2", 4.8, 0.3);
+        when(cohortRankUseCase.rankInCohort("item-1", CohortAttribute.MATERIAL)).thenReturn(rank);
+
+        assertEquals(rank, itemController.rankInCohort("item-1", "Material"));
+    }
+
+    @Test
+    void rankInCohort_withUnknownAttribute_shouldThrow() {
+        assertThrows(InvalidItemException.class, () -> itemController.rankInCohort("item-1", "color"));
+        verifyNoInteractions(cohortRankUseCase);
+    }
+
+    @Test
+    void compareParetoFrontier_shouldPassFilterAndCriterion() {
+        List<String> ids = List.of("item-1", "item-2");
+        ParetoComparisionResult compResult = new ParetoComparisionResult(List.of("price", "rating", "weight"), 2, List.of(testItemWithId));
+        ItemFilter filter = new ItemFilter("Dell", null, BigDecimal.valueOf(2000), 4.0);
+        when(paretoComparisionUseCase.compareFrontier(ids, filter, ParetoCriterion.WEIGHT)).thenReturn(compResult);
+
+        ParetoComparisionResult result = itemController.compareParetoFrontier(
+            new ParetoCompareRequest(ids, "Dell", null, BigDecimal.valueOf(2000), 4.0, "weight"));
+
+        assertSame(compResult, result);
+    }
+
+    @Test
+    void compareParetoFrontier_withoutCriterion_shouldCompareOnPriceAndRating() {
+        List<String> ids = List.of("item-1", "item-2");
+
+        itemController.compareParetoFrontier(new ParetoCompareRequest(ids, null, null, null, null, " "));
+
+        verify(paretoComparisionUseCase).compareFrontier(ids, ItemFilter.NONE, null);
+    }
+
+    @Test
+    void compareParetoFrontier_withUnknownCriterion_shouldThrow() {
+        ParetoCompareRequest request = new ParetoCompareRequest(List.of("a", "b"), null, null, null, null, "color");
+
+        assertThrows(InvalidItemException.class, () -> itemController.compareParetoFrontier(request));
+        verifyNoInteractions(paretoComparisionUseCase);
+    }
+
+    @Test
+    void rankItems_shouldPassProfileIdsAndLimit() {
+        List<String> ids = List.of("item-1", "item-2", "item-3");
+        List<ScoredItem> ranking = List.of(new ScoredItem("item-2", 0.9));
+        when(rankItemsUseCase.rank("best-value", ids, 1)).thenReturn(ranking);
+
+        assertSame(ranking, itemController.rankItems(new RankItemsRequest("best-value", ids, 1)));
+    }
+
+    @Test
+    void rankItems_withoutLimit_shouldRankEveryId() {
+        List<String> ids = List.of("item-1", "item-2", "item-3");
+
+        itemController.rankItems(new RankItemsRequest("best-value", ids, null));
+
+        verify(rankItemsUseCase).rank("best-value", ids, 3);
+    }
+}
@@ -0,0 +1,57 @@
+package com.items.infraestructure.adapters.inbound.rest;
+
+import com.items.infraestructure.adapters.outbound.persistence.ItemReadCounter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemReadMetricsFilterTest {
+
+    private final ItemReadCounter counter = new ItemReadCounter();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ItemReadMetricsFilter filter = new ItemReadMetricsFilter(counter, meterRegistry);
+
+    @Test
+    void doFilter_shouldRecordReadsOfItemRequest() throws ServletException, IOException {
+        FilterChain chain = (req, res) -> {
+            counter.increment();
+            counter.increment();
+        };
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/items/compare"), new MockHttpServletResponse(), chain);
+
+        DistributionSummary summary = meterRegistry.get("items.repository.reads.per.request").summary();
+        assertEquals(1, summary.count());
+        assertEquals(2.0, summary.totalAmount());
+    }
+
+    @Test
+    void doFilter_whenChainFails_shouldStillRecord() {
+        FilterChain chain = (req, res) -> {
+            counter.increment();
+            throw new ServletException("boom");
+        };
+
+        assertThrows(ServletException.class, () -> filter.doFilter(new MockHttpServletRequest("GET", "/items/1"), new MockHttpServletResponse(), chain));
+
+        assertEquals(1.0, meterRegistry.get("items.repository.reads.per.request").summary().totalAmount());
+        assertEquals(-1, counter.end());
+    }
+
+    @Test
+    void doFilter_shouldSkipOtherPaths() throws ServletException, IOException {
+        filter.doFilter(new MockHttpServletRequest("POST", "/auth/login"), new MockHttpServletResponse(), (req, res) -> { });
+
+        assertEquals(0, meterRegistry.get("items.repository.reads.per.request").summary().count());
+    }
+}
@@ -2,12 +2,15 @@ package com.items.infraestructure.adapters.inbound.rest.exception;
 
 import com.items.domain.exception.InvalidItemException;
 import com.items.domain.exception.ItemNotFoundException;
+import com.items.domain.exception.ItemVersionConflictException;
+import com.items.domain.exception.RankingDisabledException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.method.annotation.ExceptionHandlerMethodResolver;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -36,7 +39,7 @@ class GlobalExceptionHandlerTest {
 
     @Test
     void handleItemNotFoundException_withNullId_shouldReturn404() {
-        ItemNotFoundException exception = new ItemNotFoundException(null);
+        ItemNotFoundException exception = new ItemNotFoundException((String) null);
 
         ResponseEntity<ErrorResponse> response = handler.handleItemNotFound(exception);
 
@@ -60,7 +63,6 @@ class GlobalExceptionHandlerTest {
     void handleItemNotFoundException_shouldLogException() {
         ItemNotFoundException exception = new ItemNotFoundException("test-id");
         
-        // This will execute the log.error line
         ResponseEntity<ErrorResponse> response = handler.handleItemNotFound(exception);
         
         assertNotNull(response);
@@ -221,4 +223,35 @@ class GlobalExceptionHandlerTest {
         assertEquals("INTERNAL_ERROR", body.code());
         assertEquals("An unexpected error occurred", body.message());
     }
-}
\ No newline at end of file
+
+    @Test
+    void handleVersionConflict_shouldReturn409() {
+        ItemVersionConflictException exception = new ItemVersionConflictException("item-1", 1, 2);
+
+        ResponseEntity<ErrorResponse> response = handler.handleVersionConflict(exception);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("CONFLICT", response.getBody().code());
+        assertTrue(response.getBody().message().contains("item-1"));
+    }
+
+    @Test
+    void handleRankingDisabled_shouldReturn501() {
+        RankingDisabledException exception = new RankingDisabledException();
+
+        ResponseEntity<ErrorResponse> response = handler.handleRankingDisabled(exception);
+
+        assertEquals(HttpStatus.NOT_IMPLEMENTED, response.getStatusCode());
+        assertEquals("NOT_IMPLEMENTED", response.getBody().code());
+        assertEquals("Item ranking is not enabled", response.getBody().message());
+    }
+
+    @Test
+    void unsupportedOperation_shouldBeHandledAsInternalError() {
+        ExceptionHandlerMethodResolver resolver = new ExceptionHandlerMethodResolver(GlobalExceptionHandler.class);
+
+        assertEquals("handleGenericException",
+            resolver.resolveMethod(new UnsupportedOperationException("List.of(...) mutated")).getName());
+        assertEquals("handleRankingDisabled", resolver.resolveMethod(new RankingDisabledException()).getName());
+    }
+}
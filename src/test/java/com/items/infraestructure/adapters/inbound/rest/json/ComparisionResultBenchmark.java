@@ -0,0 +1,138 @@
+package com.items.infraestructure.adapters.inbound.rest.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.items.application.service.ItemService;
+import com.items.domain.model.ComparisionResult;
+import com.items.domain.model.Item;
+import com.items.domain.port.outbound.ItemRepositoryPort;
+
+/**
+ * Allocation per {@code GET /items/compare} response: the comparison itself and its JSON,
+ * against the former map-based result serialized by introspection. Run with the GC profiler
+ * and read {@code gc.alloc.rate.norm}; not run by the test suite, see the README.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComparisionResultBenchmark {
+
+    private ItemService itemService;
+    private ObjectMapper mapper;
+    private ObjectMapper introspectingMapper;
+    private ByteArrayOutputStream buffer;
+    private Item first;
+    private Item second;
+
+    @Setup
+    public void setup() {
+        first = new Item("id1", "Item A", "url", "desc", new BigDecimal("1499.99"), 4.2, null);
+        second = new Item("id2", "Item B", "url", "desc", new BigDecimal("1299.50"), 4.8, null);
+        itemService = new ItemService(new FixedItems(first, second));
+        mapper = new ObjectMapper()
+                .registerModule(new SimpleModule().addSerializer(ComparisionResult.class, new ComparisionResultSerializer()));
+        introspectingMapper = new ObjectMapper();
+        buffer = new ByteArrayOutputStream(512);
+    }
+
+    @Benchmark
+    public ComparisionResult compare() {
+        return itemService.compare("id1", "id2");
+    }
+
+    @Benchmark
+    public int compareAndWrite() throws IOException {
+        buffer.reset();
+        mapper.writeValue(buffer, itemService.compare("id1", "id2"));
+        return buffer.size();
+    }
+
+    @Benchmark
+    public int mapBasedCompareAndWrite() throws IOException {
+        buffer.reset();
+        introspectingMapper.writeValue(buffer, mapBasedCompare());
+        return buffer.size();
+    }
+
+    // the comparison as it was built before ComparisionResult had primitive fields
+    private MapBasedResult mapBasedCompare() {
+        Item item1 = itemService.getItemById("id1");
+        Item item2 = itemService.getItemById("id2");
+        String bestPriceItemId = item1.price().compareTo(item2.price()) < 0 ? item1.id() : item2.id();
+        double bestPrice = item1.price().compareTo(item2.price()) < 0
+            ? item1.price().doubleValue() : item2.price().doubleValue();
+        String bestRatedItem = item1.rating() > item2.rating() ? item1.id() : item2.id();
+        Double bestRating = Math.max(item1.rating(), item2.rating());
+        BigDecimal priceDifference = item1.price().subtract(item2.price()).abs();
+        Double ratingDifference = Math.abs(item1.rating() - item2.rating());
+        return new MapBasedResult(bestPriceItemId, bestPrice, bestRatedItem, bestRating, Map.of(
+            "priceDifference", priceDifference.toString(),
+            "ratingDifference", ratingDifference.toString()));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ComparisionResultBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    public record MapBasedResult(String bestPriceItemId, double bestPrice, String bestRankedItem,
+            Double bestRating, Map<String, String> differences) {
+    }
+
+    private static final class FixedItems implements ItemRepositoryPort {
+        private final Item first;
+        private final Item second;
+
+        private FixedItems(Item first, Item second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public Optional<Item> findById(String id) {
+            return Optional.of(id.equals(first.id()) ? first : second);
+        }
+
+        @Override
+        public Item save(Item item) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteById(String id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Item compareAndSave(Item item, long expectedVersion) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
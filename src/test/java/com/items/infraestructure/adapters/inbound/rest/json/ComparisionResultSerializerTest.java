@@ -0,0 +1,52 @@
+package com.items.infraestructure.adapters.inbound.rest.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.items.domain.model.ComparisionResult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComparisionResultSerializerTest {
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new SimpleModule().addSerializer(ComparisionResult.class, new ComparisionResultSerializer()));
+
+    @Test
+    void serialize_shouldWriteFieldsInOrder() throws Exception {
+        ComparisionResult result = new ComparisionResult("id1", 100.0, "id2", 4.8, "50.00", 0.5999999999999996);
+
+        assertEquals("{\"bestPriceItemId\":\"id1\",\"bestPrice\":100.0,\"bestRankedItem\":\"id2\",\"bestRating\":4.8,"
+                + "\"differences\":{\"priceDifference\":\"50.00\",\"ratingDifference\":\"0.5999999999999996\"}}",
+                mapper.writeValueAsString(result));
+    }
+
+    @Test
+    void serialize_shouldMatchFormerMapBasedShape() throws Exception {
+        ComparisionResult result = new ComparisionResult("a\"b", 19.99, "c", 0.0, "1E+3", 5.0);
+        Map<String, Object> former = new LinkedHashMap<>();
+        former.put("bestPriceItemId", "a\"b");
+        former.put("bestPrice", 19.99);
+        former.put("bestRankedItem", "c");
+        former.put("bestRating", 0.0);
+        former.put("differences", Map.of("priceDifference", "1E+3", "ratingDifference", "5.0"));
+
+        JsonNode expected = mapper.valueToTree(former);
+
+        assertEquals(expected, mapper.readTree(mapper.writeValueAsString(result)));
+    }
+
+    @Test
+    void serialize_insideCollections_shouldUseSerializer() throws Exception {
+        ComparisionResult result = new ComparisionResult("id1", 1.0, "id2", 2.0, "0", 0.0);
+
+        JsonNode tree = mapper.readTree(mapper.writeValueAsString(Map.of("result", result)));
+
+        assertEquals("0.0", tree.path("result").path("differences").path("ratingDifference").asText());
+    }
+}
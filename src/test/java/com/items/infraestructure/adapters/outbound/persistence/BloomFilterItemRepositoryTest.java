@@ -0,0 +1,195 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import com.items.domain.exception.ItemVersionConflictException;
+import com.items.domain.model.Item;
+import com.items.domain.port.outbound.ItemRepositoryPort;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class BloomFilterItemRepositoryTest {
+
+    @TempDir
+    Path tempFolder;
+
+    private JsonItemRepository jsonRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private Item sampleItem;
+
+    @BeforeEach
+    void setup() {
+        jsonRepository = new JsonItemRepository(tempFolder.toString());
+        meterRegistry = new SimpleMeterRegistry();
+        sampleItem = new Item("sample-123", "Sample Product", "http://sample.img", "A sample description", BigDecimal.valueOf(49.99), 3.8, null);
+    }
+
+    @Test
+    void constructor_shouldLoadExistingIds() {
+        jsonRepository.save(sampleItem);
+
+        BloomFilterItemRepository repository = repository(jsonRepository);
+
+        assertEquals(sampleItem, repository.findById("sample-123").orElseThrow());
+        assertEquals(1, repository.filter().insertions());
+    }
+
+    @Test
+    void constructor_shouldBuildFromFileNamesWithoutDecodingItems() throws IOException {
+        jsonRepository.save(sampleItem);
+        Files.writeString(tempFolder.resolve("sample-123.json"), "{not json");
+
+        BloomFilterItemRepository repository = repository(jsonRepository);
+
+        assertTrue(repository.filter().mightContain("sample-123"));
+        assertEquals(1, repository.filter().insertions());
+    }
+
+    @Test
+    void findById_whenIdUnknown_shouldNotReadDelegate() {
+        ItemRepositoryPort delegate = mock(ItemRepositoryPort.class);
+        BloomFilterItemRepository repository = new BloomFilterItemRepository(delegate, consumer -> { }, 100, 0.01, 0.2, meterRegistry);
+
+        Optional<Item> result = repository.findById("missing");
+
+        assertTrue(result.isEmpty());
+        verify(delegate, never()).findById(anyString());
+        assertEquals(1.0, meterRegistry.get("items.bloom.skipped").functionCounter().count());
+    }
+
+    @Test
+    void save_shouldMakeIdVisible() {
+        BloomFilterItemRepository repository = repository(jsonRepository);
+
+        repository.save(sampleItem);
+
+        assertEquals(sampleItem, repository.findById("sample-123").orElseThrow());
+    }
+
+    @Test
+    void deleteById_shouldRemoveItemEvenThoughIdStaysInFilter() {
+        BloomFilterItemRepository repository = new BloomFilterItemRepository(jsonRepository, jsonRepository, 100, 0.01, 10, meterRegistry);
+        repository.save(sampleItem);
+
+        repository.deleteById("sample-123");
+
+        assertTrue(repository.findById("sample-123").isEmpty());
+        assertEquals(0.0, repository.falsePositiveRate());
+        assertEquals(0.0, meterRegistry.get("items.bloom.false.positives").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("items.bloom.deleted.lookups").functionCounter().count());
+    }
+
+    @Test
+    void findAllById_withDeletedId_shouldNotCountFalsePositive() {
+        BloomFilterItemRepository repository = new BloomFilterItemRepository(jsonRepository, jsonRepository, 100, 0.01, 10, meterRegistry);
+        repository.save(sampleItem);
+        repository.deleteById("sample-123");
+
+        assertTrue(repository.findAllById(List.of("sample-123")).isEmpty());
+
+        assertEquals(0.0, meterRegistry.get("items.bloom.false.positives").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("items.bloom.deleted.lookups").functionCounter().count());
+    }
+
+    @Test
+    void save_afterDelete_shouldCountLaterMissAsFalsePositive() {
+        ItemRepositoryPort delegate = mock(ItemRepositoryPort.class);
+        BloomFilterItemRepository repository = new BloomFilterItemRepository(delegate, consumer -> { }, 100, 0.01, 10, meterRegistry);
+        when(delegate.save(sampleItem)).thenReturn(sampleItem);
+        when(delegate.findById("sample-123")).thenReturn(Optional.empty());
+        repository.save(sampleItem);
+        repository.deleteById("sample-123");
+
+        repository.save(sampleItem);
+        repository.findById("sample-123");
+
+        assertEquals(1.0, meterRegistry.get("items.bloom.false.positives").functionCounter().count());
+        assertEquals(0.0, meterRegistry.get("items.bloom.deleted.lookups").functionCounter().count());
+    }
+
+    @Test
+    void rebuild_shouldDropDeletedIds() {
+        BloomFilterItemRepository repository = new BloomFilterItemRepository(jsonRepository, jsonRepository, 100, 0.01, 10, meterRegistry);
+        repository.save(sampleItem);
+        repository.deleteById("sample-123");
+
+        repository.rebuild();
+
+        assertFalse(repository.filter().mightContain("sample-123"));
+    }
+
+    @Test
+    void deleteById_whenRatioExceeded_shouldRebuildInBackground() throws Exception {
+        BloomFilterItemRepository repository = repository(jsonRepository);
+        repository.save(sampleItem);
+        ItemIdBloomFilter before = repository.filter();
+
+        repository.deleteById("sample-123");
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (repository.filter() == before && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertNotSame(before, repository.filter());
+        assertFalse(repository.filter().mightContain("sample-123"));
+        repository.close();
+    }
+
+    @Test
+    void falsePositiveRate_shouldBeZeroWithoutLookups() {
+        BloomFilterItemRepository repository = repository(jsonRepository);
+
+        assertEquals(0.0, repository.falsePositiveRate());
+        assertNotNull(meterRegistry.find("items.bloom.expected.false.positive.rate").gauge());
+    }
+
+    @Test
+    void close_shouldCloseDelegate() throws Exception {
+        WriteBehindItemRepository delegate = new WriteBehindItemRepository(jsonRepository, 1000, 10, 100);
+        BloomFilterItemRepository repository = new BloomFilterItemRepository(delegate, jsonRepository, 100, 0.01, 0.2, meterRegistry);
+
+        repository.close();
+
+        assertThrows(IllegalStateException.class, () -> delegate.save(sampleItem));
+    }
+
+    private BloomFilterItemRepository repository(JsonItemRepository store) {
+        return new BloomFilterItemRepository(store, store, 100, 0.01, 0.2, meterRegistry);
+    }
+
+    @Test
+    void compareAndSave_shouldDelegateAndKeepIdVisible() {
+        jsonRepository.save(sampleItem.withVersion(1L));
+        BloomFilterItemRepository repository = repository(jsonRepository);
+
+        assertEquals(2L, repository.compareAndSave(sampleItem, 1L).version());
+        assertThrows(ItemVersionConflictException.class, () -> repository.compareAndSave(sampleItem, 1L));
+        assertTrue(repository.findById(sampleItem.id()).isPresent());
+    }
+
+    @Test
+    void findAllById_shouldOnlyReadIdsTheFilterMightContain() {
+        ItemRepositoryPort delegate = mock(ItemRepositoryPort.class);
+        BloomFilterItemRepository repository = new BloomFilterItemRepository(delegate, consumer -> consumer.accept(sampleItem.id()), 100, 0.01, 0.2, meterRegistry);
+        when(delegate.findAllById(List.of("sample-123"))).thenReturn(Map.of("sample-123", sampleItem));
+
+        Map<String, Item> items = repository.findAllById(List.of("sample-123", "missing"));
+
+        assertEquals(Map.of("sample-123", sampleItem), items);
+        assertEquals(1.0, meterRegistry.get("items.bloom.skipped").functionCounter().count());
+    }
+}
@@ -0,0 +1,185 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import com.items.domain.exception.ItemVersionConflictException;
+import com.items.domain.model.Item;
+import com.items.domain.port.outbound.ItemRepositoryPort;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CachingItemRepositoryTest {
+
+    private ItemRepositoryPort delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private Item sampleItem;
+
+    @BeforeEach
+    void setup() {
+        delegate = mock(ItemRepositoryPort.class);
+        meterRegistry = new SimpleMeterRegistry();
+        sampleItem = new Item("sample-123", "Sample Product", "http://sample.img", "A sample description", BigDecimal.valueOf(49.99), 3.8, null);
+        when(delegate.findById("sample-123")).thenReturn(Optional.of(sampleItem));
+    }
+
+    @Test
+    void findById_shouldReadDelegateOnce() {
+        CachingItemRepository repository = new CachingItemRepository(delegate, 100, 0, meterRegistry);
+
+        assertEquals(sampleItem, repository.findById("sample-123").orElseThrow());
+        assertEquals(sampleItem, repository.findById("sample-123").orElseThrow());
+
+        verify(delegate, times(1)).findById("sample-123");
+        assertEquals(1.0, meterRegistry.get("items.cache.hits").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("items.cache.misses").functionCounter().count());
+        assertEquals(0.5, repository.hitRatio());
+    }
+
+    @Test
+    void findById_whenMissing_shouldNotCache() {
+        CachingItemRepository repository = new CachingItemRepository(delegate, 100, 0, meterRegistry);
+        when(delegate.findById("missing")).thenReturn(Optional.empty());
+
+        assertTrue(repository.findById("missing").isEmpty());
+        assertTrue(repository.findById("missing").isEmpty());
+
+        verify(delegate, times(2)).findById("missing");
+        assertEquals(0, repository.size());
+    }
+
+    @Test
+    void findById_shouldEvictLeastRecentlyUsed() {
+        CachingItemRepository repository = new CachingItemRepository(delegate, 2, 0, meterRegistry);
+        when(delegate.findById(anyString())).thenAnswer(call -> Optional.of(sampleItem.withId(call.getArgument(0))));
+
+        repository.findById("a");
+        repository.findById("b");
+        repository.findById("a");
+        repository.findById("c");
+        repository.findById("a");
+        repository.findById("b");
+
+        verify(delegate, times(1)).findById("a");
+        verify(delegate, times(2)).findById("b");
+        assertEquals(2, repository.size());
+        assertEquals(2.0, meterRegistry.get("items.cache.evictions").functionCounter().count());
+    }
+
+    @Test
+    void findById_shouldStayWithinMaxSize() {
+        CachingItemRepository repository = new CachingItemRepository(delegate, 100, 0, meterRegistry);
+        when(delegate.findById(anyString())).thenAnswer(call -> Optional.of(sampleItem.withId(call.getArgument(0))));
+
+        for (int i = 0; i < 1000; i++) {
+            repository.findById("id-" + i);
+        }
+
+        assertTrue(repository.size() <= 100);
+        assertEquals(repository.size(), meterRegistry.get("items.cache.size").gauge().value());
+    }
+
+    @Test
+    void findById_whenEntryExpired_shouldReload() {
+        AtomicLong now = new AtomicLong();
+        CachingItemRepository repository = new CachingItemRepository(delegate, 100, 1000, meterRegistry, now::get);
+
+        repository.findById("sample-123");
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        repository.findById("sample-123");
+        verify(delegate, times(1)).findById("sample-123");
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        repository.findById("sample-123");
+        verify(delegate, times(2)).findById("sample-123");
+    }
+
+    @Test
+    void save_shouldInvalidateEntry() {
+        CachingItemRepository repository = new CachingItemRepository(delegate, 100, 0, meterRegistry);
+        repository.findById("sample-123");
+        Item updated = sampleItem.withVersion(2L);
+        when(delegate.save(updated)).thenReturn(updated);
+        when(delegate.findById("sample-123")).thenReturn(Optional.of(updated));
+
+        repository.save(updated);
+
+        assertEquals(updated, repository.findById("sample-123").orElseThrow());
+    }
+
+    @Test
+    void compareAndSave_whenConflict_shouldStillInvalidate() {
+        CachingItemRepository repository = new CachingItemRepository(delegate, 100, 0, meterRegistry);
+        repository.findById("sample-123");
+        when(delegate.compareAndSave(sampleItem, 3L)).thenThrow(new ItemVersionConflictException("sample-123", 3L, 1L));
+
+        assertThrows(ItemVersionConflictException.class, () -> repository.compareAndSave(sampleItem, 3L));
+
+        assertEquals(0, repository.size());
+    }
+
+    @Test
+    void deleteById_shouldInvalidateEntry() {
+        CachingItemRepository repository = new CachingItemRepository(delegate, 100, 0, meterRegistry);
+        repository.findById("sample-123");
+        when(delegate.findById("sample-123")).thenReturn(Optional.empty());
+
+        repository.deleteById("sample-123");
+
+        assertTrue(repository.findById("sample-123").isEmpty());
+    }
+
+    @Test
+    void findById_whenWriteRacesLoad_shouldNotCacheStaleItem() {
+        CachingItemRepository[] holder = new CachingItemRepository[1];
+        when(delegate.findById("sample-123")).thenAnswer(call -> {
+            holder[0].invalidate("sample-123");
+            return Optional.of(sampleItem);
+        });
+        holder[0] = new CachingItemRepository(delegate, 100, 0, meterRegistry);
+
+        assertEquals(sampleItem, holder[0].findById("sample-123").orElseThrow());
+
+        assertEquals(0, holder[0].size());
+    }
+
+    @Test
+    void constructor_whenSizeNotPositive_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new CachingItemRepository(delegate, 0, 0, meterRegistry));
+    }
+
+    @Test
+    void close_shouldCloseDelegate() throws Exception {
+        WriteBehindItemRepository closeable = mock(WriteBehindItemRepository.class);
+
+        new CachingItemRepository(closeable, 10, 0, meterRegistry).close();
+
+        verify(closeable).close();
+    }
+
+    @Test
+    void findAllById_shouldLoadOnlyMissesInOneBatch() {
+        CachingItemRepository repository = new CachingItemRepository(delegate, 100, 0, meterRegistry);
+        repository.findById("sample-123");
+        Item other = sampleItem.withId("other");
+        when(delegate.findAllById(List.of("other", "missing"))).thenReturn(Map.of("other", other));
+
+        Map<String, Item> items = repository.findAllById(List.of("other", "sample-123", "missing", "other"));
+
+        assertEquals(List.of("other", "sample-123"), List.copyOf(items.keySet()));
+        verify(delegate, times(1)).findAllById(any());
+        assertEquals(other, repository.findById("other").orElseThrow());
+        assertEquals(2.0, meterRegistry.get("items.cache.hits").functionCounter().count());
+    }
+}
@@ -0,0 +1,64 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdKeyMapTest {
+
+    @Test
+    void put_shouldReplaceKeysOfExistingId() {
+        IdKeyMap map = new IdKeyMap();
+        map.put("a", 1, 10);
+        map.put("a", 2, 20);
+
+        assertEquals(1, map.size());
+        int index = map.indexOf("a");
+        assertEquals(2, map.priceKey(index));
+        assertEquals(20, map.ratingKey(index));
+        assertEquals(IdKeyMap.ABSENT, map.indexOf("b"));
+    }
+
+    @Test
+    void remove_shouldReportPresenceOnce() {
+        IdKeyMap map = new IdKeyMap();
+        map.put("a", 7, 8);
+
+        assertTrue(map.remove("a"));
+        assertFalse(map.remove("a"));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    void operations_shouldMatchHashMapAfterRandomWritesAndGrowth() {
+        IdKeyMap map = new IdKeyMap();
+        Map<String, Integer> expected = new HashMap<>();
+        Random random = new Random(11);
+        for (int i = 0; i < 50000; i++) {
+            String id = "id-" + random.nextInt(5000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.containsKey(id), map.remove(id));
+                expected.remove(id);
+            } else {
+                map.put(id, i, -i);
+                expected.put(id, i);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (int i = 0; i < 5000; i++) {
+            String id = "id-" + i;
+            int index = map.indexOf(id);
+            if (expected.containsKey(id)) {
+                assertEquals((long) expected.get(id), map.priceKey(index));
+                assertEquals(-(long) expected.get(id), map.ratingKey(index));
+            } else {
+                assertEquals(IdKeyMap.ABSENT, index);
+            }
+        }
+    }
+}
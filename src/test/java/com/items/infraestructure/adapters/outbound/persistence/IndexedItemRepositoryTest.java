@@ -0,0 +1,225 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import com.items.domain.exception.ItemVersionConflictException;
+import com.items.domain.model.Item;
+import com.items.domain.model.Specification;
+import com.items.domain.port.outbound.ItemRepositoryPort;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class IndexedItemRepositoryTest {
+
+    @TempDir
+    Path tempFolder;
+
+    private JsonItemRepository jsonRepository;
+    private Item sampleItem;
+
+    @BeforeEach
+    void setup() {
+        Specification specification = new Specification("spec1", "Spec Description", null, null, null, null, null);
+        jsonRepository = new JsonItemRepository(tempFolder.toString());
+        sampleItem = new Item("sample-123", "Sample Product", "http://sample.img", "A sample description", BigDecimal.valueOf(49.99), 3.8, specification);
+    }
+
+    @Test
+    void constructor_shouldLoadExistingItems() {
+        jsonRepository.save(sampleItem);
+
+        IndexedItemRepository repository = new IndexedItemRepository(jsonRepository, jsonRepository);
+
+        assertEquals(1, repository.size());
+        assertEquals(sampleItem, repository.findById("sample-123").orElseThrow());
+    }
+
+    @Test
+    void findById_shouldServeFromIndexWithoutReadingDisk() {
+        jsonRepository.save(sampleItem);
+        IndexedItemRepository repository = new IndexedItemRepository(jsonRepository, jsonRepository);
+
+        new File(tempFolder.toFile(), "sample-123.json").delete();
+
+        assertTrue(repository.findById("sample-123").isPresent());
+    }
+
+    @Test
+    void findById_withNullOrUnknownId_shouldReturnEmpty() {
+        IndexedItemRepository repository = new IndexedItemRepository(jsonRepository, jsonRepository);
+
+        assertTrue(repository.findById(null).isEmpty());
+        assertTrue(repository.findById("missing").isEmpty());
+    }
+
+    @Test
+    void save_shouldWriteThroughToDelegate() {
+        IndexedItemRepository repository = new IndexedItemRepository(jsonRepository, jsonRepository);
+
+        Item saved = repository.save(sampleItem);
+
+        assertEquals(sampleItem, saved);
+        assertTrue(new File(tempFolder.toFile(), "sample-123.json").exists());
+        assertEquals(Optional.of(sampleItem), repository.findById("sample-123"));
+    }
+
+    @Test
+    void deleteById_shouldRemoveFromIndexAndDisk() {
+        IndexedItemRepository repository = new IndexedItemRepository(jsonRepository, jsonRepository);
+        repository.save(sampleItem);
+
+        repository.deleteById("sample-123");
+
+        assertTrue(repository.findById("sample-123").isEmpty());
+        assertFalse(new File(tempFolder.toFile(), "sample-123.json").exists());
+        assertEquals(0, repository.size());
+    }
+
+    @Test
+    void deleteById_withNullId_shouldNotThrow() {
+        IndexedItemRepository repository = new IndexedItemRepository(jsonRepository, jsonRepository);
+
+        assertDoesNotThrow(() -> repository.deleteById(null));
+    }
+
+    @Test
+    void compareAndSave_shouldCheckIndexedVersion() {
+        jsonRepository.save(sampleItem.withVersion(1L));
+        IndexedItemRepository repository = new IndexedItemRepository(jsonRepository, jsonRepository);
+
+        Item saved = repository.compareAndSave(sampleItem, 1L);
+
+        assertEquals(2L, saved.version());
+        assertEquals(2L, jsonRepository.findById(sampleItem.id()).orElseThrow().version());
+        assertThrows(ItemVersionConflictException.class, () -> repository.compareAndSave(sampleItem, 1L));
+        assertEquals(2L, repository.findById(sampleItem.id()).orElseThrow().version());
+    }
+
+    @Test
+    void findById_beforeWarmUp_shouldReadFromDelegate() {
+        jsonRepository.save(sampleItem);
+        IndexedItemRepository repository = new IndexedItemRepository(jsonRepository);
+
+        assertFalse(repository.isWarm());
+        assertEquals(sampleItem, repository.findById(sampleItem.id()).orElseThrow());
+        assertEquals(0, repository.size());
+    }
+
+    @Test
+    void warmUpAsync_shouldFillIndex() throws Exception {
+        jsonRepository.save(sampleItem);
+        IndexedItemRepository repository = new IndexedItemRepository(jsonRepository);
+
+        repository.warmUpAsync(new ItemCatalogLoader(jsonRepository, 2, new ItemLoadProgress())).get(5, TimeUnit.SECONDS);
+
+        assertTrue(repository.isWarm());
+        assertEquals(1, repository.size());
+    }
+
+    @Test
+    void warmUp_shouldNotRestoreItemsDeletedMeanwhile() {
+        jsonRepository.save(sampleItem);
+        IndexedItemRepository repository = new IndexedItemRepository(jsonRepository);
+        Item stale = sampleItem;
+
+        repository.warmUp(consumer -> {
+            repository.deleteById(stale.id());
+            consumer.accept(stale);
+        });
+
+        assertTrue(repository.findById(stale.id()).isEmpty());
+    }
+
+    @Test
+    void warmUp_shouldKeepItemsSavedMeanwhile() {
+        IndexedItemRepository repository = new IndexedItemRepository(jsonRepository);
+        Item newer = sampleItem.withVersion(2L);
+
+        repository.warmUp(consumer -> {
+            repository.save(newer);
+            consumer.accept(sampleItem);
+        });
+
+        assertEquals(newer, repository.findById(sampleItem.id()).orElseThrow());
+    }
+
+    @Test
+    void findAllById_beforeWarmUp_shouldBatchColdIdsToDelegate() {
+        jsonRepository.save(sampleItem);
+        jsonRepository.save(sampleItem.withId("other"));
+        IndexedItemRepository repository = new IndexedItemRepository(jsonRepository);
+        repository.save(sampleItem.withId("hot"));
+
+        Map<String, Item> items = repository.findAllById(List.of("other", "hot", "missing", "sample-123"));
+
+        assertEquals(List.of("other", "hot", "sample-123"), List.copyOf(items.keySet()));
+    }
+
+    @Test
+    void findAllById_whenWarm_shouldServeFromIndex() {
+        jsonRepository.save(sampleItem);
+        IndexedItemRepository repository = new IndexedItemRepository(jsonRepository, jsonRepository);
+        new File(tempFolder.toFile(), "sample-123.json").delete();
+
+        assertEquals(Map.of("sample-123", sampleItem), repository.findAllById(List.of("sample-123", "missing")));
+    }
+
+    @Test
+    void scan_shouldVisitIndexedItems() {
+        jsonRepository.save(sampleItem);
+        IndexedItemRepository repository = new IndexedItemRepository(jsonRepository, jsonRepository);
+        repository.save(sampleItem.withId("second"));
+
+        List<String> ids = new ArrayList<>();
+        repository.scan(item -> ids.add(item.id()));
+
+        assertEquals(2, ids.size());
+        assertTrue(ids.containsAll(List.of("sample-123", "second")));
+    }
+
+    @Test
+    void save_whileAnotherIdIsBeingWritten_shouldNotWait() throws Exception {
+        StripedLocks stripes = new StripedLocks();
+        String otherId = "other-0";
+        for (int i = 1; stripes.lockFor(otherId) == stripes.lockFor("slow"); i++) {
+            otherId = "other-" + i;
+        }
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ItemRepositoryPort delegate = mock(ItemRepositoryPort.class);
+        when(delegate.save(any())).thenAnswer(invocation -> {
+            Item item = invocation.getArgument(0);
+            if (item.id().equals("slow")) {
+                writing.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return item;
+        });
+        IndexedItemRepository repository = new IndexedItemRepository(delegate, consumer -> { });
+        CompletableFuture<Item> slow = CompletableFuture.supplyAsync(() -> repository.save(sampleItem.withId("slow")));
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+        repository.save(sampleItem.withId(otherId));
+
+        assertTrue(repository.findById(otherId).isPresent());
+        assertTrue(repository.findById("slow").isEmpty());
+        release.countDown();
+        slow.get(5, TimeUnit.SECONDS);
+        assertTrue(repository.findById("slow").isPresent());
+    }
+}
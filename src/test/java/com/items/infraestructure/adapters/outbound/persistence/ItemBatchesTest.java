@@ -0,0 +1,24 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import com.items.domain.model.Item;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemBatchesTest {
+
+    @Test
+    void inRequestOrder_shouldFollowIdsAndSkipMissing() {
+        Item a = new Item("a", "A", "url", "desc", BigDecimal.ONE, 1.0, null);
+        Item b = new Item("b", "B", "url", "desc", BigDecimal.TEN, 2.0, null);
+
+        Map<String, Item> ordered = ItemBatches.inRequestOrder(List.of("b", "missing", "a", "b"), Map.of("a", a, "b", b));
+
+        assertEquals(List.of("b", "a"), List.copyOf(ordered.keySet()));
+    }
+}
@@ -0,0 +1,152 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import com.items.domain.model.Item;
+import com.items.infraestructure.adapters.inbound.health.ItemCatalogHealthIndicator;
+import com.items.infraestructure.adapters.outbound.persistence.codec.BinaryItemCodec;
+import com.items.infraestructure.adapters.outbound.persistence.codec.JsonItemCodec;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.health.Status;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemCatalogLoaderTest {
+
+    @TempDir
+    Path tempFolder;
+
+    private static Item item(String id) {
+        return new Item(id, "Item " + id, "url", "desc", BigDecimal.TEN, 4.0, null);
+    }
+
+    @Test
+    void scan_shouldLoadEveryItemInParallel() {
+        JsonItemRepository repository = new JsonItemRepository(tempFolder.toString());
+        for (int i = 0; i < 1000; i++) {
+            repository.save(item("id-" + i));
+        }
+        ItemLoadProgress progress = new ItemLoadProgress();
+        ItemCatalogLoader loader = new ItemCatalogLoader(repository, 4, progress);
+
+        Set<String> ids = new HashSet<>();
+        loader.scan(loaded -> ids.add(loaded.id()));
+
+        assertEquals(1000, ids.size());
+        assertEquals(ItemLoadProgress.State.LOADED, progress.state());
+        assertEquals(1000, progress.discoveredCount());
+        assertEquals(1000, progress.loadedCount());
+        assertTrue(progress.isListingComplete());
+    }
+
+    @Test
+    void scan_shouldNeverCallConsumerConcurrently() {
+        JsonItemRepository repository = new JsonItemRepository(tempFolder.toString());
+        for (int i = 0; i < 600; i++) {
+            repository.save(item("id-" + i));
+        }
+        ItemCatalogLoader loader = new ItemCatalogLoader(repository, 8, new ItemLoadProgress());
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger maxInside = new AtomicInteger();
+
+        loader.scan(loaded -> {
+            maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+            inside.decrementAndGet();
+        });
+
+        assertEquals(1, maxInside.get());
+    }
+
+    @Test
+    void scan_shouldCountUnreadableFiles() throws Exception {
+        JsonItemRepository repository = new JsonItemRepository(tempFolder.toString());
+        repository.save(item("id-1"));
+        Files.writeString(tempFolder.resolve("broken.json"), "{not json");
+        ItemLoadProgress progress = new ItemLoadProgress();
+
+        Set<String> ids = new HashSet<>();
+        new ItemCatalogLoader(repository, 2, progress).scan(loaded -> ids.add(loaded.id()));
+
+        assertEquals(Set.of("id-1"), ids);
+        assertEquals(1, progress.failedCount());
+        assertEquals(ItemLoadProgress.State.LOADED, progress.state());
+    }
+
+    @Test
+    void scan_shouldReadShardedLayoutAndMigrateOldFiles() {
+        new JsonItemRepository(tempFolder.toString()).save(item("flat-1"));
+        JsonItemRepository sharded = new JsonItemRepository(tempFolder.toString(), false, new BinaryItemCodec(), ItemFileLayout.SHARDED);
+        sharded.save(item("sharded-1"));
+
+        Set<String> ids = new HashSet<>();
+        new ItemCatalogLoader(sharded, 2, new ItemLoadProgress()).scan(loaded -> ids.add(loaded.id()));
+
+        assertEquals(Set.of("flat-1", "sharded-1"), ids);
+        assertFalse(Files.exists(tempFolder.resolve("flat-1.json")));
+    }
+
+    @Test
+    void scan_whenConsumerFails_shouldMarkProgressFailed() {
+        JsonItemRepository repository = new JsonItemRepository(tempFolder.toString(), false, new JsonItemCodec(false));
+        repository.save(item("id-1"));
+        ItemLoadProgress progress = new ItemLoadProgress();
+        ItemCatalogLoader loader = new ItemCatalogLoader(repository, 2, progress);
+
+        assertThrows(RuntimeException.class, () -> loader.scan(loaded -> {
+            throw new IllegalStateException("boom");
+        }));
+        assertEquals(ItemLoadProgress.State.FAILED, progress.state());
+    }
+
+    @Test
+    void scan_onEmptyFolder_shouldFinish() {
+        ItemLoadProgress progress = new ItemLoadProgress();
+
+        new ItemCatalogLoader(new JsonItemRepository(tempFolder.toString()), 2, progress).scan(loaded -> fail());
+
+        assertEquals(ItemLoadProgress.State.LOADED, progress.state());
+        assertEquals(0, progress.discoveredCount());
+    }
+
+    @Test
+    void scan_afterWarmUp_shouldLeaveReadinessUp() {
+        JsonItemRepository repository = new JsonItemRepository(tempFolder.toString());
+        repository.save(item("id-1"));
+        repository.save(item("id-2"));
+        ItemLoadProgress progress = new ItemLoadProgress();
+        ItemCatalogHealthIndicator health = new ItemCatalogHealthIndicator(progress);
+        ItemCatalogLoader loader = new ItemCatalogLoader(repository, 2, progress);
+        loader.scan(loaded -> { });
+        assertEquals(Status.UP, health.health().getStatus());
+
+        Set<Status> statusesDuringRebuild = new HashSet<>();
+        loader.scan(loaded -> statusesDuringRebuild.add(health.health().getStatus()));
+
+        assertEquals(Set.of(Status.UP), statusesDuringRebuild);
+        assertEquals(Status.UP, health.health().getStatus());
+        assertEquals(2, progress.loadedCount());
+    }
+
+    @Test
+    void scan_afterFailedWarmUp_shouldReportAgain() {
+        JsonItemRepository repository = new JsonItemRepository(tempFolder.toString());
+        repository.save(item("id-1"));
+        ItemLoadProgress progress = new ItemLoadProgress();
+        ItemCatalogLoader loader = new ItemCatalogLoader(repository, 2, progress);
+        assertThrows(RuntimeException.class, () -> loader.scan(loaded -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        loader.scan(loaded -> { });
+
+        assertEquals(ItemLoadProgress.State.LOADED, progress.state());
+        assertEquals(1, progress.loadedCount());
+    }
+}
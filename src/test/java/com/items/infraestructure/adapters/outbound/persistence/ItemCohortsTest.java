@@ -0,0 +1,124 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import com.items.domain.model.CohortAttribute;
+import com.items.domain.model.CohortStanding;
+import com.items.domain.model.Item;
+import com.items.domain.model.Specification;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemCohortsTest {
+
+    private static Item item(String id, String brand, String material, String price, Double rating) {
+        return new Item(id, "Item " + id, null, null, price == null ? null : new BigDecimal(price), rating,
+            new Specification(brand, null, null, null, null, material, null));
+    }
+
+    @Test
+    void standing_shouldCountOtherItemsOfTheSameBrand() {
+        ItemCohorts cohorts = new ItemCohorts();
+        cohorts.put(item("a", "Dell", null, "10.00", 4.0));
+        cohorts.put(item("b", "dell", null, "20.00", 5.0));
+        cohorts.put(item("c", "DELL", null, "30.00", 3.0));
+        cohorts.put(item("d", "HP", null, "5.00", 5.0));
+
+        CohortStanding standing = cohorts.standing(CohortAttribute.BRAND, item("c", "Dell", null, "30.00", 3.0));
+
+        assertEquals(new CohortStanding(2, 2, 2, "a", new BigDecimal("10.00"), 2, 2, "b", 5.0), standing);
+    }
+
+    @Test
+    void standing_shouldUseGivenValuesInsteadOfIndexedOnes() {
+        ItemCohorts cohorts = new ItemCohorts();
+        cohorts.put(item("a", "Dell", null, "10.00", 4.0));
+        cohorts.put(item("b", "Dell", null, "20.00", 5.0));
+
+        CohortStanding standing = cohorts.standing(CohortAttribute.BRAND, item("b", "Dell", null, "5.00", 1.0));
+        CohortStanding unindexed = cohorts.standing(CohortAttribute.BRAND, item("x", "Dell", null, "15.00", 4.5));
+
+        assertEquals(new CohortStanding(1, 1, 0, "a", new BigDecimal("10.00"), 1, 1, "a", 4.0), standing);
+        assertEquals(new CohortStanding(2, 2, 1, "a", new BigDecimal("10.00"), 2, 1, "b", 5.0), unindexed);
+    }
+
+    @Test
+    void standing_shouldCountEqualValuesAsNeitherBetterNorWorse() {
+        ItemCohorts cohorts = new ItemCohorts();
+        cohorts.put(item("a", "Dell", null, "10.00", 4.0));
+        cohorts.put(item("b", "Dell", null, "10.00", 4.0));
+
+        CohortStanding standing = cohorts.standing(CohortAttribute.BRAND, item("b", "Dell", null, "10.00", 4.0));
+
+        assertEquals(0, standing.cheaper());
+        assertEquals(0, standing.betterRated());
+        assertEquals("a", standing.cheapestItemId());
+    }
+
+    @Test
+    void standing_withSubCentPrices_shouldPickExactCheapest() {
+        ItemCohorts cohorts = new ItemCohorts();
+        cohorts.put(item("a", "Dell", null, "10.004", 4.0));
+        cohorts.put(item("b", "Dell", null, "10.001", 4.0));
+        cohorts.put(item("c", "Dell", null, "10.002", 4.0));
+        cohorts.put(item("d", "Dell", null, "10.01", 4.0));
+
+        CohortStanding unindexed = cohorts.standing(CohortAttribute.BRAND, item("x", "Dell", null, "20.00", 4.0));
+        CohortStanding withoutSelf = cohorts.standing(CohortAttribute.BRAND, item("b", "Dell", null, "10.001", 4.0));
+
+        assertEquals("b", unindexed.cheapestItemId());
+        assertEquals(new BigDecimal("10.001"), unindexed.cheapestPrice());
+        assertEquals("c", withoutSelf.cheapestItemId());
+        assertEquals(new BigDecimal("10.002"), withoutSelf.cheapestPrice());
+    }
+
+    @Test
+    void standing_shouldLeaveOutItemsWithoutPriceOrRating() {
+        ItemCohorts cohorts = new ItemCohorts();
+        cohorts.put(item("a", "Dell", null, null, 4.0));
+        cohorts.put(item("b", "Dell", null, "20.00", null));
+
+        CohortStanding standing = cohorts.standing(CohortAttribute.BRAND, item("x", "Dell", null, "30.00", 3.0));
+
+        assertEquals(new CohortStanding(2, 1, 1, "b", new BigDecimal("20.00"), 1, 1, "a", 4.0), standing);
+    }
+
+    @Test
+    void standing_withoutCohort_shouldBeEmpty() {
+        ItemCohorts cohorts = new ItemCohorts();
+        cohorts.put(item("a", "Dell", null, "10.00", 4.0));
+
+        assertEquals(CohortStanding.EMPTY, cohorts.standing(CohortAttribute.BRAND, item("x", "HP", null, "1", 1.0)));
+        assertEquals(CohortStanding.EMPTY, cohorts.standing(CohortAttribute.MATERIAL, item("a", "Dell", null, "1", 1.0)));
+    }
+
+    @Test
+    void put_shouldMoveItemBetweenCohorts() {
+        ItemCohorts cohorts = new ItemCohorts();
+        cohorts.put(item("a", "Dell", "Steel", "10.00", 4.0));
+        cohorts.put(item("b", "Dell", "Steel", "20.00", 5.0));
+
+        cohorts.put(item("a", "HP", "Steel", "30.00", 4.0));
+
+        assertEquals(1, cohorts.standing(CohortAttribute.BRAND, item("x", "Dell", null, "1", 1.0)).size());
+        CohortStanding steel = cohorts.standing(CohortAttribute.MATERIAL, item("x", null, "steel", "25.00", 1.0));
+        assertEquals(2, steel.size());
+        assertEquals(1, steel.cheaper());
+        assertEquals("b", steel.cheapestItemId());
+        assertEquals(2, cohorts.size());
+    }
+
+    @Test
+    void remove_shouldDropItemAndEmptyCohorts() {
+        ItemCohorts cohorts = new ItemCohorts();
+        cohorts.put(item("a", "Dell", null, "10.00", 4.0));
+        cohorts.put(item("b", "HP", null, "20.00", 5.0));
+
+        cohorts.remove("a");
+        cohorts.remove("missing");
+
+        assertEquals(1, cohorts.size());
+        assertEquals(CohortStanding.EMPTY, cohorts.standing(CohortAttribute.BRAND, item("x", "Dell", null, "1", 1.0)));
+    }
+}
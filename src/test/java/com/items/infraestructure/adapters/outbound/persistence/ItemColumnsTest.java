@@ -0,0 +1,121 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemColumnsTest {
+
+    @Test
+    void cents_shouldRoundHalfUpAndClampOutOfRangePrices() {
+        assertEquals(1999, ItemColumns.cents(new BigDecimal("19.99")));
+        assertEquals(2000, ItemColumns.cents(new BigDecimal("19.995")));
+        assertEquals(1000, ItemColumns.cents(BigDecimal.TEN));
+        assertEquals(Long.MAX_VALUE, ItemColumns.cents(new BigDecimal("1e30")));
+        assertEquals(ItemColumns.NO_PRICE, ItemColumns.cents(null));
+    }
+
+    @Test
+    void put_shouldReplaceValuesOfExistingId() {
+        ItemColumns columns = new ItemColumns();
+        columns.put("a", BigDecimal.ONE, 1.0);
+        columns.put("b", BigDecimal.TEN, 2.0);
+
+        columns.put("a", BigDecimal.valueOf(20), 3.0);
+
+        assertEquals(2, columns.size());
+        assertEquals(List.of("b", "a"), columns.cheapest(10));
+        assertEquals(List.of("a", "b"), columns.bestRated(10));
+    }
+
+    @Test
+    void remove_shouldDropIdFromOrders() {
+        ItemColumns columns = new ItemColumns();
+        columns.put("a", BigDecimal.ONE, 1.0);
+        columns.put("b", BigDecimal.TEN, 2.0);
+
+        columns.remove("a");
+        columns.remove("missing");
+        columns.put("c", BigDecimal.valueOf(5), 3.0);
+
+        assertFalse(columns.contains("a"));
+        assertEquals(2, columns.size());
+        assertEquals(List.of("c", "b"), columns.cheapest(10));
+    }
+
+    @Test
+    void inRange_shouldApplyInclusiveBoundsAndMinimumRating() {
+        ItemColumns columns = new ItemColumns();
+        columns.put("low", new BigDecimal("9.99"), 5.0);
+        columns.put("min", BigDecimal.TEN, 4.0);
+        columns.put("max", new BigDecimal("20.00"), 4.5);
+        columns.put("poor", BigDecimal.valueOf(15), 2.0);
+        columns.put("unrated", BigDecimal.valueOf(12), null);
+        columns.put("unpriced", null, 5.0);
+
+        assertEquals(List.of("min", "unrated", "poor", "max"), columns.inRange(BigDecimal.TEN, BigDecimal.valueOf(20), null, 10));
+        assertEquals(List.of("min", "max"), columns.inRange(new BigDecimal("9.995"), null, 4.0, 10));
+        assertEquals(List.of("low", "min"), columns.inRange(null, null, null, 2));
+        assertEquals(List.of(), columns.inRange(BigDecimal.valueOf(30), null, null, 10));
+        assertEquals(List.of(), columns.inRange(null, null, Double.NaN, 10));
+    }
+
+    @Test
+    void queries_shouldMatchFullSortAfterRandomWrites() {
+        ItemColumns columns = new ItemColumns();
+        Map<String, double[]> expected = new HashMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 5000; i++) {
+            String id = "id-" + random.nextInt(2000);
+            if (random.nextInt(4) == 0) {
+                columns.remove(id);
+                expected.remove(id);
+            } else {
+                int cents = random.nextInt(10000);
+                double rating = random.nextInt(50) / 10.0;
+                columns.put(id, BigDecimal.valueOf(cents, 2), rating);
+                expected.put(id, new double[] {cents, rating});
+            }
+        }
+
+        assertEquals(expected.size(), columns.size());
+        assertEquals(expected.entrySet().stream()
+                .sorted(Comparator.<Map.Entry<String, double[]>>comparingDouble(e -> e.getValue()[0]).thenComparing(Map.Entry::getKey))
+                .map(Map.Entry::getKey).limit(25).toList(), columns.cheapest(25));
+        assertEquals(expected.entrySet().stream()
+                .sorted(Comparator.<Map.Entry<String, double[]>>comparingDouble(e -> -e.getValue()[1]).thenComparing(Map.Entry::getKey))
+                .map(Map.Entry::getKey).limit(25).toList(), columns.bestRated(25));
+        assertEquals(expected.entrySet().stream()
+                .filter(e -> e.getValue()[0] >= 2500 && e.getValue()[0] <= 5000 && e.getValue()[1] >= 3.0)
+                .sorted(Comparator.<Map.Entry<String, double[]>>comparingDouble(e -> e.getValue()[0]).thenComparing(Map.Entry::getKey))
+                .map(Map.Entry::getKey).limit(40).toList(),
+                columns.inRange(BigDecimal.valueOf(25), BigDecimal.valueOf(50), 3.0, 40));
+    }
+
+    @Test
+    void ratingKey_shouldOrderHigherRatingsFirst() {
+        List<Double> ratings = List.of(5.0, 4.5, 0.0, -0.0, -1.0);
+        for (int i = 1; i < ratings.size(); i++) {
+            assertTrue(ItemColumns.ratingKey(ratings.get(i - 1)) <= ItemColumns.ratingKey(ratings.get(i)));
+        }
+        assertEquals(ItemColumns.ratingKey(0.0), ItemColumns.ratingKey(-0.0));
+    }
+
+    @Test
+    void queries_withNonPositiveLimit_shouldReturnNothing() {
+        ItemColumns columns = new ItemColumns();
+        columns.put("a", BigDecimal.ONE, 1.0);
+
+        assertEquals(List.of(), columns.cheapest(0));
+        assertEquals(List.of(), columns.bestRated(-1));
+        assertEquals(List.of(), columns.inRange(null, null, null, 0));
+        assertEquals(List.of(), columns.inRange(BigDecimal.TEN, BigDecimal.ONE, null, 10));
+    }
+}
@@ -0,0 +1,51 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemFileLayoutTest {
+
+    private final Path base = Path.of("data", "items");
+
+    @Test
+    void flat_shouldUseBaseFolder() {
+        assertEquals(base, ItemFileLayout.FLAT.directoryFor(base, "item-1"));
+        assertEquals(0, ItemFileLayout.FLAT.depth());
+    }
+
+    @Test
+    void sharded_shouldUseTwoHexLevels() {
+        Path directory = ItemFileLayout.SHARDED.directoryFor(base, "item-1");
+
+        assertEquals(base, directory.getParent().getParent());
+        assertTrue(directory.getFileName().toString().matches("[0-9a-f]{2}"));
+        assertTrue(directory.getParent().getFileName().toString().matches("[0-9a-f]{2}"));
+        assertEquals(2, ItemFileLayout.SHARDED.depth());
+    }
+
+    @Test
+    void sharded_shouldBeStableForSameId() {
+        assertEquals(ItemFileLayout.SHARDED.directoryFor(base, "item-1"), ItemFileLayout.SHARDED.directoryFor(base, "item-1"));
+    }
+
+    @Test
+    void sharded_shouldSpreadIds() {
+        long directories = IntStream.range(0, 1000)
+                .mapToObj(i -> ItemFileLayout.SHARDED.directoryFor(base, "item-" + i))
+                .distinct()
+                .count();
+
+        assertTrue(directories > 900);
+    }
+
+    @Test
+    void named_shouldResolveLayouts() {
+        assertSame(ItemFileLayout.SHARDED, ItemFileLayout.named("sharded"));
+        assertSame(ItemFileLayout.FLAT, ItemFileLayout.named("flat"));
+        assertSame(ItemFileLayout.FLAT, ItemFileLayout.named(null));
+    }
+}
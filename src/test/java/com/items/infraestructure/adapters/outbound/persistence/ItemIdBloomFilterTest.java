@@ -0,0 +1,65 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemIdBloomFilterTest {
+
+    @Test
+    void mightContain_shouldReturnTrueForAddedIds() {
+        ItemIdBloomFilter filter = new ItemIdBloomFilter(1000, 0.01);
+
+        for (int i = 0; i < 1000; i++) {
+            filter.add("item-" + i);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(filter.mightContain("item-" + i));
+        }
+    }
+
+    @Test
+    void mightContain_shouldRejectMostUnknownIds() {
+        ItemIdBloomFilter filter = new ItemIdBloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.add("item-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (filter.mightContain("missing-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+        assertTrue(filter.expectedFalsePositiveRate() < 0.03);
+    }
+
+    @Test
+    void add_shouldReportWhetherIdWasNew() {
+        ItemIdBloomFilter filter = new ItemIdBloomFilter(100, 0.01);
+
+        assertTrue(filter.add("item-1"));
+        assertFalse(filter.add("item-1"));
+        assertEquals(1, filter.insertions());
+    }
+
+    @Test
+    void emptyFilter_shouldRejectEverything() {
+        ItemIdBloomFilter filter = new ItemIdBloomFilter(100, 0.01);
+
+        assertFalse(filter.mightContain("item-1"));
+        assertEquals(0.0, filter.expectedFalsePositiveRate());
+    }
+
+    @Test
+    void constructor_shouldSizeFromCapacity() {
+        ItemIdBloomFilter filter = new ItemIdBloomFilter(1000, 0.01);
+
+        assertEquals(1000, filter.capacity());
+        assertTrue(filter.bitSize() >= 9585);
+        assertEquals(7, filter.hashCount());
+    }
+}
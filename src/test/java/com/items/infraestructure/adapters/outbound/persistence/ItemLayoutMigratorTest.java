@@ -0,0 +1,85 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import com.items.domain.model.Item;
+import com.items.infraestructure.adapters.outbound.persistence.codec.JsonItemCodec;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemLayoutMigratorTest {
+
+    @TempDir
+    Path tempFolder;
+
+    private JsonItemRepository flatRepository;
+    private JsonItemRepository shardedRepository;
+
+    @BeforeEach
+    void setup() {
+        flatRepository = new JsonItemRepository(tempFolder.toString());
+        shardedRepository = new JsonItemRepository(tempFolder.toString(), false, new JsonItemCodec(true), ItemFileLayout.SHARDED);
+    }
+
+    @Test
+    void migrate_shouldMoveFlatFilesIntoShards() {
+        for (int i = 0; i < 20; i++) {
+            flatRepository.save(item("item-" + i, 10 + i));
+        }
+
+        int moved = new ItemLayoutMigrator(tempFolder.toString(), ItemFileLayout.SHARDED).migrate();
+
+        assertEquals(20, moved);
+        assertFalse(Files.exists(tempFolder.resolve("item-0.json")));
+        for (int i = 0; i < 20; i++) {
+            assertTrue(Files.exists(sharded("item-" + i)));
+            assertEquals(BigDecimal.valueOf(10.0 + i), shardedRepository.findById("item-" + i).orElseThrow().price());
+        }
+    }
+
+    @Test
+    void migrate_shouldKeepNewerShardedFile() {
+        flatRepository.save(item("item-1", 10));
+        Item newer = item("item-1", 99);
+        // simulate a write through the sharded repository racing with a stale flat copy
+        shardedRepository.save(newer);
+        flatRepository.save(item("item-1", 10));
+
+        new ItemLayoutMigrator(tempFolder.toString(), ItemFileLayout.SHARDED).migrate();
+
+        assertFalse(Files.exists(tempFolder.resolve("item-1.json")));
+        assertEquals(newer, shardedRepository.findById("item-1").orElseThrow());
+    }
+
+    @Test
+    void migrate_shouldIgnoreOtherFiles() throws Exception {
+        Files.writeString(tempFolder.resolve("items.wal"), "log");
+
+        int moved = new ItemLayoutMigrator(tempFolder.toString(), ItemFileLayout.SHARDED).migrate();
+
+        assertEquals(0, moved);
+        assertTrue(Files.exists(tempFolder.resolve("items.wal")));
+    }
+
+    @Test
+    void migrate_withFlatLayout_shouldDoNothing() {
+        flatRepository.save(item("item-1", 10));
+
+        assertEquals(0, new ItemLayoutMigrator(tempFolder.toString(), ItemFileLayout.FLAT).migrate());
+        assertTrue(Files.exists(tempFolder.resolve("item-1.json")));
+    }
+
+    private Path sharded(String id) {
+        return ItemFileLayout.SHARDED.directoryFor(tempFolder, id).resolve(id + ".json");
+    }
+
+    private static Item item(String id, double price) {
+        return new Item(id, "Item " + id, "http://img", "desc", BigDecimal.valueOf(price), 4.0, null);
+    }
+}
@@ -0,0 +1,52 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemLoadProgressTest {
+
+    @Test
+    void shouldStartIdle() {
+        ItemLoadProgress progress = new ItemLoadProgress();
+
+        assertEquals(ItemLoadProgress.State.IDLE, progress.state());
+        assertEquals(0, progress.elapsedMs());
+    }
+
+    @Test
+    void shouldTrackCountsAndStates() {
+        ItemLoadProgress progress = new ItemLoadProgress();
+
+        progress.start();
+        progress.discovered();
+        progress.discovered();
+        progress.loaded();
+        progress.failed();
+        progress.listingComplete();
+
+        assertEquals(ItemLoadProgress.State.LOADING, progress.state());
+        assertEquals(2, progress.discoveredCount());
+        assertEquals(1, progress.loadedCount());
+        assertEquals(1, progress.failedCount());
+        assertTrue(progress.isListingComplete());
+
+        progress.finish();
+        assertEquals(ItemLoadProgress.State.LOADED, progress.state());
+        progress.fail();
+        assertEquals(ItemLoadProgress.State.FAILED, progress.state());
+    }
+
+    @Test
+    void start_shouldResetCounts() {
+        ItemLoadProgress progress = new ItemLoadProgress();
+        progress.start();
+        progress.discovered();
+        progress.finish();
+
+        progress.start();
+
+        assertEquals(0, progress.discoveredCount());
+        assertFalse(progress.isListingComplete());
+    }
+}
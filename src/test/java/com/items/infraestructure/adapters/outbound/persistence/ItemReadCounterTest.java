@@ -0,0 +1,51 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemReadCounterTest {
+
+    @Test
+    void end_shouldReturnReadsSinceBegin() {
+        ItemReadCounter counter = new ItemReadCounter();
+
+        counter.begin();
+        counter.increment();
+        counter.increment();
+
+        assertEquals(2, counter.end());
+    }
+
+    @Test
+    void end_withoutBegin_shouldReturnMinusOne() {
+        ItemReadCounter counter = new ItemReadCounter();
+
+        counter.increment();
+
+        assertEquals(-1, counter.end());
+    }
+
+    @Test
+    void increment_onOtherThread_shouldNotCount() throws Exception {
+        ItemReadCounter counter = new ItemReadCounter();
+
+        counter.begin();
+        CompletableFuture.runAsync(counter::increment).get();
+
+        assertEquals(0, counter.end());
+    }
+
+    @Test
+    void add_shouldCountSeveralReads() {
+        ItemReadCounter counter = new ItemReadCounter();
+
+        counter.begin();
+        counter.add(3);
+        counter.increment();
+
+        assertEquals(4, counter.end());
+    }
+}
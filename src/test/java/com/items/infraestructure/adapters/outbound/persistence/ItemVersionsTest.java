@@ -0,0 +1,37 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import com.items.domain.exception.ItemNotFoundException;
+import com.items.domain.exception.ItemVersionConflictException;
+import com.items.domain.model.Item;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemVersionsTest {
+
+    private final Item item = new Item("id-1", "name", "url", "desc", BigDecimal.TEN, 4.0, null);
+
+    @Test
+    void next_whenVersionMatches_shouldIncrement() {
+        assertEquals(6L, ItemVersions.next(Optional.of(item.withVersion(5L)), item, 5L).version());
+    }
+
+    @Test
+    void next_whenStoredVersionMissing_shouldTreatAsZero() {
+        assertEquals(1L, ItemVersions.next(Optional.of(item), item, 0L).version());
+    }
+
+    @Test
+    void next_whenVersionDiffers_shouldThrowConflict() {
+        assertThrows(ItemVersionConflictException.class, () -> ItemVersions.next(Optional.of(item.withVersion(5L)), item, 4L));
+    }
+
+    @Test
+    void next_whenItemMissing_shouldThrowNotFound() {
+        assertThrows(ItemNotFoundException.class, () -> ItemVersions.next(Optional.empty(), item, 0L));
+    }
+}
@@ -0,0 +1,80 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemWriteAheadLogTest {
+
+    @TempDir
+    Path tempFolder;
+
+    @Test
+    void append_thenReadAll_shouldReturnEntriesInOrder() throws IOException {
+        try (ItemWriteAheadLog wal = new ItemWriteAheadLog(tempFolder.resolve("items.wal"), false)) {
+            wal.append(ItemWriteAheadLog.PUT, "id-1", "first".getBytes(StandardCharsets.UTF_8));
+            wal.append(ItemWriteAheadLog.DELETE, "id-2", new byte[0]);
+
+            List<ItemWriteAheadLog.Entry> entries = wal.readAll();
+
+            assertEquals(2, entries.size());
+            assertEquals(ItemWriteAheadLog.PUT, entries.get(0).op());
+            assertEquals("id-1", entries.get(0).id());
+            assertEquals("first", new String(entries.get(0).payload(), StandardCharsets.UTF_8));
+            assertEquals(ItemWriteAheadLog.DELETE, entries.get(1).op());
+            assertEquals("id-2", entries.get(1).id());
+            assertEquals(2, wal.entries());
+        }
+    }
+
+    @Test
+    void readAll_shouldSurviveReopen() throws IOException {
+        Path file = tempFolder.resolve("items.wal");
+        try (ItemWriteAheadLog wal = new ItemWriteAheadLog(file, true)) {
+            wal.append(ItemWriteAheadLog.PUT, "id-1", new byte[] {1, 2, 3});
+        }
+
+        try (ItemWriteAheadLog wal = new ItemWriteAheadLog(file, true)) {
+            assertEquals(1, wal.readAll().size());
+        }
+    }
+
+    @Test
+    void readAll_shouldDiscardTornTail() throws IOException {
+        Path file = tempFolder.resolve("items.wal");
+        try (ItemWriteAheadLog wal = new ItemWriteAheadLog(file, false)) {
+            wal.append(ItemWriteAheadLog.PUT, "id-1", new byte[] {1, 2, 3});
+        }
+        try (RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+            raw.seek(raw.length());
+            raw.writeInt(100);
+            raw.writeInt(7);
+            raw.write(new byte[] {1, 0});
+        }
+
+        try (ItemWriteAheadLog wal = new ItemWriteAheadLog(file, false)) {
+            assertEquals(1, wal.readAll().size());
+            wal.append(ItemWriteAheadLog.PUT, "id-2", new byte[0]);
+            assertEquals(2, wal.readAll().size());
+        }
+    }
+
+    @Test
+    void truncate_shouldDropAllEntries() throws IOException {
+        try (ItemWriteAheadLog wal = new ItemWriteAheadLog(tempFolder.resolve("items.wal"), false)) {
+            wal.append(ItemWriteAheadLog.PUT, "id-1", new byte[0]);
+
+            wal.truncate();
+
+            assertEquals(0, wal.entries());
+            assertTrue(wal.readAll().isEmpty());
+        }
+    }
+}
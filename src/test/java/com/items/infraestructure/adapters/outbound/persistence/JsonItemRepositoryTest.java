@@ -1,7 +1,11 @@
 package com.items.infraestructure.adapters.outbound.persistence;
 
+import com.items.domain.exception.ItemNotFoundException;
+import com.items.domain.exception.ItemVersionConflictException;
 import com.items.domain.model.Item;
 import com.items.domain.model.Specification;
+import com.items.infraestructure.adapters.outbound.persistence.codec.BinaryItemCodec;
+import com.items.infraestructure.adapters.outbound.persistence.codec.JsonItemCodec;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,7 +17,14 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -220,4 +231,271 @@ class JsonItemRepositoryTest {
         assertTrue(customDir.exists());
         assertTrue(customDir.isDirectory());
     }
-}
\ No newline at end of file
+
+    @Test
+    void scan_shouldVisitEverySavedItem() {
+        Specification specification = new Specification("spec1", "Spec Description", null, null, null, null, null);
+        repository.save(new Item("id-1", "Item 1", "url1", "desc1", BigDecimal.TEN, 4.0, specification));
+        repository.save(new Item("id-2", "Item 2", "url2", "desc2", BigDecimal.valueOf(20), 4.5, specification));
+
+        List<Item> scanned = new ArrayList<>();
+        repository.scan(scanned::add);
+
+        assertEquals(2, scanned.size());
+    }
+
+    @Test
+    void scan_shouldSkipUnreadableFiles() throws IOException {
+        repository.save(sampleItem);
+        Files.writeString(tempFolder.resolve("broken.json"), "{not json");
+
+        List<Item> scanned = new ArrayList<>();
+        repository.scan(scanned::add);
+
+        assertEquals(1, scanned.size());
+        assertEquals(sampleItem.id(), scanned.get(0).id());
+    }
+
+    @Test
+    void save_withFsync_shouldPersistItem() {
+        JsonItemRepository syncedRepository = new JsonItemRepository(tempFolder.toString(), true);
+
+        syncedRepository.save(sampleItem);
+
+        assertEquals(sampleItem, syncedRepository.findById(sampleItem.id()).orElseThrow());
+    }
+
+    @Test
+    void save_shouldNotLeaveTemporaryFiles() {
+        repository.save(sampleItem);
+        repository.save(sampleItem);
+
+        String[] files = tempFolder.toFile().list();
+
+        assertNotNull(files);
+        assertArrayEquals(new String[] {sampleItem.id() + ".json"}, files);
+    }
+
+    @Test
+    void save_withBinaryCodec_shouldWriteBinFile() {
+        JsonItemRepository binaryRepository = new JsonItemRepository(tempFolder.toString(), false, new BinaryItemCodec());
+
+        binaryRepository.save(sampleItem);
+
+        assertTrue(new File(tempFolder.toFile(), sampleItem.id() + ".bin").exists());
+        assertEquals(sampleItem, binaryRepository.findById(sampleItem.id()).orElseThrow());
+    }
+
+    @Test
+    void findById_withBinaryCodec_shouldMigrateLegacyJsonFile() {
+        repository.save(sampleItem);
+        JsonItemRepository binaryRepository = new JsonItemRepository(tempFolder.toString(), false, new BinaryItemCodec());
+
+        Optional<Item> result = binaryRepository.findById(sampleItem.id());
+
+        assertEquals(sampleItem, result.orElseThrow());
+        assertFalse(new File(tempFolder.toFile(), sampleItem.id() + ".json").exists());
+        assertTrue(new File(tempFolder.toFile(), sampleItem.id() + ".bin").exists());
+    }
+
+    @Test
+    void scan_withBinaryCodec_shouldMigrateLegacyJsonFiles() {
+        repository.save(sampleItem);
+        JsonItemRepository binaryRepository = new JsonItemRepository(tempFolder.toString(), false, new BinaryItemCodec());
+
+        List<Item> scanned = new ArrayList<>();
+        binaryRepository.scan(scanned::add);
+
+        assertEquals(List.of(sampleItem), scanned);
+        assertTrue(new File(tempFolder.toFile(), sampleItem.id() + ".bin").exists());
+        assertFalse(new File(tempFolder.toFile(), sampleItem.id() + ".json").exists());
+    }
+
+    @Test
+    void deleteById_withBinaryCodec_shouldRemoveLegacyFileToo() {
+        repository.save(sampleItem);
+        JsonItemRepository binaryRepository = new JsonItemRepository(tempFolder.toString(), false, new BinaryItemCodec());
+
+        binaryRepository.deleteById(sampleItem.id());
+
+        assertTrue(binaryRepository.findById(sampleItem.id()).isEmpty());
+        assertFalse(new File(tempFolder.toFile(), sampleItem.id() + ".json").exists());
+    }
+
+    @Test
+    void save_withShardedLayout_shouldWriteIntoHashPrefixDirectories() {
+        JsonItemRepository sharded = new JsonItemRepository(tempFolder.toString(), false, new JsonItemCodec(true), ItemFileLayout.SHARDED);
+
+        sharded.save(sampleItem);
+
+        Path expected = ItemFileLayout.SHARDED.directoryFor(tempFolder, sampleItem.id()).resolve(sampleItem.id() + ".json");
+        assertTrue(Files.exists(expected));
+        assertFalse(new File(tempFolder.toFile(), sampleItem.id() + ".json").exists());
+        assertEquals(sampleItem, sharded.findById(sampleItem.id()).orElseThrow());
+    }
+
+    @Test
+    void findById_withShardedLayout_shouldReadAndMoveFlatFile() {
+        repository.save(sampleItem);
+        JsonItemRepository sharded = new JsonItemRepository(tempFolder.toString(), false, new JsonItemCodec(true), ItemFileLayout.SHARDED);
+
+        Optional<Item> result = sharded.findById(sampleItem.id());
+
+        assertEquals(sampleItem, result.orElseThrow());
+        assertFalse(new File(tempFolder.toFile(), sampleItem.id() + ".json").exists());
+        assertTrue(Files.exists(ItemFileLayout.SHARDED.directoryFor(tempFolder, sampleItem.id()).resolve(sampleItem.id() + ".json")));
+    }
+
+    @Test
+    void scan_withShardedLayout_shouldReturnShardedAndFlatItemsOnce() {
+        Item other = sampleItem.withId("other-456");
+        repository.save(sampleItem);
+        JsonItemRepository sharded = new JsonItemRepository(tempFolder.toString(), false, new JsonItemCodec(true), ItemFileLayout.SHARDED);
+        sharded.save(other);
+
+        List<Item> scanned = new ArrayList<>();
+        sharded.scan(scanned::add);
+
+        assertEquals(2, scanned.size());
+        assertTrue(scanned.containsAll(List.of(sampleItem, other)));
+        assertFalse(new File(tempFolder.toFile(), sampleItem.id() + ".json").exists());
+    }
+
+    @Test
+    void scanIds_shouldNameShardedFlatAndLegacyFilesWithoutMovingThem() {
+        Item other = sampleItem.withId("other-456");
+        repository.save(sampleItem);
+        JsonItemRepository sharded = new JsonItemRepository(tempFolder.toString(), false, new BinaryItemCodec(), ItemFileLayout.SHARDED);
+        sharded.save(other);
+
+        List<String> ids = new ArrayList<>();
+        sharded.scanIds(ids::add);
+
+        assertEquals(2, ids.size());
+        assertTrue(ids.containsAll(List.of(sampleItem.id(), other.id())));
+        assertTrue(new File(tempFolder.toFile(), sampleItem.id() + ".json").exists());
+    }
+
+    @Test
+    void deleteById_withShardedLayout_shouldRemoveFlatFileToo() {
+        repository.save(sampleItem);
+        JsonItemRepository sharded = new JsonItemRepository(tempFolder.toString(), false, new JsonItemCodec(true), ItemFileLayout.SHARDED);
+
+        sharded.deleteById(sampleItem.id());
+
+        assertTrue(sharded.findById(sampleItem.id()).isEmpty());
+        assertFalse(new File(tempFolder.toFile(), sampleItem.id() + ".json").exists());
+    }
+
+    @Test
+    void compareAndSave_whenVersionMatches_shouldIncrementVersion() {
+        repository.save(sampleItem.withVersion(1L));
+
+        Item saved = repository.compareAndSave(sampleItem.withVersion(1L), 1L);
+
+        assertEquals(2L, saved.version());
+        assertEquals(2L, repository.findById(sampleItem.id()).orElseThrow().version());
+    }
+
+    @Test
+    void compareAndSave_whenVersionIsStale_shouldThrowConflict() {
+        repository.save(sampleItem.withVersion(3L));
+
+        assertThrows(ItemVersionConflictException.class, () -> repository.compareAndSave(sampleItem, 2L));
+        assertEquals(3L, repository.findById(sampleItem.id()).orElseThrow().version());
+    }
+
+    @Test
+    void compareAndSave_whenStoredItemHasNoVersion_shouldTreatItAsZero() {
+        repository.save(sampleItem);
+
+        assertEquals(1L, repository.compareAndSave(sampleItem, 0L).version());
+    }
+
+    @Test
+    void compareAndSave_whenItemMissing_shouldThrowNotFound() {
+        assertThrows(ItemNotFoundException.class, () -> repository.compareAndSave(sampleItem, 0L));
+    }
+
+    @Test
+    void compareAndSave_concurrentWriters_shouldNeverLoseUpdates() throws Exception {
+        repository.save(sampleItem.withVersion(0L));
+        int threads = 8;
+        int attemptsPerThread = 25;
+        AtomicInteger successes = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    long version = repository.findById(sampleItem.id()).orElseThrow().version();
+                    try {
+                        repository.compareAndSave(sampleItem, version);
+                        successes.incrementAndGet();
+                    } catch (ItemVersionConflictException e) {
+                        // another writer won this round
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(successes.get(), repository.findById(sampleItem.id()).orElseThrow().version());
+        assertTrue(successes.get() > 0);
+    }
+
+    @Test
+    void findAllById_shouldReturnFoundItemsInRequestOrder() {
+        JsonItemRepository repository = new JsonItemRepository(tempFolder.toString());
+        Item first = repository.save(sampleItem.withId("b"));
+        Item second = repository.save(sampleItem.withId("a"));
+
+        Map<String, Item> items = repository.findAllById(List.of("b", "missing", "a"));
+
+        assertEquals(List.of("b", "a"), List.copyOf(items.keySet()));
+        assertEquals(first, items.get("b"));
+        assertEquals(second, items.get("a"));
+    }
+
+    @Test
+    void findAllById_shouldReadManyFilesInParallel() {
+        JsonItemRepository repository = new JsonItemRepository(tempFolder.toString(), false, new JsonItemCodec(false), ItemFileLayout.FLAT, 4);
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            ids.add(repository.save(sampleItem.withId("id-" + i)).id());
+        }
+        ids.add("id-7");
+
+        Map<String, Item> items = repository.findAllById(ids);
+
+        assertEquals(50, items.size());
+        assertEquals(ids.subList(0, 50), List.copyOf(items.keySet()));
+        repository.close();
+    }
+
+    @Test
+    void findAllById_whenFileUnreadable_shouldThrow() throws Exception {
+        JsonItemRepository repository = new JsonItemRepository(tempFolder.toString());
+        repository.save(sampleItem.withId("good"));
+        Files.writeString(tempFolder.resolve("bad.json"), "{not json");
+
+        assertThrows(RuntimeException.class, () -> repository.findAllById(List.of("good", "bad")));
+    }
+
+    @Test
+    void sync_shouldForceWrittenAndDeletedFiles() throws IOException {
+        repository.save(sampleItem);
+        repository.save(sampleItem.withId("gone"));
+        repository.deleteById("gone");
+        repository.deleteById("never-written");
+        assertEquals(2, repository.unsyncedFiles());
+
+        repository.sync();
+
+        assertEquals(0, repository.unsyncedFiles());
+        assertTrue(repository.findById("sample-123").isPresent());
+    }
+}
@@ -0,0 +1,199 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import com.items.domain.exception.ItemVersionConflictException;
+import com.items.domain.model.Item;
+import com.items.domain.model.Specification;
+import com.items.domain.port.outbound.ItemRepositoryPort;
+import com.items.infraestructure.adapters.outbound.persistence.codec.JsonItemCodec;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class MappedSnapshotItemRepositoryTest {
+
+    @TempDir
+    Path tempFolder;
+
+    private JsonItemRepository jsonRepository;
+    private Specification specification;
+
+    @BeforeEach
+    void setup() {
+        specification = new Specification("Dell", "XPS 15", "Silver", 2.5, "357x235x18", "Aluminum", 24);
+        jsonRepository = new JsonItemRepository(tempFolder.toString());
+    }
+
+    private Item item(String id, String name) {
+        return new Item(id, name, "url", "desc", new BigDecimal("49.99"), 3.8, specification);
+    }
+
+    private MappedSnapshotItemRepository open() {
+        return new MappedSnapshotItemRepository(jsonRepository, jsonRepository, tempFolder.resolve("items.snapshot").toString());
+    }
+
+    @Test
+    void constructor_shouldBuildSnapshotFromJsonFiles() {
+        jsonRepository.save(item("id-1", "Item 1"));
+        jsonRepository.save(item("id-2", "Item 2"));
+
+        MappedSnapshotItemRepository repository = open();
+
+        assertEquals(2, repository.snapshotSize());
+        assertTrue(tempFolder.resolve("items.snapshot").toFile().exists());
+    }
+
+    @Test
+    void findById_shouldDecodeFromMappedSnapshot() {
+        Item item = item("id-1", "Item 1");
+        jsonRepository.save(item);
+        MappedSnapshotItemRepository repository = open();
+
+        new File(tempFolder.toFile(), "id-1.json").delete();
+
+        assertEquals(item, repository.findById("id-1").orElseThrow());
+    }
+
+    @Test
+    void findById_withNullOrUnknownId_shouldReturnEmpty() {
+        MappedSnapshotItemRepository repository = open();
+
+        assertTrue(repository.findById(null).isEmpty());
+        assertTrue(repository.findById("missing").isEmpty());
+    }
+
+    @Test
+    void save_shouldBeVisibleAndWrittenThrough() {
+        jsonRepository.save(item("id-1", "Old"));
+        MappedSnapshotItemRepository repository = open();
+
+        repository.save(item("id-1", "New"));
+
+        assertEquals("New", repository.findById("id-1").orElseThrow().name());
+        assertEquals("New", jsonRepository.findById("id-1").orElseThrow().name());
+    }
+
+    @Test
+    void deleteById_shouldHideSnapshotRecord() {
+        jsonRepository.save(item("id-1", "Item 1"));
+        MappedSnapshotItemRepository repository = open();
+
+        repository.deleteById("id-1");
+
+        assertTrue(repository.findById("id-1").isEmpty());
+        assertTrue(jsonRepository.findById("id-1").isEmpty());
+        assertDoesNotThrow(() -> repository.deleteById(null));
+    }
+
+    @Test
+    void scan_shouldMergeSnapshotAndOverlay() {
+        jsonRepository.save(item("id-1", "Item 1"));
+        jsonRepository.save(item("id-2", "Item 2"));
+        MappedSnapshotItemRepository repository = open();
+        repository.deleteById("id-1");
+        repository.save(item("id-3", "Item 3"));
+
+        List<String> ids = new ArrayList<>();
+        repository.scan(item -> ids.add(item.id()));
+
+        assertEquals(2, ids.size());
+        assertTrue(ids.containsAll(List.of("id-2", "id-3")));
+    }
+
+    @Test
+    void compareAndSave_shouldCheckSnapshotAndOverlayVersions() {
+        jsonRepository.save(item("id-1", "Item 1").withVersion(1L));
+        MappedSnapshotItemRepository repository = open();
+
+        assertEquals(2L, repository.compareAndSave(item("id-1", "Renamed"), 1L).version());
+        assertThrows(ItemVersionConflictException.class, () -> repository.compareAndSave(item("id-1", "Stale"), 1L));
+        assertEquals("Renamed", repository.findById("id-1").orElseThrow().name());
+    }
+
+    @Test
+    void compact_shouldFoldOverlayIntoSnapshot() {
+        jsonRepository.save(item("id-1", "Item 1"));
+        jsonRepository.save(item("id-2", "Item 2"));
+        MappedSnapshotItemRepository repository = open();
+        repository.deleteById("id-1");
+        repository.save(item("id-2", "Renamed"));
+        repository.save(item("id-3", "Item 3"));
+
+        repository.compact();
+
+        assertEquals(0, repository.overlaySize());
+        assertEquals(2, repository.snapshotSize());
+        assertTrue(repository.findById("id-1").isEmpty());
+        assertEquals("Renamed", repository.findById("id-2").orElseThrow().name());
+        assertEquals(item("id-3", "Item 3"), repository.findById("id-3").orElseThrow());
+        List<String> ids = new ArrayList<>();
+        repository.scan(item -> ids.add(item.id()));
+        assertEquals(2, ids.size());
+        assertTrue(ids.containsAll(List.of("id-2", "id-3")));
+    }
+
+    @Test
+    void save_pastCompactionThreshold_shouldCompactInBackground() throws Exception {
+        MappedSnapshotItemRepository repository = new MappedSnapshotItemRepository(jsonRepository, jsonRepository,
+            tempFolder.resolve("items.snapshot").toString(), new JsonItemCodec(false), 2);
+        repository.save(item("id-1", "Item 1"));
+        repository.save(item("id-2", "Item 2"));
+        assertEquals(2, repository.overlaySize());
+
+        repository.save(item("id-3", "Item 3"));
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (repository.overlaySize() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(3, repository.snapshotSize());
+        assertEquals(0, repository.overlaySize());
+        assertEquals(item("id-2", "Item 2"), repository.findById("id-2").orElseThrow());
+        repository.close();
+    }
+
+    @Test
+    void save_whileAnotherIdIsBeingWritten_shouldNotWait() throws Exception {
+        StripedLocks stripes = new StripedLocks();
+        String otherId = "other-0";
+        for (int i = 1; stripes.lockFor(otherId) == stripes.lockFor("slow"); i++) {
+            otherId = "other-" + i;
+        }
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ItemRepositoryPort delegate = mock(ItemRepositoryPort.class);
+        when(delegate.save(any())).thenAnswer(invocation -> {
+            Item item = invocation.getArgument(0);
+            if (item.id().equals("slow")) {
+                writing.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return item;
+        });
+        MappedSnapshotItemRepository repository = new MappedSnapshotItemRepository(delegate, consumer -> { },
+            tempFolder.resolve("items.snapshot").toString());
+        CompletableFuture<Item> slow = CompletableFuture.supplyAsync(() -> repository.save(item("slow", "Slow")));
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+        repository.save(item(otherId, "Other"));
+
+        assertTrue(repository.findById(otherId).isPresent());
+        assertTrue(repository.findById("slow").isEmpty());
+        release.countDown();
+        slow.get(5, TimeUnit.SECONDS);
+        assertTrue(repository.findById("slow").isPresent());
+    }
+}
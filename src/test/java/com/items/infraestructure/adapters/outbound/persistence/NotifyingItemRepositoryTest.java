@@ -0,0 +1,80 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import com.items.domain.exception.ItemVersionConflictException;
+import com.items.domain.model.Item;
+import com.items.domain.port.inbound.ItemChangeListener;
+import com.items.domain.port.outbound.ItemRepositoryPort;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class NotifyingItemRepositoryTest {
+
+    private final ItemRepositoryPort delegate = mock(ItemRepositoryPort.class);
+    private final ItemChangeListener listener = mock(ItemChangeListener.class);
+    private final NotifyingItemRepository repository = new NotifyingItemRepository(delegate, List.of(listener));
+    private final Item item = new Item("id1", "Item A", "url", "desc", BigDecimal.TEN, 4.0, null);
+
+    @Test
+    void findById_shouldNotNotify() {
+        when(delegate.findById("id1")).thenReturn(Optional.of(item));
+
+        assertEquals(item, repository.findById("id1").orElseThrow());
+
+        verifyNoInteractions(listener);
+    }
+
+    @Test
+    void save_shouldNotifyAfterWrite() {
+        when(delegate.save(item)).thenReturn(item);
+
+        repository.save(item);
+
+        var order = inOrder(delegate, listener);
+        order.verify(delegate).save(item);
+        order.verify(listener).itemChanged("id1");
+    }
+
+    @Test
+    void save_withoutId_shouldNotifyGeneratedId() {
+        Item withoutId = item.withId(null);
+        when(delegate.save(withoutId)).thenReturn(item.withId("generated"));
+
+        repository.save(withoutId);
+
+        verify(listener).itemChanged("generated");
+    }
+
+    @Test
+    void compareAndSave_whenConflict_shouldStillNotify() {
+        when(delegate.compareAndSave(item, 2L)).thenThrow(new ItemVersionConflictException("id1", 2, 3));
+
+        assertThrows(ItemVersionConflictException.class, () -> repository.compareAndSave(item, 2L));
+
+        verify(listener).itemChanged("id1");
+    }
+
+    @Test
+    void deleteById_shouldNotify() {
+        repository.deleteById("id1");
+
+        verify(delegate).deleteById("id1");
+        verify(listener).itemChanged("id1");
+    }
+
+    @Test
+    void findAllById_shouldDelegateWithoutNotifying() {
+        when(delegate.findAllById(List.of("id1"))).thenReturn(Map.of("id1", item));
+
+        assertEquals(Map.of("id1", item), repository.findAllById(List.of("id1")));
+
+        verifyNoInteractions(listener);
+    }
+}
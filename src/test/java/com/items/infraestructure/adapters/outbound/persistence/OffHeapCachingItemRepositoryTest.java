@@ -0,0 +1,123 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import com.items.domain.model.Item;
+import com.items.domain.model.Specification;
+import com.items.domain.port.outbound.ItemRepositoryPort;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OffHeapCachingItemRepositoryTest {
+
+    private static final long MAX_BYTES = 4L * 1024 * 1024;
+
+    private ItemRepositoryPort delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private Item sampleItem;
+
+    @BeforeEach
+    void setup() {
+        delegate = mock(ItemRepositoryPort.class);
+        meterRegistry = new SimpleMeterRegistry();
+        Specification specification = new Specification("Dell", "XPS 15", "Silver", 2.5, "357x235x18", "Aluminum", 24);
+        sampleItem = new Item("sample-123", "Sample Product", "http://sample.img", "A sample description",
+                BigDecimal.valueOf(49.99), 3.8, specification, 4L);
+        when(delegate.findById("sample-123")).thenReturn(Optional.of(sampleItem));
+    }
+
+    @Test
+    void findById_shouldServeDecodedCopyFromCache() {
+        OffHeapCachingItemRepository repository = new OffHeapCachingItemRepository(delegate, MAX_BYTES, meterRegistry);
+
+        assertEquals(sampleItem, repository.findById("sample-123").orElseThrow());
+        assertEquals(sampleItem, repository.findById("sample-123").orElseThrow());
+
+        verify(delegate, times(1)).findById("sample-123");
+        assertEquals(1.0, meterRegistry.get("items.offheap.hits").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("items.offheap.misses").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("items.offheap.size").gauge().value());
+    }
+
+    @Test
+    void findById_whenMissing_shouldNotCache() {
+        OffHeapCachingItemRepository repository = new OffHeapCachingItemRepository(delegate, MAX_BYTES, meterRegistry);
+        when(delegate.findById("missing")).thenReturn(Optional.empty());
+
+        assertTrue(repository.findById("missing").isEmpty());
+
+        assertEquals(0, repository.cache().size());
+    }
+
+    @Test
+    void save_shouldInvalidateEntry() {
+        OffHeapCachingItemRepository repository = new OffHeapCachingItemRepository(delegate, MAX_BYTES, meterRegistry);
+        repository.findById("sample-123");
+        Item updated = sampleItem.withVersion(5L);
+        when(delegate.save(updated)).thenReturn(updated);
+        when(delegate.findById("sample-123")).thenReturn(Optional.of(updated));
+
+        repository.save(updated);
+
+        assertEquals(updated, repository.findById("sample-123").orElseThrow());
+    }
+
+    @Test
+    void compareAndSave_shouldInvalidateEntry() {
+        OffHeapCachingItemRepository repository = new OffHeapCachingItemRepository(delegate, MAX_BYTES, meterRegistry);
+        repository.findById("sample-123");
+        when(delegate.compareAndSave(sampleItem, 4L)).thenReturn(sampleItem.withVersion(5L));
+
+        repository.compareAndSave(sampleItem, 4L);
+
+        assertEquals(0, repository.cache().size());
+    }
+
+    @Test
+    void deleteById_shouldInvalidateEntry() {
+        OffHeapCachingItemRepository repository = new OffHeapCachingItemRepository(delegate, MAX_BYTES, meterRegistry);
+        repository.findById("sample-123");
+        when(delegate.findById("sample-123")).thenReturn(Optional.empty());
+
+        repository.deleteById("sample-123");
+
+        assertTrue(repository.findById("sample-123").isEmpty());
+    }
+
+    @Test
+    void findById_whenWriteRacesLoad_shouldNotCacheStaleItem() {
+        OffHeapCachingItemRepository[] holder = new OffHeapCachingItemRepository[1];
+        when(delegate.findById("sample-123")).thenAnswer(call -> {
+            holder[0].deleteById("sample-123");
+            return Optional.of(sampleItem);
+        });
+        holder[0] = new OffHeapCachingItemRepository(delegate, MAX_BYTES, meterRegistry);
+
+        holder[0].findById("sample-123");
+
+        assertEquals(0, holder[0].cache().size());
+    }
+
+    @Test
+    void findAllById_shouldLoadOnlyMissesInOneBatch() {
+        OffHeapCachingItemRepository repository = new OffHeapCachingItemRepository(delegate, MAX_BYTES, meterRegistry);
+        repository.findById("sample-123");
+        Item other = sampleItem.withId("other");
+        when(delegate.findAllById(List.of("other"))).thenReturn(Map.of("other", other));
+
+        Map<String, Item> items = repository.findAllById(List.of("other", "sample-123"));
+
+        assertEquals(List.of("other", "sample-123"), List.copyOf(items.keySet()));
+        assertEquals(sampleItem, items.get("sample-123"));
+        assertEquals(2, repository.cache().size());
+    }
+}
@@ -0,0 +1,131 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapItemCacheTest {
+
+    private static final long SMALL = 16 * 8 * 1024L;
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void put_shouldMakePayloadReadable() {
+        OffHeapItemCache cache = new OffHeapItemCache(SMALL);
+
+        assertTrue(cache.put("id-1", bytes("payload"), cache.stamp("id-1")));
+
+        assertArrayEquals(bytes("payload"), cache.get("id-1"));
+        assertNull(cache.get("id-2"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void put_sameIdTwice_shouldKeepLatest() {
+        OffHeapItemCache cache = new OffHeapItemCache(SMALL);
+
+        cache.put("id-1", bytes("first"), cache.stamp("id-1"));
+        cache.put("id-1", bytes("second"), cache.stamp("id-1"));
+
+        assertArrayEquals(bytes("second"), cache.get("id-1"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void put_afterRemoval_shouldBeRejected() {
+        OffHeapItemCache cache = new OffHeapItemCache(SMALL);
+        long stamp = cache.stamp("id-1");
+
+        cache.remove("id-1");
+
+        assertFalse(cache.put("id-1", bytes("stale"), stamp));
+        assertNull(cache.get("id-1"));
+    }
+
+    @Test
+    void remove_shouldKeepCollidingEntriesReachable() {
+        OffHeapItemCache cache = new OffHeapItemCache(SMALL);
+        for (int i = 0; i < 200; i++) {
+            cache.put("id-" + i, bytes("v" + i), cache.stamp("id-" + i));
+        }
+
+        for (int i = 0; i < 200; i += 2) {
+            cache.remove("id-" + i);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            if (i % 2 == 0) {
+                assertNull(cache.get("id-" + i));
+            } else {
+                assertArrayEquals(bytes("v" + i), cache.get("id-" + i));
+            }
+        }
+        assertEquals(100, cache.size());
+    }
+
+    @Test
+    void put_whenFull_shouldRecycleOldestSlab() {
+        OffHeapItemCache cache = new OffHeapItemCache(SMALL);
+        byte[] payload = new byte[200];
+
+        for (int i = 0; i < 5000; i++) {
+            cache.put("id-" + i, payload, cache.stamp("id-" + i));
+        }
+
+        assertTrue(cache.evictions() > 0);
+        assertNotNull(cache.get("id-4999"));
+        assertNull(cache.get("id-0"));
+        assertTrue(cache.allocatedBytes() <= SMALL * 2);
+    }
+
+    @Test
+    void put_payloadLargerThanSlab_shouldNotCache() {
+        OffHeapItemCache cache = new OffHeapItemCache(SMALL);
+
+        assertFalse(cache.put("big", new byte[16 * 1024], cache.stamp("big")));
+        assertNull(cache.get("big"));
+    }
+
+    @Test
+    void randomOperations_shouldMatchReferenceMap() {
+        OffHeapItemCache cache = new OffHeapItemCache(64L * 1024 * 1024);
+        Map<String, byte[]> reference = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50_000; i++) {
+            String id = "id-" + random.nextInt(2000);
+            if (random.nextInt(4) == 0) {
+                cache.remove(id);
+                reference.remove(id);
+            } else {
+                byte[] payload = bytes(id + ":" + i);
+                cache.put(id, payload, cache.stamp(id));
+                reference.put(id, payload);
+            }
+        }
+
+        for (int i = 0; i < 2000; i++) {
+            String id = "id-" + i;
+            assertArrayEquals(reference.get(id), cache.get(id), id);
+        }
+        assertEquals(reference.size(), cache.size());
+    }
+
+    @Test
+    void constructor_whenTooSmall_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapItemCache(1024));
+    }
+
+    @Test
+    void hash_shouldNeverBeZero() {
+        assertNotEquals(0, OffHeapItemCache.hash(new byte[0]));
+    }
+}
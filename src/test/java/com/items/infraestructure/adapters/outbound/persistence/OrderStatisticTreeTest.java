@@ -0,0 +1,107 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderStatisticTreeTest {
+
+    @Test
+    void idAt_shouldOrderByKeyThenId() {
+        OrderStatisticTree tree = new OrderStatisticTree();
+        tree.insert(20, "b");
+        tree.insert(10, "z");
+        tree.insert(20, "a");
+
+        assertEquals(3, tree.size());
+        assertEquals("z", tree.idAt(0));
+        assertEquals("a", tree.idAt(1));
+        assertEquals("b", tree.idAt(2));
+        assertNull(tree.idAt(3));
+        assertNull(tree.idAt(-1));
+    }
+
+    @Test
+    void countBelow_shouldCountStrictlyLowerKeys() {
+        OrderStatisticTree tree = new OrderStatisticTree();
+        tree.insert(10, "a");
+        tree.insert(20, "b");
+        tree.insert(20, "c");
+        tree.insert(30, "d");
+
+        assertEquals(0, tree.countBelow(10));
+        assertEquals(1, tree.countBelow(20));
+        assertEquals(3, tree.countBelow(21));
+        assertEquals(4, tree.countBelow(Long.MAX_VALUE));
+    }
+
+    @Test
+    void remove_shouldOnlyRemoveMatchingKeyAndId() {
+        OrderStatisticTree tree = new OrderStatisticTree();
+        tree.insert(10, "a");
+        tree.insert(20, "b");
+
+        tree.remove(20, "a");
+        tree.remove(10, "a");
+
+        assertEquals(1, tree.size());
+        assertEquals("b", tree.idAt(0));
+        assertEquals(0, tree.countBelow(20));
+    }
+
+    @Test
+    void queries_shouldMatchSortedListAfterRandomWrites() {
+        OrderStatisticTree tree = new OrderStatisticTree();
+        List<Entry> expected = new ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            if (!expected.isEmpty() && random.nextInt(3) == 0) {
+                Entry removed = expected.remove(random.nextInt(expected.size()));
+                tree.remove(removed.key(), removed.id());
+            } else {
+                Entry added = new Entry(random.nextInt(100), "id-" + i);
+                expected.add(added);
+                tree.insert(added.key(), added.id());
+            }
+        }
+        expected.sort(Comparator.comparingLong(Entry::key).thenComparing(Entry::id));
+
+        assertEquals(expected.size(), tree.size());
+        for (int rank = 0; rank < expected.size(); rank++) {
+            assertEquals(expected.get(rank).id(), tree.idAt(rank));
+        }
+        for (long key = -1; key <= 100; key++) {
+            long bound = key;
+            assertEquals(expected.stream().filter(entry -> entry.key() < bound).count(), tree.countBelow(key));
+        }
+    }
+
+    private record Entry(long key, String id) {
+    }
+
+    @Test
+    void ascendingFrom_shouldVisitInOrderFromKeyUntilStopped() {
+        OrderStatisticTree tree = new OrderStatisticTree();
+        for (int i = 0; i < 100; i++) {
+            tree.insert(i % 10, "id-" + i);
+        }
+        List<String> visited = new ArrayList<>();
+
+        tree.ascendingFrom(3, (key, id) -> {
+            assertTrue(key >= 3);
+            visited.add(id);
+            return visited.size() < 15;
+        });
+
+        List<String> expected = new ArrayList<>();
+        for (int rank = tree.countBelow(3); expected.size() < 15; rank++) {
+            expected.add(tree.idAt(rank));
+        }
+        assertEquals(expected, visited);
+    }
+}
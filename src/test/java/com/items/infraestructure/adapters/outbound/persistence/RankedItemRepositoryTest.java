@@ -0,0 +1,241 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import com.items.domain.exception.ItemVersionConflictException;
+import com.items.domain.model.CohortAttribute;
+import com.items.domain.model.CohortStanding;
+import com.items.domain.model.Item;
+import com.items.domain.model.Specification;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RankedItemRepositoryTest {
+
+    @TempDir
+    Path tempFolder;
+
+    private JsonItemRepository jsonRepository;
+    private Specification specification;
+
+    @BeforeEach
+    void setup() {
+        specification = new Specification("spec1", "Spec Description", null, null, null, null, null);
+        jsonRepository = new JsonItemRepository(tempFolder.toString());
+    }
+
+    private Item item(String id, double price, double rating) {
+        return new Item(id, "Item " + id, "http://sample.img", "A sample description", BigDecimal.valueOf(price), rating, specification);
+    }
+
+    @Test
+    void warmUp_shouldRankExistingItems() {
+        jsonRepository.save(item("a", 30, 4.0));
+        jsonRepository.save(item("b", 10, 2.0));
+        jsonRepository.save(item("c", 20, 5.0));
+        RankedItemRepository repository = new RankedItemRepository(jsonRepository);
+
+        repository.warmUp(jsonRepository);
+
+        assertTrue(repository.isWarm());
+        assertEquals(3, repository.size());
+        assertEquals(List.of("b", "c", "a"), repository.findCheapestIds(10));
+        assertEquals(List.of("c", "a", "b"), repository.findBestRatedIds(10));
+    }
+
+    @Test
+    void findCheapestIds_shouldReturnAtMostLimit() {
+        RankedItemRepository repository = new RankedItemRepository(jsonRepository);
+        repository.warmUp(consumer -> { });
+        for (int i = 0; i < 20; i++) {
+            repository.save(item("id-" + i, 100 - i, 1.0));
+        }
+
+        assertEquals(List.of("id-19", "id-18", "id-17"), repository.findCheapestIds(3));
+    }
+
+    @Test
+    void findIds_withEqualKeys_shouldOrderById() {
+        RankedItemRepository repository = new RankedItemRepository(jsonRepository);
+        repository.save(item("b", 10, 3.0));
+        repository.save(item("a", 10.00, 3.0));
+
+        assertEquals(List.of("a", "b"), repository.findCheapestIds(2));
+        assertEquals(List.of("a", "b"), repository.findBestRatedIds(2));
+    }
+
+    @Test
+    void save_shouldMoveItemInBothIndexes() {
+        RankedItemRepository repository = new RankedItemRepository(jsonRepository);
+        repository.save(item("a", 10, 5.0));
+        repository.save(item("b", 20, 1.0));
+
+        repository.save(item("a", 30, 0.5));
+
+        assertEquals(List.of("b", "a"), repository.findCheapestIds(10));
+        assertEquals(List.of("b", "a"), repository.findBestRatedIds(10));
+        assertEquals(BigDecimal.valueOf(30.0), jsonRepository.findById("a").orElseThrow().price());
+    }
+
+    @Test
+    void save_withoutPriceOrRating_shouldLeaveItOutOfThatIndex() {
+        RankedItemRepository repository = new RankedItemRepository(jsonRepository);
+        repository.save(new Item("no-price", "Item", null, null, null, 4.0, specification));
+        repository.save(new Item("no-rating", "Item", null, null, BigDecimal.ONE, null, specification));
+
+        assertEquals(List.of("no-rating"), repository.findCheapestIds(10));
+        assertEquals(List.of("no-price"), repository.findBestRatedIds(10));
+    }
+
+    @Test
+    void findIdsInPriceRange_shouldFilterCheapestFirst() {
+        RankedItemRepository repository = new RankedItemRepository(jsonRepository);
+        repository.save(item("a", 10, 5.0));
+        repository.save(item("b", 20, 1.0));
+        repository.save(item("c", 30, 4.0));
+        repository.save(item("d", 40, 4.5));
+
+        assertEquals(List.of("c", "d"), repository.findIdsInPriceRange(BigDecimal.valueOf(15), null, 4.0, 10));
+        assertEquals(List.of("a", "b"), repository.findIdsInPriceRange(null, BigDecimal.valueOf(30), null, 2));
+    }
+
+    @Test
+    void deleteById_shouldRemoveFromIndexesAndStore() {
+        RankedItemRepository repository = new RankedItemRepository(jsonRepository);
+        repository.save(item("a", 10, 5.0));
+        repository.save(item("b", 20, 1.0));
+
+        repository.deleteById("a");
+
+        assertEquals(List.of("b"), repository.findCheapestIds(10));
+        assertEquals(List.of("b"), repository.findBestRatedIds(10));
+        assertTrue(jsonRepository.findById("a").isEmpty());
+        assertEquals(1, repository.size());
+    }
+
+    @Test
+    void compareAndSave_shouldRankSavedVersion() {
+        RankedItemRepository repository = new RankedItemRepository(jsonRepository);
+        repository.save(item("a", 10, 5.0).withVersion(1L));
+        repository.save(item("b", 20, 1.0).withVersion(1L));
+
+        Item saved = repository.compareAndSave(item("a", 40, 5.0), 1);
+
+        assertEquals(2L, saved.version());
+        assertEquals(List.of("b", "a"), repository.findCheapestIds(10));
+    }
+
+    @Test
+    void compareAndSave_whenVersionConflicts_shouldKeepRanking() {
+        RankedItemRepository repository = new RankedItemRepository(jsonRepository);
+        repository.save(item("a", 10, 5.0).withVersion(3L));
+        repository.save(item("b", 20, 1.0).withVersion(1L));
+
+        assertThrows(ItemVersionConflictException.class, () -> repository.compareAndSave(item("a", 40, 5.0), 1));
+
+        assertEquals(List.of("a", "b"), repository.findCheapestIds(10));
+    }
+
+    @Test
+    void warmUp_shouldNotOverwriteItemsWrittenOrDeletedMeanwhile() {
+        jsonRepository.save(item("saved", 10, 1.0));
+        jsonRepository.save(item("deleted", 5, 1.0));
+        RankedItemRepository repository = new RankedItemRepository(jsonRepository);
+        List<Item> scanned = List.of(item("saved", 10, 1.0), item("deleted", 5, 1.0));
+
+        repository.save(item("saved", 50, 1.0));
+        repository.deleteById("deleted");
+        repository.warmUp(scanned::forEach);
+
+        assertEquals(List.of("saved"), repository.findCheapestIds(10));
+        assertEquals(BigDecimal.valueOf(50.0), jsonRepository.findById("saved").orElseThrow().price());
+    }
+
+    @Test
+    void warmUpAsync_shouldRankInBackground() throws Exception {
+        jsonRepository.save(item("a", 10, 1.0));
+        RankedItemRepository repository = new RankedItemRepository(jsonRepository);
+        CountDownLatch release = new CountDownLatch(1);
+
+        var warmUp = repository.warmUpAsync(consumer -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            jsonRepository.scan(consumer);
+        });
+
+        assertFalse(repository.isWarm());
+        assertEquals(List.of(), repository.findCheapestIds(10));
+        release.countDown();
+        warmUp.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of("a"), repository.findCheapestIds(10));
+    }
+
+    @Test
+    void findCheapestIds_shouldMatchFullSortAfterRandomWrites() {
+        RankedItemRepository repository = new RankedItemRepository(jsonRepository);
+        Random random = new Random(42);
+        for (int i = 0; i < 300; i++) {
+            String id = "id-" + random.nextInt(60);
+            if (random.nextInt(4) == 0) {
+                repository.deleteById(id);
+            } else {
+                repository.save(item(id, random.nextInt(1000) / 10.0, random.nextInt(50) / 10.0));
+            }
+        }
+
+        List<Item> stored = new ArrayList<>();
+        jsonRepository.scan(stored::add);
+        List<String> expected = stored.stream()
+                .sorted(Comparator.comparing(Item::price).thenComparing(Item::id))
+                .map(Item::id)
+                .limit(10)
+                .toList();
+        assertEquals(expected, repository.findCheapestIds(10));
+    }
+
+    @Test
+    void findAllById_shouldReadFromDelegate() {
+        RankedItemRepository repository = new RankedItemRepository(jsonRepository);
+        repository.save(item("a", 10, 1.0));
+
+        Map<String, Item> items = repository.findAllById(List.of("a", "missing"));
+
+        assertEquals(List.of("a"), List.copyOf(items.keySet()));
+        assertTrue(repository.findById("a").isPresent());
+    }
+
+    @Test
+    void findCohortStanding_shouldFollowWarmUpSavesAndDeletes() {
+        jsonRepository.save(item("a", 10, 4.0));
+        RankedItemRepository repository = new RankedItemRepository(jsonRepository);
+        repository.warmUp(jsonRepository);
+        repository.save(item("b", 20, 5.0));
+        repository.save(item("c", 30, 3.0));
+        Item other = new Item("d", "Item d", null, null, BigDecimal.ONE, 5.0,
+            new Specification("other", null, null, null, null, null, null));
+        repository.save(other);
+
+        CohortStanding standing = repository.findCohortStanding(CohortAttribute.BRAND, item("c", 30, 3.0));
+        assertEquals(new CohortStanding(2, 2, 2, "a", BigDecimal.valueOf(10.0), 2, 2, "b", 5.0), standing);
+
+        repository.deleteById("a");
+        standing = repository.findCohortStanding(CohortAttribute.BRAND, item("c", 30, 3.0));
+        assertEquals(1, standing.size());
+        assertEquals("b", standing.cheapestItemId());
+    }
+}
@@ -0,0 +1,67 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import com.items.domain.model.Item;
+import com.items.domain.port.outbound.ItemRepositoryPort;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReadCountingItemRepositoryTest {
+
+    private final ItemRepositoryPort delegate = mock(ItemRepositoryPort.class);
+    private final ItemReadCounter counter = new ItemReadCounter();
+    private final ReadCountingItemRepository repository = new ReadCountingItemRepository(delegate, counter);
+    private final Item item = new Item("id1", "Item A", "url", "desc", BigDecimal.TEN, 4.0, null);
+
+    @Test
+    void findById_shouldCountRead() {
+        when(delegate.findById("id1")).thenReturn(Optional.of(item));
+        counter.begin();
+
+        assertEquals(item, repository.findById("id1").orElseThrow());
+        repository.findById("id2");
+
+        assertEquals(2, counter.end());
+    }
+
+    @Test
+    void writes_shouldDelegateWithoutCounting() {
+        when(delegate.save(item)).thenReturn(item);
+        counter.begin();
+
+        repository.save(item);
+        repository.deleteById("id1");
+
+        assertEquals(0, counter.end());
+        verify(delegate).save(item);
+        verify(delegate).deleteById("id1");
+    }
+
+    @Test
+    void compareAndSave_shouldCountVersionRead() {
+        when(delegate.compareAndSave(item, 1L)).thenReturn(item);
+        counter.begin();
+
+        repository.compareAndSave(item, 1L);
+
+        assertEquals(1, counter.end());
+        verify(delegate).compareAndSave(item, 1L);
+    }
+
+    @Test
+    void findAllById_shouldCountEveryId() {
+        when(delegate.findAllById(List.of("id1", "id2"))).thenReturn(Map.of("id1", item));
+        counter.begin();
+
+        repository.findAllById(List.of("id1", "id2"));
+
+        assertEquals(2, counter.end());
+    }
+}
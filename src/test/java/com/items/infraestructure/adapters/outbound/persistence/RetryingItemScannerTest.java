@@ -0,0 +1,93 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import com.items.domain.model.Item;
+import com.items.infraestructure.adapters.inbound.health.ItemCatalogHealthIndicator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.health.Status;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryingItemScannerTest {
+
+    @TempDir
+    Path tempFolder;
+
+    private static Item item(String id) {
+        return new Item(id, "Item " + id, "url", "desc", BigDecimal.TEN, 4.0, null);
+    }
+
+    @Test
+    void scan_whenAttemptsFail_shouldRetryUntilOneCompletes() {
+        AtomicInteger attempts = new AtomicInteger();
+        ItemScanner flaky = consumer -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IllegalStateException("boom");
+            }
+            consumer.accept(item("id-1"));
+        };
+        Set<String> ids = new HashSet<>();
+
+        new RetryingItemScanner(flaky, 1, 5).scan(loaded -> ids.add(loaded.id()));
+
+        assertEquals(3, attempts.get());
+        assertEquals(Set.of("id-1"), ids);
+    }
+
+    @Test
+    void scan_shouldNotRetryACompletedScan() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        new RetryingItemScanner(consumer -> attempts.incrementAndGet(), 1, 5).scan(loaded -> { });
+
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void scan_whenInterruptedWhileWaiting_shouldStop() {
+        ItemScanner failing = consumer -> {
+            throw new IllegalStateException("boom");
+        };
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(IllegalStateException.class,
+                    () -> new RetryingItemScanner(failing, 60000, 60000).scan(loaded -> { }));
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void scan_afterFailedWarmUp_shouldBringReadinessBackUp() {
+        JsonItemRepository repository = new JsonItemRepository(tempFolder.toString());
+        repository.save(item("id-1"));
+        ItemLoadProgress progress = new ItemLoadProgress();
+        ItemCatalogHealthIndicator health = new ItemCatalogHealthIndicator(progress);
+        ItemCatalogLoader loader = new ItemCatalogLoader(repository, 2, progress);
+        AtomicInteger calls = new AtomicInteger();
+        Set<Status> statusesBetweenAttempts = new HashSet<>();
+
+        new RetryingItemScanner(consumer -> {
+            if (calls.get() > 0) {
+                statusesBetweenAttempts.add(health.health().getStatus());
+            }
+            loader.scan(consumer);
+        }, 1, 5).scan(loaded -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("boom");
+            }
+        });
+
+        assertEquals(Set.of(Status.DOWN), statusesBetweenAttempts);
+        assertEquals(Status.UP, health.health().getStatus());
+        assertEquals(1, progress.loadedCount());
+    }
+}
@@ -0,0 +1,194 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import com.items.domain.exception.ItemVersionConflictException;
+import com.items.domain.model.Item;
+import com.items.domain.model.Specification;
+import com.items.infraestructure.adapters.outbound.persistence.codec.BinaryItemCodec;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentLogItemRepositoryTest {
+
+    @TempDir
+    Path tempFolder;
+
+    private SegmentLogItemRepository repository;
+    private Specification specification;
+
+    @BeforeEach
+    void setup() {
+        specification = new Specification("spec1", "Spec Description", null, null, null, null, null);
+        repository = open(1024 * 1024);
+    }
+
+    @AfterEach
+    void cleanup() throws IOException {
+        repository.close();
+    }
+
+    private SegmentLogItemRepository open(long maxSegmentBytes) {
+        return new SegmentLogItemRepository(tempFolder.toString(), maxSegmentBytes, 0.5, 0, false);
+    }
+
+    private Item item(String id, String name) {
+        return new Item(id, name, "url", "desc", BigDecimal.valueOf(49.99), 3.8, specification);
+    }
+
+    @Test
+    void save_thenFindById_shouldReturnItem() {
+        Item item = item("id-1", "Item 1");
+
+        repository.save(item);
+
+        assertEquals(item, repository.findById("id-1").orElseThrow());
+    }
+
+    @Test
+    void findById_withNullOrUnknownId_shouldReturnEmpty() {
+        assertTrue(repository.findById(null).isEmpty());
+        assertTrue(repository.findById("missing").isEmpty());
+    }
+
+    @Test
+    void save_shouldReturnLatestVersionAfterOverwrite() {
+        repository.save(item("id-1", "Old"));
+        repository.save(item("id-1", "New"));
+
+        assertEquals("New", repository.findById("id-1").orElseThrow().name());
+        assertEquals(1, repository.size());
+    }
+
+    @Test
+    void deleteById_shouldMakeItemUnavailable() {
+        repository.save(item("id-1", "Item 1"));
+
+        repository.deleteById("id-1");
+
+        assertTrue(repository.findById("id-1").isEmpty());
+        assertDoesNotThrow(() -> repository.deleteById("missing"));
+        assertDoesNotThrow(() -> repository.deleteById(null));
+    }
+
+    @Test
+    void reopen_shouldRecoverIndexFromSegments() throws IOException {
+        repository.save(item("id-1", "Item 1"));
+        repository.save(item("id-2", "Item 2"));
+        repository.save(item("id-1", "Item 1 updated"));
+        repository.deleteById("id-2");
+        repository.close();
+
+        repository = open(1024 * 1024);
+
+        assertEquals("Item 1 updated", repository.findById("id-1").orElseThrow().name());
+        assertTrue(repository.findById("id-2").isEmpty());
+    }
+
+    @Test
+    void save_shouldRollToNewSegmentWhenFull() throws IOException {
+        repository.close();
+        repository = open(256);
+
+        for (int i = 0; i < 10; i++) {
+            repository.save(item("id-" + i, "Item " + i));
+        }
+
+        assertTrue(repository.segmentCount() > 1);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(repository.findById("id-" + i).isPresent());
+        }
+    }
+
+    @Test
+    void compact_shouldDropDeadSegmentsAndKeepLiveItems() throws IOException {
+        repository.close();
+        repository = open(256);
+        for (int i = 0; i < 10; i++) {
+            repository.save(item("id-" + i, "Item " + i));
+        }
+        for (int i = 0; i < 8; i++) {
+            repository.deleteById("id-" + i);
+        }
+        int before = repository.segmentCount();
+
+        int compacted = repository.compact();
+
+        assertTrue(compacted > 0);
+        assertTrue(repository.segmentCount() < before);
+        assertTrue(repository.findById("id-8").isPresent());
+        assertTrue(repository.findById("id-9").isPresent());
+
+        repository.close();
+        repository = open(256);
+        assertTrue(repository.findById("id-0").isEmpty());
+        assertTrue(repository.findById("id-9").isPresent());
+    }
+
+    @Test
+    void reopen_shouldTruncateTornTail() throws IOException {
+        repository.save(item("id-1", "Item 1"));
+        repository.close();
+        Path segment;
+        try (Stream<Path> files = Files.list(tempFolder)) {
+            segment = files.filter(p -> p.toString().endsWith(".seg")).findFirst().orElseThrow();
+        }
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(file.length());
+            file.writeInt(500);
+            file.writeInt(42);
+        }
+
+        repository = open(1024 * 1024);
+        repository.save(item("id-2", "Item 2"));
+
+        assertTrue(repository.findById("id-1").isPresent());
+        assertTrue(repository.findById("id-2").isPresent());
+    }
+
+    @Test
+    void scan_shouldVisitLiveItems() {
+        repository.save(item("id-1", "Item 1"));
+        repository.save(item("id-2", "Item 2"));
+        repository.deleteById("id-1");
+
+        List<Item> scanned = new ArrayList<>();
+        repository.scan(scanned::add);
+
+        assertEquals(1, scanned.size());
+        assertEquals("id-2", scanned.get(0).id());
+    }
+
+    @Test
+    void reopen_withBinaryCodec_shouldReadExistingJsonRecords() throws IOException {
+        repository.save(item("id-1", "Item 1"));
+        repository.close();
+
+        repository = new SegmentLogItemRepository(tempFolder.toString(), 1024 * 1024, 0.5, 0, false, new BinaryItemCodec());
+        repository.save(item("id-2", "Item 2"));
+
+        assertEquals("Item 1", repository.findById("id-1").orElseThrow().name());
+        assertEquals("Item 2", repository.findById("id-2").orElseThrow().name());
+    }
+
+    @Test
+    void compareAndSave_shouldCheckStoredVersion() {
+        repository.save(item("id-1", "Item 1").withVersion(1L));
+
+        assertEquals(2L, repository.compareAndSave(item("id-1", "Renamed"), 1L).version());
+        assertThrows(ItemVersionConflictException.class, () -> repository.compareAndSave(item("id-1", "Stale"), 1L));
+        assertEquals(2L, repository.findById("id-1").orElseThrow().version());
+    }
+}
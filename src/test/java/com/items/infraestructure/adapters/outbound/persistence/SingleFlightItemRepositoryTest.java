@@ -0,0 +1,180 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import com.items.domain.model.Item;
+import com.items.domain.port.outbound.ItemRepositoryPort;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SingleFlightItemRepositoryTest {
+
+    private ItemRepositoryPort delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+    private Item sampleItem;
+
+    @BeforeEach
+    void setup() {
+        delegate = mock(ItemRepositoryPort.class);
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newFixedThreadPool(8);
+        sampleItem = new Item("sample-123", "Sample Product", "http://sample.img", "A sample description", BigDecimal.valueOf(49.99), 3.8, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void findById_concurrentMisses_shouldShareOneLoad() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger reads = new AtomicInteger();
+        when(delegate.findById("sample-123")).thenAnswer(call -> {
+            reads.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(sampleItem);
+        });
+        SingleFlightItemRepository repository = new SingleFlightItemRepository(delegate, meterRegistry);
+
+        List<Future<Optional<Item>>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> repository.findById("sample-123")));
+        }
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("items.singleflight.coalesced").functionCounter().count() < 7
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        for (Future<Optional<Item>> result : results) {
+            assertEquals(sampleItem, result.get(5, TimeUnit.SECONDS).orElseThrow());
+        }
+        assertEquals(1, reads.get());
+        assertEquals(1.0, meterRegistry.get("items.singleflight.loads").functionCounter().count());
+        assertEquals(7.0, meterRegistry.get("items.singleflight.coalesced").functionCounter().count());
+    }
+
+    @Test
+    void findById_sequentialCalls_shouldEachRead() {
+        when(delegate.findById("sample-123")).thenReturn(Optional.of(sampleItem));
+        SingleFlightItemRepository repository = new SingleFlightItemRepository(delegate, meterRegistry);
+
+        repository.findById("sample-123");
+        repository.findById("sample-123");
+
+        verify(delegate, times(2)).findById("sample-123");
+    }
+
+    @Test
+    void findById_whenLoadFails_shouldPropagateToWaiters() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findById("sample-123")).thenAnswer(call -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException("disk gone");
+        });
+        SingleFlightItemRepository repository = new SingleFlightItemRepository(delegate, meterRegistry);
+
+        Future<?> leader = executor.submit(() -> repository.findById("sample-123"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<?> waiter = executor.submit(() -> repository.findById("sample-123"));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("items.singleflight.coalesced").functionCounter().count() < 1
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        Exception leaderFailure = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+        Exception waiterFailure = assertThrows(Exception.class, () -> waiter.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, leaderFailure.getCause());
+        assertInstanceOf(IllegalStateException.class, waiterFailure.getCause());
+    }
+
+    @Test
+    void save_shouldDetachInFlightLoad() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Item updated = sampleItem.withVersion(2L);
+        when(delegate.findById("sample-123"))
+                .thenAnswer(call -> {
+                    started.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return Optional.of(sampleItem);
+                })
+                .thenReturn(Optional.of(updated));
+        when(delegate.save(updated)).thenReturn(updated);
+        SingleFlightItemRepository repository = new SingleFlightItemRepository(delegate, meterRegistry);
+
+        Future<Optional<Item>> stale = executor.submit(() -> repository.findById("sample-123"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        repository.save(updated);
+
+        assertEquals(updated, repository.findById("sample-123").orElseThrow());
+        release.countDown();
+        assertEquals(sampleItem, stale.get(5, TimeUnit.SECONDS).orElseThrow());
+    }
+
+    @Test
+    void writes_shouldDelegate() {
+        when(delegate.save(sampleItem)).thenReturn(sampleItem);
+        when(delegate.compareAndSave(sampleItem, 1L)).thenReturn(sampleItem);
+        SingleFlightItemRepository repository = new SingleFlightItemRepository(delegate, meterRegistry);
+
+        assertEquals(sampleItem, repository.save(sampleItem));
+        assertEquals(sampleItem, repository.compareAndSave(sampleItem, 1L));
+        repository.deleteById("sample-123");
+
+        verify(delegate).deleteById("sample-123");
+    }
+
+    @Test
+    void findAllById_shouldJoinLoadInFlightAndBatchTheRest() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findById("sample-123")).thenAnswer(call -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(sampleItem);
+        });
+        Item other = sampleItem.withId("other");
+        when(delegate.findAllById(List.of("other"))).thenReturn(Map.of("other", other));
+        SingleFlightItemRepository repository = new SingleFlightItemRepository(delegate, meterRegistry);
+
+        Future<Optional<Item>> single = executor.submit(() -> repository.findById("sample-123"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<Map<String, Item>> batch = executor.submit(() -> repository.findAllById(List.of("sample-123", "other")));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("items.singleflight.coalesced").functionCounter().count() < 1
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        Map<String, Item> items = batch.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of("sample-123", "other"), List.copyOf(items.keySet()));
+        assertEquals(sampleItem, single.get(5, TimeUnit.SECONDS).orElseThrow());
+        verify(delegate, times(1)).findById("sample-123");
+    }
+}
@@ -0,0 +1,39 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedLocksTest {
+
+    @Test
+    void constructor_shouldRoundStripesToPowerOfTwo() {
+        assertEquals(16, new StripedLocks(10).stripes());
+        assertEquals(16, new StripedLocks(16).stripes());
+        assertEquals(2, new StripedLocks(0).stripes());
+    }
+
+    @Test
+    void lockFor_shouldReturnSameLockForSameId() {
+        StripedLocks locks = new StripedLocks(64);
+
+        assertSame(locks.lockFor("item-1"), locks.lockFor("item-1"));
+        assertNotNull(locks.lockFor(null));
+    }
+
+    @Test
+    void lockFor_shouldSpreadIdsOverStripes() {
+        StripedLocks locks = new StripedLocks(64);
+        Set<ReentrantLock> used = new HashSet<>();
+
+        for (int i = 0; i < 1000; i++) {
+            used.add(locks.lockFor("item-" + i));
+        }
+
+        assertEquals(64, used.size());
+    }
+}
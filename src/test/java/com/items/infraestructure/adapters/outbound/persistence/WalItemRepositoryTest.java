@@ -0,0 +1,181 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.items.domain.exception.ItemVersionConflictException;
+import com.items.domain.model.Item;
+import com.items.domain.model.Specification;
+import com.items.domain.port.outbound.ItemRepositoryPort;
+import com.items.infraestructure.entities.ItemEntity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class WalItemRepositoryTest {
+
+    @TempDir
+    Path tempFolder;
+
+    private JsonItemRepository jsonRepository;
+    private Specification specification;
+
+    @BeforeEach
+    void setup() {
+        specification = new Specification("spec1", "Spec Description", null, null, null, null, null);
+        jsonRepository = new JsonItemRepository(tempFolder.toString());
+    }
+
+    private Item item(String id, String name) {
+        return new Item(id, name, "url", "desc", BigDecimal.TEN, 4.0, specification);
+    }
+
+    private ItemWriteAheadLog wal() {
+        return new ItemWriteAheadLog(tempFolder.resolve("items.wal"), false);
+    }
+
+    @Test
+    void save_shouldLogAndApplyMutation() throws Exception {
+        ItemWriteAheadLog wal = wal();
+        WalItemRepository repository = new WalItemRepository(jsonRepository, wal, 1000);
+
+        repository.save(item("id-1", "Item 1"));
+
+        assertEquals(1, wal.entries());
+        assertTrue(new File(tempFolder.toFile(), "id-1.json").exists());
+        assertEquals("Item 1", repository.findById("id-1").orElseThrow().name());
+        repository.close();
+    }
+
+    @Test
+    void deleteById_shouldLogAndApplyMutation() throws Exception {
+        ItemWriteAheadLog wal = wal();
+        WalItemRepository repository = new WalItemRepository(jsonRepository, wal, 1000);
+        repository.save(item("id-1", "Item 1"));
+
+        repository.deleteById("id-1");
+
+        assertEquals(2, wal.entries());
+        assertTrue(repository.findById("id-1").isEmpty());
+        repository.close();
+    }
+
+    @Test
+    void save_shouldCheckpointAfterThreshold() throws Exception {
+        ItemWriteAheadLog wal = wal();
+        WalItemRepository repository = new WalItemRepository(jsonRepository, wal, 2);
+
+        repository.save(item("id-1", "Item 1"));
+        repository.save(item("id-2", "Item 2"));
+
+        assertEquals(0, wal.entries());
+        repository.close();
+    }
+
+    @Test
+    void constructor_shouldReplayPendingEntries() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        jsonRepository.save(item("id-2", "Stale"));
+        try (ItemWriteAheadLog wal = wal()) {
+            wal.append(ItemWriteAheadLog.PUT, "id-1", mapper.writeValueAsBytes(ItemEntity.fromDomain(item("id-1", "Recovered"))));
+            wal.append(ItemWriteAheadLog.DELETE, "id-2", new byte[0]);
+        }
+
+        ItemWriteAheadLog wal = wal();
+        WalItemRepository repository = new WalItemRepository(jsonRepository, wal, 1000);
+
+        assertEquals("Recovered", jsonRepository.findById("id-1").orElseThrow().name());
+        assertTrue(jsonRepository.findById("id-2").isEmpty());
+        assertEquals(0, wal.entries());
+        repository.close();
+    }
+
+    @Test
+    void checkpoint_shouldFlushBufferingDelegate() throws Exception {
+        WriteBehindItemRepository writeBehind = new WriteBehindItemRepository(jsonRepository, 60000, 100, 100);
+        ItemWriteAheadLog wal = wal();
+        WalItemRepository repository = new WalItemRepository(writeBehind, wal, 1000);
+        repository.save(item("id-1", "Item 1"));
+        assertFalse(new File(tempFolder.toFile(), "id-1.json").exists());
+
+        repository.checkpoint();
+
+        assertTrue(new File(tempFolder.toFile(), "id-1.json").exists());
+        assertEquals(0, wal.entries());
+        repository.close();
+    }
+
+    @Test
+    void nullIds_shouldBypassLog() throws Exception {
+        ItemWriteAheadLog wal = wal();
+        WalItemRepository repository = new WalItemRepository(jsonRepository, wal, 1000);
+
+        assertDoesNotThrow(() -> repository.deleteById(null));
+        assertEquals(0, wal.entries());
+        repository.close();
+    }
+
+    @Test
+    void compareAndSave_shouldLogOnlyAcceptedWrites() throws Exception {
+        jsonRepository.save(item("id-1", "Item 1").withVersion(1L));
+        ItemWriteAheadLog wal = wal();
+        WalItemRepository repository = new WalItemRepository(jsonRepository, wal, 1000);
+
+        assertEquals(2L, repository.compareAndSave(item("id-1", "Renamed"), 1L).version());
+        assertThrows(ItemVersionConflictException.class, () -> repository.compareAndSave(item("id-1", "Stale"), 1L));
+
+        assertEquals(1, wal.entries());
+        assertEquals(2L, jsonRepository.findById("id-1").orElseThrow().version());
+        repository.close();
+    }
+
+    @Test
+    void findAllById_shouldReadFromDelegate() throws Exception {
+        WalItemRepository repository = new WalItemRepository(jsonRepository, wal(), 1000);
+        repository.save(item("a", "A"));
+
+        assertEquals(List.of("a"), List.copyOf(repository.findAllById(List.of("a", "b")).keySet()));
+        repository.close();
+    }
+
+    @Test
+    void checkpoint_shouldSyncDelegateBeforeTruncatingLog() throws Exception {
+        ItemWriteAheadLog wal = wal();
+        ItemRepositoryPort delegate = mock(ItemRepositoryPort.class, withSettings().extraInterfaces(Syncable.class));
+        when(delegate.save(any(Item.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        List<Long> entriesAtSync = new ArrayList<>();
+        doAnswer(invocation -> entriesAtSync.add(wal.entries())).when((Syncable) delegate).sync();
+        WalItemRepository repository = new WalItemRepository(delegate, wal, 1000);
+        entriesAtSync.clear();
+        repository.save(item("id-1", "Item 1"));
+
+        repository.checkpoint();
+
+        assertEquals(List.of(1L), entriesAtSync);
+        assertEquals(0, wal.entries());
+        repository.close();
+    }
+
+    @Test
+    void checkpoint_shouldLeaveNoUnsyncedFiles() throws Exception {
+        WalItemRepository repository = new WalItemRepository(jsonRepository, wal(), 1000);
+        repository.save(item("id-1", "Item 1"));
+        repository.save(item("id-2", "Item 2"));
+        repository.deleteById("id-2");
+        assertEquals(2, jsonRepository.unsyncedFiles());
+
+        repository.checkpoint();
+
+        assertEquals(0, jsonRepository.unsyncedFiles());
+        repository.close();
+    }
+}
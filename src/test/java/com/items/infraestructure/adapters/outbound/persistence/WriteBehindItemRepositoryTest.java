@@ -0,0 +1,192 @@
+package com.items.infraestructure.adapters.outbound.persistence;
+
+import com.items.domain.exception.ItemVersionConflictException;
+import com.items.domain.model.Item;
+import com.items.domain.model.Specification;
+import com.items.domain.port.outbound.ItemRepositoryPort;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class WriteBehindItemRepositoryTest {
+
+    @TempDir
+    Path tempFolder;
+
+    private JsonItemRepository jsonRepository;
+    private Specification specification;
+
+    @BeforeEach
+    void setup() {
+        specification = new Specification("spec1", "Spec Description", null, null, null, null, null);
+        jsonRepository = new JsonItemRepository(tempFolder.toString());
+    }
+
+    private Item item(String id, String name) {
+        return new Item(id, name, "url", "desc", BigDecimal.TEN, 4.0, specification);
+    }
+
+    private File file(String id) {
+        return new File(tempFolder.toFile(), id + ".json");
+    }
+
+    @Test
+    void save_shouldBeVisibleBeforeFlush() throws Exception {
+        WriteBehindItemRepository repository = new WriteBehindItemRepository(jsonRepository, 60000, 100, 100);
+
+        repository.save(item("id-1", "Item 1"));
+
+        assertFalse(file("id-1").exists());
+        assertEquals("Item 1", repository.findById("id-1").orElseThrow().name());
+        assertEquals(1, repository.pendingCount());
+        repository.close();
+    }
+
+    @Test
+    void sync_shouldFlushThenSyncDelegate() throws Exception {
+        WriteBehindItemRepository repository = new WriteBehindItemRepository(jsonRepository, 60000, 100, 100);
+        repository.save(item("id-1", "Item 1"));
+
+        repository.sync();
+
+        assertTrue(file("id-1").exists());
+        assertEquals(0, jsonRepository.unsyncedFiles());
+        repository.close();
+    }
+
+    @Test
+    void flush_shouldApplyQueuedWrites() throws Exception {
+        WriteBehindItemRepository repository = new WriteBehindItemRepository(jsonRepository, 60000, 100, 100);
+        repository.save(item("id-1", "Item 1"));
+
+        repository.flush();
+
+        assertTrue(file("id-1").exists());
+        assertEquals(0, repository.pendingCount());
+        repository.close();
+    }
+
+    @Test
+    void save_shouldCoalesceRepeatedWritesToSameId() throws Exception {
+        ItemRepositoryPort delegate = mock(ItemRepositoryPort.class);
+        WriteBehindItemRepository repository = new WriteBehindItemRepository(delegate, 60000, 100, 100);
+
+        repository.save(item("id-1", "First"));
+        repository.save(item("id-1", "Second"));
+        repository.save(item("id-1", "Third"));
+        repository.flush();
+
+        verify(delegate, times(1)).save(any(Item.class));
+        verify(delegate).save(item("id-1", "Third"));
+        repository.close();
+    }
+
+    @Test
+    void deleteById_shouldHideItemBeforeFlush() throws Exception {
+        jsonRepository.save(item("id-1", "Item 1"));
+        WriteBehindItemRepository repository = new WriteBehindItemRepository(jsonRepository, 60000, 100, 100);
+
+        repository.deleteById("id-1");
+
+        assertTrue(repository.findById("id-1").isEmpty());
+        assertTrue(file("id-1").exists());
+        repository.flush();
+        assertFalse(file("id-1").exists());
+        repository.close();
+    }
+
+    @Test
+    void findById_shouldFallBackToDelegate() throws Exception {
+        jsonRepository.save(item("id-1", "Item 1"));
+        WriteBehindItemRepository repository = new WriteBehindItemRepository(jsonRepository, 60000, 100, 100);
+
+        assertTrue(repository.findById("id-1").isPresent());
+        assertTrue(repository.findById("missing").isEmpty());
+        assertTrue(repository.findById(null).isEmpty());
+        repository.close();
+    }
+
+    @Test
+    void flusher_shouldWriteOnceBatchIsFull() throws Exception {
+        WriteBehindItemRepository repository = new WriteBehindItemRepository(jsonRepository, 60000, 2, 100);
+
+        repository.save(item("id-1", "Item 1"));
+        repository.save(item("id-2", "Item 2"));
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (repository.pendingCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, repository.pendingCount());
+        repository.close();
+        assertTrue(file("id-2").exists());
+    }
+
+    @Test
+    void close_shouldDrainQueue() throws Exception {
+        WriteBehindItemRepository repository = new WriteBehindItemRepository(jsonRepository, 60000, 100, 100);
+        repository.save(item("id-1", "Item 1"));
+        repository.save(item("id-2", "Item 2"));
+
+        repository.close();
+
+        assertTrue(file("id-1").exists());
+        assertTrue(file("id-2").exists());
+        assertThrows(IllegalStateException.class, () -> repository.save(item("id-3", "Item 3")));
+    }
+
+    @Test
+    void flush_whenDelegateFails_shouldKeepWritesQueued() throws Exception {
+        ItemRepositoryPort delegate = mock(ItemRepositoryPort.class);
+        when(delegate.save(any(Item.class))).thenThrow(new RuntimeException("disk full")).thenAnswer(inv -> inv.getArgument(0));
+        WriteBehindItemRepository repository = new WriteBehindItemRepository(delegate, 60000, 100, 100);
+        repository.save(item("id-1", "Item 1"));
+
+        assertThrows(RuntimeException.class, repository::flush);
+        assertEquals(1, repository.pendingCount());
+        assertTrue(repository.findById("id-1").isPresent());
+
+        repository.flush();
+        assertEquals(0, repository.pendingCount());
+        repository.close();
+    }
+
+    @Test
+    void compareAndSave_shouldCheckQueuedVersion() throws Exception {
+        WriteBehindItemRepository repository = new WriteBehindItemRepository(jsonRepository, 60000, 100, 100);
+        repository.save(item("id-1", "Item 1").withVersion(1L));
+
+        Item saved = repository.compareAndSave(item("id-1", "Renamed"), 1L);
+
+        assertEquals(2L, saved.version());
+        assertThrows(ItemVersionConflictException.class, () -> repository.compareAndSave(item("id-1", "Stale"), 1L));
+        repository.close();
+        assertEquals(2L, jsonRepository.findById("id-1").orElseThrow().version());
+    }
+
+    @Test
+    void findAllById_shouldSeeQueuedWrites() throws Exception {
+        jsonRepository.save(item("stored", "Stored"));
+        jsonRepository.save(item("deleted", "Deleted"));
+        WriteBehindItemRepository repository = new WriteBehindItemRepository(jsonRepository, 60000, 100, 100);
+        repository.save(item("queued", "Queued"));
+        repository.deleteById("deleted");
+
+        Map<String, Item> items = repository.findAllById(List.of("queued", "deleted", "stored"));
+
+        assertEquals(List.of("queued", "stored"), List.copyOf(items.keySet()));
+        assertEquals("Queued", items.get("queued").name());
+        repository.close();
+    }
+}
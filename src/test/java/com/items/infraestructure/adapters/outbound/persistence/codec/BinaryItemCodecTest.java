@@ -0,0 +1,149 @@
+package com.items.infraestructure.adapters.outbound.persistence.codec;
+
+import com.items.domain.model.Specification;
+import com.items.infraestructure.entities.ItemEntity;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryItemCodecTest {
+
+    private final BinaryItemCodec codec = new BinaryItemCodec();
+
+    private ItemEntity fullEntity() {
+        Specification specification = new Specification("Dell", "XPS 15", "Silver", 2.5, "357x235x18", "Aluminum", 24);
+        return new ItemEntity("id-1", "Laptop", "http://img", "Gaming laptop", new BigDecimal("1499.99"), 4.5, specification);
+    }
+
+    private static void assertSameEntity(ItemEntity expected, ItemEntity actual) {
+        assertEquals(expected.toDomain(), actual.toDomain());
+    }
+
+    @Test
+    void encodeDecode_shouldRoundTripAllFields() throws IOException {
+        ItemEntity entity = fullEntity();
+
+        ItemEntity decoded = codec.decode(codec.encode(entity));
+
+        assertSameEntity(entity, decoded);
+        assertEquals(2, decoded.getPrice().scale());
+    }
+
+    @Test
+    void encodeDecode_shouldPreserveNulls() throws IOException {
+        Specification partial = new Specification("Dell", null, null, null, null, null, null);
+        ItemEntity entity = new ItemEntity("id-1", "Name", null, null, null, null, partial);
+
+        assertSameEntity(entity, codec.decode(codec.encode(entity)));
+
+        ItemEntity withoutSpec = new ItemEntity("id-2", "Name", null, null, BigDecimal.TEN, 3.0, null);
+        assertSameEntity(withoutSpec, codec.decode(codec.encode(withoutSpec)));
+    }
+
+    @Test
+    void encode_shouldBeSmallerThanPrettyJson() throws IOException {
+        ItemEntity entity = fullEntity();
+
+        assertTrue(codec.encode(entity).length < new JsonItemCodec(true).encode(entity).length);
+    }
+
+    @Test
+    void decode_shouldReadFromDirectBufferSlice() throws IOException {
+        byte[] encoded = codec.encode(fullEntity());
+        ByteBuffer direct = ByteBuffer.allocateDirect(encoded.length + 8);
+        direct.position(4);
+        direct.put(encoded);
+        direct.position(4).limit(4 + encoded.length);
+
+        assertSameEntity(fullEntity(), codec.decode(direct));
+    }
+
+    @Test
+    void decode_shouldFallBackToJsonForLegacyPayloads() throws IOException {
+        byte[] json = new JsonItemCodec(true).encode(fullEntity());
+
+        assertSameEntity(fullEntity(), codec.decode(json));
+    }
+
+    @Test
+    void decode_withUnknownVersion_shouldThrow() throws IOException {
+        byte[] encoded = codec.encode(fullEntity());
+        encoded[1] = 99;
+
+        assertThrows(IOException.class, () -> codec.decode(encoded));
+    }
+
+    @Test
+    void fileExtension_shouldBeBin() {
+        assertEquals("bin", codec.fileExtension());
+    }
+
+    @Test
+    void encodeDecode_shouldRoundTripVersion() throws IOException {
+        ItemEntity entity = fullEntity();
+        entity.setVersion(42L);
+
+        ItemEntity decoded = codec.decode(codec.encode(entity));
+
+        assertEquals(42L, decoded.getVersion());
+    }
+
+    @Test
+    void decode_shouldReadFormatOnePayloadsWithoutVersion() throws IOException {
+        ItemEntity entity = new ItemEntity("id-1", "Name", null, null, null, 3.0, null);
+        byte[] encoded = codec.encode(entity);
+        // format 1 had no version field and never set its null-mask bit
+        encoded[1] = 1;
+        encoded[2] &= ~0x40;
+
+        ItemEntity decoded = codec.decode(encoded);
+
+        assertNull(decoded.getVersion());
+        assertSameEntity(entity, decoded);
+    }
+
+    @Test
+    void encodeDecode_shouldRoundTripPriceLongerThan255Bytes() throws IOException {
+        ItemEntity entity = fullEntity();
+        entity.setPrice(new BigDecimal(BigInteger.TEN.pow(1000).add(BigInteger.ONE), 2));
+        assertTrue(entity.getPrice().unscaledValue().toByteArray().length > 255);
+
+        ItemEntity decoded = codec.decode(codec.encode(entity));
+
+        assertEquals(entity.getPrice(), decoded.getPrice());
+        assertSameEntity(entity, decoded);
+    }
+
+    @Test
+    void decode_shouldReadFormatTwoPayloadsWithOneBytePriceLength() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        byte[] id = "id-1".getBytes(StandardCharsets.UTF_8);
+        byte[] unscaled = BigInteger.valueOf(149999).toByteArray();
+        out.writeByte(BinaryItemCodec.MAGIC);
+        out.writeByte(2);
+        // every field but the id, the price and the version is null
+        out.writeShort(0xFFFF & ~(1 | 1 << 4 | 1 << 14));
+        out.writeInt(id.length);
+        out.write(id);
+        out.writeInt(2);
+        out.writeByte(unscaled.length);
+        out.write(unscaled);
+        out.writeLong(7L);
+
+        ItemEntity decoded = codec.decode(bytes.toByteArray());
+
+        assertEquals("id-1", decoded.getId());
+        assertEquals(new BigDecimal("1499.99"), decoded.getPrice());
+        assertEquals(7L, decoded.getVersion());
+    }
+}
@@ -0,0 +1,53 @@
+package com.items.infraestructure.adapters.outbound.persistence.codec;
+
+import com.items.domain.model.Specification;
+import com.items.infraestructure.entities.ItemEntity;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonItemCodecTest {
+
+    private ItemEntity entity() {
+        Specification specification = new Specification("Dell", "XPS 15", "Silver", 2.5, "357x235x18", "Aluminum", 24);
+        return new ItemEntity("id-1", "Laptop", "http://img", "Gaming laptop", new BigDecimal("1499.99"), 4.5, specification);
+    }
+
+    @Test
+    void encodeDecode_shouldRoundTrip() throws IOException {
+        JsonItemCodec codec = new JsonItemCodec(false);
+
+        ItemEntity decoded = codec.decode(codec.encode(entity()));
+
+        assertEquals(entity().toDomain(), decoded.toDomain());
+    }
+
+    @Test
+    void encode_whenPretty_shouldIndent() throws IOException {
+        String pretty = new String(new JsonItemCodec(true).encode(entity()), StandardCharsets.UTF_8);
+        String compact = new String(new JsonItemCodec(false).encode(entity()), StandardCharsets.UTF_8);
+
+        assertTrue(pretty.contains("\n"));
+        assertFalse(compact.contains("\n"));
+    }
+
+    @Test
+    void decode_shouldReadFromDirectBuffer() throws IOException {
+        byte[] encoded = new JsonItemCodec(false).encode(entity());
+        ByteBuffer direct = ByteBuffer.allocateDirect(encoded.length);
+        direct.put(encoded).flip();
+
+        assertEquals(entity().toDomain(), new JsonItemCodec(false).decode(direct).toDomain());
+    }
+
+    @Test
+    void fileExtension_shouldBeJson() {
+        assertEquals("json", new JsonItemCodec(true).fileExtension());
+    }
+}
@@ -1,13 +1,45 @@
 package com.items.infraestructure.config;
 
+import com.items.application.service.ItemScoringService;
 import com.items.application.service.ItemService;
+import com.items.application.service.ScoringProfileRegistry;
+import com.items.domain.exception.InvalidItemException;
+import com.items.domain.exception.ItemNotFoundException;
+import com.items.domain.exception.RankingDisabledException;
+import com.items.domain.model.Item;
+import com.items.domain.model.ScoredItem;
 import com.items.domain.port.outbound.ItemRepositoryPort;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.items.infraestructure.adapters.outbound.persistence.BloomFilterItemRepository;
+import com.items.infraestructure.adapters.outbound.persistence.CachingItemRepository;
+import com.items.infraestructure.adapters.outbound.persistence.IndexedItemRepository;
+import com.items.infraestructure.adapters.outbound.persistence.ItemFileLayout;
+import com.items.infraestructure.adapters.outbound.persistence.ItemLoadProgress;
+import com.items.infraestructure.adapters.outbound.persistence.ItemReadCounter;
+import com.items.infraestructure.adapters.outbound.persistence.JsonItemRepository;
+import com.items.infraestructure.adapters.outbound.persistence.MappedSnapshotItemRepository;
+import com.items.infraestructure.adapters.outbound.persistence.RankedItemRepository;
+import com.items.infraestructure.adapters.outbound.persistence.SegmentLogItemRepository;
+import com.items.infraestructure.adapters.outbound.persistence.SingleFlightItemRepository;
+import com.items.infraestructure.adapters.outbound.persistence.WalItemRepository;
+import com.items.infraestructure.adapters.outbound.persistence.WriteBehindItemRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class BeanConfigTest {
@@ -21,16 +53,221 @@ class BeanConfigTest {
     void itemRepositoryPort_shouldCreateJsonItemRepository() {
         beanConfig = new BeanConfig();
 
-        ItemRepositoryPort repository = beanConfig.itemRepositoryPort();
+        ItemRepositoryPort repository = beanConfig.itemRepositoryPort(new ItemStoreProperties(), new SimpleMeterRegistry(), new ItemLoadProgress());
 
         assertNotNull(repository);
+        assertInstanceOf(JsonItemRepository.class, repository);
+    }
+
+    @Test
+    void itemRepositoryPort_whenIndexedMode_shouldCreateIndexedRepository(@TempDir Path tempFolder) {
+        beanConfig = new BeanConfig();
+        ItemStoreProperties properties = new ItemStoreProperties();
+        properties.setBaseFolder(tempFolder.toString());
+        properties.setRepository("indexed");
+
+        properties.getWarmup().setAsync(false);
+        ItemLoadProgress progress = new ItemLoadProgress();
+
+        ItemRepositoryPort repository = beanConfig.itemRepositoryPort(properties, new SimpleMeterRegistry(), progress);
+
+        assertInstanceOf(IndexedItemRepository.class, repository);
+        assertTrue(((IndexedItemRepository) repository).isWarm());
+        assertEquals(ItemLoadProgress.State.LOADED, progress.state());
+    }
+
+    @Test
+    void itemRepositoryPort_whenIndexedModeAsync_shouldWarmUpInBackground(@TempDir Path tempFolder) throws Exception {
+        beanConfig = new BeanConfig();
+        ItemStoreProperties properties = new ItemStoreProperties();
+        properties.setBaseFolder(tempFolder.toString());
+        properties.setRepository("indexed");
+
+        IndexedItemRepository repository = (IndexedItemRepository) beanConfig.itemRepositoryPort(properties, new SimpleMeterRegistry(), new ItemLoadProgress());
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!repository.isWarm() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(repository.isWarm());
+    }
+
+    @Test
+    void itemLayoutMigration_whenSharded_shouldMoveFlatFiles(@TempDir Path tempFolder) throws Exception {
+        beanConfig = new BeanConfig();
+        Files.writeString(tempFolder.resolve("item-1.json"), "{}");
+        ItemStoreProperties properties = new ItemStoreProperties();
+        properties.setBaseFolder(tempFolder.toString());
+        properties.setLayout("sharded");
+
+        beanConfig.itemLayoutMigration(properties).run(null);
+
+        Path target = ItemFileLayout.SHARDED.directoryFor(tempFolder, "item-1").resolve("item-1.json");
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!Files.exists(target) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(Files.exists(target));
+    }
+
+    @Test
+    void itemLayoutMigration_whenFlat_shouldLeaveFiles(@TempDir Path tempFolder) throws Exception {
+        beanConfig = new BeanConfig();
+        Files.writeString(tempFolder.resolve("item-1.json"), "{}");
+        ItemStoreProperties properties = new ItemStoreProperties();
+        properties.setBaseFolder(tempFolder.toString());
+
+        beanConfig.itemLayoutMigration(properties).run(null);
+
+        assertTrue(Files.exists(tempFolder.resolve("item-1.json")));
+    }
+
+    @Test
+    void itemRepositoryPort_whenBloomEnabled_shouldWrapJsonRepository(@TempDir Path tempFolder) throws Exception {
+        beanConfig = new BeanConfig();
+        ItemStoreProperties properties = new ItemStoreProperties();
+        properties.setBaseFolder(tempFolder.toString());
+        properties.getBloom().setEnabled(true);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        ItemRepositoryPort repository = beanConfig.itemRepositoryPort(properties, meterRegistry, new ItemLoadProgress());
+
+        assertInstanceOf(BloomFilterItemRepository.class, repository);
+        assertNotNull(meterRegistry.find("items.bloom.false.positive.rate").gauge());
+        ((AutoCloseable) repository).close();
+    }
+
+    @Test
+    void itemRepositoryPort_whenCacheEnabled_shouldWrapStore(@TempDir Path tempFolder) {
+        beanConfig = new BeanConfig();
+        ItemStoreProperties properties = new ItemStoreProperties();
+        properties.setBaseFolder(tempFolder.toString());
+        properties.getCache().setEnabled(true);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        ItemRepositoryPort repository = beanConfig.itemRepositoryPort(properties, meterRegistry, new ItemLoadProgress());
+
+        assertInstanceOf(CachingItemRepository.class, repository);
+        assertNotNull(meterRegistry.find("items.cache.hits").functionCounter());
+    }
+
+    @Test
+    void itemRepositoryPort_whenSingleFlightEnabled_shouldWrapStore(@TempDir Path tempFolder) {
+        beanConfig = new BeanConfig();
+        ItemStoreProperties properties = new ItemStoreProperties();
+        properties.setBaseFolder(tempFolder.toString());
+        properties.setSingleFlight(true);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        ItemRepositoryPort repository = beanConfig.itemRepositoryPort(properties, meterRegistry, new ItemLoadProgress());
+
+        assertInstanceOf(SingleFlightItemRepository.class, repository);
+        assertNotNull(meterRegistry.find("items.singleflight.coalesced").functionCounter());
+    }
+
+    @Test
+    void itemRepositoryPort_whenBothCacheTiersEnabled_shouldPutHeapTierFirst(@TempDir Path tempFolder) {
+        beanConfig = new BeanConfig();
+        ItemStoreProperties properties = new ItemStoreProperties();
+        properties.setBaseFolder(tempFolder.toString());
+        properties.getOffHeap().setEnabled(true);
+        properties.getOffHeap().setMaxBytes(4L * 1024 * 1024);
+        properties.getCache().setEnabled(true);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        ItemRepositoryPort repository = beanConfig.itemRepositoryPort(properties, meterRegistry, new ItemLoadProgress());
+
+        assertInstanceOf(CachingItemRepository.class, repository);
+        assertNotNull(meterRegistry.find("items.offheap.hits").functionCounter());
+    }
+
+    @Test
+    void itemRepositoryPort_whenCacheEnabledInIndexedMode_shouldNotWrap(@TempDir Path tempFolder) {
+        beanConfig = new BeanConfig();
+        ItemStoreProperties properties = new ItemStoreProperties();
+        properties.setBaseFolder(tempFolder.toString());
+        properties.setRepository("indexed");
+        properties.getCache().setEnabled(true);
+
+        ItemRepositoryPort repository = beanConfig.itemRepositoryPort(properties, new SimpleMeterRegistry(), new ItemLoadProgress());
+
+        assertInstanceOf(IndexedItemRepository.class, repository);
+    }
+
+    @Test
+    void itemRepositoryPort_whenSnapshotMode_shouldCreateMappedSnapshotRepository(@TempDir Path tempFolder) {
+        beanConfig = new BeanConfig();
+        ItemStoreProperties properties = new ItemStoreProperties();
+        properties.setBaseFolder(tempFolder.toString());
+        properties.setRepository("snapshot");
+
+        ItemRepositoryPort repository = beanConfig.itemRepositoryPort(properties, new SimpleMeterRegistry(), new ItemLoadProgress());
+
+        assertInstanceOf(MappedSnapshotItemRepository.class, repository);
+    }
+
+    @Test
+    void itemRepositoryPort_whenWriteBehindEnabled_shouldWrapJsonRepository(@TempDir Path tempFolder) throws Exception {
+        beanConfig = new BeanConfig();
+        ItemStoreProperties properties = new ItemStoreProperties();
+        properties.setBaseFolder(tempFolder.toString());
+        properties.getWriteBehind().setEnabled(true);
+
+        ItemRepositoryPort repository = beanConfig.itemRepositoryPort(properties, new SimpleMeterRegistry(), new ItemLoadProgress());
+
+        assertInstanceOf(WriteBehindItemRepository.class, repository);
+        ((WriteBehindItemRepository) repository).close();
+    }
+
+    @Test
+    void itemRepositoryPort_whenWalEnabled_shouldWrapStore(@TempDir Path tempFolder) throws Exception {
+        beanConfig = new BeanConfig();
+        ItemStoreProperties properties = new ItemStoreProperties();
+        properties.setBaseFolder(tempFolder.toString());
+        properties.getWal().setEnabled(true);
+
+        ItemRepositoryPort repository = beanConfig.itemRepositoryPort(properties, new SimpleMeterRegistry(), new ItemLoadProgress());
+
+        assertInstanceOf(WalItemRepository.class, repository);
+        ((WalItemRepository) repository).close();
+    }
+
+    @Test
+    void itemRepositoryPort_whenWalEnabledWithoutWriteBehind_shouldApplyWritesInBackground(@TempDir Path tempFolder) throws Exception {
+        beanConfig = new BeanConfig();
+        ItemStoreProperties properties = new ItemStoreProperties();
+        properties.setBaseFolder(tempFolder.toString());
+        properties.getWal().setEnabled(true);
+        properties.getWriteBehind().setFlushIntervalMs(60000);
+        ItemRepositoryPort repository = beanConfig.itemRepositoryPort(properties, new SimpleMeterRegistry(), new ItemLoadProgress());
+        Item item = new Item("wal-1", "Item", "url", "desc", BigDecimal.TEN, 4.0, null);
+
+        repository.save(item);
+
+        assertFalse(Files.exists(tempFolder.resolve("wal-1.json")));
+        assertEquals(item, repository.findById("wal-1").orElseThrow());
+        ((WalItemRepository) repository).close();
+        assertTrue(Files.exists(tempFolder.resolve("wal-1.json")));
+    }
+
+    @Test
+    void itemRepositoryPort_whenSegmentMode_shouldCreateSegmentLogRepository(@TempDir Path tempFolder) throws Exception {
+        beanConfig = new BeanConfig();
+        ItemStoreProperties properties = new ItemStoreProperties();
+        properties.setBaseFolder(tempFolder.toString());
+        properties.setRepository("segment");
+
+        ItemRepositoryPort repository = beanConfig.itemRepositoryPort(properties, new SimpleMeterRegistry(), new ItemLoadProgress());
+
+        assertInstanceOf(SegmentLogItemRepository.class, repository);
+        ((SegmentLogItemRepository) repository).close();
     }
 
     @Test
     void itemApplicationService_shouldCreateItemService() {
         beanConfig = new BeanConfig();
 
-        ItemService itemService = beanConfig.itemApplicationService(itemRepository);
+        ItemService itemService = beanConfig.itemApplicationService(itemRepository, new ItemReadCounter(), new ItemStoreProperties(), new SimpleMeterRegistry());
 
         assertNotNull(itemService);
     }
@@ -39,15 +276,132 @@ class BeanConfigTest {
     void itemApplicationService_shouldUseProvidedRepository() {
         beanConfig = new BeanConfig();
 
-        ItemService itemService = beanConfig.itemApplicationService(itemRepository);
+        ItemService itemService = beanConfig.itemApplicationService(itemRepository, new ItemReadCounter(), new ItemStoreProperties(), new SimpleMeterRegistry());
 
         assertNotNull(itemService);
     }
 
+    @Test
+    void itemApplicationService_shouldCountRepositoryReads() {
+        beanConfig = new BeanConfig();
+        ItemReadCounter counter = beanConfig.itemReadCounter();
+        when(itemRepository.findById("id1")).thenReturn(Optional.empty());
+        ItemService itemService = beanConfig.itemApplicationService(itemRepository, counter, new ItemStoreProperties(), new SimpleMeterRegistry());
+
+        counter.begin();
+        assertThrows(ItemNotFoundException.class, () -> itemService.getItemById("id1"));
+
+        assertEquals(1, counter.end());
+    }
+
+    @Test
+    void itemApplicationService_whenCompareCacheEnabled_shouldInvalidateOnWrite(@TempDir Path tempFolder) {
+        beanConfig = new BeanConfig();
+        ItemStoreProperties properties = new ItemStoreProperties();
+        properties.setBaseFolder(tempFolder.toString());
+        properties.getCompareCache().setEnabled(true);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ItemRepositoryPort store = beanConfig.itemRepositoryPort(properties, meterRegistry, new ItemLoadProgress());
+        ItemService itemService = beanConfig.itemApplicationService(store, new ItemReadCounter(), properties, meterRegistry);
+        Item first = itemService.createItem(new Item("A", "url", "desc", BigDecimal.TEN, 4.0, null));
+        Item second = itemService.createItem(new Item("B", "url", "desc", BigDecimal.ONE, 3.0, null));
+
+        assertEquals(second.id(), itemService.compare(first.id(), second.id()).bestPriceItemId());
+        itemService.compare(first.id(), second.id());
+        itemService.updateItem(new Item(first.id(), "A", "url", "desc", BigDecimal.ZERO, 4.0, null, first.version()));
+
+        assertEquals(first.id(), itemService.compare(first.id(), second.id()).bestPriceItemId());
+        assertEquals(1.0, meterRegistry.get("items.compare.cache.hits").functionCounter().count());
+        assertEquals(2.0, meterRegistry.get("items.compare.cache.misses").functionCounter().count());
+    }
+
     @Test
     void constructor_shouldInitialize() {
         beanConfig = new BeanConfig();
 
         assertNotNull(beanConfig);
     }
-}
\ No newline at end of file
+
+    @Test
+    void itemRepositoryPort_whenRankingEnabled_shouldRankEveryMode(@TempDir Path tempFolder) {
+        beanConfig = new BeanConfig();
+        for (String mode : List.of("json", "indexed", "snapshot", "segment")) {
+            ItemStoreProperties properties = new ItemStoreProperties();
+            properties.setBaseFolder(tempFolder.resolve(mode).toString());
+            properties.setRepository(mode);
+            properties.getRanking().setEnabled(true);
+            properties.getWarmup().setAsync(false);
+
+            ItemRepositoryPort repository = beanConfig.itemRepositoryPort(properties, new SimpleMeterRegistry(), new ItemLoadProgress());
+
+            assertInstanceOf(RankedItemRepository.class, repository, mode);
+            assertTrue(((RankedItemRepository) repository).isWarm(), mode);
+        }
+    }
+
+    @Test
+    void itemApplicationService_whenRankingEnabled_shouldListCheapestItems(@TempDir Path tempFolder) {
+        beanConfig = new BeanConfig();
+        ItemStoreProperties properties = new ItemStoreProperties();
+        properties.setBaseFolder(tempFolder.toString());
+        properties.setRepository("indexed");
+        properties.getRanking().setEnabled(true);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ItemRepositoryPort store = beanConfig.itemRepositoryPort(properties, meterRegistry, new ItemLoadProgress());
+        ItemService itemService = beanConfig.itemApplicationService(store, new ItemReadCounter(), properties, meterRegistry);
+
+        Item expensive = itemService.createItem(new Item("A", "url", "desc", BigDecimal.TEN, 4.0, null));
+        Item cheap = itemService.createItem(new Item("B", "url", "desc", BigDecimal.ONE, 3.0, null));
+
+        assertEquals(List.of(cheap, expensive), itemService.findCheapest(10));
+        assertEquals(List.of(expensive), itemService.findBestRated(1));
+    }
+
+    @Test
+    void itemApplicationService_whenRankingDisabled_shouldRejectTopQueries() {
+        beanConfig = new BeanConfig();
+
+        ItemService itemService = beanConfig.itemApplicationService(itemRepository, new ItemReadCounter(), new ItemStoreProperties(), new SimpleMeterRegistry());
+
+        assertThrows(RankingDisabledException.class, () -> itemService.findCheapest(10));
+    }
+
+    @Test
+    void scoringProfileRegistry_shouldRegisterConfiguredProfiles() {
+        beanConfig = new BeanConfig();
+        ItemStoreProperties properties = new ItemStoreProperties();
+        properties.getScoring().getProfiles().put("best-value", Map.of("price", 3.0, "Rating", 1.0));
+
+        ScoringProfileRegistry registry = beanConfig.scoringProfileRegistry(properties);
+
+        assertEquals(List.of("best-value"), registry.names());
+    }
+
+    @Test
+    void scoringProfileRegistry_withUnknownCriterion_shouldFail() {
+        beanConfig = new BeanConfig();
+        ItemStoreProperties properties = new ItemStoreProperties();
+        properties.getScoring().getProfiles().put("broken", Map.of("color", 1.0));
+
+        assertThrows(InvalidItemException.class, () -> beanConfig.scoringProfileRegistry(properties));
+    }
+
+    @Test
+    void itemScoringService_shouldRankStoredItems(@TempDir Path tempFolder) {
+        beanConfig = new BeanConfig();
+        ItemStoreProperties properties = new ItemStoreProperties();
+        properties.setBaseFolder(tempFolder.toString());
+        properties.getScoring().getProfiles().put("premium", Map.of("rating", 1.0));
+        ItemRepositoryPort store = beanConfig.itemRepositoryPort(properties, new SimpleMeterRegistry(), new ItemLoadProgress());
+        ItemReadCounter counter = beanConfig.itemReadCounter();
+        ItemScoringService scoringService = beanConfig.itemScoringService(store, counter, beanConfig.scoringProfileRegistry(properties));
+        Item poor = store.save(new Item("poor", "A", "url", "desc", BigDecimal.TEN, 2.0, null));
+        Item best = store.save(new Item("best", "B", "url", "desc", BigDecimal.ONE, 5.0, null));
+
+        counter.begin();
+        List<ScoredItem> ranking = scoringService.rank("premium", List.of(poor.id(), best.id()), 1);
+
+        assertEquals(List.of(new ScoredItem("best", 1.0)), ranking);
+        assertEquals(2, counter.end());
+    }
+}
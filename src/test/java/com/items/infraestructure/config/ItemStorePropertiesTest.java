@@ -0,0 +1,221 @@
+package com.items.infraestructure.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemStorePropertiesTest {
+
+    @Test
+    void shouldHaveDefaults() {
+        ItemStoreProperties properties = new ItemStoreProperties();
+
+        assertEquals("data/items", properties.getBaseFolder());
+        assertEquals("json", properties.getRepository());
+        assertEquals("json", properties.getCodec());
+        assertEquals("flat", properties.getLayout());
+        assertTrue(properties.isLayoutMigration());
+        assertFalse(properties.getBloom().isEnabled());
+        assertEquals(100000, properties.getBloom().getExpectedItems());
+        assertEquals(0.01, properties.getBloom().getFalsePositiveRate());
+        assertEquals(0.2, properties.getBloom().getRebuildRatio());
+        assertTrue(properties.getWarmup().isAsync());
+        assertFalse(properties.isSingleFlight());
+        assertEquals(16, properties.getBatchReadParallelism());
+        assertFalse(properties.getOffHeap().isEnabled());
+        assertFalse(properties.getCompareCache().isEnabled());
+        assertFalse(properties.getRanking().isEnabled());
+        assertTrue(properties.getScoring().getProfiles().isEmpty());
+        assertEquals(10000, properties.getCompareCache().getMaxSize());
+        assertEquals(256L * 1024 * 1024, properties.getOffHeap().getMaxBytes());
+        assertFalse(properties.getCache().isEnabled());
+        assertEquals(10000, properties.getCache().getMaxSize());
+        assertEquals(0, properties.getCache().getTtlMs());
+        assertEquals(Runtime.getRuntime().availableProcessors(), properties.getWarmup().getParallelism());
+    }
+
+    @Test
+    void shouldSetAndGetSingleFlight() {
+        ItemStoreProperties properties = new ItemStoreProperties();
+
+        properties.setSingleFlight(true);
+        properties.setBatchReadParallelism(4);
+
+        assertTrue(properties.isSingleFlight());
+        assertEquals(4, properties.getBatchReadParallelism());
+    }
+
+    @Test
+    void shouldSetAndGetOffHeap() {
+        ItemStoreProperties properties = new ItemStoreProperties();
+
+        properties.getOffHeap().setEnabled(true);
+        properties.getOffHeap().setMaxBytes(1024);
+
+        assertTrue(properties.getOffHeap().isEnabled());
+        assertEquals(1024, properties.getOffHeap().getMaxBytes());
+    }
+
+    @Test
+    void shouldSetAndGetCompareCache() {
+        ItemStoreProperties properties = new ItemStoreProperties();
+
+        properties.getCompareCache().setEnabled(true);
+        properties.getCompareCache().setMaxSize(5);
+
+        assertTrue(properties.getCompareCache().isEnabled());
+        assertEquals(5, properties.getCompareCache().getMaxSize());
+    }
+
+    @Test
+    void shouldSetAndGetCache() {
+        ItemStoreProperties properties = new ItemStoreProperties();
+
+        properties.getCache().setEnabled(true);
+        properties.getCache().setMaxSize(50);
+        properties.getCache().setTtlMs(2000);
+
+        assertTrue(properties.getCache().isEnabled());
+        assertEquals(50, properties.getCache().getMaxSize());
+        assertEquals(2000, properties.getCache().getTtlMs());
+    }
+
+    @Test
+    void shouldSetAndGetWarmup() {
+        ItemStoreProperties properties = new ItemStoreProperties();
+
+        properties.getWarmup().setAsync(false);
+        properties.getWarmup().setParallelism(3);
+
+        assertFalse(properties.getWarmup().isAsync());
+        assertEquals(3, properties.getWarmup().getParallelism());
+    }
+
+    @Test
+    void shouldSetAndGetBloom() {
+        ItemStoreProperties properties = new ItemStoreProperties();
+
+        properties.getBloom().setEnabled(true);
+        properties.getBloom().setExpectedItems(10);
+        properties.getBloom().setFalsePositiveRate(0.001);
+        properties.getBloom().setRebuildRatio(0.5);
+
+        assertTrue(properties.getBloom().isEnabled());
+        assertEquals(10, properties.getBloom().getExpectedItems());
+        assertEquals(0.001, properties.getBloom().getFalsePositiveRate());
+        assertEquals(0.5, properties.getBloom().getRebuildRatio());
+    }
+
+    @Test
+    void shouldSetAndGetLayout() {
+        ItemStoreProperties properties = new ItemStoreProperties();
+
+        properties.setLayout("sharded");
+        properties.setLayoutMigration(false);
+
+        assertEquals("sharded", properties.getLayout());
+        assertFalse(properties.isLayoutMigration());
+    }
+
+    @Test
+    void shouldSetAndGetCodec() {
+        ItemStoreProperties properties = new ItemStoreProperties();
+
+        properties.setCodec("binary");
+
+        assertEquals("binary", properties.getCodec());
+    }
+
+    @Test
+    void shouldSetAndGetBaseFolder() {
+        ItemStoreProperties properties = new ItemStoreProperties();
+
+        properties.setBaseFolder("/tmp/items");
+
+        assertEquals("/tmp/items", properties.getBaseFolder());
+    }
+
+    @Test
+    void shouldSetAndGetRepository() {
+        ItemStoreProperties properties = new ItemStoreProperties();
+
+        properties.setRepository("indexed");
+
+        assertEquals("indexed", properties.getRepository());
+    }
+
+    @Test
+    void shouldHaveSegmentDefaults() {
+        ItemStoreProperties.Segment segment = new ItemStoreProperties().getSegment();
+
+        assertEquals(64L * 1024 * 1024, segment.getMaxSegmentBytes());
+        assertEquals(0.5, segment.getCompactionThreshold());
+        assertEquals(60000, segment.getCompactionIntervalMs());
+        assertFalse(segment.isFsync());
+    }
+
+    @Test
+    void shouldSetAndGetSegmentSettings() {
+        ItemStoreProperties.Segment segment = new ItemStoreProperties().getSegment();
+
+        segment.setMaxSegmentBytes(1024);
+        segment.setCompactionThreshold(0.3);
+        segment.setCompactionIntervalMs(0);
+        segment.setFsync(true);
+
+        assertEquals(1024, segment.getMaxSegmentBytes());
+        assertEquals(0.3, segment.getCompactionThreshold());
+        assertEquals(0, segment.getCompactionIntervalMs());
+        assertTrue(segment.isFsync());
+    }
+
+    @Test
+    void shouldHaveWriteBehindDefaults() {
+        ItemStoreProperties.WriteBehind writeBehind = new ItemStoreProperties().getWriteBehind();
+
+        assertFalse(writeBehind.isEnabled());
+        assertEquals(200, writeBehind.getFlushIntervalMs());
+        assertEquals(100, writeBehind.getMaxBatchSize());
+        assertEquals(10000, writeBehind.getQueueCapacity());
+        assertFalse(writeBehind.isFsync());
+    }
+
+    @Test
+    void shouldSetAndGetWriteBehindSettings() {
+        ItemStoreProperties.WriteBehind writeBehind = new ItemStoreProperties().getWriteBehind();
+
+        writeBehind.setEnabled(true);
+        writeBehind.setFlushIntervalMs(50);
+        writeBehind.setMaxBatchSize(10);
+        writeBehind.setQueueCapacity(20);
+        writeBehind.setFsync(true);
+
+        assertTrue(writeBehind.isEnabled());
+        assertEquals(50, writeBehind.getFlushIntervalMs());
+        assertEquals(10, writeBehind.getMaxBatchSize());
+        assertEquals(20, writeBehind.getQueueCapacity());
+        assertTrue(writeBehind.isFsync());
+    }
+
+    @Test
+    void shouldHaveWalDefaults() {
+        ItemStoreProperties.Wal wal = new ItemStoreProperties().getWal();
+
+        assertFalse(wal.isEnabled());
+        assertEquals(1000, wal.getCheckpointEntries());
+        assertTrue(wal.isFsync());
+    }
+
+    @Test
+    void shouldSetAndGetWalSettings() {
+        ItemStoreProperties.Wal wal = new ItemStoreProperties().getWal();
+
+        wal.setEnabled(true);
+        wal.setCheckpointEntries(10);
+        wal.setFsync(false);
+
+        assertTrue(wal.isEnabled());
+        assertEquals(10, wal.getCheckpointEntries());
+        assertFalse(wal.isFsync());
+    }
+}
@@ -285,4 +285,14 @@ class ItemEntityTest {
         assertEquals("Asus", result.brand());
         assertEquals("ROG", result.model());
     }
-}
\ No newline at end of file
+
+    @Test
+    void version_shouldRoundTripThroughDomain() {
+        Item item = new Item("id", "name", "url", "desc", BigDecimal.ONE, 4.0, null, 9L);
+
+        ItemEntity entity = ItemEntity.fromDomain(item);
+
+        assertEquals(9L, entity.getVersion());
+        assertEquals(item, entity.toDomain());
+    }
+}
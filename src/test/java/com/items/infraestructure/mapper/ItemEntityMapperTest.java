@@ -324,4 +324,14 @@ class ItemEntityMapperTest {
         assertNull(item.specification().color());
         assertEquals(24, item.specification().warrantyMonths());
     }
-}
\ No newline at end of file
+
+    @Test
+    void toEntityAndBack_shouldKeepVersion() {
+        Item item = new Item("item-1", "Laptop", "url", "desc", BigDecimal.TEN, 4.5, null, 4L);
+
+        ItemEntity entity = mapper.toEntity(item);
+
+        assertEquals(4L, entity.getVersion());
+        assertEquals(item, mapper.toDomain(entity));
+    }
+}
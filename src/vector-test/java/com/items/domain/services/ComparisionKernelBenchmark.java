@@ -0,0 +1,95 @@
+package com.items.domain.services;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Scalar against Vector API kernels on one million prices and ratings. Not run by the test
+ * suite; see the README for how to run it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class ComparisionKernelBenchmark {
+    private static final int SIZE = 1_000_000;
+
+    @Param({"scalar", "vector"})
+    private String kernel;
+
+    private ComparisionKernel comparisionKernel;
+    private long[] prices;
+    private double[] ratings;
+    private long[] priceDifferences;
+    private double[] ratingDifferences;
+
+    @Setup
+    public void setup() {
+        comparisionKernel = "vector".equals(kernel) ? ComparisionKernels.fastest() : ScalarComparisionKernel.INSTANCE;
+        if ("vector".equals(kernel) && !(comparisionKernel instanceof VectorComparisionKernel)) {
+            throw new IllegalStateException("Vector API not available on this JVM or CPU");
+        }
+        Random random = new Random(42);
+        prices = new long[SIZE];
+        ratings = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            prices[i] = random.nextInt(100_000_000);
+            ratings[i] = random.nextInt(51) / 10.0;
+        }
+        priceDifferences = new long[SIZE];
+        ratingDifferences = new double[SIZE];
+    }
+
+    @Benchmark
+    public int cheapestPrice() {
+        return comparisionKernel.lastIndexOf(prices, SIZE, comparisionKernel.min(prices, SIZE));
+    }
+
+    @Benchmark
+    public int highestPrice() {
+        return comparisionKernel.argMax(prices, SIZE);
+    }
+
+    @Benchmark
+    public int bestRating() {
+        return comparisionKernel.lastIndexOf(ratings, SIZE, comparisionKernel.max(ratings, SIZE));
+    }
+
+    @Benchmark
+    public double lowestRating() {
+        return comparisionKernel.min(ratings, SIZE);
+    }
+
+    @Benchmark
+    public long[] priceDifferences() {
+        comparisionKernel.differencesFrom(prices[0], prices, SIZE, priceDifferences);
+        return priceDifferences;
+    }
+
+    @Benchmark
+    public double[] ratingDifferences() {
+        comparisionKernel.differencesFrom(5.0, ratings, SIZE, ratingDifferences);
+        return ratingDifferences;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ComparisionKernelBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,86 @@
+package com.items.domain.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VectorComparisionKernelTest {
+
+    private final ComparisionKernel scalar = ScalarComparisionKernel.INSTANCE;
+    private ComparisionKernel vector;
+
+    @BeforeEach
+    void setup() {
+        // the vector profile adds jdk.incubator.vector; a CPU without vector registers skips these tests
+        assumeTrue(ComparisionKernels.vectorAvailable());
+        vector = ComparisionKernels.fastest();
+    }
+
+    @Test
+    void fastest_shouldPickVectorKernel() {
+        assertInstanceOf(VectorComparisionKernel.class, vector);
+    }
+
+    @Test
+    void everyOperation_shouldMatchScalarKernel() {
+        Random random = new Random(3);
+        // lengths around the lane count check the loop bodies and the scalar tails
+        for (int length = 0; length < 70; length++) {
+            for (int round = 0; round < 20; round++) {
+                long[] prices = new long[length + 3];
+                double[] ratings = new double[length + 3];
+                for (int i = 0; i < prices.length; i++) {
+                    prices[i] = random.nextInt(10) * 50L;
+                    ratings[i] = random.nextInt(8) == 0 ? -0.0 : random.nextInt(11) / 2.0;
+                }
+                assertSameResults(prices, ratings, length);
+            }
+        }
+    }
+
+    @Test
+    void everyOperation_onLargeArrays_shouldMatchScalarKernel() {
+        Random random = new Random(5);
+        int length = 100_003;
+        long[] prices = new long[length];
+        double[] ratings = new double[length];
+        for (int i = 0; i < length; i++) {
+            prices[i] = random.nextLong() >>> 1;
+            ratings[i] = random.nextDouble() * 5;
+        }
+
+        assertSameResults(prices, ratings, length);
+    }
+
+    private void assertSameResults(long[] prices, double[] ratings, int length) {
+        assertEquals(scalar.min(prices, length), vector.min(prices, length));
+        assertEquals(scalar.max(prices, length), vector.max(prices, length));
+        assertEquals(scalar.min(ratings, length), vector.min(ratings, length));
+        assertEquals(scalar.max(ratings, length), vector.max(ratings, length));
+        assertEquals(scalar.argMin(prices, length), vector.argMin(prices, length));
+        assertEquals(scalar.argMax(prices, length), vector.argMax(prices, length));
+        assertEquals(scalar.argMin(ratings, length), vector.argMin(ratings, length));
+        assertEquals(scalar.argMax(ratings, length), vector.argMax(ratings, length));
+        long price = length == 0 ? 0 : prices[length / 2];
+        double rating = length == 0 ? 0 : ratings[length / 2];
+        assertEquals(scalar.indexOf(prices, length, price), vector.indexOf(prices, length, price));
+        assertEquals(scalar.lastIndexOf(prices, length, price), vector.lastIndexOf(prices, length, price));
+        assertEquals(scalar.indexOf(ratings, length, rating), vector.indexOf(ratings, length, rating));
+        assertEquals(scalar.lastIndexOf(ratings, length, rating), vector.lastIndexOf(ratings, length, rating));
+
+        long[] expectedPrices = new long[prices.length];
+        long[] actualPrices = new long[prices.length];
+        scalar.differencesFrom(price, prices, length, expectedPrices);
+        vector.differencesFrom(price, prices, length, actualPrices);
+        assertArrayEquals(expectedPrices, actualPrices);
+        double[] expectedRatings = new double[ratings.length];
+        double[] actualRatings = new double[ratings.length];
+        scalar.differencesFrom(rating, ratings, length, expectedRatings);
+        vector.differencesFrom(rating, ratings, length, actualRatings);
+        assertArrayEquals(expectedRatings, actualRatings);
+    }
+}
@@ -0,0 +1,185 @@
+package com.items.domain.services;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link ComparisionKernel} on the incubating Vector API: the body of each loop handles as
+ * many values per instruction as the widest vector register holds, and the tail that does
+ * not fill a register is handled one value at a time.
+ *
+ * Only compiled by the {@code vector} build profile, and loading it needs the JVM started
+ * with {@code --add-modules jdk.incubator.vector}; {@link ComparisionKernels} looks it up by
+ * name, so nothing else references it.
+ */
+public final class VectorComparisionKernel implements ComparisionKernel {
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    VectorComparisionKernel() {
+    }
+
+    // with one lane per register the API falls back to slow emulation
+    static boolean isSupported() {
+        return LONGS.length() > 1 && DOUBLES.length() > 1;
+    }
+
+    @Override
+    public long min(long[] values, int length) {
+        int bound = LONGS.loopBound(length);
+        LongVector min = LongVector.broadcast(LONGS, Long.MAX_VALUE);
+        int i = 0;
+        for (; i < bound; i += LONGS.length()) {
+            min = min.min(LongVector.fromArray(LONGS, values, i));
+        }
+        long result = min.reduceLanes(VectorOperators.MIN);
+        for (; i < length; i++) {
+            result = Math.min(result, values[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public long max(long[] values, int length) {
+        int bound = LONGS.loopBound(length);
+        LongVector max = LongVector.broadcast(LONGS, Long.MIN_VALUE);
+        int i = 0;
+        for (; i < bound; i += LONGS.length()) {
+            max = max.max(LongVector.fromArray(LONGS, values, i));
+        }
+        long result = max.reduceLanes(VectorOperators.MAX);
+        for (; i < length; i++) {
+            result = Math.max(result, values[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public double min(double[] values, int length) {
+        int bound = DOUBLES.loopBound(length);
+        DoubleVector min = DoubleVector.broadcast(DOUBLES, Double.POSITIVE_INFINITY);
+        int i = 0;
+        for (; i < bound; i += DOUBLES.length()) {
+            min = min.min(DoubleVector.fromArray(DOUBLES, values, i));
+        }
+        double result = min.reduceLanes(VectorOperators.MIN);
+        for (; i < length; i++) {
+            result = Math.min(result, values[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public double max(double[] values, int length) {
+        int bound = DOUBLES.loopBound(length);
+        DoubleVector max = DoubleVector.broadcast(DOUBLES, Double.NEGATIVE_INFINITY);
+        int i = 0;
+        for (; i < bound; i += DOUBLES.length()) {
+            max = max.max(DoubleVector.fromArray(DOUBLES, values, i));
+        }
+        double result = max.reduceLanes(VectorOperators.MAX);
+        for (; i < length; i++) {
+            result = Math.max(result, values[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public int indexOf(long[] values, int length, long value) {
+        int bound = LONGS.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += LONGS.length()) {
+            VectorMask<Long> equal = LongVector.fromArray(LONGS, values, i).eq(value);
+            if (equal.anyTrue()) {
+                return i + equal.firstTrue();
+            }
+        }
+        for (; i < length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(long[] values, int length, long value) {
+        int bound = LONGS.loopBound(length);
+        for (int i = length - 1; i >= bound; i--) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        for (int i = bound - LONGS.length(); i >= 0; i -= LONGS.length()) {
+            VectorMask<Long> equal = LongVector.fromArray(LONGS, values, i).eq(value);
+            if (equal.anyTrue()) {
+                return i + equal.lastTrue();
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOf(double[] values, int length, double value) {
+        int bound = DOUBLES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += DOUBLES.length()) {
+            VectorMask<Double> equal = DoubleVector.fromArray(DOUBLES, values, i).eq(value);
+            if (equal.anyTrue()) {
+                return i + equal.firstTrue();
+            }
+        }
+        for (; i < length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(double[] values, int length, double value) {
+        int bound = DOUBLES.loopBound(length);
+        for (int i = length - 1; i >= bound; i--) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        for (int i = bound - DOUBLES.length(); i >= 0; i -= DOUBLES.length()) {
+            VectorMask<Double> equal = DoubleVector.fromArray(DOUBLES, values, i).eq(value);
+            if (equal.anyTrue()) {
+                return i + equal.lastTrue();
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void differencesFrom(long base, long[] values, int length, long[] out) {
+        int bound = LONGS.loopBound(length);
+        LongVector bases = LongVector.broadcast(LONGS, base);
+        int i = 0;
+        for (; i < bound; i += LONGS.length()) {
+            bases.sub(LongVector.fromArray(LONGS, values, i)).intoArray(out, i);
+        }
+        for (; i < length; i++) {
+            out[i] = base - values[i];
+        }
+    }
+
+    @Override
+    public void differencesFrom(double base, double[] values, int length, double[] out) {
+        int bound = DOUBLES.loopBound(length);
+        DoubleVector bases = DoubleVector.broadcast(DOUBLES, base);
+        int i = 0;
+        for (; i < bound; i += DOUBLES.length()) {
+            bases.sub(DoubleVector.fromArray(DOUBLES, values, i)).intoArray(out, i);
+        }
+        for (; i < length; i++) {
+            out[i] = base - values[i];
+        }
+    }
+}